@@ -1,14 +1,18 @@
 package com.example.nexus.app.dashboard.domain.scheduler;
 
-import com.example.nexus.app.post.domain.Post;
 import com.example.nexus.app.post.domain.PostStatus;
 import com.example.nexus.app.post.repository.PostRepository;
+import com.example.nexus.app.post.service.ViewCountBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -21,34 +25,52 @@ public class RedisViewCountScheduler {
 
     private final StringRedisTemplate stringRedisTemplate;
     private final PostRepository postRepository;
+    private final ViewCountBuffer viewCountBuffer;
 
     private static final String DAILY_VIEW_PREFIX = "view:daily:";
+    private static final Expiration SNAPSHOT_TTL = Expiration.from(Duration.ofDays(7)); // 7일 보관
+    private static final int BATCH_SIZE = 1000;
 
     // 매일 자정: 현재 DB 조회수를 Redis에 저장 (일주일치 보관)
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional(readOnly = true)
     public void saveDailyViewSnapshots() {
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        String yesterdayStr = yesterday.toString();
+        String yesterdayStr = LocalDate.now().minusDays(1).toString();
 
         try {
-            // 모든 활성 게시글의 현재 DB 조회수를 Redis에 저장
-            List<Post> activePosts = postRepository.findByStatus(PostStatus.ACTIVE);
+            // 버퍼에 남은 조회수를 먼저 반영해 스냅샷에 포함
+            viewCountBuffer.flush();
 
-            for (Post post : activePosts) {
-                Long postId = post.getId();
-                Long currentDbViewCount = post.getViewCount().longValue();
+            // 활성 게시글의 (id, 조회수)만 id 커서로 나누어 조회하고, 배치 단위로 파이프라이닝하여 저장
+            long lastId = 0L;
+            int savedCount = 0;
+            List<Object[]> rows;
+            do {
+                rows = postRepository.findViewCountsByStatusAfterId(PostStatus.ACTIVE, lastId,
+                        PageRequest.of(0, BATCH_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
 
-                // Redis에 어제 날짜로 현재 DB 조회수 저장
-                String dailyKey = DAILY_VIEW_PREFIX + postId + ":" + yesterdayStr;
-                stringRedisTemplate.opsForValue().set(dailyKey, currentDbViewCount.toString());
-                stringRedisTemplate.expire(dailyKey, Duration.ofDays(7)); // 7일 보관
-
-                log.info("일별 조회수 스냅샷 저장: postId={}, date={}, viewCount={}", postId, yesterdayStr, currentDbViewCount);
-            }
+                saveSnapshots(rows, yesterdayStr);
+                savedCount += rows.size();
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+            } while (rows.size() == BATCH_SIZE);
 
+            log.info("일별 조회수 스냅샷 저장 완료: date={}, posts={}", yesterdayStr, savedCount);
         } catch (Exception e) {
             log.error("일별 조회수 스냅샷 저장 중 오류 발생", e);
         }
     }
+
+    private void saveSnapshots(List<Object[]> rows, String dateStr) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Object[] row : rows) {
+                String dailyKey = DAILY_VIEW_PREFIX + row[0] + ":" + dateStr;
+                String viewCount = String.valueOf(((Number) row[1]).longValue());
+                stringConnection.set(dailyKey, viewCount, SNAPSHOT_TTL, SetOption.upsert());
+            }
+            return null;
+        });
+    }
 }
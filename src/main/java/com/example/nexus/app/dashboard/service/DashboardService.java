@@ -21,6 +21,7 @@ import com.example.nexus.app.participation.domain.ParticipationStatus;
 import com.example.nexus.app.participation.repository.ParticipationRepository;
 import com.example.nexus.app.post.domain.Post;
 import com.example.nexus.app.post.domain.PostStatus;
+import com.example.nexus.app.post.domain.event.PostChangedEvent;
 import com.example.nexus.app.post.repository.PostLikeRepository;
 import com.example.nexus.app.post.repository.PostRepository;
 import com.example.nexus.app.post.service.ViewCountService;
@@ -38,6 +39,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -67,6 +69,7 @@ public class DashboardService {
     private final PostLikeRepository postLikeRepository;
     private final ViewCountService viewCountService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 통계 카드
     public DashboardStatsResponse getDashboardStats(Long userId, Long postId) {
@@ -115,7 +118,7 @@ public class DashboardService {
                 message.getSender().getProfileUrl(),
                 message.getContent(),
                 message.getCreatedAt(),
-                message.getIsRead()
+                message.getRoom().isReadByRecipient(message.getSender().getId(), message.getId())
         ));
     }
 
@@ -148,6 +151,7 @@ public class DashboardService {
         } else {
             post.completed();
         }
+        eventPublisher.publishEvent(PostChangedEvent.statusChanged(postId));
 
         return PostStatusResponse.of(postId, newStatus);
     }
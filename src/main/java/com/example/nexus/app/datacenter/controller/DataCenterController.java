@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 데이터센터 API 컨트롤러
@@ -95,11 +96,11 @@ public class DataCenterController implements DataCenterControllerDoc {
 
     @Override
     @GetMapping("/{postId}/report/pdf")
-    public ResponseEntity<byte[]> downloadPdfReport(
+    public ResponseEntity<StreamingResponseBody> downloadPdfReport(
             @PathVariable Long postId,
             @RequestParam(defaultValue = "7") int days,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        byte[] pdfBytes = reportService.generatePdfReport(postId, days);
+        StreamingResponseBody pdf = reportService.generatePdfReport(postId, days);
         
         org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
         headers.setContentType(org.springframework.http.MediaType.APPLICATION_PDF);
@@ -111,7 +112,7 @@ public class DataCenterController implements DataCenterControllerDoc {
         
         return ResponseEntity.ok()
             .headers(headers)
-            .body(pdfBytes);
+            .body(pdf);
     }
 }
 
@@ -10,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "데이터센터", description = "피드백 데이터 집계 및 분석 API")
 public interface DataCenterControllerDoc {
@@ -91,9 +92,10 @@ public interface DataCenterControllerDoc {
             summary = "PDF 리포트 다운로드",
             description = "백엔드에서 생성된 PDF 리포트 파일을 다운로드합니다. " +
                     "OpenPDF 라이브러리를 사용하여 서버에서 직접 PDF를 생성합니다. " +
-                    "리포트에는 요약 정보, 전반 평가, 사용성 평가, 주요 키워드가 포함됩니다."
+                    "리포트에는 요약 정보, 전반 평가, 사용성 평가, 주요 키워드가 포함됩니다. " +
+                    "통계가 바뀌지 않았으면 같은 날 이전에 생성한 리포트를 그대로 내려줍니다."
     )
-    ResponseEntity<byte[]> downloadPdfReport(
+    ResponseEntity<StreamingResponseBody> downloadPdfReport(
             @Parameter(description = "프로젝트 ID") @PathVariable Long postId,
             @Parameter(description = "조회 기간 (일 단위, 기본값: 7일)") @RequestParam(defaultValue = "7") int days,
             @AuthenticationPrincipal CustomUserDetails userDetails
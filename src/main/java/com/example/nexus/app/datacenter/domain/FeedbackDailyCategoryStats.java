@@ -0,0 +1,40 @@
+package com.example.nexus.app.datacenter.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 게시글별 일별 피드백 분포 (점수 히스토그램, 버그 유형, 불편 요소)
+ */
+@Entity
+@Table(name = "feedback_daily_category_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_feedback_daily_category_stats",
+                columnNames = {"post_id", "stat_date", "category", "category_key"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedbackDailyCategoryStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 20)
+    private FeedbackStatCategory category;
+
+    @Column(name = "category_key", nullable = false, length = 30)
+    private String categoryKey;
+
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+}
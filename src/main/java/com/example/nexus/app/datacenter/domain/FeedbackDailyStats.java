@@ -0,0 +1,77 @@
+package com.example.nexus.app.datacenter.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 게시글별 일별 피드백 집계 (FeedbackStatsAggregator가 JDBC로 갱신)
+ * - 피드백 제출 커밋 후 별도 트랜잭션에서 증분 반영하고 pending_refresh로 표시 (스케줄러가 기간 캐시 갱신 후 해제)
+ * - 증분 반영이 실패했거나 백필로 추가된 행만 dirty로 표시해 원본 피드백으로 다시 계산한다
+ *   (version이 바뀌었으면 다음 주기에 재시도)
+ * - N일 통계는 최대 N개 행의 합으로 계산한다
+ */
+@Entity
+@Table(name = "feedback_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_feedback_daily_stats_post_date", columnNames = {"post_id", "stat_date"}),
+        indexes = {
+                @Index(name = "idx_feedback_daily_stats_dirty", columnList = "dirty, post_id"),
+                @Index(name = "idx_feedback_daily_stats_pending", columnList = "pending_refresh, post_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedbackDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "feedback_count", nullable = false)
+    private long feedbackCount;
+
+    @Column(name = "bug_count", nullable = false)
+    private long bugCount;
+
+    // 만족도 4점 이상
+    @Column(name = "positive_count", nullable = false)
+    private long positiveCount;
+
+    @Column(name = "satisfaction_sum", nullable = false)
+    private long satisfactionSum;
+
+    @Column(name = "recommendation_sum", nullable = false)
+    private long recommendationSum;
+
+    @Column(name = "reuse_sum", nullable = false)
+    private long reuseSum;
+
+    @Column(name = "functionality_sum", nullable = false)
+    private long functionalitySum;
+
+    @Column(name = "comprehensibility_sum", nullable = false)
+    private long comprehensibilitySum;
+
+    @Column(name = "speed_sum", nullable = false)
+    private long speedSum;
+
+    @Column(name = "response_timing_sum", nullable = false)
+    private long responseTimingSum;
+
+    @Column(name = "dirty", nullable = false)
+    private boolean dirty;
+
+    @Column(name = "pending_refresh", nullable = false)
+    private boolean pendingRefresh;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
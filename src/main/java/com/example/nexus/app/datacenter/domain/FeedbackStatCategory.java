@@ -0,0 +1,15 @@
+package com.example.nexus.app.datacenter.domain;
+
+/**
+ * 일별 피드백 집계의 분포 항목
+ * - SATISFACTION/RECOMMENDATION/REUSE: 1~5점 점수별 개수 (키: 점수)
+ * - BUG_TYPE: 버그 유형별 개수 (키: BugType 이름)
+ * - INCONVENIENCE: 가장 불편한 요소별 개수 (키: InconvenienceType 이름)
+ */
+public enum FeedbackStatCategory {
+    SATISFACTION,
+    RECOMMENDATION,
+    REUSE,
+    BUG_TYPE,
+    INCONVENIENCE
+}
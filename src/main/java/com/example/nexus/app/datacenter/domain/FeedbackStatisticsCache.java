@@ -13,10 +13,14 @@ import java.time.LocalDateTime;
 /**
  * 피드백 통계 캐시 엔티티
  * - 주기적으로 집계된 통계 데이터를 캐싱하여 성능 최적화
- * - 스케줄러가 1시간마다 업데이트
+ * - 요약 통계 컬럼: 스케줄러만 갱신 (일별 집계 합산, 달력 일 기준)
+ * - full_statistics_json / response_cached_at: DataCenterResponseCache만 갱신 (조회 시점 기준 최근 N일 응답)
+ * - 두 값은 집계 구간이 다르므로 서로의 컬럼을 덮어쓰지 않는다. 스케줄러는 집계가 바뀌면 응답 JSON만 무효화한다.
  */
 @Entity
-@Table(name = "feedback_statistics_cache", indexes = {
+@Table(name = "feedback_statistics_cache", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_feedback_stats_post_period", columnNames = {"post_id", "period_days"})
+}, indexes = {
     @Index(name = "idx_feedback_stats_post_id", columnList = "post_id"),
     @Index(name = "idx_feedback_stats_period", columnList = "post_id,period_days")
 })
@@ -75,6 +79,10 @@ public class FeedbackStatisticsCache {
     @Column(name = "full_statistics_json", columnDefinition = "TEXT")
     private String fullStatisticsJson;
 
+    // 응답 JSON 저장 시각 (요약 통계 갱신으로 바뀌는 updated_at과 별도로 캐시 신선도 판단에 사용)
+    @Column(name = "response_cached_at")
+    private LocalDateTime responseCachedAt;
+
     @CreatedDate
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -112,7 +120,7 @@ public class FeedbackStatisticsCache {
                                 Double averageRecommendation, Double averageReuse,
                                 Double functionalityScore, Double comprehensibilityScore,
                                 Double loadingSpeedScore, Double responseTimingScore,
-                                Double stabilityScore, String fullStatisticsJson) {
+                                Double stabilityScore) {
         this.totalParticipants = totalParticipants;
         this.averageSatisfaction = averageSatisfaction;
         this.bugOccurrenceRate = bugOccurrenceRate;
@@ -124,7 +132,19 @@ public class FeedbackStatisticsCache {
         this.loadingSpeedScore = loadingSpeedScore;
         this.responseTimingScore = responseTimingScore;
         this.stabilityScore = stabilityScore;
+    }
+
+    public void cacheResponse(String fullStatisticsJson, LocalDateTime cachedAt) {
         this.fullStatisticsJson = fullStatisticsJson;
+        this.responseCachedAt = cachedAt;
+    }
+
+    /**
+     * 집계가 바뀌었으므로 저장된 응답 JSON 무효화 (다음 조회 시 다시 계산)
+     */
+    public void invalidateResponse() {
+        this.fullStatisticsJson = null;
+        this.responseCachedAt = null;
     }
 }
 
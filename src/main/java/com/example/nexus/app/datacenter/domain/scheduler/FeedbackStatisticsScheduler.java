@@ -1,112 +1,118 @@
 package com.example.nexus.app.datacenter.domain.scheduler;
 
-import com.example.nexus.app.datacenter.controller.dto.response.datacenter.DataCenterResponse;
 import com.example.nexus.app.datacenter.domain.FeedbackStatisticsCache;
 import com.example.nexus.app.datacenter.repository.FeedbackStatisticsCacheRepository;
-import com.example.nexus.app.datacenter.repository.ParticipantFeedbackRepository;
-import com.example.nexus.app.datacenter.service.DataCenterService;
+import com.example.nexus.app.datacenter.service.FeedbackStatsAggregator;
+import com.example.nexus.app.datacenter.service.FeedbackStatsAggregator.DirtyDay;
+import com.example.nexus.app.datacenter.service.dto.FeedbackWindowStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
- * 피드백 통계 자동 집계 스케줄러
- * - 1시간마다 모든 프로젝트의 피드백 통계를 재계산하여 캐시 업데이트
- * - 성능 최적화를 위해 미리 계산된 통계를 DB에 저장
+ * 피드백 통계 집계 스케줄러
+ * - 피드백 제출 시 일별 집계(feedback_daily_stats)가 증분 반영되므로 전체 재계산은 하지 않는다.
+ * - 주기적으로 증분 반영이 실패한 dirty 일별 행만 원본과 맞추고,
+ *   바뀐 일별 행(pending_refresh)이 있는 프로젝트의 기간 통계 캐시를 일별 행 합산으로 갱신
+ * - 기간(7/30/90일)은 자정에만 이동하므로 하루 한 번 최근 집계가 있는 프로젝트의 캐시를 갱신
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class FeedbackStatisticsScheduler {
 
-    private final DataCenterService dataCenterService;
+    private static final int[] PERIODS = {7, 30, 90};
+    // 가장 긴 기간 + 기간이 밀려나며 값이 바뀌는 프로젝트까지 포함
+    private static final int WINDOW_REFRESH_LOOKBACK_DAYS = 97;
+
+    private final FeedbackStatsAggregator aggregator;
     private final FeedbackStatisticsCacheRepository cacheRepository;
-    private final ParticipantFeedbackRepository feedbackRepository;
+
+    @Value("${feedback-stats.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
 
     /**
-     * 1시간마다 피드백 통계 자동 집계
-     * - 실시간 집계가 필요하지 않은 경우 스케줄러 사용 권장
-     * - 대용량 데이터 처리 시 성능 향상
+     * 증분 반영이 실패한 dirty 일별 집계를 원본 피드백과 맞추고, 바뀐 일별 행이 있는 프로젝트의 캐시 갱신
      */
-    @Scheduled(cron = "0 0 * * * *") // 매시 정각 (예: 01:00, 02:00, ...)
-    @Transactional
-    public void aggregateFeedbackStatistics() {
-        log.info("피드백 통계 자동 집계 시작");
-
+    @Scheduled(fixedDelayString = "${feedback-stats.reconcile-interval:300000}")
+    public void reconcileDirty() {
         try {
-            // 피드백이 있는 모든 프로젝트 ID 조회
-            List<Long> postIds = feedbackRepository.findAll().stream()
-                    .map(f -> f.getPostId())
-                    .distinct()
-                    .toList();
-
-            log.info("집계 대상 프로젝트 수: {}", postIds.size());
-
-            int successCount = 0;
-            int failCount = 0;
+            int reconciled = reconcileDirtyDays();
+            int refreshedPosts = refreshPendingCaches();
+            if (reconciled > 0 || refreshedPosts > 0) {
+                log.info("피드백 일별 집계 맞춤 완료 - 재계산 일별 행: {}, 캐시 갱신 프로젝트: {}", reconciled, refreshedPosts);
+            }
+        } catch (Exception e) {
+            log.error("피드백 일별 집계 맞춤 중 오류 발생", e);
+        }
+    }
 
-            // 각 프로젝트별로 통계 집계
-            for (Long postId : postIds) {
-                try {
-                    aggregateForPost(postId);
-                    successCount++;
-                } catch (Exception e) {
-                    log.error("프로젝트 {} 통계 집계 실패: {}", postId, e.getMessage(), e);
-                    failCount++;
+    private int reconcileDirtyDays() {
+        int reconciled = 0;
+        List<DirtyDay> dirtyDays;
+        do {
+            dirtyDays = aggregator.findDirtyDays(reconcileBatchSize);
+            int reconciledInBatch = 0;
+            for (DirtyDay day : dirtyDays) {
+                if (aggregator.reconcile(day)) {
+                    reconciledInBatch++;
                 }
             }
+            reconciled += reconciledInBatch;
+            // 모두 버전이 바뀌어 건너뛴 경우 다음 주기에 다시 시도
+            if (reconciledInBatch == 0) {
+                break;
+            }
+        } while (dirtyDays.size() == reconcileBatchSize);
+        return reconciled;
+    }
 
-            log.info("피드백 통계 자동 집계 완료 - 성공: {}, 실패: {}", successCount, failCount);
-        } catch (Exception e) {
-            log.error("피드백 통계 자동 집계 중 오류 발생", e);
-        }
+    private int refreshPendingCaches() {
+        Set<Long> refreshedPostIds = new LinkedHashSet<>();
+        List<DirtyDay> pendingDays;
+        do {
+            pendingDays = aggregator.findPendingRefreshDays(reconcileBatchSize);
+            Set<Long> postIds = new LinkedHashSet<>();
+            for (DirtyDay day : pendingDays) {
+                postIds.add(day.postId());
+            }
+            Set<Long> failedPostIds = refreshCaches(postIds);
+            postIds.removeAll(failedPostIds);
+            refreshedPostIds.addAll(postIds);
+            // 갱신에 실패한 프로젝트는 표시를 남겨 다음 주기에 다시 시도
+            List<DirtyDay> refreshedDays = pendingDays.stream()
+                    .filter(day -> !failedPostIds.contains(day.postId()))
+                    .toList();
+            // 모두 실패했거나 그 사이 새 피드백이 반영된 경우 다음 주기에 다시 시도
+            if (aggregator.clearPendingRefresh(refreshedDays) == 0) {
+                break;
+            }
+        } while (pendingDays.size() == reconcileBatchSize);
+        return refreshedPostIds.size();
     }
 
     /**
-     * 특정 프로젝트의 통계 집계
+     * 자정 이후 기간 이동을 반영해 최근 집계가 있는 프로젝트의 캐시 갱신
      */
-    private void aggregateForPost(Long postId) {
-        // 7일, 30일, 90일 각각 집계
-        int[] periods = {7, 30, 90};
-
-        for (int days : periods) {
-            try {
-                // 데이터 집계
-                DataCenterResponse data = dataCenterService.getDataCenterData(postId, days);
-
-                // 캐시 업데이트 또는 생성
-                FeedbackStatisticsCache cache = cacheRepository
-                        .findByPostIdAndPeriodDays(postId, days)
-                        .orElseGet(() -> FeedbackStatisticsCache.builder()
-                                .postId(postId)
-                                .periodDays(days)
-                                .build());
-
-                // 통계 업데이트
-                cache.updateStatistics(
-                        data.summary().totalParticipants(),
-                        data.summary().averageSatisfaction(),
-                        data.summary().bugOccurrenceRate(),
-                        data.summary().positiveFeedbackRate(),
-                        data.overallEvaluation().averageRecommendation(),
-                        data.overallEvaluation().averageReuse(),
-                        data.usabilityEvaluation().functionalityScore(),
-                        data.usabilityEvaluation().comprehensibilityScore(),
-                        data.usabilityEvaluation().loadingSpeedScore(),
-                        data.usabilityEvaluation().responseTimingScore(),
-                        data.usabilityEvaluation().stabilityScore(),
-                        null // fullStatisticsJson은 필요시 JSON 변환하여 저장
-                );
-
-                cacheRepository.save(cache);
-                log.debug("프로젝트 {} - {}일 통계 캐시 업데이트 완료", postId, days);
-            } catch (Exception e) {
-                log.error("프로젝트 {} - {}일 통계 집계 실패: {}", postId, days, e.getMessage());
-            }
+    @Scheduled(cron = "${feedback-stats.window-refresh-cron:0 5 0 * * *}")
+    public void refreshWindows() {
+        try {
+            List<Long> postIds = aggregator.findPostIdsWithStatsSince(
+                    LocalDate.now().minusDays(WINDOW_REFRESH_LOOKBACK_DAYS));
+            refreshCaches(postIds);
+            log.info("피드백 통계 기간 캐시 갱신 완료 - 프로젝트: {}", postIds.size());
+        } catch (Exception e) {
+            log.error("피드백 통계 기간 캐시 갱신 중 오류 발생", e);
         }
     }
 
@@ -119,5 +125,54 @@ public class FeedbackStatisticsScheduler {
         aggregateForPost(postId);
         log.info("프로젝트 {} 수동 통계 집계 완료", postId);
     }
-}
 
+    /**
+     * @return 갱신에 실패한 프로젝트 ID
+     */
+    private Set<Long> refreshCaches(Collection<Long> postIds) {
+        Set<Long> failedPostIds = new HashSet<>();
+        for (Long postId : postIds) {
+            try {
+                aggregateForPost(postId);
+            } catch (Exception e) {
+                log.error("프로젝트 {} 통계 캐시 갱신 실패: {}", postId, e.getMessage(), e);
+                failedPostIds.add(postId);
+            }
+        }
+        return failedPostIds;
+    }
+
+    /**
+     * 특정 프로젝트의 7일, 30일, 90일 통계를 일별 집계 합산으로 갱신
+     */
+    private void aggregateForPost(Long postId) {
+        for (int days : PERIODS) {
+            FeedbackWindowStats stats = aggregator.summarize(postId, days);
+
+            FeedbackStatisticsCache cache = cacheRepository
+                    .findByPostIdAndPeriodDays(postId, days)
+                    .orElseGet(() -> FeedbackStatisticsCache.builder()
+                            .postId(postId)
+                            .periodDays(days)
+                            .build());
+
+            cache.updateStatistics(
+                    stats.feedbackCount(),
+                    stats.average(stats.satisfactionSum()),
+                    stats.rate(stats.bugCount()),
+                    stats.rate(stats.positiveCount()),
+                    stats.average(stats.recommendationSum()),
+                    stats.average(stats.reuseSum()),
+                    stats.average(stats.functionalitySum()),
+                    stats.average(stats.comprehensibilitySum()),
+                    stats.average(stats.speedSum()),
+                    stats.average(stats.responseTimingSum()),
+                    0.0 // Feedback에는 stabilityScore가 없음
+            );
+            cache.invalidateResponse();
+
+            cacheRepository.save(cache);
+            log.debug("프로젝트 {} - {}일 통계 캐시 업데이트 완료", postId, days);
+        }
+    }
+}
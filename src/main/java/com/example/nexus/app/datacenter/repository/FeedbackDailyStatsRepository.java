@@ -0,0 +1,25 @@
+package com.example.nexus.app.datacenter.repository;
+
+import com.example.nexus.app.datacenter.domain.FeedbackDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface FeedbackDailyStatsRepository extends JpaRepository<FeedbackDailyStats, Long> {
+
+    @Query("SELECT s FROM FeedbackDailyStats s " +
+            "WHERE s.postId = :postId AND s.statDate >= :startDate AND s.statDate <= :endDate")
+    List<FeedbackDailyStats> findByPostIdAndDateRange(@Param("postId") Long postId,
+                                                      @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT DISTINCT s.postId FROM FeedbackDailyStats s WHERE s.statDate >= :startDate")
+    List<Long> findPostIdsWithStatsSince(@Param("startDate") LocalDate startDate);
+
+    // 피드백이 반영될 때마다 해당 일별 행의 version이 1씩 오르므로 합계는 게시글 통계 버전으로 쓸 수 있다
+    @Query("SELECT COALESCE(SUM(s.version), 0) FROM FeedbackDailyStats s WHERE s.postId = :postId")
+    long sumVersionByPostId(@Param("postId") Long postId);
+}
@@ -2,7 +2,11 @@ package com.example.nexus.app.datacenter.repository;
 
 import com.example.nexus.app.datacenter.domain.FeedbackStatisticsCache;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface FeedbackStatisticsCacheRepository extends JpaRepository<FeedbackStatisticsCache, Long> {
@@ -10,5 +14,15 @@ public interface FeedbackStatisticsCacheRepository extends JpaRepository<Feedbac
     Optional<FeedbackStatisticsCache> findByPostIdAndPeriodDays(Long postId, Integer periodDays);
 
     void deleteByPostId(Long postId);
+
+    // 응답 JSON만 갱신 (스케줄러가 관리하는 요약 통계 컬럼은 건드리지 않음)
+    @Modifying
+    @Query("UPDATE FeedbackStatisticsCache c " +
+            "SET c.fullStatisticsJson = :json, c.responseCachedAt = :cachedAt " +
+            "WHERE c.postId = :postId AND c.periodDays = :periodDays")
+    int updateResponseJson(@Param("postId") Long postId,
+                           @Param("periodDays") Integer periodDays,
+                           @Param("json") String json,
+                           @Param("cachedAt") LocalDateTime cachedAt);
 }
 
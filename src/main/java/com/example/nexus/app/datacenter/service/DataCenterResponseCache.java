@@ -0,0 +1,128 @@
+package com.example.nexus.app.datacenter.service;
+
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.DataCenterResponse;
+import com.example.nexus.app.datacenter.domain.FeedbackStatisticsCache;
+import com.example.nexus.app.datacenter.repository.FeedbackStatisticsCacheRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 데이터센터 응답 캐시 (feedback_statistics_cache.full_statistics_json)
+ * - 7/30/90일 응답만 저장하고, 저장 후 max-staleness가 지나면 다시 계산한다.
+ * - 스케줄러가 일별 집계 변경을 반영할 때 JSON을 비우므로 새 피드백은 다음 맞춤 주기 안에 반영된다.
+ * - 응답은 조회 시점 기준 최근 N일이라 스케줄러의 요약 통계(달력 일 기준)와 구간이 다르므로 JSON과 저장 시각만 쓴다.
+ */
+@Slf4j
+@Component
+public class DataCenterResponseCache {
+
+    private static final Set<Integer> CACHED_PERIODS = Set.of(7, 30, 90);
+
+    private final FeedbackStatisticsCacheRepository cacheRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate writeTransactionTemplate;
+    private final Duration maxStaleness;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter staleCounter;
+    private final Timer stalenessTimer;
+
+    public DataCenterResponseCache(FeedbackStatisticsCacheRepository cacheRepository, ObjectMapper objectMapper,
+                                   TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                                   @Value("${datacenter.cache.max-staleness:600000}") long maxStalenessMillis) {
+        this.cacheRepository = cacheRepository;
+        this.objectMapper = objectMapper;
+        // 호출한 쪽 트랜잭션(있다면 읽기 전용)과 묶이지 않도록 별도 트랜잭션으로 저장
+        this.writeTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.writeTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxStaleness = Duration.ofMillis(maxStalenessMillis);
+        this.hitCounter = Counter.builder("datacenter.cache")
+                .description("데이터센터 응답 캐시 조회")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("datacenter.cache")
+                .description("데이터센터 응답 캐시 조회")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.staleCounter = Counter.builder("datacenter.cache")
+                .description("데이터센터 응답 캐시 조회")
+                .tag("result", "stale")
+                .register(meterRegistry);
+        this.stalenessTimer = Timer.builder("datacenter.cache.staleness")
+                .description("조회 시점의 캐시된 응답 경과 시간")
+                .register(meterRegistry);
+    }
+
+    public boolean isCacheable(int days) {
+        return CACHED_PERIODS.contains(days);
+    }
+
+    /**
+     * max-staleness 안에 저장된 응답이 있으면 반환
+     */
+    public Optional<DataCenterResponse> find(Long postId, int days) {
+        FeedbackStatisticsCache cache = cacheRepository.findByPostIdAndPeriodDays(postId, days).orElse(null);
+        if (cache == null || cache.getFullStatisticsJson() == null || cache.getResponseCachedAt() == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        Duration age = Duration.between(cache.getResponseCachedAt(), LocalDateTime.now());
+        stalenessTimer.record(age.isNegative() ? Duration.ZERO : age);
+        if (age.compareTo(maxStaleness) > 0) {
+            staleCounter.increment();
+            return Optional.empty();
+        }
+
+        try {
+            DataCenterResponse response = objectMapper.readValue(cache.getFullStatisticsJson(), DataCenterResponse.class);
+            hitCounter.increment();
+            return Optional.of(response);
+        } catch (JsonProcessingException e) {
+            log.warn("데이터센터 캐시 역직렬화 실패 - postId: {}, days: {}, error: {}", postId, days, e.getMessage());
+            missCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 새로 계산한 응답 저장 (실패해도 조회 응답에는 영향 없음)
+     */
+    public void store(Long postId, int days, DataCenterResponse response) {
+        try {
+            String json = objectMapper.writeValueAsString(response);
+            LocalDateTime cachedAt = LocalDateTime.now();
+            writeTransactionTemplate.executeWithoutResult(status -> {
+                if (cacheRepository.updateResponseJson(postId, days, json, cachedAt) > 0) {
+                    return;
+                }
+                // 스케줄러가 아직 행을 만들지 않았으면 응답 JSON만 가진 행 생성 (요약 통계는 스케줄러가 채움)
+                FeedbackStatisticsCache cache = FeedbackStatisticsCache.builder()
+                        .postId(postId)
+                        .periodDays(days)
+                        .build();
+                cache.cacheResponse(json, cachedAt);
+                cacheRepository.save(cache);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 기간을 처음 저장한 요청이 있으면 그 값을 사용
+            log.debug("데이터센터 캐시 동시 생성 - postId: {}, days: {}", postId, days);
+        } catch (Exception e) {
+            log.warn("데이터센터 캐시 저장 실패 - postId: {}, days: {}, error: {}", postId, days, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.nexus.app.datacenter.service;
+
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.DataCenterSummaryResponse;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.InsightsResponse;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.InsightsResponse.FeedbackItemDto;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.OverallEvaluationResponse;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.QualityFeedbackResponse;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.QualityFeedbackResponse.ProblemLocationDto;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.UsabilityEvaluationResponse;
+import com.example.nexus.app.datacenter.service.dto.FeedbackAnalyticsRow;
+import com.example.nexus.app.datacenter.service.dto.FeedbackWindowStats;
+import com.example.nexus.app.feedback.domain.BugType;
+import com.example.nexus.app.feedback.domain.InconvenienceType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 데이터센터 섹션 통계를 한 번의 순회로 계산하는 누산기
+ * - 점수는 합계와 1~5점 분포 배열로, 버그 유형은 비트마스크로 누적한다.
+ * - 행은 최신순으로 추가해야 한다 (인사이트 목록과 위치별 주요 문제 유형이 그 순서를 따름).
+ */
+public class FeedbackAnalyticsAccumulator {
+
+    private static final BugType[] BUG_TYPES = BugType.values();
+    private static final InconvenienceType[] INCONVENIENCE_TYPES = InconvenienceType.values();
+    private static final int MAX_SCORE = 5;
+    private static final int TOP_INCONVENIENT_LIMIT = 3;
+    private static final int TOP_LOCATION_LIMIT = 5;
+    private static final String DEFAULT_PROBLEM_TYPE = "오류";
+
+    private long count;
+    private long bugCount;
+    private long positiveCount;
+    private long satisfactionSum;
+    private long recommendationSum;
+    private long reuseSum;
+    private long functionalitySum;
+    private long comprehensibilitySum;
+    private long speedSum;
+    private long responseTimingSum;
+
+    private final long[] satisfactionDistribution = new long[MAX_SCORE + 1];
+    private final long[] recommendationDistribution = new long[MAX_SCORE + 1];
+    private final long[] reuseDistribution = new long[MAX_SCORE + 1];
+    private final long[] inconvenienceCounts = new long[INCONVENIENCE_TYPES.length];
+    private final long[] bugTypeCounts = new long[BUG_TYPES.length];
+    private final Map<String, LocationStats> locations = new LinkedHashMap<>();
+    private final List<FeedbackAnalyticsRow> positiveRows = new ArrayList<>();
+    private final List<FeedbackAnalyticsRow> improvementRows = new ArrayList<>();
+
+    public void add(FeedbackAnalyticsRow row) {
+        count++;
+        satisfactionSum += row.overallSatisfaction();
+        recommendationSum += row.recommendationIntent();
+        reuseSum += row.reuseIntent();
+        functionalitySum += row.functionalityScore();
+        comprehensibilitySum += row.comprehensibilityScore();
+        speedSum += row.speedScore();
+        responseTimingSum += row.responseTimingScore();
+        if (row.overallSatisfaction() >= 4) {
+            positiveCount++;
+        }
+        addToDistribution(satisfactionDistribution, row.overallSatisfaction());
+        addToDistribution(recommendationDistribution, row.recommendationIntent());
+        addToDistribution(reuseDistribution, row.reuseIntent());
+
+        if (row.mostInconvenient() != null) {
+            inconvenienceCounts[row.mostInconvenient().ordinal()]++;
+        }
+        if (row.hasBug()) {
+            bugCount++;
+        }
+        for (int mask = row.bugTypeMask(); mask != 0; mask &= mask - 1) {
+            bugTypeCounts[Integer.numberOfTrailingZeros(mask)]++;
+        }
+        if (row.bugLocation() != null && !row.bugLocation().isEmpty()) {
+            locations.computeIfAbsent(row.bugLocation(), location -> new LocationStats()).add(row.bugTypeMask());
+        }
+
+        if (row.goodPoints() != null && !row.goodPoints().isEmpty()) {
+            positiveRows.add(row);
+        }
+        if (row.improvementSuggestions() != null && !row.improvementSuggestions().isEmpty()) {
+            improvementRows.add(row);
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * 요약 카드 (previous: 비교 기간의 합계)
+     */
+    public DataCenterSummaryResponse summary(FeedbackWindowStats previous) {
+        long previousCount = previous.feedbackCount();
+        double avgSatisfaction = ratio(satisfactionSum, count);
+        double previousAvgSatisfaction = ratio(previous.satisfactionSum(), previousCount);
+        double bugRate = percentage(bugCount, count);
+        double previousBugRate = percentage(previous.bugCount(), previousCount);
+        double positiveFeedbackRate = percentage(positiveCount, count);
+        double previousPositiveRate = percentage(previous.positiveCount(), previousCount);
+
+        return DataCenterSummaryResponse.builder()
+                .totalParticipants(count)
+                .participantChangeRate(changeRate(count, previousCount))
+                .thisWeekParticipants(count - previousCount)
+                .averageSatisfaction(round(avgSatisfaction))
+                .satisfactionChangeRate(changeRate(avgSatisfaction, previousAvgSatisfaction))
+                .bugOccurrenceRate(round(bugRate))
+                .bugRateChangeRate(changeRate(bugRate, previousBugRate))
+                .totalFeedbacks(count)
+                .bugCount(bugCount)
+                .positiveFeedbackRate(round(positiveFeedbackRate))
+                .positiveFeedbackChangeRate(changeRate(positiveFeedbackRate, previousPositiveRate))
+                .positiveFeedbackCount(positiveCount)
+                .build();
+    }
+
+    public OverallEvaluationResponse overallEvaluation() {
+        return OverallEvaluationResponse.builder()
+                .averageSatisfaction(round(ratio(satisfactionSum, count)))
+                .averageRecommendation(round(ratio(recommendationSum, count)))
+                .averageReuse(round(ratio(reuseSum, count)))
+                .satisfactionDistribution(toDistribution(satisfactionDistribution))
+                .recommendationDistribution(toDistribution(recommendationDistribution))
+                .reuseDistribution(toDistribution(reuseDistribution))
+                .build();
+    }
+
+    public QualityFeedbackResponse qualityFeedback(List<String> screenshotPreviews) {
+        // 불편 요소 Top 3 (같은 수면 enum 선언 순서)
+        Map<String, Long> inconvenientElements = new LinkedHashMap<>();
+        List<InconvenienceType> inconvenienceTypes = new ArrayList<>();
+        for (InconvenienceType type : INCONVENIENCE_TYPES) {
+            if (inconvenienceCounts[type.ordinal()] > 0) {
+                inconvenienceTypes.add(type);
+            }
+        }
+        inconvenienceTypes.stream()
+                .sorted(Comparator.comparingLong((InconvenienceType type) -> inconvenienceCounts[type.ordinal()])
+                        .reversed())
+                .limit(TOP_INCONVENIENT_LIMIT)
+                .forEach(type -> inconvenientElements.put(type.getDescription(), inconvenienceCounts[type.ordinal()]));
+
+        // 문제 유형 비중 (응답 수 대비 %)
+        Map<String, Double> problemTypeProportions = new LinkedHashMap<>();
+        for (BugType type : BUG_TYPES) {
+            if (bugTypeCounts[type.ordinal()] > 0) {
+                problemTypeProportions.put(type.getDescription(), bugTypeCounts[type.ordinal()] * 100.0 / count);
+            }
+        }
+
+        // 주요 문제 발생 위치 Top 5 (같은 수면 최근에 보고된 위치 먼저)
+        List<ProblemLocationDto> topProblemLocations = locations.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LocationStats> e) -> e.getValue().count)
+                        .reversed())
+                .limit(TOP_LOCATION_LIMIT)
+                .map(e -> ProblemLocationDto.builder()
+                        .location(e.getKey())
+                        .problemType(e.getValue().mainProblemType())
+                        .reportCount(e.getValue().count)
+                        .build())
+                .toList();
+
+        Map<Integer, Double> satisfactionScoreDistribution = new LinkedHashMap<>();
+        for (int score = 1; score <= MAX_SCORE; score++) {
+            satisfactionScoreDistribution.put(score, round(percentage(satisfactionDistribution[score], count)));
+        }
+
+        return QualityFeedbackResponse.builder()
+                .topInconvenientElements(inconvenientElements)
+                .bugExistenceRate(round(percentage(bugCount, count)))
+                .bugExistCount(bugCount)
+                .noBugCount(count - bugCount)
+                .satisfactionScoreDistribution(satisfactionScoreDistribution)
+                .problemTypeProportions(problemTypeProportions)
+                .topProblemLocations(topProblemLocations)
+                .screenshotPreviews(screenshotPreviews)
+                .build();
+    }
+
+    public UsabilityEvaluationResponse usabilityEvaluation() {
+        return UsabilityEvaluationResponse.builder()
+                .functionalityScore(round(ratio(functionalitySum, count)))
+                .comprehensibilityScore(round(ratio(comprehensibilitySum, count)))
+                .loadingSpeedScore(round(ratio(speedSum, count)))
+                .responseTimingScore(round(ratio(responseTimingSum, count)))
+                // Feedback에는 stabilityScore가 없으므로 0.0으로 설정
+                .stabilityScore(0.0)
+                .build();
+    }
+
+    /**
+     * 인사이트 (좋았던 점, 개선 제안, 두 텍스트 전체의 키워드)
+     */
+    public InsightsResponse insights(KeywordAnalyzer keywordAnalyzer) {
+        List<FeedbackItemDto> positiveFeedbacks = positiveRows.stream()
+                .map(row -> toItem(keywordAnalyzer, row.feedbackId(), row.goodPoints(), true))
+                .toList();
+        List<FeedbackItemDto> improvementSuggestions = improvementRows.stream()
+                .map(row -> toItem(keywordAnalyzer, row.feedbackId(), row.improvementSuggestions(), false))
+                .toList();
+
+        List<String> allTexts = new ArrayList<>(positiveRows.size() + improvementRows.size());
+        positiveRows.forEach(row -> allTexts.add(row.goodPoints()));
+        improvementRows.forEach(row -> allTexts.add(row.improvementSuggestions()));
+
+        return InsightsResponse.builder()
+                .positiveFeedbacks(positiveFeedbacks)
+                .improvementSuggestions(improvementSuggestions)
+                .keywords(keywordAnalyzer.extractKeywords(allTexts, 10))
+                .build();
+    }
+
+    private FeedbackItemDto toItem(KeywordAnalyzer keywordAnalyzer, long feedbackId, String text, boolean positive) {
+        return FeedbackItemDto.builder()
+                .feedbackId(feedbackId)
+                .summary(keywordAnalyzer.summarize(text))
+                .fullContent(text)
+                .emoji(keywordAnalyzer.selectEmoji(text, positive))
+                .build();
+    }
+
+    private static void addToDistribution(long[] distribution, int score) {
+        if (score >= 1 && score <= MAX_SCORE) {
+            distribution[score]++;
+        }
+    }
+
+    private static Map<Integer, Long> toDistribution(long[] distribution) {
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        for (int score = 1; score <= MAX_SCORE; score++) {
+            result.put(score, distribution[score]);
+        }
+        return result;
+    }
+
+    private static double ratio(long sum, long total) {
+        return total > 0 ? sum / (double) total : 0.0;
+    }
+
+    private static double percentage(long part, long total) {
+        return total > 0 ? part * 100.0 / total : 0.0;
+    }
+
+    /**
+     * 증가율 계산 (%)
+     */
+    static double changeRate(double current, double previous) {
+        if (previous == 0) {
+            return current > 0 ? 100.0 : 0.0;
+        }
+        return Math.round(((current - previous) / previous) * 1000) / 10.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    // 위치별 보고 수와 주요 문제 유형 (버그 유형이 있는 가장 최근 보고의 첫 유형)
+    private static final class LocationStats {
+
+        private long count;
+        private int firstBugTypeMask;
+
+        private void add(int bugTypeMask) {
+            count++;
+            if (firstBugTypeMask == 0) {
+                firstBugTypeMask = bugTypeMask;
+            }
+        }
+
+        private String mainProblemType() {
+            return firstBugTypeMask == 0
+                    ? DEFAULT_PROBLEM_TYPE
+                    : BUG_TYPES[Integer.numberOfTrailingZeros(firstBugTypeMask)].getDescription();
+        }
+    }
+}
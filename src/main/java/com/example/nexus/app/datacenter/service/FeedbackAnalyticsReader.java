@@ -0,0 +1,103 @@
+package com.example.nexus.app.datacenter.service;
+
+import com.example.nexus.app.datacenter.service.dto.FeedbackAnalyticsRow;
+import com.example.nexus.app.datacenter.service.dto.FeedbackWindowStats;
+import com.example.nexus.app.feedback.domain.BugType;
+import com.example.nexus.app.feedback.domain.InconvenienceType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 데이터센터 집계용 피드백 조회 (JDBC 프로젝션)
+ * - 피드백 엔티티와 버그 유형·스크린샷 컬렉션을 로딩하지 않고 필요한 컬럼만 한 번에 읽는다.
+ */
+@Component
+public class FeedbackAnalyticsReader {
+
+    private static final String FEEDBACK_SCOPE = "FROM feedbacks f JOIN participations p ON p.id = f.participation_id " +
+            "WHERE p.post_id = ? AND f.created_at >= ? AND f.created_at < ?";
+
+    private static final String SELECT_ROWS_SQL = "SELECT f.id, f.overall_satisfaction, f.recommendation_intent, " +
+            "f.reuse_intent, f.functionality_score, f.comprehensibility_score, f.speed_score, " +
+            "f.response_timing_score, f.most_inconvenient, f.has_bug, f.bug_location, f.good_points, " +
+            "f.improvement_suggestions, " +
+            "(SELECT GROUP_CONCAT(bt.bug_type) FROM feedback_bug_types bt WHERE bt.feedback_id = f.id) AS bug_types " +
+            FEEDBACK_SCOPE + " ORDER BY f.created_at DESC, f.id DESC";
+
+    private static final String SELECT_SCREENSHOTS_SQL = "SELECT s.screenshot_url FROM feedback_screenshots s " +
+            "JOIN feedbacks f ON f.id = s.feedback_id JOIN participations p ON p.id = f.participation_id " +
+            "WHERE p.post_id = ? AND f.created_at >= ? AND f.created_at < ? " +
+            "ORDER BY f.created_at DESC, f.id DESC LIMIT ?";
+
+    private static final String SUMMARIZE_SQL = "SELECT COUNT(*), COALESCE(SUM(f.has_bug), 0), " +
+            "COALESCE(SUM(f.overall_satisfaction >= 4), 0), COALESCE(SUM(f.overall_satisfaction), 0) " +
+            FEEDBACK_SCOPE;
+
+    private static final BugType[] BUG_TYPES = BugType.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FeedbackAnalyticsReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 기간 내 피드백을 최신순으로 누산기에 추가
+     */
+    public FeedbackAnalyticsAccumulator accumulate(Long postId, LocalDateTime startDate, LocalDateTime endDate) {
+        FeedbackAnalyticsAccumulator accumulator = new FeedbackAnalyticsAccumulator();
+        jdbcTemplate.query(SELECT_ROWS_SQL, rs -> {
+            String inconvenient = rs.getString("most_inconvenient");
+            accumulator.add(new FeedbackAnalyticsRow(
+                    rs.getLong("id"),
+                    rs.getInt("overall_satisfaction"),
+                    rs.getInt("recommendation_intent"),
+                    rs.getInt("reuse_intent"),
+                    rs.getInt("functionality_score"),
+                    rs.getInt("comprehensibility_score"),
+                    rs.getInt("speed_score"),
+                    rs.getInt("response_timing_score"),
+                    inconvenient != null ? InconvenienceType.valueOf(inconvenient) : null,
+                    rs.getBoolean("has_bug"),
+                    parseBugTypeMask(rs.getString("bug_types")),
+                    rs.getString("bug_location"),
+                    rs.getString("good_points"),
+                    rs.getString("improvement_suggestions")));
+        }, postId, Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
+        return accumulator;
+    }
+
+    public List<String> findScreenshotUrls(Long postId, LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        return jdbcTemplate.queryForList(SELECT_SCREENSHOTS_SQL, String.class,
+                postId, Timestamp.valueOf(startDate), Timestamp.valueOf(endDate), limit);
+    }
+
+    /**
+     * 비교 기간 요약 (건수와 합계만 필요하므로 집계 쿼리 한 번)
+     */
+    public FeedbackWindowStats summarize(Long postId, LocalDateTime startDate, LocalDateTime endDate) {
+        return jdbcTemplate.queryForObject(SUMMARIZE_SQL, (rs, rowNum) -> new FeedbackWindowStats(
+                        rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), 0, 0, 0, 0, 0, 0),
+                postId, Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
+    }
+
+    private static int parseBugTypeMask(String bugTypes) {
+        if (bugTypes == null || bugTypes.isEmpty()) {
+            return 0;
+        }
+        int mask = 0;
+        for (String name : bugTypes.split(",")) {
+            for (BugType type : BUG_TYPES) {
+                if (type.name().equals(name)) {
+                    mask |= 1 << type.ordinal();
+                    break;
+                }
+            }
+        }
+        return mask;
+    }
+}
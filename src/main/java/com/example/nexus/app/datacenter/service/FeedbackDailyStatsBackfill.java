@@ -0,0 +1,53 @@
+package com.example.nexus.app.datacenter.service;
+
+import com.example.nexus.app.global.migration.DataMigrationRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 피드백 집계(feedback_daily_stats) 도입 전 피드백의 (게시글, 날짜) 행 채우기 (한 번만 실행)
+ * 피드백 ID 구간 단위로 해당 날짜 행을 dirty로 넣어 다음 맞춤 주기에 원본으로 계산되게 한다.
+ * 도입 후 증분으로 먼저 만들어진 같은 날 행도 이전 피드백이 빠져 있으므로 dirty로 표시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackDailyStatsBackfill {
+
+    static final String MIGRATION_NAME = "feedback-daily-stats-backfill";
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String CHUNK_END_SQL = "SELECT MAX(id) FROM " +
+            "(SELECT id FROM feedbacks WHERE id > ? ORDER BY id LIMIT ?) chunk";
+
+    private static final String BACKFILL_SQL = "INSERT INTO feedback_daily_stats " +
+            "(post_id, stat_date, feedback_count, bug_count, positive_count, satisfaction_sum, recommendation_sum, " +
+            "reuse_sum, functionality_sum, comprehensibility_sum, speed_sum, response_timing_sum, dirty, " +
+            "pending_refresh, version) " +
+            "SELECT DISTINCT p.post_id, DATE(f.created_at), 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, true, true, 0 " +
+            "FROM feedbacks f JOIN participations p ON p.id = f.participation_id " +
+            "WHERE f.id > ? AND f.id <= ? " +
+            "ON DUPLICATE KEY UPDATE dirty = true, pending_refresh = true, version = version + 1";
+
+    private final DataMigrationRunner dataMigrationRunner;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        dataMigrationRunner.run(MIGRATION_NAME, this::backfillChunk);
+    }
+
+    Long backfillChunk(long afterFeedbackId) {
+        Long lastFeedbackId = jdbcTemplate.queryForObject(CHUNK_END_SQL, Long.class, afterFeedbackId, CHUNK_SIZE);
+        if (lastFeedbackId == null) {
+            return null;
+        }
+        int marked = jdbcTemplate.update(BACKFILL_SQL, afterFeedbackId, lastFeedbackId);
+        log.debug("일별 피드백 집계 백필: feedbacks=({}, {}], marked={}", afterFeedbackId, lastFeedbackId, marked);
+        return lastFeedbackId;
+    }
+}
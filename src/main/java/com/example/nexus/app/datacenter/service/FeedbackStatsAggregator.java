@@ -0,0 +1,271 @@
+package com.example.nexus.app.datacenter.service;
+
+import com.example.nexus.app.datacenter.domain.FeedbackStatCategory;
+import com.example.nexus.app.datacenter.repository.FeedbackDailyStatsRepository;
+import com.example.nexus.app.datacenter.service.dto.FeedbackWindowStats;
+import com.example.nexus.app.feedback.domain.BugType;
+import com.example.nexus.app.feedback.domain.event.FeedbackSubmittedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글별 일별 피드백 집계 관리
+ * - 피드백 제출 커밋 후 별도 트랜잭션에서 (게시글, 날짜) 행을 UPSERT로 증분 반영하고 캐시 갱신 대상(pending_refresh)으로 표시
+ *   (같은 날 제출이 모두 잡는 집계 행 잠금을 제출 트랜잭션 밖으로 빼서, 잠금 대기·교착으로 제출이 롤백되지 않게 함)
+ * - 증분 반영이 실패했거나 백필(FeedbackDailyStatsBackfill)로 추가된 행만 dirty로 표시해
+ *   원본 피드백으로 다시 계산 (짧은 트랜잭션, 행 단위)
+ * - 기간 통계는 최대 N개의 일별 행을 합산
+ */
+@Slf4j
+@Component
+public class FeedbackStatsAggregator {
+
+    private static final String DAILY_COLUMNS = "(post_id, stat_date, feedback_count, bug_count, positive_count, " +
+            "satisfaction_sum, recommendation_sum, reuse_sum, functionality_sum, comprehensibility_sum, speed_sum, " +
+            "response_timing_sum, dirty, pending_refresh, version) ";
+
+    private static final String UPSERT_DAILY_SQL = "INSERT INTO feedback_daily_stats " + DAILY_COLUMNS +
+            "VALUES (?, ?, 1, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, true, 1) " +
+            "ON DUPLICATE KEY UPDATE feedback_count = feedback_count + 1, " +
+            "bug_count = bug_count + VALUES(bug_count), " +
+            "positive_count = positive_count + VALUES(positive_count), " +
+            "satisfaction_sum = satisfaction_sum + VALUES(satisfaction_sum), " +
+            "recommendation_sum = recommendation_sum + VALUES(recommendation_sum), " +
+            "reuse_sum = reuse_sum + VALUES(reuse_sum), " +
+            "functionality_sum = functionality_sum + VALUES(functionality_sum), " +
+            "comprehensibility_sum = comprehensibility_sum + VALUES(comprehensibility_sum), " +
+            "speed_sum = speed_sum + VALUES(speed_sum), " +
+            "response_timing_sum = response_timing_sum + VALUES(response_timing_sum), " +
+            "pending_refresh = true, version = version + 1";
+
+    // 증분 반영할 수 없는 변경은 행을 dirty로 표시해 다음 맞춤 주기에 원본으로 다시 계산
+    private static final String MARK_DIRTY_SQL = "INSERT INTO feedback_daily_stats " + DAILY_COLUMNS +
+            "VALUES (?, ?, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, true, true, 1) " +
+            "ON DUPLICATE KEY UPDATE dirty = true, pending_refresh = true, version = version + 1";
+
+    private static final String UPSERT_CATEGORY_SQL = "INSERT INTO feedback_daily_category_stats " +
+            "(post_id, stat_date, category, category_key, item_count) VALUES (?, ?, ?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE item_count = item_count + 1";
+
+    private static final String SELECT_DIRTY_SQL = "SELECT post_id, stat_date, version FROM feedback_daily_stats " +
+            "WHERE dirty = true LIMIT ?";
+
+    private static final String SELECT_PENDING_REFRESH_SQL = "SELECT post_id, stat_date, version " +
+            "FROM feedback_daily_stats WHERE pending_refresh = true LIMIT ?";
+
+    private static final String CLEAR_PENDING_REFRESH_SQL = "UPDATE feedback_daily_stats SET pending_refresh = false " +
+            "WHERE post_id = ? AND stat_date = ? AND version = ?";
+
+    private static final String FEEDBACK_SCOPE = "FROM feedbacks f JOIN participations p ON p.id = f.participation_id " +
+            "WHERE p.post_id = ? AND f.created_at >= ? AND f.created_at < ?";
+
+    private static final String RECOMPUTE_DAILY_SQL = "SELECT COUNT(*) AS feedback_count, " +
+            "COALESCE(SUM(f.has_bug), 0) AS bug_count, " +
+            "COALESCE(SUM(f.overall_satisfaction >= 4), 0) AS positive_count, " +
+            "COALESCE(SUM(f.overall_satisfaction), 0) AS satisfaction_sum, " +
+            "COALESCE(SUM(f.recommendation_intent), 0) AS recommendation_sum, " +
+            "COALESCE(SUM(f.reuse_intent), 0) AS reuse_sum, " +
+            "COALESCE(SUM(f.functionality_score), 0) AS functionality_sum, " +
+            "COALESCE(SUM(f.comprehensibility_score), 0) AS comprehensibility_sum, " +
+            "COALESCE(SUM(f.speed_score), 0) AS speed_sum, " +
+            "COALESCE(SUM(f.response_timing_score), 0) AS response_timing_sum " + FEEDBACK_SCOPE;
+
+    private static final String RECOMPUTE_CATEGORY_SQL =
+            "SELECT 'SATISFACTION', CAST(f.overall_satisfaction AS CHAR), COUNT(*) " + FEEDBACK_SCOPE +
+                    " GROUP BY f.overall_satisfaction " +
+            "UNION ALL SELECT 'RECOMMENDATION', CAST(f.recommendation_intent AS CHAR), COUNT(*) " + FEEDBACK_SCOPE +
+                    " GROUP BY f.recommendation_intent " +
+            "UNION ALL SELECT 'REUSE', CAST(f.reuse_intent AS CHAR), COUNT(*) " + FEEDBACK_SCOPE +
+                    " GROUP BY f.reuse_intent " +
+            "UNION ALL SELECT 'INCONVENIENCE', f.most_inconvenient, COUNT(*) " + FEEDBACK_SCOPE +
+                    " AND f.most_inconvenient IS NOT NULL GROUP BY f.most_inconvenient " +
+            "UNION ALL SELECT 'BUG_TYPE', bt.bug_type, COUNT(*) FROM feedback_bug_types bt " +
+                    "JOIN feedbacks f ON f.id = bt.feedback_id JOIN participations p ON p.id = f.participation_id " +
+                    "WHERE p.post_id = ? AND f.created_at >= ? AND f.created_at < ? GROUP BY bt.bug_type";
+
+    private static final String UPDATE_RECONCILED_SQL = "UPDATE feedback_daily_stats SET feedback_count = ?, " +
+            "bug_count = ?, positive_count = ?, satisfaction_sum = ?, recommendation_sum = ?, reuse_sum = ?, " +
+            "functionality_sum = ?, comprehensibility_sum = ?, speed_sum = ?, response_timing_sum = ?, dirty = false, " +
+            "pending_refresh = true " +
+            "WHERE post_id = ? AND stat_date = ? AND version = ?";
+
+    private static final String DELETE_CATEGORY_SQL = "DELETE FROM feedback_daily_category_stats " +
+            "WHERE post_id = ? AND stat_date = ?";
+
+    private static final String INSERT_CATEGORY_SQL = "INSERT INTO feedback_daily_category_stats " +
+            "(post_id, stat_date, category, category_key, item_count) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate afterCommitTransactionTemplate;
+    private final FeedbackDailyStatsRepository dailyStatsRepository;
+
+    public FeedbackStatsAggregator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                   FeedbackDailyStatsRepository dailyStatsRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        // 커밋 후 콜백에서는 끝난 트랜잭션의 연결이 아직 묶여 있으므로 별도 트랜잭션으로 실행
+        this.afterCommitTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.afterCommitTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.dailyStatsRepository = dailyStatsRepository;
+    }
+
+    /**
+     * 제출이 커밋된 피드백을 일별 집계에 반영
+     * 증분 반영이 실패하면 해당 일을 dirty로 표시해 맞춤 주기에 원본으로 다시 계산한다.
+     */
+    @TransactionalEventListener
+    public void handleFeedbackSubmitted(FeedbackSubmittedEvent event) {
+        try {
+            afterCommitTransactionTemplate.executeWithoutResult(status -> applyIncrement(event));
+        } catch (Exception e) {
+            log.warn("일별 피드백 집계 증분 반영 실패, 재계산 대상으로 표시 - postId: {}, date: {}, error: {}",
+                    event.postId(), event.statDate(), e.getMessage());
+            markDirty(event.postId(), event.statDate());
+        }
+    }
+
+    /**
+     * 증분으로 반영할 수 없는 변경(반영 실패, 지난 피드백 수정 등)이 생긴 날을 원본 재계산 대상으로 표시
+     */
+    public void markDirty(Long postId, LocalDate statDate) {
+        try {
+            afterCommitTransactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.update(MARK_DIRTY_SQL, postId, Date.valueOf(statDate)));
+        } catch (Exception e) {
+            log.error("일별 피드백 집계 dirty 표시 실패 - postId: {}, date: {}", postId, statDate, e);
+        }
+    }
+
+    private void applyIncrement(FeedbackSubmittedEvent event) {
+        Long postId = event.postId();
+        Date statDate = Date.valueOf(event.statDate());
+        jdbcTemplate.update(UPSERT_DAILY_SQL,
+                postId, statDate,
+                event.hasBug() ? 1 : 0,
+                event.overallSatisfaction() >= 4 ? 1 : 0,
+                event.overallSatisfaction(),
+                event.recommendationIntent(),
+                event.reuseIntent(),
+                event.functionalityScore(),
+                event.comprehensibilityScore(),
+                event.speedScore(),
+                event.responseTimingScore());
+
+        List<Object[]> categories = new ArrayList<>();
+        categories.add(new Object[]{postId, statDate, FeedbackStatCategory.SATISFACTION.name(),
+                String.valueOf(event.overallSatisfaction())});
+        categories.add(new Object[]{postId, statDate, FeedbackStatCategory.RECOMMENDATION.name(),
+                String.valueOf(event.recommendationIntent())});
+        categories.add(new Object[]{postId, statDate, FeedbackStatCategory.REUSE.name(),
+                String.valueOf(event.reuseIntent())});
+        if (event.mostInconvenient() != null) {
+            categories.add(new Object[]{postId, statDate, FeedbackStatCategory.INCONVENIENCE.name(),
+                    event.mostInconvenient().name()});
+        }
+        for (BugType bugType : event.bugTypes()) {
+            categories.add(new Object[]{postId, statDate, FeedbackStatCategory.BUG_TYPE.name(), bugType.name()});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_CATEGORY_SQL, categories);
+    }
+
+    public List<DirtyDay> findDirtyDays(int limit) {
+        return jdbcTemplate.query(SELECT_DIRTY_SQL, (rs, rowNum) -> new DirtyDay(
+                rs.getLong("post_id"), rs.getDate("stat_date").toLocalDate(), rs.getLong("version")), limit);
+    }
+
+    /**
+     * 기간 통계 캐시에 아직 반영되지 않은 일별 행
+     */
+    public List<DirtyDay> findPendingRefreshDays(int limit) {
+        return jdbcTemplate.query(SELECT_PENDING_REFRESH_SQL, (rs, rowNum) -> new DirtyDay(
+                rs.getLong("post_id"), rs.getDate("stat_date").toLocalDate(), rs.getLong("version")), limit);
+    }
+
+    /**
+     * 캐시 갱신을 마친 일별 행의 표시 해제 (그 사이 새 피드백으로 version이 바뀐 행은 남겨 다음 주기에 반영)
+     *
+     * @return 해제된 행 수
+     */
+    public int clearPendingRefresh(List<DirtyDay> days) {
+        List<Object[]> args = days.stream()
+                .map(day -> new Object[]{day.postId(), Date.valueOf(day.statDate()), day.version()})
+                .toList();
+        int cleared = 0;
+        for (int count : jdbcTemplate.batchUpdate(CLEAR_PENDING_REFRESH_SQL, args)) {
+            cleared += Math.max(count, 0);
+        }
+        return cleared;
+    }
+
+    /**
+     * dirty 행 하나를 원본 피드백으로 다시 계산
+     * 읽은 뒤 새 피드백이 반영되어 version이 바뀌었으면 덮어쓰지 않고 false를 반환한다 (다음 주기에 재시도).
+     */
+    public boolean reconcile(DirtyDay day) {
+        Date start = Date.valueOf(day.statDate());
+        Date end = Date.valueOf(day.statDate().plusDays(1));
+        Object[] scope = {day.postId(), start, end};
+
+        Boolean reconciled = transactionTemplate.execute(status -> {
+            long[] totals = jdbcTemplate.queryForObject(RECOMPUTE_DAILY_SQL, (rs, rowNum) -> {
+                long[] values = new long[10];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = rs.getLong(i + 1);
+                }
+                return values;
+            }, scope);
+            List<Object[]> categories = jdbcTemplate.query(RECOMPUTE_CATEGORY_SQL,
+                    (rs, rowNum) -> new Object[]{day.postId(), start, rs.getString(1), rs.getString(2), rs.getLong(3)},
+                    day.postId(), start, end, day.postId(), start, end, day.postId(), start, end,
+                    day.postId(), start, end, day.postId(), start, end);
+
+            Object[] update = new Object[13];
+            for (int i = 0; i < 10; i++) {
+                update[i] = totals[i];
+            }
+            update[10] = day.postId();
+            update[11] = start;
+            update[12] = day.version();
+            if (jdbcTemplate.update(UPDATE_RECONCILED_SQL, update) == 0) {
+                return false;
+            }
+            jdbcTemplate.update(DELETE_CATEGORY_SQL, day.postId(), start);
+            jdbcTemplate.batchUpdate(INSERT_CATEGORY_SQL, categories);
+            return true;
+        });
+        return Boolean.TRUE.equals(reconciled);
+    }
+
+    /**
+     * 오늘을 포함한 최근 days일의 통계
+     */
+    public FeedbackWindowStats summarize(Long postId, int days) {
+        LocalDate today = LocalDate.now();
+        return FeedbackWindowStats.sum(
+                dailyStatsRepository.findByPostIdAndDateRange(postId, today.minusDays(days - 1L), today));
+    }
+
+    /**
+     * 게시글 통계 버전 (새 피드백이 반영될 때마다 증가, 맞춤 작업으로는 바뀌지 않음)
+     */
+    public long statsVersion(Long postId) {
+        return dailyStatsRepository.sumVersionByPostId(postId);
+    }
+
+    public List<Long> findPostIdsWithStatsSince(LocalDate startDate) {
+        return dailyStatsRepository.findPostIdsWithStatsSince(startDate);
+    }
+
+    public record DirtyDay(Long postId, LocalDate statDate, long version) {
+    }
+}
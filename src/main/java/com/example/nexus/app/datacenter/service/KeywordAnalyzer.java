@@ -3,19 +3,26 @@ package com.example.nexus.app.datacenter.service;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 키워드 분석 유틸리티
- * - 사전 정의된 태그 기반으로 키워드 카운팅
+ * - 태그 사전 기반으로 키워드 카운팅
+ * - 모든 태그 키워드로 만든 Aho–Corasick 매처로 텍스트당 한 번만 순회
  */
 @Component
 @Slf4j
 public class KeywordAnalyzer {
 
-    // 사전 정의된 키워드 태그 (빈도수 체크용)
-    private static final Map<String, List<String>> KEYWORD_TAGS = Map.ofEntries(
+    // 기본 키워드 태그 (keyword-analyzer.tags 설정이 없을 때 사용)
+    private static final List<Map.Entry<String, List<String>>> DEFAULT_KEYWORD_TAGS = List.of(
             Map.entry("속도", List.of("속도", "느린", "빠른", "로딩", "지연", "렉", "버벅")),
             Map.entry("디자인", List.of("디자인", "예쁜", "이쁜", "깔끔", "UI", "ui", "레이아웃", "화면")),
             Map.entry("버그", List.of("버그", "오류", "에러", "error", "bug", "문제", "이상", "안됨")),
@@ -32,55 +39,74 @@ public class KeywordAnalyzer {
             Map.entry("로그인", List.of("로그인", "login", "인증", "로그아웃"))
     );
 
+    // 이모지 규칙 (앞의 규칙이 우선)
+    private static final List<Map.Entry<String, List<String>>> POSITIVE_EMOJI_RULES = List.of(
+            Map.entry("❤️", List.of("좋", "훌륭", "최고")),
+            Map.entry("👍", List.of("편리", "쉬운")),
+            Map.entry("⚡", List.of("빠른", "신속")),
+            Map.entry("✨", List.of("예쁜", "디자인"))
+    );
+    private static final List<Map.Entry<String, List<String>>> IMPROVEMENT_EMOJI_RULES = List.of(
+            Map.entry("🐛", List.of("버그", "오류")),
+            Map.entry("🐢", List.of("느린", "속도")),
+            Map.entry("😕", List.of("어려운", "복잡")),
+            Map.entry("🎨", List.of("디자인", "UI"))
+    );
+    private static final String DEFAULT_POSITIVE_EMOJI = "😊";
+    private static final String DEFAULT_IMPROVEMENT_EMOJI = "💡";
+
+    private final List<String> tagNames;
+    private final KeywordMatcher tagMatcher;
+    private final KeywordMatcher positiveEmojiMatcher;
+    private final KeywordMatcher improvementEmojiMatcher;
+
+    public KeywordAnalyzer(KeywordTagProperties properties) {
+        List<Map.Entry<String, List<String>>> tags = properties.getTags().isEmpty()
+                ? DEFAULT_KEYWORD_TAGS
+                : properties.getTags().stream()
+                        .map(tag -> Map.entry(tag.getName(), tag.getKeywords()))
+                        .toList();
+        this.tagNames = tags.stream().map(Map.Entry::getKey).toList();
+        this.tagMatcher = new KeywordMatcher(tags.stream().map(Map.Entry::getValue).toList(), true);
+        this.positiveEmojiMatcher = emojiMatcher(POSITIVE_EMOJI_RULES);
+        this.improvementEmojiMatcher = emojiMatcher(IMPROVEMENT_EMOJI_RULES);
+        log.info("키워드 분석 태그 사전 로드: tags={}", tagNames.size());
+    }
+
     /**
-     * 사전 정의된 태그 기반으로 키워드 카운팅
+     * 태그 사전 기반으로 키워드 카운팅
      * 
      * @param texts 분석할 텍스트 리스트
      * @param topN 상위 N개의 키워드만 반환
-     * @return 키워드 태그와 빈도수 맵 (빈도수 내림차순)
+     * @return 키워드 태그와 빈도수 맵 (빈도수 내림차순, 같으면 태그 사전 순서)
      */
     public Map<String, Integer> extractKeywords(List<String> texts, int topN) {
         if (texts == null || texts.isEmpty()) {
             return Collections.emptyMap();
         }
 
-        Map<String, Integer> tagFrequency = new HashMap<>();
-
-        // 각 태그별로 빈도수 계산
-        for (Map.Entry<String, List<String>> entry : KEYWORD_TAGS.entrySet()) {
-            String tag = entry.getKey();
-            List<String> keywords = entry.getValue();
-            int count = 0;
-
-            for (String text : texts) {
-                if (text == null || text.trim().isEmpty()) {
-                    continue;
-                }
-
-                String lowerText = text.toLowerCase();
-
-                // 해당 태그의 키워드들이 텍스트에 포함되어 있는지 확인
-                for (String keyword : keywords) {
-                    if (lowerText.contains(keyword.toLowerCase())) {
-                        count++;
-                        break; // 한 텍스트에서 같은 태그는 1번만 카운트
-                    }
-                }
+        // 한 텍스트에서 같은 태그는 1번만 카운트
+        int[] tagFrequency = new int[tagNames.size()];
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                continue;
             }
-
-            if (count > 0) {
-                tagFrequency.put(tag, count);
+            BitSet tags = tagMatcher.findGroups(text);
+            for (int tag = tags.nextSetBit(0); tag >= 0; tag = tags.nextSetBit(tag + 1)) {
+                tagFrequency[tag]++;
             }
         }
 
         // 빈도수 기준 내림차순 정렬 후 상위 N개 반환
-        return tagFrequency.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+        return IntStream.range(0, tagFrequency.length)
+                .filter(tag -> tagFrequency[tag] > 0)
+                .boxed()
+                .sorted(Comparator.comparingInt((Integer tag) -> tagFrequency[tag]).reversed())
                 .limit(topN)
                 .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (e1, e2) -> e1,
+                        tagNames::get,
+                        tag -> tagFrequency[tag],
+                        Integer::sum,
                         LinkedHashMap::new
                 ));
     }
@@ -121,30 +147,18 @@ public class KeywordAnalyzer {
      */
     public String selectEmoji(String text, boolean isPositive) {
         if (isPositive) {
-            // 긍정 피드백 이모지
-            if (text.contains("좋") || text.contains("훌륭") || text.contains("최고")) {
-                return "❤️";
-            } else if (text.contains("편리") || text.contains("쉬운")) {
-                return "👍";
-            } else if (text.contains("빠른") || text.contains("신속")) {
-                return "⚡";
-            } else if (text.contains("예쁜") || text.contains("디자인")) {
-                return "✨";
-            }
-            return "😊";
-        } else {
-            // 개선 제안 이모지
-            if (text.contains("버그") || text.contains("오류")) {
-                return "🐛";
-            } else if (text.contains("느린") || text.contains("속도")) {
-                return "🐢";
-            } else if (text.contains("어려운") || text.contains("복잡")) {
-                return "😕";
-            } else if (text.contains("디자인") || text.contains("UI")) {
-                return "🎨";
-            }
-            return "💡";
+            return selectEmoji(positiveEmojiMatcher, POSITIVE_EMOJI_RULES, text, DEFAULT_POSITIVE_EMOJI);
         }
+        return selectEmoji(improvementEmojiMatcher, IMPROVEMENT_EMOJI_RULES, text, DEFAULT_IMPROVEMENT_EMOJI);
     }
-}
 
+    private String selectEmoji(KeywordMatcher matcher, List<Map.Entry<String, List<String>>> rules,
+                               String text, String defaultEmoji) {
+        int rule = matcher.findGroups(text).nextSetBit(0);
+        return rule >= 0 ? rules.get(rule).getKey() : defaultEmoji;
+    }
+
+    private static KeywordMatcher emojiMatcher(List<Map.Entry<String, List<String>>> rules) {
+        return new KeywordMatcher(rules.stream().map(Map.Entry::getValue).toList(), false);
+    }
+}
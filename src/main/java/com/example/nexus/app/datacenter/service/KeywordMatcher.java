@@ -0,0 +1,132 @@
+package com.example.nexus.app.datacenter.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드를 한 번의 텍스트 순회로 찾는 Aho–Corasick 매처
+ * - 그룹(태그) 인덱스별 키워드 목록으로 만들고, 텍스트에 나온 그룹 인덱스를 중복 없이 반환한다.
+ * - ignoreCase면 키워드와 텍스트를 문자 단위로 소문자 변환해 비교한다.
+ * - 생성 후에는 변경하지 않으므로 여러 스레드에서 함께 사용해도 된다.
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+
+    private final boolean ignoreCase;
+    // 노드별 전이 (문자 오름차순 정렬, 이진 탐색)
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    // 노드에서 끝나는 키워드의 그룹 (실패 링크를 따라 닿는 노드의 그룹 포함)
+    private final int[][] outputs;
+
+    public KeywordMatcher(List<List<String>> keywordGroups, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<BitSet> nodeGroups = new ArrayList<>();
+        children.add(new TreeMap<>());
+        nodeGroups.add(new BitSet());
+
+        for (int group = 0; group < keywordGroups.size(); group++) {
+            for (String keyword : keywordGroups.get(group)) {
+                if (keyword == null || keyword.isEmpty()) {
+                    continue;
+                }
+                int node = ROOT;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = normalize(keyword.charAt(i));
+                    Integer next = children.get(node).get(c);
+                    if (next == null) {
+                        next = children.size();
+                        children.add(new TreeMap<>());
+                        nodeGroups.add(new BitSet());
+                        children.get(node).put(c, next);
+                    }
+                    node = next;
+                }
+                nodeGroups.get(node).set(group);
+            }
+        }
+
+        int nodeCount = children.size();
+        this.transitionChars = new char[nodeCount][];
+        this.transitionTargets = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            char[] chars = new char[edges.size()];
+            int[] targets = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                chars[i] = edge.getKey();
+                targets[i] = edge.getValue();
+                i++;
+            }
+            transitionChars[node] = chars;
+            transitionTargets[node] = targets;
+        }
+
+        // 너비 우선으로 실패 링크를 만들고 출력 그룹을 합친다
+        this.failure = new int[nodeCount];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionTargets[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            nodeGroups.get(node).or(nodeGroups.get(failure[node]));
+            for (int i = 0; i < transitionChars[node].length; i++) {
+                int child = transitionTargets[node][i];
+                int fallback = failure[node];
+                int target;
+                while ((target = next(fallback, transitionChars[node][i])) < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target >= 0 ? target : ROOT;
+                queue.add(child);
+            }
+        }
+
+        this.outputs = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            outputs[node] = nodeGroups.get(node).stream().toArray();
+        }
+    }
+
+    /**
+     * 텍스트에 키워드가 하나 이상 나온 그룹 인덱스
+     */
+    public BitSet findGroups(CharSequence text) {
+        BitSet found = new BitSet();
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = normalize(text.charAt(i));
+            int target;
+            while ((target = next(node, c)) < 0 && node != ROOT) {
+                node = failure[node];
+            }
+            node = target >= 0 ? target : ROOT;
+            for (int group : outputs[node]) {
+                found.set(group);
+            }
+        }
+        return found;
+    }
+
+    private int next(int node, char c) {
+        int index = Arrays.binarySearch(transitionChars[node], c);
+        return index >= 0 ? transitionTargets[node][index] : -1;
+    }
+
+    private char normalize(char c) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+}
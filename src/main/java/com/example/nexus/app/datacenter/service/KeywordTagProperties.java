@@ -0,0 +1,30 @@
+package com.example.nexus.app.datacenter.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 키워드 분석 태그 사전 설정 (keyword-analyzer.tags)
+ * - 비어 있으면 KeywordAnalyzer의 기본 태그 사전을 사용
+ * - 태그 순서는 빈도가 같을 때의 표시 순서
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "keyword-analyzer")
+public class KeywordTagProperties {
+
+    private List<Tag> tags = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Tag {
+        private String name;
+        private List<String> keywords = new ArrayList<>();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.nexus.app.datacenter.service;
+
+import com.example.nexus.app.post.domain.event.PostChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 생성된 PDF 리포트 캐시
+ * 리포트는 달력 일 기준 기간으로 만들므로 키에 통계 버전(일별 집계 version 합계)과 날짜를 넣어,
+ * 새 피드백이 반영되거나 기간이 하루 이동하면 새 키로 다시 만든다.
+ * 게시글 제목이 리포트에 들어가므로 게시글 변경 커밋 후에는 해당 게시글의 리포트를 비운다.
+ */
+@Component
+public class ReportPdfCache {
+
+    // 다른 노드에서 발생한 게시글 변경은 이벤트가 전달되지 않으므로 만료 시간으로 신선도를 보장
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofHours(1);
+
+    private final Cache<ReportKey, byte[]> cache;
+
+    public ReportPdfCache(@Value("${report.pdf-cache.max-bytes:67108864}") long maxBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((ReportKey key, byte[] pdf) -> pdf.length)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .build();
+    }
+
+    public byte[] get(ReportKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(ReportKey key, byte[] pdf) {
+        cache.put(key, pdf);
+    }
+
+    @TransactionalEventListener
+    public void handlePostChanged(PostChangedEvent event) {
+        cache.asMap().keySet().removeIf(key -> key.postId().equals(event.postId()));
+    }
+
+    public record ReportKey(Long postId, int days, long statsVersion, LocalDate date) {
+    }
+}
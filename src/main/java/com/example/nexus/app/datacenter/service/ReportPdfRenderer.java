@@ -0,0 +1,60 @@
+package com.example.nexus.app.datacenter.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * HTML을 PDF로 변환 (Flying Saucer 사용, 한글 폰트 적용)
+ * - 한글 폰트는 시작 시 한 번만 임시 파일로 풀어 두고 모든 렌더러가 같은 경로로 등록한다.
+ *   iText는 경로별로 읽은 폰트를 캐시하므로 두 번째 렌더링부터는 폰트 파일을 다시 읽지 않는다.
+ * - 렌더러는 문서마다 새로 만든다 (ITextRenderer는 스레드 안전하지 않음).
+ */
+@Slf4j
+@Component
+public class ReportPdfRenderer {
+
+    private static final String FONT_RESOURCE = "static/fonts/NotoSansKR.ttf";
+
+    private final String fontPath;
+
+    public ReportPdfRenderer() {
+        this.fontPath = resolveFont();
+    }
+
+    /**
+     * PDF를 출력 스트림에 바로 쓴다 (완료 시 iText가 스트림을 닫음)
+     */
+    public void render(String html, OutputStream outputStream) throws Exception {
+        ITextRenderer renderer = new ITextRenderer();
+        if (fontPath != null) {
+            renderer.getFontResolver().addFont(fontPath, true);
+        }
+        renderer.setDocumentFromString(html);
+        renderer.layout();
+        renderer.createPDF(outputStream);
+    }
+
+    private String resolveFont() {
+        try (InputStream fontStream = getClass().getClassLoader().getResourceAsStream(FONT_RESOURCE)) {
+            if (fontStream == null) {
+                log.warn("NotoSansKR.ttf 폰트 파일을 찾을 수 없습니다.");
+                return null;
+            }
+            File tempFont = File.createTempFile("NotoSansKR", ".ttf");
+            tempFont.deleteOnExit();
+            Files.copy(fontStream, tempFont.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            log.info("한글 폰트 로드 완료: {}", tempFont.getAbsolutePath());
+            return tempFont.getAbsolutePath();
+        } catch (Exception e) {
+            log.error("폰트 로드 실패: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+}
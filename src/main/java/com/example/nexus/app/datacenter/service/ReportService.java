@@ -2,17 +2,22 @@ package com.example.nexus.app.datacenter.service;
 
 import com.example.nexus.app.datacenter.controller.dto.response.datacenter.DataCenterResponse;
 import com.example.nexus.app.datacenter.controller.dto.response.datacenter.ReportDataResponse;
+import com.example.nexus.app.datacenter.service.ReportPdfCache.ReportKey;
 import com.example.nexus.app.post.domain.Post;
 import com.example.nexus.app.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
-import org.xhtmlrenderer.pdf.ITextRenderer;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -29,26 +34,76 @@ public class ReportService {
     private final DataCenterService dataCenterService;
     private final PostRepository postRepository;
     private final TemplateEngine templateEngine;
+    private final FeedbackStatsAggregator feedbackStatsAggregator;
+    private final ReportPdfRenderer reportPdfRenderer;
+    private final ReportPdfCache reportPdfCache;
 
     /**
      * PDF 리포트용 데이터 생성
+     * - PDF와 같은 달력 일 구간으로 계산하므로 같은 날 받은 JSON과 PDF의 수치가 일치한다.
      *
      * @param postId 프로젝트 ID
      * @param days   조회 기간
      * @return 리포트 데이터
      */
     public ReportDataResponse generateReportData(Long postId, int days) {
-        // 프로젝트 정보 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
+        return buildReportData(getPost(postId), days, calculateReportData(postId, days, LocalDate.now()));
+    }
+
+    /**
+     * PDF 리포트 생성
+     * - Thymeleaf로 HTML 생성 후 Flying Saucer로 PDF 변환
+     * - 기간은 일별 집계와 같은 달력 일 기준(오늘 포함 최근 N일)이므로 리포트 내용은 (프로젝트, 기간, 통계 버전, 날짜)로 정해진다.
+     *   이 키로 생성한 PDF를 캐시해 같은 리포트는 다시 만들지 않는다.
+     * - 캐시에 없으면 응답으로 바로 쓰면서 캐시에 저장할 사본을 함께 만든다 (사본에 PDF 전체가 담기므로 생성 중 메모리 사용량은 그대로다).
+     * - 프로젝트 조회와 HTML 생성은 여기서 끝내므로 그 단계의 오류는 응답 전에 그대로 전달된다.
+     *
+     * @param postId 프로젝트 ID
+     * @param days   조회 기간
+     * @return 응답 스트림에 PDF를 쓰는 본문
+     */
+    public StreamingResponseBody generatePdfReport(Long postId, int days) {
+        Post post = getPost(postId);
+        LocalDate today = LocalDate.now();
+        ReportKey key = new ReportKey(postId, days, feedbackStatsAggregator.statsVersion(postId), today);
+        byte[] cached = reportPdfCache.get(key);
+        if (cached != null) {
+            return outputStream -> outputStream.write(cached);
+        }
+
+        String html = generateHtmlFromTemplate(buildReportData(post, days, calculateReportData(postId, days, today)));
 
-        // 데이터센터 데이터 조회
-        DataCenterResponse dataCenterData = dataCenterService.getDataCenterData(postId, days);
+        return outputStream -> {
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            try {
+                reportPdfRenderer.render(html, new TeeOutputStream(outputStream, copy));
+            } catch (Exception e) {
+                log.error("PDF 변환 실패: postId={}, error={}", postId, e.getMessage(), e);
+                throw new IOException("PDF 생성 실패: " + e.getMessage(), e);
+            }
+            reportPdfCache.put(key, copy.toByteArray());
+            log.info("PDF 생성 완료: postId={}, days={}, bytes={}", postId, days, copy.size());
+        };
+    }
+
+    /**
+     * 리포트 구간(오늘 포함 최근 N일, 달력 일 기준)의 데이터센터 응답
+     * 저장된 데이터센터 응답은 조회 시점 기준 구간이고 새 피드백을 아직 반영하지 않았을 수 있으므로 원본으로 계산한다.
+     */
+    private DataCenterResponse calculateReportData(Long postId, int days, LocalDate today) {
+        return dataCenterService.calculateDataCenterData(postId,
+                today.minusDays(days - 1L).atStartOfDay(), today.plusDays(1).atStartOfDay());
+    }
+
+    private Post getPost(Long postId) {
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
+    }
 
-        // 리포트 데이터 생성
+    private ReportDataResponse buildReportData(Post post, int days, DataCenterResponse dataCenterData) {
         return ReportDataResponse.builder()
                 .generatedAt(LocalDateTime.now())
-                .postId(postId)
+                .postId(post.getId())
                 .postTitle(post.getTitle())
                 .periodDays(days)
                 .data(dataCenterData)
@@ -56,30 +111,6 @@ public class ReportService {
                 .build();
     }
 
-    /**
-     * PDF 파일 생성
-     * - Thymeleaf로 HTML 생성 후 OpenHTMLtoPDF로 PDF 변환
-     * - 한글 완벽 지원
-     * 
-     * @param postId 프로젝트 ID
-     * @param days   조회 기간
-     * @return PDF 바이트 배열
-     */
-    public byte[] generatePdfReport(Long postId, int days) {
-        try {
-            ReportDataResponse reportData = generateReportData(postId, days);
-            
-            // Thymeleaf로 HTML 생성
-            String html = generateHtmlFromTemplate(reportData);
-            
-            // HTML을 PDF로 변환
-            return convertHtmlToPdf(html);
-        } catch (Exception e) {
-            log.error("PDF 생성 중 오류 발생", e);
-            throw new RuntimeException("PDF 생성 실패: " + e.getMessage(), e);
-        }
-    }
-
     /**
      * Thymeleaf 템플릿으로 HTML 생성
      */
@@ -100,56 +131,26 @@ public class ReportService {
         return templateEngine.process("pdf/feedback-report", context);
     }
 
-    /**
-     * HTML을 PDF로 변환 (Flying Saucer 사용, 한글 폰트 적용)
-     */
-    private byte[] convertHtmlToPdf(String html) throws Exception {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        
-        try {
-            ITextRenderer renderer = new ITextRenderer();
-            
-            // Noto Sans KR 폰트 로드
-            try {
-                // classpath에서 폰트 파일 찾기
-                java.io.InputStream fontStream = getClass().getClassLoader()
-                    .getResourceAsStream("static/fonts/NotoSansKR.ttf");
-                
-                if (fontStream != null) {
-                    // 임시 파일로 저장
-                    java.io.File tempFont = java.io.File.createTempFile("NotoSansKR", ".ttf");
-                    tempFont.deleteOnExit();
-                    
-                    java.nio.file.Files.copy(fontStream, tempFont.toPath(), 
-                        java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                    fontStream.close();
-                    
-                    // Flying Saucer에 폰트 등록
-                    renderer.getFontResolver().addFont(
-                        tempFont.getAbsolutePath(),
-                        true  // embedded
-                    );
-                    
-                    log.info("한글 폰트 로드 완료: {}", tempFont.getAbsolutePath());
-                } else {
-                    log.warn("NotoSansKR.ttf 폰트 파일을 찾을 수 없습니다.");
-                }
-            } catch (Exception fontError) {
-                log.error("폰트 로드 실패: {}", fontError.getMessage(), fontError);
-            }
-            
-            renderer.setDocumentFromString(html);
-            renderer.layout();
-            renderer.createPDF(outputStream);
-            
-            log.info("PDF 생성 완료");
-            return outputStream.toByteArray();
-        } catch (Exception e) {
-            log.error("PDF 변환 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("PDF 생성 실패: " + e.getMessage(), e);
-        } finally {
-            outputStream.close();
+    // 응답 스트림에 쓰는 내용을 캐시용 버퍼에도 복사
+    private static final class TeeOutputStream extends FilterOutputStream {
+
+        private final OutputStream copy;
+
+        private TeeOutputStream(OutputStream out, OutputStream copy) {
+            super(out);
+            this.copy = copy;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            copy.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            copy.write(b, off, len);
         }
     }
 }
-
@@ -0,0 +1,25 @@
+package com.example.nexus.app.datacenter.service.dto;
+
+import com.example.nexus.app.feedback.domain.InconvenienceType;
+
+/**
+ * 데이터센터 집계용 피드백 프로젝션 (엔티티·컬렉션 로딩 없이 한 행으로 조회)
+ * - bugTypeMask: BugType ordinal 비트 집합
+ */
+public record FeedbackAnalyticsRow(
+        long feedbackId,
+        int overallSatisfaction,
+        int recommendationIntent,
+        int reuseIntent,
+        int functionalityScore,
+        int comprehensibilityScore,
+        int speedScore,
+        int responseTimingScore,
+        InconvenienceType mostInconvenient,
+        boolean hasBug,
+        int bugTypeMask,
+        String bugLocation,
+        String goodPoints,
+        String improvementSuggestions
+) {
+}
@@ -0,0 +1,55 @@
+package com.example.nexus.app.datacenter.service.dto;
+
+import com.example.nexus.app.datacenter.domain.FeedbackDailyStats;
+
+import java.util.List;
+
+/**
+ * 일별 집계 행을 합친 기간 통계
+ */
+public record FeedbackWindowStats(
+        long feedbackCount,
+        long bugCount,
+        long positiveCount,
+        long satisfactionSum,
+        long recommendationSum,
+        long reuseSum,
+        long functionalitySum,
+        long comprehensibilitySum,
+        long speedSum,
+        long responseTimingSum
+) {
+
+    public static FeedbackWindowStats sum(List<FeedbackDailyStats> rows) {
+        long feedbackCount = 0, bugCount = 0, positiveCount = 0;
+        long satisfactionSum = 0, recommendationSum = 0, reuseSum = 0;
+        long functionalitySum = 0, comprehensibilitySum = 0, speedSum = 0, responseTimingSum = 0;
+        for (FeedbackDailyStats row : rows) {
+            feedbackCount += row.getFeedbackCount();
+            bugCount += row.getBugCount();
+            positiveCount += row.getPositiveCount();
+            satisfactionSum += row.getSatisfactionSum();
+            recommendationSum += row.getRecommendationSum();
+            reuseSum += row.getReuseSum();
+            functionalitySum += row.getFunctionalitySum();
+            comprehensibilitySum += row.getComprehensibilitySum();
+            speedSum += row.getSpeedSum();
+            responseTimingSum += row.getResponseTimingSum();
+        }
+        return new FeedbackWindowStats(feedbackCount, bugCount, positiveCount, satisfactionSum, recommendationSum,
+                reuseSum, functionalitySum, comprehensibilitySum, speedSum, responseTimingSum);
+    }
+
+    public double average(long sum) {
+        return feedbackCount > 0 ? round(sum / (double) feedbackCount) : 0.0;
+    }
+
+    // 백분율 (소수 첫째 자리)
+    public double rate(long count) {
+        return feedbackCount > 0 ? round(count * 100.0 / feedbackCount) : 0.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
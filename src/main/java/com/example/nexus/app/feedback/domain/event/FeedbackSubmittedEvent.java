@@ -0,0 +1,44 @@
+package com.example.nexus.app.feedback.domain.event;
+
+import com.example.nexus.app.feedback.domain.BugType;
+import com.example.nexus.app.feedback.domain.Feedback;
+import com.example.nexus.app.feedback.domain.InconvenienceType;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 피드백 제출 이벤트
+ * 트랜잭션 커밋 이후 일별 피드백 집계 반영에 사용 (커밋 후에는 엔티티를 쓰지 않도록 필요한 값만 복사)
+ */
+public record FeedbackSubmittedEvent(
+        Long postId,
+        LocalDate statDate,
+        boolean hasBug,
+        Integer overallSatisfaction,
+        Integer recommendationIntent,
+        Integer reuseIntent,
+        InconvenienceType mostInconvenient,
+        Set<BugType> bugTypes,
+        Integer functionalityScore,
+        Integer comprehensibilityScore,
+        Integer speedScore,
+        Integer responseTimingScore
+) {
+
+    public static FeedbackSubmittedEvent of(Long postId, Feedback feedback) {
+        return new FeedbackSubmittedEvent(
+                postId,
+                feedback.getCreatedAt().toLocalDate(),
+                Boolean.TRUE.equals(feedback.getHasBug()),
+                feedback.getOverallSatisfaction(),
+                feedback.getRecommendationIntent(),
+                feedback.getReuseIntent(),
+                feedback.getMostInconvenient(),
+                Set.copyOf(feedback.getBugTypes()),
+                feedback.getFunctionalityScore(),
+                feedback.getComprehensibilityScore(),
+                feedback.getSpeedScore(),
+                feedback.getResponseTimingScore());
+    }
+}
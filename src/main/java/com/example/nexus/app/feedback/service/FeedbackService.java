@@ -8,6 +8,7 @@ import com.example.nexus.app.feedback.controller.dto.response.MyFeedbackStatusRe
 import com.example.nexus.app.feedback.controller.dto.response.PresignedUrlResponse;
 import com.example.nexus.app.feedback.domain.Feedback;
 import com.example.nexus.app.feedback.domain.FeedbackDraft;
+import com.example.nexus.app.feedback.domain.event.FeedbackSubmittedEvent;
 import com.example.nexus.app.feedback.repository.FeedbackDraftRepository;
 import com.example.nexus.app.feedback.repository.FeedbackRepository;
 import com.example.nexus.app.global.code.status.ErrorStatus;
@@ -22,6 +23,7 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -39,6 +41,7 @@ public class FeedbackService {
     private final FeedbackRepository feedbackRepository;
     private final FeedbackDraftRepository feedbackDraftRepository;
     private final ParticipationRepository participationRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final S3Presigner s3Presigner;
     private final S3Client s3Client;
     
@@ -131,6 +134,8 @@ public class FeedbackService {
                 .build();
 
         Feedback savedFeedback = feedbackRepository.save(feedback);
+        // 일별 집계는 커밋 후 반영 (집계 행 잠금을 제출 트랜잭션에서 잡지 않음)
+        eventPublisher.publishEvent(FeedbackSubmittedEvent.of(participation.getPost().getId(), savedFeedback));
 
         feedbackDraftRepository.findByParticipationId(participation.getId())
                 .ifPresent(feedbackDraftRepository::delete);
@@ -0,0 +1,36 @@
+package com.example.nexus.app.global.code.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이징 응답 (전체 개수 없이 다음 커서만 제공)
+ */
+@Getter
+@Builder
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final int size;
+
+    /**
+     * limit + 1 개를 조회한 결과로 응답 생성
+     * 초과분이 있으면 마지막 항목 기준으로 다음 커서를 만든다.
+     */
+    public static <E, T> CursorResponse<T> of(List<E> fetched, int limit, Function<E, T> mapper,
+                                              Function<E, String> cursorEncoder) {
+        boolean hasNext = fetched.size() > limit;
+        List<E> page = hasNext ? fetched.subList(0, limit) : fetched;
+
+        return CursorResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .nextCursor(hasNext ? cursorEncoder.apply(page.get(page.size() - 1)) : null)
+                .hasNext(hasNext)
+                .size(page.size())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.nexus.app.global.code.dto;
+
+import com.example.nexus.app.global.code.status.ErrorStatus;
+import com.example.nexus.app.global.exception.GeneralException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이징 커서 - 마지막으로 조회한 행의 (정렬 시각, ID)를 base64url("시각|ID")로 주고받는다
+ * 알림(created_at, id), 채팅방 목록(sort_at, room_id) 커서 조회에서 함께 사용한다.
+ */
+public record KeysetCursor(LocalDateTime sortAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static String encode(LocalDateTime sortAt, Long id) {
+        String raw = sortAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 null (첫 페이지)
+    public static KeysetCursor decodeOrNull(String cursor) {
+        return cursor != null && !cursor.isBlank() ? decode(cursor) : null;
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 2) {
+                throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+            }
+            return new KeysetCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+}
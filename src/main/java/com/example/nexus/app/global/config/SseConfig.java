@@ -14,4 +14,8 @@ public class SseConfig {
 
     @Value("${sse.heartbeat:20000}")
     private Long heartbeatInterval;
+
+    // 사용자별 동시 연결 수 상한 (여러 탭/기기), 초과 시 가장 오래된 연결부터 종료
+    @Value("${sse.max-connections-per-user:5}")
+    private Integer maxConnectionsPerUser;
 }
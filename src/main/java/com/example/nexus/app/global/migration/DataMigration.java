@@ -0,0 +1,36 @@
+package com.example.nexus.app.global.migration;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번만 실행하는 데이터 마이그레이션의 진행 상태
+ * 실행 중인 노드가 locked_until까지 점유하고, 묶음마다 마지막으로 처리한 ID를 기록한다.
+ * completed_at이 채워지면 이후 시작하는 노드는 건너뛴다.
+ */
+@Entity
+@Table(name = "data_migrations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DataMigration {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId = 0L;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
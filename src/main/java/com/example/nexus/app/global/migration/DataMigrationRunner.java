@@ -0,0 +1,100 @@
+package com.example.nexus.app.global.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ID 구간 단위로 나누어 한 번만 실행하는 데이터 마이그레이션
+ * - data_migrations 행을 먼저 점유한 노드만 실행하고, 다른 노드는 건너뛴다.
+ * - 묶음마다 짧은 트랜잭션으로 처리하고 같은 트랜잭션에서 진행 위치를 기록하므로,
+ *   중간에 노드가 죽으면 점유 시간이 지난 뒤 다른 노드가 마지막 위치부터 이어서 실행한다.
+ */
+@Slf4j
+@Component
+public class DataMigrationRunner {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private static final String REGISTER_SQL = "INSERT IGNORE INTO data_migrations (name, last_id) VALUES (?, 0)";
+    private static final String CLAIM_SQL = "UPDATE data_migrations SET locked_until = ? " +
+            "WHERE name = ? AND completed_at IS NULL AND (locked_until IS NULL OR locked_until < ?)";
+    private static final String SELECT_LAST_ID_SQL = "SELECT last_id FROM data_migrations WHERE name = ?";
+    private static final String CHECKPOINT_SQL = "UPDATE data_migrations SET last_id = ?, locked_until = ? WHERE name = ?";
+    private static final String COMPLETE_SQL = "UPDATE data_migrations SET completed_at = ?, locked_until = NULL WHERE name = ?";
+    private static final String RELEASE_SQL = "UPDATE data_migrations SET locked_until = NULL WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DataMigrationRunner(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 마이그레이션을 끝까지 실행 (이미 끝났거나 다른 노드가 실행 중이면 바로 반환)
+     * 실패하면 진행 위치를 남긴 채 점유를 풀고, 다음 시작 때 이어서 실행한다.
+     */
+    public void run(String name, Chunk chunk) {
+        try {
+            jdbcTemplate.update(REGISTER_SQL, name);
+            if (jdbcTemplate.update(CLAIM_SQL, Timestamp.valueOf(LocalDateTime.now().plus(LEASE)), name,
+                    Timestamp.valueOf(LocalDateTime.now())) == 0) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("데이터 마이그레이션 점유 실패: name={}", name, e);
+            return;
+        }
+
+        try {
+            List<Long> lastIds = jdbcTemplate.queryForList(SELECT_LAST_ID_SQL, Long.class, name);
+            long lastId = lastIds.isEmpty() ? 0L : lastIds.get(0);
+            long startId = lastId;
+            while (true) {
+                long afterId = lastId;
+                Long processedId = transactionTemplate.execute(status -> {
+                    Long id = chunk.migrate(afterId);
+                    if (id != null) {
+                        jdbcTemplate.update(CHECKPOINT_SQL, id, Timestamp.valueOf(LocalDateTime.now().plus(LEASE)), name);
+                    }
+                    return id;
+                });
+                if (processedId == null) {
+                    break;
+                }
+                lastId = processedId;
+            }
+
+            jdbcTemplate.update(COMPLETE_SQL, Timestamp.valueOf(LocalDateTime.now()), name);
+            log.info("데이터 마이그레이션 완료: name={}, ids=({}, {}]", name, startId, lastId);
+        } catch (Exception e) {
+            log.error("데이터 마이그레이션 실패, 다음 시작 때 이어서 실행: name={}", name, e);
+            release(name);
+        }
+    }
+
+    private void release(String name) {
+        try {
+            jdbcTemplate.update(RELEASE_SQL, name);
+        } catch (Exception e) {
+            log.warn("데이터 마이그레이션 점유 해제 실패 (점유 시간이 지나면 다시 실행): name={}", name, e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Chunk {
+
+        /**
+         * afterId 다음부터 한 묶음을 처리하고 마지막으로 처리한 ID를 반환 (더 처리할 행이 없으면 null)
+         */
+        Long migrate(long afterId);
+    }
+}
@@ -2,8 +2,18 @@ package com.example.nexus.app.global.s3;
 
 import com.example.nexus.app.global.code.status.ErrorStatus;
 import com.example.nexus.app.global.exception.GeneralException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,35 +22,43 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3UploadService {
 
+    // 이 크기 이상의 파일은 멀티파트 업로드 (파트 단위로 읽어 전체 파일을 메모리에 올리지 않음)
+    static final long MULTIPART_THRESHOLD = 16L * 1024 * 1024;
+    static final int PART_SIZE = 8 * 1024 * 1024;
+
+    private static final String UPLOAD_TIMER = "s3.upload";
+
     private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
     public String uploadFile(MultipartFile multipartFile) {
-        if (multipartFile == null || multipartFile.isEmpty() || multipartFile.getOriginalFilename() == null || multipartFile.getOriginalFilename().isBlank()) {
-            throw new GeneralException(ErrorStatus.FILE_IS_EMPTY);
-        }
+        validateFile(multipartFile);
         String originalFilename = multipartFile.getOriginalFilename();
         String uniqueFilename = createUniqueFilename(originalFilename);
+        boolean multipart = multipartFile.getSize() >= MULTIPART_THRESHOLD;
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(uniqueFilename)
-                    .contentType(multipartFile.getContentType())
-                    .contentLength(multipartFile.getSize())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(multipartFile.getInputStream(), multipartFile.getSize()));
+            if (multipart) {
+                putObjectInParts(uniqueFilename, multipartFile);
+            } else {
+                putObject(uniqueFilename, multipartFile);
+            }
+            outcome = "success";
             return s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(uniqueFilename)).toExternalForm();
 
         } catch (IOException e) {
@@ -49,7 +67,54 @@ public class S3UploadService {
         } catch (SdkException e) {
             log.error("S3 SDK 에러 발생: filename={}, bucket={}, error={}", originalFilename, bucketName, e.getMessage(), e);
             throw new GeneralException(ErrorStatus.S3_UPLOAD_FAILED);
+        } finally {
+            sample.stop(Timer.builder(UPLOAD_TIMER)
+                    .description("S3 파일 업로드 소요 시간")
+                    .tag("mode", multipart ? "multipart" : "single")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 여러 파일을 가상 스레드로 동시에 업로드하고, 입력 순서대로 URL을 반환
+     * 하나라도 실패하면 이미 업로드된 파일을 삭제한 뒤 예외를 던진다.
+     */
+    public List<String> uploadFiles(List<MultipartFile> multipartFiles) {
+        if (multipartFiles.isEmpty()) {
+            return List.of();
+        }
+        multipartFiles.forEach(this::validateFile);
+
+        List<Future<String>> futures = new ArrayList<>(multipartFiles.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile multipartFile : multipartFiles) {
+                futures.add(executor.submit(() -> uploadFile(multipartFile)));
+            }
+        }
+
+        List<String> uploadedUrls = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for (Future<String> future : futures) {
+            try {
+                uploadedUrls.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof GeneralException generalException
+                            ? generalException
+                            : new GeneralException(ErrorStatus.S3_UPLOAD_FAILED);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new GeneralException(ErrorStatus.S3_UPLOAD_FAILED);
+            }
         }
+
+        if (failure != null) {
+            deleteFilesQuietly(uploadedUrls);
+            throw failure;
+        }
+        return uploadedUrls;
     }
 
     public void deleteFile(String fileUrl) {
@@ -67,6 +132,79 @@ public class S3UploadService {
         }
     }
 
+    /**
+     * 사용되지 않게 된 업로드 파일 정리 (실패해도 예외를 던지지 않음)
+     */
+    public void deleteFilesQuietly(List<String> fileUrls) {
+        for (String fileUrl : fileUrls) {
+            try {
+                deleteFile(fileUrl);
+            } catch (Exception e) {
+                log.warn("업로드 파일 정리 실패: url={}", fileUrl, e);
+            }
+        }
+    }
+
+    private void putObject(String key, MultipartFile multipartFile) throws IOException {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(multipartFile.getContentType())
+                .contentLength(multipartFile.getSize())
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(multipartFile.getInputStream(), multipartFile.getSize()));
+    }
+
+    private void putObjectInParts(String key, MultipartFile multipartFile) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(builder -> builder
+                .bucket(bucketName)
+                .key(key)
+                .contentType(multipartFile.getContentType())).uploadId();
+
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            List<CompletedPart> completedParts = new ArrayList<>();
+            byte[] buffer = new byte[PART_SIZE];
+            int partNumber = 1;
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, PART_SIZE)) > 0) {
+                int currentPart = partNumber++;
+                long partSize = read;
+                UploadPartResponse response = s3Client.uploadPart(builder -> builder
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(currentPart)
+                                .contentLength(partSize),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+                completedParts.add(CompletedPart.builder().partNumber(currentPart).eTag(response.eTag()).build());
+            }
+
+            s3Client.completeMultipartUpload(builder -> builder
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completedParts)));
+        } catch (IOException | SdkException e) {
+            abortQuietly(key, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(builder -> builder.bucket(bucketName).key(key).uploadId(uploadId));
+        } catch (SdkException e) {
+            log.warn("S3 멀티파트 업로드 중단 실패: key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+
+    private void validateFile(MultipartFile multipartFile) {
+        if (multipartFile == null || multipartFile.isEmpty() || multipartFile.getOriginalFilename() == null || multipartFile.getOriginalFilename().isBlank()) {
+            throw new GeneralException(ErrorStatus.FILE_IS_EMPTY);
+        }
+    }
+
     private String createUniqueFilename(String originalFilename) {
         String extension = "";
         int dotIndex = originalFilename.lastIndexOf('.');
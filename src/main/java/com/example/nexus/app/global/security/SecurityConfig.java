@@ -40,7 +40,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/categories/**").permitAll()
                         .requestMatchers("/api/v1/posts/**").permitAll()
                         .requestMatchers("/api/v1/ranking/**").permitAll()
-                        .requestMatchers("/v1/users/posts/list").permitAll()
+                        .requestMatchers("/v1/users/posts/list", "/v1/users/posts/list/cursor").permitAll()
                         .requestMatchers("/v1/feedbacks/my-status").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .anyRequest().authenticated()
@@ -0,0 +1,170 @@
+package com.example.nexus.app.global.unread;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 안 읽은 수 캐시 (Redis, 모든 노드 공유)
+ * - 뱃지 조회는 캐시만 읽고, 캐시가 없을 때만 DB에서 집계해 채운다.
+ * - 보내기/읽음/모두 읽음 시 커밋 후 캐시가 있을 때만 증감한다 (없는 키를 0부터 만들지 않음).
+ * - 캐시가 없을 때의 증감·삭제는 변경 횟수(writes 키)만 올리고, DB 집계 중 변경이 있었으면 집계 값으로 채우지 않는다
+ *   (집계 전에 읽은 변경 횟수와 채우는 시점의 값을 Lua 스크립트에서 원자적으로 비교).
+ * - 키는 reconcile-interval 후 만료되어 다음 조회 때 DB 값으로 다시 맞춰진다 (증감 누락/경합 보정).
+ */
+@Slf4j
+@Service
+public class UnreadCountService {
+
+    private static final String KEY_PREFIX = "unread:";
+    private static final String WRITES_KEY_PREFIX = "unread:writes:";
+
+    // 키가 있을 때만 증감하고 0 미만으로 내려가지 않게 한다 (없으면 변경 횟수만 올림)
+    private static final RedisScript<Long> ADJUST_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "redis.call('INCR', KEYS[2]) redis.call('PEXPIRE', KEYS[2], ARGV[2]) return nil end " +
+            "local value = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if value < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') value = 0 end " +
+            "return value", Long.class);
+
+    // 집계 전에 읽은 변경 횟수가 그대로일 때만 집계 값으로 채운다
+    private static final RedisScript<Long> SEED_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[2] then return 0 end " +
+            "if redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3], 'NX') then return 1 end " +
+            "return 0", Long.class);
+
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) redis.call('INCR', KEYS[2]) redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration reconcileInterval;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UnreadCountService(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+                              @Value("${unread-count.reconcile-interval:600000}") long reconcileIntervalMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.reconcileInterval = Duration.ofMillis(reconcileIntervalMillis);
+        this.hitCounter = Counter.builder("unread_count.cache")
+                .description("안 읽은 수 캐시 조회")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("unread_count.cache")
+                .description("안 읽은 수 캐시 조회")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public long get(UnreadCountType type, Long userId, Supplier<Long> dbLoader) {
+        List<String> keys = keys(type, userId);
+        String writes;
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return dbLoader.get();
+            }
+            String cached = values.get(0);
+            if (cached != null) {
+                hitCounter.increment();
+                return Long.parseLong(cached);
+            }
+            writes = values.get(1);
+        } catch (Exception e) {
+            log.warn("안 읽은 수 캐시 조회 실패 - type: {}, userId: {}, error: {}", type, userId, e.getMessage());
+            return dbLoader.get();
+        }
+
+        missCounter.increment();
+        long count = dbLoader.get();
+        try {
+            // 집계하는 사이 증감/삭제가 있었으면 집계 값이 늦었을 수 있으므로 채우지 않음 (다음 조회 때 다시 집계)
+            stringRedisTemplate.execute(SEED_IF_UNCHANGED, keys, String.valueOf(count),
+                    writes == null ? "" : writes, String.valueOf(reconcileInterval.toMillis()));
+        } catch (Exception e) {
+            log.warn("안 읽은 수 캐시 저장 실패 - type: {}, userId: {}, error: {}", type, userId, e.getMessage());
+        }
+        return count;
+    }
+
+    public void increment(UnreadCountType type, Long userId) {
+        adjustAfterCommit(type, userId, 1);
+    }
+
+    public void increment(UnreadCountType type, Long userId, long amount) {
+        if (amount > 0) {
+            adjustAfterCommit(type, userId, amount);
+        }
+    }
+
+    public void decrement(UnreadCountType type, Long userId, long amount) {
+        if (amount > 0) {
+            adjustAfterCommit(type, userId, -amount);
+        }
+    }
+
+    // 모두 읽음 처리 후에는 0으로 (커밋 후)
+    public void reset(UnreadCountType type, Long userId) {
+        runAfterCommit(() -> {
+            try {
+                stringRedisTemplate.opsForValue().set(key(type, userId), "0", reconcileInterval);
+            } catch (Exception e) {
+                log.warn("안 읽은 수 캐시 초기화 실패 - type: {}, userId: {}, error: {}", type, userId, e.getMessage());
+                evict(type, userId);
+            }
+        });
+    }
+
+    // 증감할 수 없는 변경(정확한 차이를 모를 때)은 키를 지워 다음 조회 때 DB로 맞춤
+    public void evict(UnreadCountType type, Long userId) {
+        try {
+            stringRedisTemplate.execute(EVICT, keys(type, userId), String.valueOf(reconcileInterval.toMillis()));
+        } catch (Exception e) {
+            log.warn("안 읽은 수 캐시 삭제 실패 - type: {}, userId: {}, error: {}", type, userId, e.getMessage());
+        }
+    }
+
+    private void adjustAfterCommit(UnreadCountType type, Long userId, long delta) {
+        runAfterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(ADJUST_IF_PRESENT, keys(type, userId),
+                        String.valueOf(delta), String.valueOf(reconcileInterval.toMillis()));
+            } catch (Exception e) {
+                log.warn("안 읽은 수 캐시 갱신 실패 - type: {}, userId: {}, error: {}", type, userId, e.getMessage());
+                evict(type, userId);
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String key(UnreadCountType type, Long userId) {
+        return KEY_PREFIX + type.getKey() + ":" + userId;
+    }
+
+    // [캐시 키, 캐시가 없을 때의 변경 횟수 키]
+    private List<String> keys(UnreadCountType type, Long userId) {
+        return List.of(key(type, userId), WRITES_KEY_PREFIX + type.getKey() + ":" + userId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.nexus.app.global.unread;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum UnreadCountType {
+    MESSAGE("message"),
+    NOTIFICATION("notification");
+
+    private final String key;
+}
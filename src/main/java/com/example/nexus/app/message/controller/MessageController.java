@@ -1,6 +1,7 @@
 package com.example.nexus.app.message.controller;
 
 import com.example.nexus.app.global.code.dto.ApiResponse;
+import com.example.nexus.app.global.code.dto.CursorResponse;
 import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
 import com.example.nexus.app.message.controller.doc.MessageControllerDoc;
 import com.example.nexus.app.message.controller.dto.request.MessageSendRequest;
@@ -38,6 +39,18 @@ public class MessageController implements MessageControllerDoc {
         return ResponseEntity.ok(ApiResponse.onSuccess(response));
     }
 
+    @Override
+    @GetMapping("/rooms/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<MessageRoomResponse>>> getMyRoomsByCursor(
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        CursorResponse<MessageRoomResponse> response = messageService.findMyRoomsByCursor(userDetails.getUserId(),
+                unreadOnly, cursor, size);
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
+    }
+
     @Override
     @PostMapping("/rooms/create")
     public ResponseEntity<ApiResponse<MessageRoomResponse>> createRoom(
@@ -66,6 +79,19 @@ public class MessageController implements MessageControllerDoc {
         return ResponseEntity.ok(ApiResponse.onSuccess(response));
     }
 
+    @Override
+    @GetMapping("/rooms/{roomId}/messages/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<MessageResponse>>> getRoomMessagesByCursor(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        CursorResponse<MessageResponse> response = messageService.findRoomMessagesByCursor(roomId,
+                userDetails.getUserId(), before, after, size);
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
+    }
+
     @Override
     @PostMapping("/rooms/{roomId}/send")
     public ResponseEntity<ApiResponse<MessageResponse>> sendMessage(
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -21,8 +22,9 @@ public class SseController implements SseControllerDoc {
     // text/event-stream (SSE 표준 미디어 타입)
     @Override
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@AuthenticationPrincipal CustomUserDetails customUserDetails) {
+    public SseEmitter subscribe(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         Long userId = customUserDetails.getUserId();
-        return sseEmitterService.createEmitter(userId);
+        return sseEmitterService.createEmitter(userId, lastEventId);
     }
 }
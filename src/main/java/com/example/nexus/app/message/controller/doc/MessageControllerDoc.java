@@ -1,6 +1,7 @@
 package com.example.nexus.app.message.controller.doc;
 
 import com.example.nexus.app.global.code.dto.ApiResponse;
+import com.example.nexus.app.global.code.dto.CursorResponse;
 import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
 import com.example.nexus.app.message.controller.dto.request.MessageSendRequest;
 import com.example.nexus.app.message.controller.dto.response.MessageResponse;
@@ -25,7 +26,8 @@ public interface MessageControllerDoc {
 
     @Operation(
             summary = "내 채팅방 목록 조회",
-            description = "내가 참여한 채팅방 목록을 조회합니다."
+            description = "내가 참여한 채팅방 전체를 최근 메시지순으로 조회합니다. 채팅방이 많으면 커서 조회(/rooms/cursor)를 사용하세요.",
+            deprecated = true
     )
     ResponseEntity<ApiResponse<List<MessageRoomResponse>>> getMyRooms(
             @Parameter(name = "unreadOnly", required = false, description = "안 읽은 메시지가 있는 채팅방만 조회 (기본값: false)")
@@ -33,6 +35,26 @@ public interface MessageControllerDoc {
             @AuthenticationPrincipal CustomUserDetails userDetails
     );
 
+    @Operation(
+            summary = "내 채팅방 목록 커서 조회",
+            description = """
+                    내가 참여한 채팅방을 최근 메시지순으로 커서 기반 조회합니다. (전체 개수 없음)
+
+                    - 커서 없이 호출하면 가장 최근 채팅방부터 조회합니다.
+                    - 이후 응답의 `nextCursor`를 `cursor`로 전달해 이어서 조회합니다.
+                    - `unreadOnly=true`면 안 읽은 메시지가 있는 채팅방만 조회합니다.
+                    """
+    )
+    ResponseEntity<ApiResponse<CursorResponse<MessageRoomResponse>>> getMyRoomsByCursor(
+            @Parameter(description = "안 읽은 메시지가 있는 채팅방만 조회 (기본값: false)")
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @Parameter(description = "이전 응답의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    );
+
     @Operation(
             summary = "채팅방 생성",
             description = "게시글에 대한 새로운 채팅방을 생성합니다."
@@ -64,6 +86,30 @@ public interface MessageControllerDoc {
             Pageable pageable
     );
 
+    @Operation(
+            summary = "채팅방 메시지 커서 조회",
+            description = """
+                    메시지 ID를 커서로 채팅방 메시지를 최신순으로 조회합니다. (전체 개수 없음)
+
+                    - 커서 없이 호출하면 최신 메시지부터 조회합니다.
+                    - 이전 대화는 응답의 `nextCursor`를 `before`로 전달해 이어서 조회합니다. (미리 불러오기는 size를 키워 한 번에)
+                    - `after`를 전달하면 해당 메시지 이후의 새 메시지를 조회하며, `nextCursor`는 더 최신 메시지를 위한 `after` 값입니다.
+                    - `before`와 `after`는 함께 사용할 수 없습니다.
+                    - `before` 없이 조회한 경우에만 자동으로 읽음 처리됩니다.
+                    """
+    )
+    ResponseEntity<ApiResponse<CursorResponse<MessageResponse>>> getRoomMessagesByCursor(
+            @Parameter(description = "채팅방 ID", required = true)
+            @PathVariable Long roomId,
+            @Parameter(description = "이 메시지 ID보다 이전 메시지 조회")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "이 메시지 ID보다 이후 메시지 조회")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "조회 개수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    );
+
     @Operation(
             summary = "텍스트 메시지 전송",
             description = "채팅방에 텍스트 메시지를 전송합니다."
@@ -2,8 +2,10 @@ package com.example.nexus.app.message.controller.doc;
 
 import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "메시지 SSE", description = "메시지 실시간 알림 API")
@@ -12,15 +14,24 @@ public interface SseControllerDoc {
             summary = "SSE 구독",
             description = """
                     실시간 메시지 알림을 받기 위한 SSE 연결을 생성합니다.
-                    연결 성공 시 CONNECT 이벤트를 받으며, 이후 MESSAGE, READ_STATUS, ROOM_UPDATE 이벤트를 실시간으로 수신합니다.
+                    연결 성공 시 CONNECT 이벤트를 받으며, 이후 MESSAGE, READ_STATUS, ROOM_UPDATE, NOTIFICATION 이벤트를 실시간으로 수신합니다.
+
+                    **재연결 (Last-Event-ID):**
+                    MESSAGE, READ_STATUS, ROOM_UPDATE, NOTIFICATION 이벤트에는 id가 있습니다. 재연결 시 마지막으로 받은 id를 `Last-Event-ID` 헤더로 보내면
+                    (브라우저 EventSource는 자동으로 보냄) CONNECT 이후 놓친 이벤트를 순서대로 다시 받습니다.
+                    보관 기간/개수를 넘어 재전송할 수 없으면 RESYNC 이벤트를 받으며, 이때 채팅방 목록 등을 다시 조회해야 합니다.
 
                     **SseEventType (이벤트 타입):**
                     - `CONNECT`: 연결
                     - `MESSAGE`: 메시지
                     - `READ_STATUS`: 읽음 상태
                     - `ROOM_UPDATE`: 채팅방 업데이트
+                    - `NOTIFICATION`: 알림
                     - `HEARTBEAT`: 하트비트
+                    - `RESYNC`: 재동기화 필요
                     """
     )
-    SseEmitter subscribe(@AuthenticationPrincipal CustomUserDetails customUserDetails);
+    SseEmitter subscribe(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                         @Parameter(description = "마지막으로 받은 이벤트 ID (재연결 시)")
+                         @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId);
 }
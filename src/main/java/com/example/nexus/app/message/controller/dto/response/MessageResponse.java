@@ -24,7 +24,7 @@ public record MessageResponse(
         @Schema(description = "읽음 여부")
         Boolean isRead,
 
-        @Schema(description = "읽은 시간")
+        @Schema(description = "읽은 시간 (읽음 커서 도입 전에 읽은 메시지만 기록됨)")
         LocalDateTime readAt,
 
         @Schema(description = "전송 시간")
@@ -33,14 +33,20 @@ public record MessageResponse(
         @Schema(description = "내가 보낸 메시지 여부")
         Boolean isMine
 ) {
+    // 방금 보낸 메시지 (아직 상대방이 읽지 않음)
     public static MessageResponse from(Message message, Long currentUserId) {
+        return from(message, currentUserId, false);
+    }
+
+    // 읽음 여부는 채팅방 읽음 커서로 판단해 전달
+    public static MessageResponse from(Message message, Long currentUserId, boolean isRead) {
         return new MessageResponse(
                 message.getId(),
                 MessageSenderInfo.from(message.getSender()),
                 message.getContent(),
                 message.getMessageType().name(),
                 message.isFileMessage() ? MessageFileInfo.from(message) : null,
-                message.getIsRead(),
+                isRead,
                 message.getReadAt(),
                 message.getCreatedAt(),
                 message.getSender().getId().equals(currentUserId)
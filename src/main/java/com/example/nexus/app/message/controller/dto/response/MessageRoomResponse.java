@@ -1,6 +1,8 @@
 package com.example.nexus.app.message.controller.dto.response;
 
+import com.example.nexus.app.message.domain.MessageInbox;
 import com.example.nexus.app.message.domain.MessageRoom;
+import com.example.nexus.app.user.domain.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -38,4 +40,17 @@ public record MessageRoomResponse(
                 room.getCreatedAt()
         );
     }
+
+    // 채팅방 목록 읽기 모델에서 생성 (상대방이 없으면 ID만 채움)
+    public static MessageRoomResponse from(MessageInbox inbox, User counterpart) {
+        return new MessageRoomResponse(
+                inbox.getRoomId(),
+                new RoomPostInfo(inbox.getPostId(), inbox.getPostTitle()),
+                counterpart != null ? RoomUserInfo.from(counterpart) : new RoomUserInfo(inbox.getCounterpartId(), null, null),
+                inbox.getLastMessage(),
+                inbox.getLastMessageAt(),
+                inbox.getUnreadCount(),
+                inbox.getRoomCreatedAt()
+        );
+    }
 }
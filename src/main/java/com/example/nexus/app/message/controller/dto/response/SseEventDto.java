@@ -23,6 +23,10 @@ public record SseEventDto(
         return new SseEventDto(SseEventType.CONNECT.name(), "Connected", LocalDateTime.now());
     }
 
+    public static SseEventDto resync() {
+        return new SseEventDto(SseEventType.RESYNC.name(), "Resync", LocalDateTime.now());
+    }
+
     public static SseEventDto heartbeat() {
         return new SseEventDto(SseEventType.HEARTBEAT.name(), "Ping", LocalDateTime.now());
     }
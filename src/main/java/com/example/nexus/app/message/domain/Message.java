@@ -13,7 +13,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes =
+@Index(name = "idx_messages_room_deleted_id", columnList = "room_id, is_deleted, id"))
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor
@@ -47,6 +48,7 @@ public class Message {
     @Column(name = "file_size")
     private Long fileSize;
 
+    // 읽음 커서 도입 전 기록 (현재 읽음 여부는 MessageRoom 읽음 커서 기준)
     @Column(name = "is_read", nullable = false)
     private Boolean isRead = false;
 
@@ -0,0 +1,80 @@
+package com.example.nexus.app.message.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 채팅방 목록 (읽기 모델)
+ * 채팅방마다 참여자 두 명의 행을 두고, 메시지 전송/읽음 시 같은 트랜잭션에서 갱신한다.
+ * 목록은 (user_id, sort_at, room_id) 인덱스만 읽는다 (게시글/사용자 조인 없음).
+ */
+@Entity
+@Table(name = "message_inbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_message_inbox_user_room", columnNames = {"user_id", "room_id"}),
+        indexes = @Index(name = "idx_message_inbox_user_sort_room", columnList = "user_id, sort_at, room_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MessageInbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "post_title")
+    private String postTitle;
+
+    @Column(name = "counterpart_id", nullable = false)
+    private Long counterpartId;
+
+    @Column(name = "last_message")
+    private String lastMessage;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "unread_count", nullable = false)
+    private Integer unreadCount = 0;
+
+    @Column(name = "room_created_at")
+    private LocalDateTime roomCreatedAt;
+
+    // 정렬 기준 - 마지막 메시지 시각 (메시지가 없으면 채팅방 생성 시각)
+    @Column(name = "sort_at", nullable = false)
+    private LocalDateTime sortAt;
+
+    public static MessageInbox of(MessageRoom room, Long userId) {
+        MessageInbox inbox = new MessageInbox();
+        inbox.userId = userId;
+        inbox.roomId = room.getId();
+        inbox.postId = room.getPost().getId();
+        inbox.postTitle = room.getPost().getTitle();
+        inbox.counterpartId = room.getOtherUser(userId).getId();
+        inbox.lastMessage = room.getLastMessage();
+        inbox.lastMessageAt = room.getLastMessageAt();
+        inbox.unreadCount = room.getUnreadCountForUser(userId);
+        inbox.roomCreatedAt = room.getCreatedAt();
+        inbox.sortAt = room.getLastMessageAt() != null ? room.getLastMessageAt()
+                : room.getCreatedAt() != null ? room.getCreatedAt() : LocalDateTime.now();
+        return inbox;
+    }
+}
@@ -5,6 +5,7 @@ import com.example.nexus.app.user.domain.User;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
 @Table(name = "message_rooms", uniqueConstraints =
 @UniqueConstraint(columnNames = {"post_id", "post_owner_id", "participant_id"}))
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
 @Getter
 @NoArgsConstructor
 public class MessageRoom {
@@ -43,6 +45,16 @@ public class MessageRoom {
     @Column(name = "last_message_at")
     private LocalDateTime lastMessageAt;
 
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    // 사용자별 읽음 커서 (이 ID 이하의 상대방 메시지는 읽음)
+    @Column(name = "last_read_message_id_owner", nullable = false)
+    private Long lastReadMessageIdOwner = 0L;
+
+    @Column(name = "last_read_message_id_participant", nullable = false)
+    private Long lastReadMessageIdParticipant = 0L;
+
     @Column(name = "unread_count_owner", nullable = false)
     private Integer unreadCountOwner = 0;
 
@@ -73,7 +85,8 @@ public class MessageRoom {
         return room;
     }
 
-    public void updateLastMessage(String content, LocalDateTime sentAt) {
+    public void updateLastMessage(Long messageId, String content, LocalDateTime sentAt) {
+        this.lastMessageId = messageId;
         this.lastMessage = content;
         this.lastMessageAt = sentAt;
     }
@@ -86,21 +99,31 @@ public class MessageRoom {
         }
     }
 
-    public void resetUnreadCount(Long userId) {
+    public Integer getUnreadCountForUser(Long userId) {
         if (userId.equals(postOwner.getId())) {
-            this.unreadCountOwner = 0;
+            return unreadCountOwner;
         } else if (userId.equals(participant.getId())) {
-            this.unreadCountParticipant = 0;
+            return unreadCountParticipant;
         }
+        return 0;
     }
 
-    public Integer getUnreadCountForUser(Long userId) {
+    public Long getLastReadMessageIdForUser(Long userId) {
         if (userId.equals(postOwner.getId())) {
-            return unreadCountOwner;
+            return lastReadMessageIdOwner;
         } else if (userId.equals(participant.getId())) {
-            return unreadCountParticipant;
+            return lastReadMessageIdParticipant;
         }
-        return 0;
+        return 0L;
+    }
+
+    // 받는 사람의 읽음 커서로 메시지 읽음 여부 판단 (messages.is_read는 커서 도입 전 기록만 있음)
+    public boolean isReadByRecipient(Long senderId, Long messageId) {
+        return messageId <= getLastReadMessageIdForUser(getOtherUser(senderId).getId());
+    }
+
+    public boolean isPostOwner(Long userId) {
+        return userId.equals(postOwner.getId());
     }
 
     public User getOtherUser(Long currentUserId) {
@@ -20,8 +20,14 @@ public enum SseEventType {
     @Schema(description = "채팅방 업데이트")
     ROOM_UPDATE("채팅방 업데이트"),
 
+    @Schema(description = "알림")
+    NOTIFICATION("알림"),
+
     @Schema(description = "하트비트")
-    HEARTBEAT("하트비트");
+    HEARTBEAT("하트비트"),
+
+    @Schema(description = "재동기화 필요 (놓친 이벤트를 재전송할 수 없어 목록을 다시 조회해야 함)")
+    RESYNC("재동기화 필요");
 
     @Schema(description = "이벤트 타입 설명")
     private final String description;
@@ -0,0 +1,70 @@
+package com.example.nexus.app.message.repository;
+
+import com.example.nexus.app.message.domain.MessageInbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MessageInboxRepository extends JpaRepository<MessageInbox, Long> {
+
+    @Query("SELECT i FROM MessageInbox i " +
+            "WHERE i.userId = :userId " +
+            "ORDER BY i.sortAt DESC, i.roomId DESC")
+    List<MessageInbox> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT i FROM MessageInbox i " +
+            "WHERE i.userId = :userId " +
+            "AND (i.sortAt < :sortAt OR (i.sortAt = :sortAt AND i.roomId < :roomId)) " +
+            "ORDER BY i.sortAt DESC, i.roomId DESC")
+    List<MessageInbox> findByUserIdBeforeCursor(@Param("userId") Long userId,
+                                                @Param("sortAt") LocalDateTime sortAt,
+                                                @Param("roomId") Long roomId,
+                                                Pageable pageable);
+
+    @Query("SELECT i FROM MessageInbox i " +
+            "WHERE i.userId = :userId AND i.unreadCount > 0 " +
+            "ORDER BY i.sortAt DESC, i.roomId DESC")
+    List<MessageInbox> findLatestUnreadByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT i FROM MessageInbox i " +
+            "WHERE i.userId = :userId AND i.unreadCount > 0 " +
+            "AND (i.sortAt < :sortAt OR (i.sortAt = :sortAt AND i.roomId < :roomId)) " +
+            "ORDER BY i.sortAt DESC, i.roomId DESC")
+    List<MessageInbox> findUnreadByUserIdBeforeCursor(@Param("userId") Long userId,
+                                                      @Param("sortAt") LocalDateTime sortAt,
+                                                      @Param("roomId") Long roomId,
+                                                      Pageable pageable);
+
+    /**
+     * 새 메시지를 채팅방 두 행에 반영 (받는 사람 행만 안 읽은 수 +1)
+     */
+    @Modifying
+    @Query("UPDATE MessageInbox i " +
+            "SET i.lastMessage = :content, i.lastMessageAt = :sentAt, i.sortAt = :sentAt, " +
+            "i.unreadCount = i.unreadCount + CASE WHEN i.userId = :receiverId THEN 1 ELSE 0 END " +
+            "WHERE i.roomId = :roomId")
+    int updateLastMessage(@Param("roomId") Long roomId,
+                          @Param("receiverId") Long receiverId,
+                          @Param("content") String content,
+                          @Param("sentAt") LocalDateTime sentAt);
+
+    // 읽음 커서 이동 후 채팅방에서 다시 계산한 안 읽은 수를 그대로 복사
+    @Modifying
+    @Query("UPDATE MessageInbox i " +
+            "SET i.unreadCount = (SELECT CASE WHEN mr.postOwner.id = :userId " +
+            "THEN mr.unreadCountOwner ELSE mr.unreadCountParticipant END " +
+            "FROM MessageRoom mr WHERE mr.id = :roomId) " +
+            "WHERE i.roomId = :roomId AND i.userId = :userId")
+    int syncUnreadCount(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE MessageInbox i " +
+            "SET i.postTitle = (SELECT p.title FROM Post p WHERE p.id = :postId) " +
+            "WHERE i.postId = :postId")
+    int syncPostTitle(@Param("postId") Long postId);
+}
@@ -5,7 +5,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,12 +20,25 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
             "WHERE m.room.id = :roomId AND m.isDeleted = false")
     Page<Message> findByRoomIdAndNotDeleted(@Param("roomId") Long roomId, Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE Message m " +
-            "SET m.isRead = true, m.readAt = :readAt " +
-            "WHERE m.room.id = :roomId AND m.sender.id != :userId AND m.isRead = false " +
-            "AND m.isDeleted = false")
-    void markMessagesAsReadByRoom(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+    // 커서 조회는 (room_id, is_deleted, id) 인덱스를 id 역순으로 읽고 멈춘다 (COUNT/OFFSET 없음)
+    @EntityGraph(attributePaths = {"sender"})
+    @Query("SELECT m FROM Message m " +
+            "WHERE m.room.id = :roomId AND m.isDeleted = false " +
+            "ORDER BY m.id DESC")
+    List<Message> findLatestByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"sender"})
+    @Query("SELECT m FROM Message m " +
+            "WHERE m.room.id = :roomId AND m.isDeleted = false AND m.id < :beforeId " +
+            "ORDER BY m.id DESC")
+    List<Message> findByRoomIdBeforeId(@Param("roomId") Long roomId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // 기준 메시지 바로 다음부터 읽어야 하므로 id 순으로 조회 (응답은 서비스에서 최신순으로 뒤집음)
+    @EntityGraph(attributePaths = {"sender"})
+    @Query("SELECT m FROM Message m " +
+            "WHERE m.room.id = :roomId AND m.isDeleted = false AND m.id > :afterId " +
+            "ORDER BY m.id ASC")
+    List<Message> findByRoomIdAfterId(@Param("roomId") Long roomId, @Param("afterId") Long afterId, Pageable pageable);
 
     @EntityGraph(attributePaths = {"sender", "room"})
     @Query("SELECT m FROM Message m " +
@@ -39,25 +51,27 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     List<Message> findTodayMessagesByPost(@Param("postId") Long postId, @Param("userId") Long userId, @Param("startOfDay") LocalDateTime startOfDay,
                                           @Param("endOfDay") LocalDateTime endOfDay);
 
+    // 안 읽은 수는 읽음 커서 이후의 상대방 메시지 수 (is_read 반영 여부와 무관)
     @Query("SELECT COUNT(m) FROM Message m " +
             "WHERE m.room.id = :roomId " +
             "AND m.sender.id != :userId " +
-            "AND m.isRead = false " +
-            "AND m.isDeleted = false")
+            "AND m.isDeleted = false " +
+            "AND m.id > (CASE WHEN m.room.postOwner.id = :userId " +
+            "THEN m.room.lastReadMessageIdOwner ELSE m.room.lastReadMessageIdParticipant END)")
     long countUnreadMessagesByRoom(@Param("roomId") Long roomId, @Param("userId") Long userId);
 
     @Query("SELECT m FROM Message m " +
             "JOIN FETCH m.sender " +
+            "JOIN FETCH m.room " +
             "WHERE m.room.post.id = :postId " +
             "ORDER BY m.createdAt DESC")
     Page<Message> findByRoomPostId(Long postId, Pageable pageable);
 
-    @Query("SELECT SUM(unread.count) FROM (" +
-            "SELECT COUNT(m) as count FROM Message m " +
+    @Query("SELECT COUNT(m) FROM Message m " +
             "WHERE m.room.post.id = :postId " +
             "AND m.sender.id != :userId " +
-            "AND m.isRead = false " +
             "AND m.isDeleted = false " +
-            "GROUP BY m.room.id) unread")
+            "AND m.id > (CASE WHEN m.room.postOwner.id = :userId " +
+            "THEN m.room.lastReadMessageIdOwner ELSE m.room.lastReadMessageIdParticipant END)")
     Long countUnreadMessagesByPostId(@Param("postId") Long postId, @Param("userId") Long userId);
 }
@@ -3,6 +3,7 @@ package com.example.nexus.app.message.repository;
 import com.example.nexus.app.message.domain.MessageRoom;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -11,12 +12,6 @@ import java.util.Optional;
 
 public interface MessageRoomRepository extends JpaRepository<MessageRoom, Long> {
 
-    @EntityGraph(attributePaths = {"post", "postOwner", "participant"})
-    @Query("SELECT mr FROM MessageRoom mr " +
-            "WHERE (mr.postOwner.id = :userId OR mr.participant.id = :userId) " +
-            "ORDER BY mr.lastMessageAt DESC NULLS LAST, mr.createdAt DESC")
-    List<MessageRoom> findByUserIdOrderByLastMessageDesc(@Param("userId") Long userId);
-
     @EntityGraph(attributePaths = {"post", "postOwner", "participant"})
     @Query("SELECT mr FROM MessageRoom mr " +
             "WHERE mr.post.id = :postId " +
@@ -46,11 +41,25 @@ public interface MessageRoomRepository extends JpaRepository<MessageRoom, Long>
             "AND mr.postOwner.id = :userId")
     Integer getUnreadCountByPost(@Param("postId") Long postId, @Param("userId") Long userId);
 
-    @EntityGraph(attributePaths = {"post", "postOwner", "participant"})
-    @Query("SELECT mr FROM MessageRoom mr " +
-            "WHERE (mr.postOwner.id = :userId OR mr.participant.id = :userId) " +
-            "AND ((mr.postOwner.id = :userId AND mr.unreadCountOwner > 0) " +
-            "OR (mr.participant.id = :userId AND mr.unreadCountParticipant > 0)) " +
-            "ORDER BY mr.lastMessageAt DESC NULLS LAST, mr.createdAt DESC")
-    List<MessageRoom> findUnreadRoomsByUserId(@Param("userId") Long userId);
+    /**
+     * 읽음 커서를 앞으로만 이동하고, 안 읽은 수를 커서 이후 상대방 메시지 수로 다시 계산 (단일 행 UPDATE)
+     * 이미 그 이상으로 이동했으면 0을 반환한다.
+     */
+    @Modifying
+    @Query("UPDATE MessageRoom mr " +
+            "SET mr.lastReadMessageIdOwner = :messageId, " +
+            "mr.unreadCountOwner = (SELECT COUNT(m) FROM Message m " +
+            "WHERE m.room.id = :roomId AND m.isDeleted = false AND m.id > :messageId " +
+            "AND m.sender.id = mr.participant.id) " +
+            "WHERE mr.id = :roomId AND mr.lastReadMessageIdOwner < :messageId")
+    int advanceOwnerReadCursor(@Param("roomId") Long roomId, @Param("messageId") Long messageId);
+
+    @Modifying
+    @Query("UPDATE MessageRoom mr " +
+            "SET mr.lastReadMessageIdParticipant = :messageId, " +
+            "mr.unreadCountParticipant = (SELECT COUNT(m) FROM Message m " +
+            "WHERE m.room.id = :roomId AND m.isDeleted = false AND m.id > :messageId " +
+            "AND m.sender.id = mr.postOwner.id) " +
+            "WHERE mr.id = :roomId AND mr.lastReadMessageIdParticipant < :messageId")
+    int advanceParticipantReadCursor(@Param("roomId") Long roomId, @Param("messageId") Long messageId);
 }
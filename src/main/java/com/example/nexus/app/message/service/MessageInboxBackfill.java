@@ -0,0 +1,57 @@
+package com.example.nexus.app.message.service;
+
+import com.example.nexus.app.global.migration.DataMigrationRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 목록(message_inbox) 도입 전 채팅방의 목록 행 채우기 (한 번만 실행)
+ * 채팅방 ID 구간 단위로 참여자 쪽별 행을 넣으며, 이미 있는 행은 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageInboxBackfill {
+
+    static final String MIGRATION_NAME = "message-inbox-backfill";
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String CHUNK_END_SQL = "SELECT MAX(id) FROM " +
+            "(SELECT id FROM message_rooms WHERE id > ? ORDER BY id LIMIT ?) chunk";
+
+    private static final String BACKFILL_SQL = "INSERT IGNORE INTO message_inbox " +
+            "(user_id, room_id, post_id, post_title, counterpart_id, last_message, last_message_at, unread_count, " +
+            "room_created_at, sort_at) " +
+            "SELECT mr.%1$s, mr.id, mr.post_id, p.title, mr.%2$s, mr.last_message, mr.last_message_at, mr.%3$s, " +
+            "mr.created_at, COALESCE(mr.last_message_at, mr.created_at, NOW()) " +
+            "FROM message_rooms mr JOIN posts p ON p.id = mr.post_id " +
+            "WHERE mr.id > ? AND mr.id <= ?";
+
+    private static final String OWNER_BACKFILL_SQL =
+            BACKFILL_SQL.formatted("post_owner_id", "participant_id", "unread_count_owner");
+    private static final String PARTICIPANT_BACKFILL_SQL =
+            BACKFILL_SQL.formatted("participant_id", "post_owner_id", "unread_count_participant");
+
+    private final DataMigrationRunner dataMigrationRunner;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        dataMigrationRunner.run(MIGRATION_NAME, this::backfillChunk);
+    }
+
+    Long backfillChunk(long afterRoomId) {
+        Long lastRoomId = jdbcTemplate.queryForObject(CHUNK_END_SQL, Long.class, afterRoomId, CHUNK_SIZE);
+        if (lastRoomId == null) {
+            return null;
+        }
+        int inserted = jdbcTemplate.update(OWNER_BACKFILL_SQL, afterRoomId, lastRoomId)
+                + jdbcTemplate.update(PARTICIPANT_BACKFILL_SQL, afterRoomId, lastRoomId);
+        log.debug("채팅방 목록 백필: rooms=({}, {}], inserted={}", afterRoomId, lastRoomId, inserted);
+        return lastRoomId;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.nexus.app.message.service;
+
+import com.example.nexus.app.global.code.dto.CursorResponse;
+import com.example.nexus.app.global.code.dto.KeysetCursor;
+import com.example.nexus.app.message.controller.dto.response.MessageRoomResponse;
+import com.example.nexus.app.message.domain.MessageInbox;
+import com.example.nexus.app.message.domain.MessageRoom;
+import com.example.nexus.app.message.repository.MessageInboxRepository;
+import com.example.nexus.app.post.domain.event.PostChangedEvent;
+import com.example.nexus.app.user.domain.User;
+import com.example.nexus.app.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 채팅방 목록 읽기 모델 관리
+ * - 채팅방 생성/메시지 전송/읽음 시 호출한 트랜잭션 안에서 message_inbox를 함께 갱신한다.
+ * - 목록 조회는 message_inbox만 인덱스 순서로 읽고, 상대방 표시 정보는 페이지의 사용자 ID로 한 번에 조회한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MessageInboxService {
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private final MessageInboxRepository messageInboxRepository;
+    private final UserRepository userRepository;
+
+    @Transactional
+    public void addRoom(MessageRoom room) {
+        messageInboxRepository.saveAll(List.of(
+                MessageInbox.of(room, room.getPostOwner().getId()),
+                MessageInbox.of(room, room.getParticipant().getId())));
+    }
+
+    @Transactional
+    public void recordMessage(Long roomId, Long receiverId, String content, LocalDateTime sentAt) {
+        messageInboxRepository.updateLastMessage(roomId, receiverId, content, sentAt);
+    }
+
+    // 채팅방의 읽음 커서를 옮긴 뒤 호출
+    @Transactional
+    public void recordRead(Long roomId, Long userId) {
+        messageInboxRepository.syncUnreadCount(roomId, userId);
+    }
+
+    // 커서 조회 이전의 목록 API - 기존 클라이언트가 커서 조회로 옮길 때까지 전체 목록을 그대로 반환
+    public List<MessageRoomResponse> findRooms(Long userId, boolean unreadOnly) {
+        List<MessageInbox> rooms = unreadOnly
+                ? messageInboxRepository.findLatestUnreadByUserId(userId, Pageable.unpaged())
+                : messageInboxRepository.findLatestByUserId(userId, Pageable.unpaged());
+        return toResponses(rooms);
+    }
+
+    /**
+     * 채팅방 목록 커서 조회 (최근 메시지순, 전체 개수 없음)
+     */
+    public CursorResponse<MessageRoomResponse> findRoomsByCursor(Long userId, boolean unreadOnly, String cursor, int size) {
+        KeysetCursor inboxCursor = KeysetCursor.decodeOrNull(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable fetchSize = PageRequest.of(0, limit + 1);
+
+        List<MessageInbox> rooms;
+        if (inboxCursor == null) {
+            rooms = unreadOnly
+                    ? messageInboxRepository.findLatestUnreadByUserId(userId, fetchSize)
+                    : messageInboxRepository.findLatestByUserId(userId, fetchSize);
+        } else {
+            rooms = unreadOnly
+                    ? messageInboxRepository.findUnreadByUserIdBeforeCursor(userId, inboxCursor.sortAt(),
+                    inboxCursor.id(), fetchSize)
+                    : messageInboxRepository.findByUserIdBeforeCursor(userId, inboxCursor.sortAt(),
+                    inboxCursor.id(), fetchSize);
+        }
+
+        List<MessageInbox> page = rooms.size() > limit ? rooms.subList(0, limit) : rooms;
+        Map<Long, User> counterparts = findCounterparts(page);
+        return CursorResponse.of(rooms, limit, room -> MessageRoomResponse.from(room, counterparts.get(room.getCounterpartId())),
+                last -> KeysetCursor.encode(last.getSortAt(), last.getRoomId()));
+    }
+
+    // 게시글 제목이 바뀌면 커밋 후 목록의 제목도 맞춤
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handlePostChanged(PostChangedEvent event) {
+        if (event.changeType() == PostChangedEvent.ChangeType.UPDATED) {
+            messageInboxRepository.syncPostTitle(event.postId());
+        }
+    }
+
+    private List<MessageRoomResponse> toResponses(List<MessageInbox> rooms) {
+        Map<Long, User> counterparts = findCounterparts(rooms);
+        return rooms.stream()
+                .map(room -> MessageRoomResponse.from(room, counterparts.get(room.getCounterpartId())))
+                .toList();
+    }
+
+    private Map<Long, User> findCounterparts(List<MessageInbox> rooms) {
+        List<Long> counterpartIds = rooms.stream()
+                .map(MessageInbox::getCounterpartId)
+                .distinct()
+                .toList();
+        return userRepository.findAllById(counterpartIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+}
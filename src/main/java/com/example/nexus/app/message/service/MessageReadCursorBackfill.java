@@ -0,0 +1,50 @@
+package com.example.nexus.app.message.service;
+
+import com.example.nexus.app.global.migration.DataMigrationRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽음 커서 도입 전 채팅방의 커서 채우기 (한 번만 실행)
+ * 커서 컬럼은 0으로 추가되므로, 그대로 두면 기존 채팅방의 모든 상대방 메시지가 안 읽음으로 집계된다.
+ * 쪽별로 상대방이 보낸 메시지 중 is_read인 가장 큰 ID를 커서로 삼는다 (이미 더 앞선 커서는 유지).
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageReadCursorBackfill {
+
+    static final String MIGRATION_NAME = "message-read-cursor-backfill";
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String CHUNK_END_SQL = "SELECT MAX(id) FROM " +
+            "(SELECT id FROM message_rooms WHERE id > ? ORDER BY id LIMIT ?) chunk";
+
+    private static final String BACKFILL_SQL = "UPDATE message_rooms mr SET " +
+            "mr.last_read_message_id_owner = GREATEST(mr.last_read_message_id_owner, COALESCE(" +
+            "(SELECT MAX(m.id) FROM messages m WHERE m.room_id = mr.id AND m.sender_id = mr.participant_id " +
+            "AND m.is_read = true), 0)), " +
+            "mr.last_read_message_id_participant = GREATEST(mr.last_read_message_id_participant, COALESCE(" +
+            "(SELECT MAX(m.id) FROM messages m WHERE m.room_id = mr.id AND m.sender_id = mr.post_owner_id " +
+            "AND m.is_read = true), 0)) " +
+            "WHERE mr.id > ? AND mr.id <= ?";
+
+    private final DataMigrationRunner dataMigrationRunner;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        dataMigrationRunner.run(MIGRATION_NAME, this::backfillChunk);
+    }
+
+    Long backfillChunk(long afterRoomId) {
+        Long lastRoomId = jdbcTemplate.queryForObject(CHUNK_END_SQL, Long.class, afterRoomId, CHUNK_SIZE);
+        if (lastRoomId == null) {
+            return null;
+        }
+        jdbcTemplate.update(BACKFILL_SQL, afterRoomId, lastRoomId);
+        return lastRoomId;
+    }
+}
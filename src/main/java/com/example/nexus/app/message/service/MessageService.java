@@ -1,8 +1,11 @@
 package com.example.nexus.app.message.service;
 
+import com.example.nexus.app.global.code.dto.CursorResponse;
 import com.example.nexus.app.global.code.status.ErrorStatus;
 import com.example.nexus.app.global.exception.GeneralException;
 import com.example.nexus.app.global.s3.S3UploadService;
+import com.example.nexus.app.global.unread.UnreadCountService;
+import com.example.nexus.app.global.unread.UnreadCountType;
 import com.example.nexus.app.message.controller.dto.request.MessageSendRequest;
 import com.example.nexus.app.message.controller.dto.response.MessageResponse;
 import com.example.nexus.app.message.controller.dto.response.MessageRoomResponse;
@@ -19,6 +22,7 @@ import com.example.nexus.app.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,19 +41,24 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class MessageService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final MessageRepository messageRepository;
     private final MessageRoomRepository messageRoomRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final S3UploadService s3UploadService;
     private final SseEmitterService sseEmitterService;
+    private final UnreadCountService unreadCountService;
+    private final MessageInboxService messageInboxService;
 
     public List<MessageRoomResponse> findMyRooms(Long userId, Boolean unreadOnly) {
-        List<MessageRoom> rooms = findRoomsByFilter(userId, unreadOnly);
+        return messageInboxService.findRooms(userId, Boolean.TRUE.equals(unreadOnly));
+    }
 
-        return rooms.stream()
-                .map(room -> MessageRoomResponse.from(room, userId))
-                .toList();
+    public CursorResponse<MessageRoomResponse> findMyRoomsByCursor(Long userId, boolean unreadOnly, String cursor,
+                                                                   int size) {
+        return messageInboxService.findRoomsByCursor(userId, unreadOnly, cursor, size);
     }
 
     public MessageRoomResponse findRoom(Long postId, Long userId) {
@@ -69,10 +78,85 @@ public class MessageService {
         MessageRoom room = findRoomByIdAndUserId(roomId, userId);
         Page<Message> messages = messageRepository.findByRoomIdAndNotDeleted(roomId, pageable);
 
-        // 자동 읽음 처리
-        messageRepository.markMessagesAsReadByRoom(roomId, userId, LocalDateTime.now());
-        // 항상 리셋 (벌크 업데이트 후에는 카운트가 0이어야 함)
-        room.resetUnreadCount(userId);
+        long readCursor = markRoomAsRead(room, userId, highestMessageId(messages.getContent()));
+
+        return messages.map(message -> toMessageResponse(message, room, userId, readCursor));
+    }
+
+    /**
+     * 메시지 ID 커서 조회 (항상 최신순)
+     * - 커서 없음: 최신 메시지부터, nextCursor로 이전 메시지를 이어서 조회
+     * - before: 해당 메시지보다 이전 메시지 (이전 대화 미리 불러오기), nextCursor는 더 이전 메시지의 커서
+     * - after: 해당 메시지 이후의 새 메시지 (재연결 후 따라잡기), nextCursor는 더 최신 메시지의 커서
+     * 최신 메시지를 보는 경우(before 없음)에만, 응답에 담긴 메시지 중 가장 큰 ID까지 읽음 처리한다.
+     */
+    @Transactional
+    public CursorResponse<MessageResponse> findRoomMessagesByCursor(Long roomId, Long userId, Long before, Long after,
+                                                                    int size) {
+        if (before != null && after != null) {
+            throw new GeneralException(ErrorStatus.BAD_REQUEST);
+        }
+        MessageRoom room = findRoomByIdAndUserId(roomId, userId);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable fetchSize = PageRequest.of(0, limit + 1);
+
+        if (after != null) {
+            List<Message> newer = messageRepository.findByRoomIdAfterId(roomId, after, fetchSize);
+            // 이번에 내려주는 메시지까지만 읽음 처리 (뒤에 남은 메시지는 다음 페이지에서 읽음)
+            long readCursor = markRoomAsRead(room, userId, highestMessageId(newer.subList(0, Math.min(newer.size(), limit))));
+            CursorResponse<MessageResponse> ascending = CursorResponse.of(newer, limit,
+                    message -> toMessageResponse(message, room, userId, readCursor), message -> String.valueOf(message.getId()));
+            return CursorResponse.<MessageResponse>builder()
+                    .content(ascending.getContent().reversed())
+                    .nextCursor(ascending.getNextCursor())
+                    .hasNext(ascending.isHasNext())
+                    .size(ascending.getSize())
+                    .build();
+        }
+
+        List<Message> older = before != null
+                ? messageRepository.findByRoomIdBeforeId(roomId, before, fetchSize)
+                : messageRepository.findLatestByRoomId(roomId, fetchSize);
+        // 과거 메시지 조회(before)는 읽음 커서를 옮기지 않는다
+        long readCursor = before == null
+                ? markRoomAsRead(room, userId, highestMessageId(older))
+                : room.getLastReadMessageIdForUser(userId);
+        return CursorResponse.of(older, limit,
+                message -> toMessageResponse(message, room, userId, readCursor), message -> String.valueOf(message.getId()));
+    }
+
+    private Long highestMessageId(List<Message> messages) {
+        return messages.stream()
+                .map(Message::getId)
+                .max(Long::compare)
+                .orElse(null);
+    }
+
+    /**
+     * 읽음 커서를 조회한 메시지 중 가장 큰 ID까지 이동하고 이동한 커서를 반환
+     * 새로 읽은 메시지가 없으면 쓰기 없이 끝나며, 이동했을 때만 채팅방 1행을 갱신하고 상대방에게 읽음 상태를 전송한다.
+     * 읽음 여부는 커서로만 판단하므로 메시지 행은 갱신하지 않는다.
+     */
+    private long markRoomAsRead(MessageRoom room, Long userId, Long readUpToMessageId) {
+        Long roomId = room.getId();
+        long previousCursor = room.getLastReadMessageIdForUser(userId);
+        if (readUpToMessageId == null || readUpToMessageId <= previousCursor) {
+            return previousCursor;
+        }
+
+        int advanced = room.isPostOwner(userId)
+                ? messageRoomRepository.advanceOwnerReadCursor(roomId, readUpToMessageId)
+                : messageRoomRepository.advanceParticipantReadCursor(roomId, readUpToMessageId);
+        if (advanced == 0) {
+            // 다른 요청(다른 탭)이 이미 커서를 이동함
+            return readUpToMessageId;
+        }
+
+        messageInboxService.recordRead(roomId, userId);
+        int previousUnread = room.getUnreadCountForUser(userId);
+        boolean readToLatest = room.getLastMessageId() != null && readUpToMessageId >= room.getLastMessageId();
+        long remainingUnread = readToLatest ? 0 : messageRepository.countUnreadMessagesByRoom(roomId, userId);
+        unreadCountService.decrement(UnreadCountType.MESSAGE, userId, Math.max(previousUnread - remainingUnread, 0));
 
         // 읽음 상태 SSE 이벤트 전송 (상대방에게)
         Long otherUserId = room.getOtherUser(userId).getId();
@@ -85,8 +169,14 @@ public class MessageService {
                 sseEmitterService.sendReadStatus(otherUserId, roomId, unreadCount);
             }
         });
+        return readUpToMessageId;
+    }
 
-        return messages.map(message -> MessageResponse.from(message, userId));
+    // 받는 사람의 읽음 커서로 읽음 여부를 판단 (내가 받은 메시지는 방금 이동한 내 커서 기준)
+    private MessageResponse toMessageResponse(Message message, MessageRoom room, Long userId, long readCursor) {
+        boolean isMine = message.getSender().getId().equals(userId);
+        boolean isRead = isMine ? room.isReadByRecipient(userId, message.getId()) : message.getId() <= readCursor;
+        return MessageResponse.from(message, userId, isRead);
     }
 
     @Transactional
@@ -106,6 +196,7 @@ public class MessageService {
 
         // 채팅방 업데이트 전송 (수신자에게)
         MessageRoomResponse roomResponse = MessageRoomResponse.from(room, receiverId);
+        unreadCountService.increment(UnreadCountType.MESSAGE, receiverId);
 
         // 트랜잭션 커밋 후 SSE 전송
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
@@ -143,6 +234,7 @@ public class MessageService {
 
         // 채팅방 업데이트 전송 (수신자에게)
         MessageRoomResponse roomResponse = MessageRoomResponse.from(room, receiverId);
+        unreadCountService.increment(UnreadCountType.MESSAGE, receiverId);
 
         // 트랜잭션 커밋 후 SSE 전송
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
@@ -171,12 +263,15 @@ public class MessageService {
 
         MessageRoom newRoom = MessageRoom.create(post, postOwner, participant);
         MessageRoom savedRoom = messageRoomRepository.save(newRoom);
+        messageInboxService.addRoom(savedRoom);
 
         return MessageRoomResponse.from(savedRoom, userId);
     }
 
+    // 뱃지 폴링용 - 보통은 캐시만 읽음
     public Integer getUnreadMessageCount(Long userId) {
-        return messageRoomRepository.getTotalUnreadCount(userId);
+        return (int) unreadCountService.get(UnreadCountType.MESSAGE, userId,
+                () -> messageRoomRepository.getTotalUnreadCount(userId).longValue());
     }
 
     public Integer getRoomUnreadCount(Long roomId, Long userId) {
@@ -217,8 +312,10 @@ public class MessageService {
     }
 
     private void updateRoomAfterMessage(MessageRoom room, Message message) {
-        room.updateLastMessage(message.getContent(), message.getCreatedAt());
+        room.updateLastMessage(message.getId(), message.getContent(), message.getCreatedAt());
         room.incrementUnreadCount(message.getSender().getId());
+        messageInboxService.recordMessage(room.getId(), room.getOtherUser(message.getSender().getId()).getId(),
+                message.getContent(), message.getCreatedAt());
     }
 
     private MessageType determineFileType(MultipartFile file) {
@@ -235,7 +332,7 @@ public class MessageService {
                 message.getSender().getNickname(),
                 getMessagePreview(message),
                 message.getCreatedAt(),
-                message.getIsRead()
+                message.getRoom().isReadByRecipient(message.getSender().getId(), message.getId())
         );
     }
 
@@ -248,11 +345,4 @@ public class MessageService {
         String content = message.getContent();
         return content.length() > 50 ? content.substring(0, 50) + "..." : content;
     }
-
-    private List<MessageRoom> findRoomsByFilter(Long userId, Boolean unreadOnly) {
-        if (unreadOnly) {
-            return messageRoomRepository.findUnreadRoomsByUserId(userId);
-        }
-        return messageRoomRepository.findByUserIdOrderByLastMessageDesc(userId);
-    }
 }
@@ -3,17 +3,28 @@ package com.example.nexus.app.message.service;
 import com.example.nexus.app.global.config.SseConfig;
 import com.example.nexus.app.message.controller.dto.response.MessageResponse;
 import com.example.nexus.app.message.controller.dto.response.MessageRoomResponse;
-import com.example.nexus.app.message.controller.dto.response.SseEventDto;
 import com.example.nexus.app.message.domain.SseEventType;
+import com.example.nexus.app.message.service.sse.SseConnection;
+import com.example.nexus.app.message.service.sse.SseDispatcher;
+import com.example.nexus.app.message.service.sse.SseEventBus;
+import com.example.nexus.app.message.service.sse.SseEventStore;
+import com.example.nexus.app.message.service.sse.SseRemoteEvent;
+import com.example.nexus.app.message.service.sse.SseStoredEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -21,118 +32,144 @@ import java.util.concurrent.ConcurrentHashMap;
 public class SseEmitterService {
 
     private final SseConfig sseConfig;
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-
-    public SseEmitter createEmitter(Long userId) {
-        // 기존 연결이 있으면 명시적으로 종료
-        SseEmitter oldEmitter = emitters.get(userId);
-        if (oldEmitter != null) {
-            try {
-                oldEmitter.complete();
-            } catch (Exception e) {
-                log.error("기존 SSE 연결 종료에 실패했습니다. - userId: {}, error: {}", userId, e.getMessage());
-            }
-        }
-
+    private final SseEventBus sseEventBus;
+    private final SseDispatcher sseDispatcher;
+    private final SseEventStore sseEventStore;
+    // userId -> (connectionId -> 연결), 연결 ID는 노드 내 증가값이라 작을수록 오래된 연결
+    private final Map<Long, Map<Long, SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong connectionSequence = new AtomicLong();
+
+    /**
+     * lastEventId가 있으면 그 이후 놓친 이벤트를 재전송 (재전송할 수 없으면 RESYNC 이벤트로 전체 재조회를 요청)
+     * 연결을 먼저 등록한 뒤 보관소를 읽으므로 그 사이 이벤트도 빠지지 않는다 (중복은 ID로 제외).
+     */
+    public SseEmitter createEmitter(Long userId, String lastEventId) {
+        long connectionId = connectionSequence.incrementAndGet();
         SseEmitter emitter = new SseEmitter(sseConfig.getTimeout());
+        SseConnection connection = sseDispatcher.open(emitter, () -> removeConnection(userId, connectionId));
 
-        emitter.onTimeout(() -> {
-            removeEmitter(userId);
-        });
+        emitter.onTimeout(connection::close);
 
         emitter.onError((e) -> {
             log.warn("SSE 연결 중 오류가 발생했습니다. - userId: {}, error: {}", userId, e.getMessage());
-            removeEmitter(userId);
+            connection.close();
         });
 
-        emitter.onCompletion(() -> {
-            removeEmitter(userId);
+        emitter.onCompletion(connection::close);
+
+        // 상한을 넘으면 가장 오래된 연결을 종료 (종료 콜백이 같은 키를 다시 갱신하므로 close는 compute 밖에서)
+        AtomicBoolean firstConnection = new AtomicBoolean();
+        List<SseConnection> evicted = new ArrayList<>();
+        connections.compute(userId, (key, userConnections) -> {
+            if (userConnections == null) {
+                userConnections = new ConcurrentHashMap<>();
+                firstConnection.set(true);
+            }
+            userConnections.put(connectionId, connection);
+            while (userConnections.size() > sseConfig.getMaxConnectionsPerUser()) {
+                Long oldestId = Collections.min(userConnections.keySet());
+                evicted.add(userConnections.remove(oldestId));
+            }
+            return userConnections;
         });
 
-        emitters.put(userId, emitter);
-        sendConnectEvent(userId);
+        if (firstConnection.get()) {
+            sseEventBus.registerLocal(userId);
+        }
+        evicted.forEach(SseConnection::close);
+        startConnection(userId, connection, lastEventId);
 
         return emitter;
     }
 
     public void sendMessage(Long userId, MessageResponse message) {
-        sendEvent(userId, SseEventType.MESSAGE, message);
+        sendEvent(userId, SseEventType.MESSAGE, message, null);
     }
 
+    // 같은 채팅방의 읽음 상태는 마지막 값만 의미가 있으므로 대기 중인 이벤트와 합침
     public void sendReadStatus(Long userId, Long roomId, Integer unreadCount) {
         Map<String, Object> data = Map.of(
                 "roomId", roomId,
                 "unreadCount", unreadCount
         );
-        sendEvent(userId, SseEventType.READ_STATUS, data);
+        sendEvent(userId, SseEventType.READ_STATUS, data, coalesceKey(SseEventType.READ_STATUS, roomId));
     }
 
     public void sendRoomUpdate(Long userId, MessageRoomResponse room) {
-        sendEvent(userId, SseEventType.ROOM_UPDATE, room);
+        sendEvent(userId, SseEventType.ROOM_UPDATE, room, coalesceKey(SseEventType.ROOM_UPDATE, room.roomId()));
+    }
+
+    public void sendNotification(Long userId, Object notification) {
+        sendEvent(userId, SseEventType.NOTIFICATION, notification, null);
     }
 
-    // 지정된 시간이 지나면 다시 실행
+    // 다른 노드에서 발행된 이벤트를 이 노드의 연결로 전달
+    @EventListener
+    public void handleRemoteEvent(SseRemoteEvent event) {
+        deliverLocally(event.userId(), event.eventType(), event.data(), event.eventId(), event.coalesceKey());
+    }
+
+    // 지정된 시간이 지나면 다시 실행 (전송 큐에 넣기만 하므로 느린 연결이 다른 연결의 하트비트를 막지 않음)
     @Scheduled(fixedRateString = "${sse.heartbeat:20000}")
     public void sendHeartbeat() {
-        if (emitters.isEmpty()) {
+        if (connections.isEmpty()) {
             return;
         }
-
-        // ConcurrentModificationException 방지
-        emitters.forEach((userId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(SseEventType.HEARTBEAT.name())
-                        .data(SseEventDto.heartbeat())
-                        .comment("keep-alive"));
-            } catch (IOException e) {
-                log.error("하트비트 전송에 실패했습니다. - userId: {}", userId);
-                removeEmitter(userId);
-            } catch (Exception e) {
-                log.error("하트비트 전송 중 예상치 못한 오류가 발생했습니다. - userId: {}, error: {}", userId, e.getMessage());
-                removeEmitter(userId);
-            }
-        });
+        sseEventBus.refreshPresence(connections.keySet());
+        connections.values().forEach(userConnections -> userConnections.values().forEach(SseConnection::sendHeartbeat));
     }
 
-    private void sendConnectEvent(Long userId) {
-        try {
-            SseEmitter emitter = emitters.get(userId);
-            if (emitter != null) {
-                emitter.send(SseEmitter.event()
-                        .name(SseEventType.CONNECT.name())
-                        .data(SseEventDto.connect()));
-            }
-        } catch (IOException e) {
-            log.error("연결 이벤트 전송에 실패했습니다. - userId: {}", userId);
-            removeEmitter(userId);
+    private void startConnection(Long userId, SseConnection connection, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            connection.start(List.of(), false);
+            return;
         }
+        Optional<List<SseStoredEvent>> missedEvents = sseEventStore.readAfter(userId, lastEventId);
+        connection.start(missedEvents.orElse(List.of()), missedEvents.isEmpty());
     }
 
-    private void sendEvent(Long userId, SseEventType eventType, Object data) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter == null) {
-            return;
+    // 연결 여부와 관계없이 보관해 재연결 시 재전송하고, 이 노드의 연결로 먼저 전달한 뒤 다른 노드에 연결이 있으면 버스로 발행
+    private void sendEvent(Long userId, SseEventType eventType, Object data, String coalesceKey) {
+        String eventId = sseEventStore.append(userId, eventType, data);
+        deliverLocally(userId, eventType, data, eventId, coalesceKey);
+        sseEventBus.publish(userId, eventType, data, eventId, coalesceKey);
+    }
+
+    // 사용자의 모든 연결(탭/기기)로 전달
+    private void deliverLocally(Long userId, SseEventType eventType, Object data, String eventId, String coalesceKey) {
+        Map<Long, SseConnection> userConnections = connections.get(userId);
+        if (userConnections != null) {
+            userConnections.values().forEach(connection -> connection.send(eventType, data, eventId, coalesceKey));
         }
+    }
+
+    // 마지막 연결이 제거되면 사용자 항목도 제거하고 버스에서 해제
+    private void removeConnection(Long userId, long connectionId) {
+        AtomicBoolean lastConnection = new AtomicBoolean();
+        connections.computeIfPresent(userId, (key, userConnections) -> {
+            if (userConnections.remove(connectionId) != null && userConnections.isEmpty()) {
+                lastConnection.set(true);
+                return null;
+            }
+            return userConnections;
+        });
 
-        try {
-            emitter.send(SseEmitter.event()
-                    .name(eventType.name())
-                    .data(SseEventDto.of(eventType, data)));
-        } catch (IOException e) {
-            log.error("SSE 이벤트 전송에 실패했습니다. - userId: {}, eventType: {}, error: {}", userId, eventType, e.getMessage());
-            removeEmitter(userId);
-        } catch (Exception e) {
-            log.error("SSE 이벤트 전송 중 예상치 못한 오류가 발생했습니다. - userId: {}, eventType: {}, error: {}", userId, eventType, e.getMessage());
-            removeEmitter(userId);
+        if (lastConnection.get()) {
+            sseEventBus.unregisterLocal(userId);
         }
     }
 
-    private void removeEmitter(Long userId) {
-        emitters.remove(userId);
+    private String coalesceKey(SseEventType eventType, Long roomId) {
+        return eventType.name() + ":" + roomId;
     }
 
     public int getConnectionCount() {
-        return emitters.size();
+        return connections.values().stream()
+                .mapToInt(Map::size)
+                .sum();
+    }
+
+    public int getConnectedUserCount() {
+        return connections.size();
     }
 }
@@ -0,0 +1,30 @@
+package com.example.nexus.app.message.service.sse;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import java.util.Collection;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 버스 (테스트/로컬용) - 모든 연결이 이 노드에 있으므로 노드 간 전달이 없다
+ */
+@Component
+@ConditionalOnProperty(name = "sse.cluster.mode", havingValue = "local")
+public class LocalSseEventBus implements SseEventBus {
+
+    @Override
+    public void publish(Long userId, SseEventType eventType, Object data, String eventId, String coalesceKey) {
+    }
+
+    @Override
+    public void registerLocal(Long userId) {
+    }
+
+    @Override
+    public void unregisterLocal(Long userId) {
+    }
+
+    @Override
+    public void refreshPresence(Collection<Long> localUserIds) {
+    }
+}
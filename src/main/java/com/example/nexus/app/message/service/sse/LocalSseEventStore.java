@@ -0,0 +1,77 @@
+package com.example.nexus.app.message.service.sse;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 보관소 (테스트/로컬용) - 사용자별 고정 크기 링 버퍼를 메모리에 둔다
+ * 마지막 사용 후 보관 기간이 지나거나 보관 사용자 수를 넘으면 버퍼째 버린다.
+ */
+@Component
+@ConditionalOnProperty(name = "sse.cluster.mode", havingValue = "local")
+public class LocalSseEventStore implements SseEventStore {
+
+    private static final int MAX_USERS = 100_000;
+
+    private final int capacity;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<Long, Deque<SseStoredEvent>> buffers;
+
+    public LocalSseEventStore(@Value("${sse.replay.capacity:100}") int capacity,
+                              @Value("${sse.replay.retention:600000}") long retentionMillis) {
+        this.capacity = capacity;
+        this.buffers = Caffeine.newBuilder()
+                .maximumSize(MAX_USERS)
+                .expireAfterAccess(Duration.ofMillis(retentionMillis))
+                .build();
+    }
+
+    @Override
+    public String append(Long userId, SseEventType eventType, Object data) {
+        Deque<SseStoredEvent> buffer = buffers.get(userId, key -> new ArrayDeque<>(capacity));
+        synchronized (buffer) {
+            if (buffer.size() >= capacity) {
+                buffer.pollFirst();
+            }
+            String id = String.valueOf(sequence.incrementAndGet());
+            buffer.addLast(new SseStoredEvent(id, eventType, data));
+            return id;
+        }
+    }
+
+    @Override
+    public Optional<List<SseStoredEvent>> readAfter(Long userId, String lastEventId) {
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+
+        Deque<SseStoredEvent> buffer = buffers.getIfPresent(userId);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+        List<SseStoredEvent> snapshot;
+        synchronized (buffer) {
+            snapshot = List.copyOf(buffer);
+        }
+        // 클라이언트가 받은 마지막 이벤트가 버퍼에 남아 있어야 그 이후를 빠짐없이 재전송할 수 있다
+        if (snapshot.isEmpty() || lastId < Long.parseLong(snapshot.get(0).id())) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot.stream()
+                .filter(event -> Long.parseLong(event.id()) > lastId)
+                .toList());
+    }
+}
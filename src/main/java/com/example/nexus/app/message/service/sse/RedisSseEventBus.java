@@ -0,0 +1,261 @@
+package com.example.nexus.app.message.service.sse;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub 기반 노드 간 SSE 이벤트 버스
+ * - 사용자 ID를 파티션 채널(sse:events:{userId % partitions})로 나누고, 각 노드는 로컬 연결이 있는 파티션만 구독한다.
+ * - 사용자별 접속 노드 집합(sse:presence:{userId})을 유지해, 다른 노드에 연결이 없으면 발행하지 않는다.
+ *   조회 결과는 짧게 로컬 캐시하고, 새 연결이 등록되면 presence 채널로 모든 노드의 캐시를 비운다.
+ * - 수신 메시지는 제한된 큐를 가진 실행기에서 전달하며, 큐가 가득 차면 버리고 집계한다 (느린 전달이 Redis 구독을 막지 않도록).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sse.cluster.mode", havingValue = "redis", matchIfMissing = true)
+public class RedisSseEventBus implements SseEventBus, MessageListener, DisposableBean {
+
+    private static final String CHANNEL_PREFIX = "sse:events:";
+    private static final String PRESENCE_PREFIX = "sse:presence:";
+    private static final String PRESENCE_CHANGED_CHANNEL = "sse:presence-changed";
+    private static final int PRESENCE_CACHE_MAX_SIZE = 100_000;
+    private static final int PRESENCE_TTL_HEARTBEATS = 3;
+    private static final int INBOUND_THREADS = 4;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ThreadPoolTaskExecutor inboundExecutor;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int partitions;
+    private final Duration presenceTtl;
+
+    // 사용자별 다른 노드 연결 여부 (발행마다 SMEMBERS를 보내지 않도록 짧게 캐시)
+    private final Cache<Long, Boolean> remotePresenceCache;
+
+    // 파티션별 로컬 연결 사용자 수 (0이 되면 구독 해제)
+    private final Map<Integer, Integer> localUsersByPartition = new HashMap<>();
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter droppedCounter;
+    private final Timer deliveryLatency;
+
+    public RedisSseEventBus(RedisConnectionFactory connectionFactory, StringRedisTemplate stringRedisTemplate,
+                            ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            @Value("${sse.cluster.partitions:64}") int partitions,
+                            @Value("${sse.cluster.inbound-queue-capacity:1000}") int inboundQueueCapacity,
+                            @Value("${sse.heartbeat:20000}") long heartbeatMillis,
+                            @Value("${sse.cluster.presence-cache-ttl:1000}") long presenceCacheTtlMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.partitions = partitions;
+        this.presenceTtl = Duration.ofMillis(heartbeatMillis * PRESENCE_TTL_HEARTBEATS);
+        this.remotePresenceCache = Caffeine.newBuilder()
+                .maximumSize(PRESENCE_CACHE_MAX_SIZE)
+                .expireAfterWrite(Duration.ofMillis(presenceCacheTtlMillis))
+                .build();
+
+        this.publishedCounter = Counter.builder("sse.cluster.published")
+                .description("다른 노드로 발행한 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("sse.cluster.received")
+                .description("다른 노드에서 받아 로컬로 전달한 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("sse.cluster.dropped")
+                .description("수신 큐 포화로 버린 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("sse.cluster.delivery.latency")
+                .description("발행부터 다른 노드 수신까지의 지연 시간")
+                .register(meterRegistry);
+
+        this.inboundExecutor = new ThreadPoolTaskExecutor();
+        this.inboundExecutor.setCorePoolSize(INBOUND_THREADS);
+        this.inboundExecutor.setMaxPoolSize(INBOUND_THREADS);
+        this.inboundExecutor.setQueueCapacity(inboundQueueCapacity);
+        this.inboundExecutor.setThreadNamePrefix("sse-cluster-");
+        this.inboundExecutor.setRejectedExecutionHandler((task, executor) -> droppedCounter.increment());
+        this.inboundExecutor.initialize();
+
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.setTaskExecutor(inboundExecutor);
+        this.listenerContainer.addMessageListener(this, new ChannelTopic(PRESENCE_CHANGED_CHANNEL));
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+
+        log.info("SSE 클러스터 버스 시작: nodeId={}, partitions={}", nodeId, partitions);
+    }
+
+    @Override
+    public void publish(Long userId, SseEventType eventType, Object data, String eventId,
+                        String coalesceKey) {
+        try {
+            if (!remotePresenceCache.get(userId, this::hasRemoteConnection)) {
+                return;
+            }
+
+            Envelope envelope = new Envelope(nodeId, userId, eventType, objectMapper.valueToTree(data),
+                    eventId, coalesceKey, System.currentTimeMillis());
+            stringRedisTemplate.convertAndSend(channel(partitionOf(userId)), objectMapper.writeValueAsString(envelope));
+            publishedCounter.increment();
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패 - userId: {}, eventType: {}", userId, eventType, e);
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 노드 간 발행 실패 - userId: {}, eventType: {}, error: {}", userId, eventType, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (PRESENCE_CHANGED_CHANNEL.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+            invalidatePresence(body);
+            return;
+        }
+
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(body, Envelope.class);
+        } catch (IOException e) {
+            log.warn("SSE 클러스터 메시지 파싱 실패: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(envelope.originNodeId())) {
+            return;
+        }
+
+        deliveryLatency.record(Math.max(System.currentTimeMillis() - envelope.publishedAt(), 0), TimeUnit.MILLISECONDS);
+        receivedCounter.increment();
+        eventPublisher.publishEvent(new SseRemoteEvent(envelope.userId(), envelope.eventType(), envelope.data(),
+                envelope.eventId(), envelope.coalesceKey()));
+    }
+
+    @Override
+    public void registerLocal(Long userId) {
+        try {
+            String key = presenceKey(userId);
+            stringRedisTemplate.opsForSet().add(key, nodeId);
+            stringRedisTemplate.expire(key, presenceTtl);
+            // 다른 노드가 캐시한 '연결 없음'을 비워, 새 연결로 가는 이벤트가 캐시 만료까지 버려지지 않게 한다
+            stringRedisTemplate.convertAndSend(PRESENCE_CHANGED_CHANNEL, userId.toString());
+        } catch (Exception e) {
+            log.warn("SSE 접속 정보 등록 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+
+        int partition = partitionOf(userId);
+        synchronized (localUsersByPartition) {
+            if (localUsersByPartition.merge(partition, 1, Integer::sum) == 1) {
+                listenerContainer.addMessageListener(this, new ChannelTopic(channel(partition)));
+            }
+        }
+    }
+
+    @Override
+    public void unregisterLocal(Long userId) {
+        try {
+            stringRedisTemplate.opsForSet().remove(presenceKey(userId), nodeId);
+        } catch (Exception e) {
+            log.warn("SSE 접속 정보 해제 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+
+        int partition = partitionOf(userId);
+        synchronized (localUsersByPartition) {
+            Integer remaining = localUsersByPartition.computeIfPresent(partition, (key, count) -> count > 1 ? count - 1 : null);
+            if (remaining == null) {
+                listenerContainer.removeMessageListener(this, new ChannelTopic(channel(partition)));
+            }
+        }
+    }
+
+    @Override
+    public void refreshPresence(Collection<Long> localUserIds) {
+        if (localUserIds.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long userId : localUserIds) {
+                    String key = presenceKey(userId);
+                    stringConnection.sAdd(key, nodeId);
+                    stringConnection.expire(key, presenceTtl.toSeconds());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("SSE 접속 정보 갱신 실패 - users: {}, error: {}", localUserIds.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+        inboundExecutor.shutdown();
+    }
+
+    // 캐시 적재 중에 무효화가 오면 적재가 끝난 뒤 비워지므로, 등록 전에 읽은 결과가 남지 않는다
+    private boolean hasRemoteConnection(Long userId) {
+        Set<String> nodes = stringRedisTemplate.opsForSet().members(presenceKey(userId));
+        return nodes != null && !nodes.stream().allMatch(nodeId::equals);
+    }
+
+    private void invalidatePresence(String userId) {
+        try {
+            remotePresenceCache.invalidate(Long.valueOf(userId));
+        } catch (NumberFormatException e) {
+            log.warn("SSE 접속 변경 메시지 파싱 실패: {}", userId);
+        }
+    }
+
+    private int partitionOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) partitions);
+    }
+
+    private String channel(int partition) {
+        return CHANNEL_PREFIX + partition;
+    }
+
+    private String presenceKey(Long userId) {
+        return PRESENCE_PREFIX + userId;
+    }
+
+    private record Envelope(String originNodeId, Long userId, SseEventType eventType, JsonNode data,
+                            String eventId, String coalesceKey, long publishedAt) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.nexus.app.message.service.sse;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.connection.stream.StringRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Streams 기반 보관소 - 사용자별 스트림(sse:stream:{userId})을 모든 노드가 공유한다
+ * - 스트림 ID(밀리초-순번)가 그대로 SSE 이벤트 ID가 되므로 어느 노드로 재연결해도 이어서 받을 수 있다.
+ * - XADD MAXLEN ~ 으로 보관 개수를 제한하고, 마지막 이벤트 후 보관 기간이 지나면 스트림째 만료된다.
+ * - 재전송은 마지막 이벤트 ID부터 XRANGE ... COUNT로 필요한 만큼만 읽는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sse.cluster.mode", havingValue = "redis", matchIfMissing = true)
+public class RedisSseEventStore implements SseEventStore {
+
+    private static final String STREAM_PREFIX = "sse:stream:";
+    private static final String TYPE_FIELD = "type";
+    private static final String DATA_FIELD = "data";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final Duration retention;
+
+    public RedisSseEventStore(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                              @Value("${sse.replay.capacity:100}") int capacity,
+                              @Value("${sse.replay.retention:600000}") long retentionMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.retention = Duration.ofMillis(retentionMillis);
+    }
+
+    @Override
+    public String append(Long userId, SseEventType eventType, Object data) {
+        String key = streamKey(userId);
+        try {
+            StringRecord record = StreamRecords.string(Map.of(
+                    TYPE_FIELD, eventType.name(),
+                    DATA_FIELD, objectMapper.writeValueAsString(data)
+            )).withStreamKey(key);
+            // XADD와 만료 갱신을 한 번의 왕복으로 전송
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.xAdd(record, XAddOptions.maxlen(capacity).approximateTrimming(true));
+                stringConnection.pExpire(key, retention.toMillis());
+                return null;
+            });
+            return results.get(0) instanceof RecordId recordId ? recordId.getValue() : null;
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 보관 실패 - userId: {}, eventType: {}, error: {}", userId, eventType, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public Optional<List<SseStoredEvent>> readAfter(Long userId, String lastEventId) {
+        RecordId lastId;
+        try {
+            lastId = RecordId.of(lastEventId);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            // 마지막으로 받은 이벤트부터 읽되, 보관 개수를 넘는지 알 수 있을 만큼만 가져온다
+            records = stringRedisTemplate.opsForStream().range(streamKey(userId),
+                    Range.rightUnbounded(Range.Bound.inclusive(lastId.getValue())),
+                    Limit.limit().count(capacity + 2));
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 재전송 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+
+        // 첫 항목이 마지막으로 받은 이벤트여야 그 이후가 잘려 나가지 않았음을 보장할 수 있다 (나머지가 재전송 대상)
+        if (records == null || records.isEmpty() || !records.get(0).getId().equals(lastId)) {
+            return Optional.empty();
+        }
+        // 재전송할 이벤트가 보관 개수를 넘으면 일부만 보낼 수 없으므로 재전송하지 않는다
+        if (records.size() > capacity + 1) {
+            return Optional.empty();
+        }
+        return Optional.of(records.subList(1, records.size()).stream()
+                .map(this::toStoredEvent)
+                .flatMap(Optional::stream)
+                .toList());
+    }
+
+    private Optional<SseStoredEvent> toStoredEvent(MapRecord<String, Object, Object> record) {
+        try {
+            SseEventType eventType = SseEventType.valueOf((String) record.getValue().get(TYPE_FIELD));
+            Object data = objectMapper.readTree((String) record.getValue().get(DATA_FIELD));
+            return Optional.of(new SseStoredEvent(record.getId().getValue(), eventType, data));
+        } catch (Exception e) {
+            log.warn("SSE 보관 이벤트 파싱 실패 - id: {}, error: {}", record.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String streamKey(Long userId) {
+        return STREAM_PREFIX + userId;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.nexus.app.message.service.sse;
+
+import com.example.nexus.app.message.controller.dto.response.SseEventDto;
+import com.example.nexus.app.message.domain.SseEventType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 연결 1개와 전송 큐
+ * - 같은 coalesceKey의 이벤트가 큐에 있으면 버리고 새 이벤트를 뒤에 추가 (이벤트 ID 순서 유지, 예: 같은 채팅방의 읽음 상태)
+ * - 대기 중인 이벤트가 있으면 하트비트는 생략
+ * - 큐가 가득 차면 느린 연결로 보고 종료 (클라이언트는 재연결)
+ * - {@link #start} 전에 들어온 이벤트는 재전송 이벤트 뒤에 보내도록 큐에만 쌓아 둔다
+ */
+@Slf4j
+public class SseConnection {
+
+    private final SseDispatcher dispatcher;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Runnable onClose;
+
+    private final Deque<OutboundEvent> queue = new ArrayDeque<>();
+    private boolean started;
+    private boolean draining;
+    private boolean closed;
+
+    SseConnection(SseDispatcher dispatcher, SseEmitter emitter, int capacity, Runnable onClose) {
+        this.dispatcher = dispatcher;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.onClose = onClose;
+    }
+
+    public void send(SseEventType eventType, Object data, String eventId, String coalesceKey) {
+        enqueue(toOutbound(eventType, data, eventId, coalesceKey));
+    }
+
+    /**
+     * CONNECT 이벤트와 놓친 이벤트(재전송 불가하면 RESYNC)를 큐 맨 앞에 넣고 전송을 시작
+     * 등록 후 이미 큐에 들어온 이벤트와 ID가 겹치는 재전송 이벤트는 제외한다.
+     */
+    public void start(List<SseStoredEvent> replayEvents, boolean resync) {
+        boolean startDrain;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            Set<String> queuedIds = new HashSet<>();
+            queue.forEach(queued -> queuedIds.add(queued.id()));
+
+            List<OutboundEvent> head = new ArrayList<>(replayEvents.size() + 2);
+            head.add(new OutboundEvent(null, SseEmitter.event()
+                    .name(SseEventType.CONNECT.name())
+                    .data(SseEventDto.connect()), null));
+            if (resync) {
+                head.add(new OutboundEvent(null, SseEmitter.event()
+                        .name(SseEventType.RESYNC.name())
+                        .data(SseEventDto.resync()), null));
+            }
+            replayEvents.stream()
+                    .filter(event -> !queuedIds.contains(event.id()))
+                    .forEach(event -> head.add(toOutbound(event.eventType(), event.data(), event.id(), null)));
+
+            for (int i = head.size() - 1; i >= 0; i--) {
+                queue.addFirst(head.get(i));
+            }
+            started = true;
+            startDrain = !draining;
+            draining = true;
+        }
+        if (startDrain) {
+            dispatcher.startDrain(this::drain);
+        }
+    }
+
+    public void sendHeartbeat() {
+        synchronized (this) {
+            if (!started || !queue.isEmpty() || draining) {
+                dispatcher.recordDropped();
+                return;
+            }
+        }
+        enqueue(new OutboundEvent(null, SseEmitter.event()
+                .name(SseEventType.HEARTBEAT.name())
+                .data(SseEventDto.heartbeat())
+                .comment("keep-alive"), null));
+    }
+
+    public synchronized int queueDepth() {
+        return queue.size();
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+        }
+        dispatcher.closed(this);
+        try {
+            emitter.complete();
+        } catch (Exception e) {
+            log.debug("SSE 연결 종료 중 오류: {}", e.getMessage());
+        }
+        onClose.run();
+    }
+
+    private void enqueue(OutboundEvent event) {
+        boolean startDrain = false;
+        boolean evict = false;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (event.coalesceKey() != null && queue.removeIf(queued -> event.coalesceKey().equals(queued.coalesceKey()))) {
+                dispatcher.recordCoalesced();
+            }
+            if (queue.size() >= capacity) {
+                evict = true;
+            } else {
+                queue.add(event);
+                if (started && !draining) {
+                    draining = true;
+                    startDrain = true;
+                }
+            }
+        }
+
+        if (evict) {
+            log.warn("SSE 전송 큐가 가득 차 느린 연결을 종료합니다. - capacity: {}", capacity);
+            dispatcher.recordEvicted();
+            close();
+        } else if (startDrain) {
+            dispatcher.startDrain(this::drain);
+        }
+    }
+
+    private OutboundEvent toOutbound(SseEventType eventType, Object data, String eventId, String coalesceKey) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event()
+                .name(eventType.name())
+                .data(SseEventDto.of(eventType, data));
+        if (eventId != null) {
+            event.id(eventId);
+        }
+        return new OutboundEvent(eventId, event, coalesceKey);
+    }
+
+    private void drain() {
+        while (true) {
+            OutboundEvent next;
+            synchronized (this) {
+                next = queue.poll();
+                if (next == null || closed) {
+                    draining = false;
+                    return;
+                }
+            }
+
+            long start = System.nanoTime();
+            try {
+                emitter.send(next.event());
+                dispatcher.recordSend(System.nanoTime() - start);
+            } catch (Exception e) {
+                log.warn("SSE 이벤트 전송에 실패했습니다. - error: {}", e.getMessage());
+                close();
+                return;
+            }
+        }
+    }
+
+    private record OutboundEvent(String id, SseEmitter.SseEventBuilder event, String coalesceKey) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.nexus.app.message.service.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 비동기 전송기
+ * 연결마다 제한된 전송 큐({@link SseConnection})를 두고 가상 스레드가 큐를 비우므로,
+ * 이벤트를 보내는 요청 스레드나 하트비트 스케줄러가 느린 클라이언트 때문에 멈추지 않는다.
+ */
+@Component
+public class SseDispatcher {
+
+    private final int queueCapacity;
+    private final ExecutorService senderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<SseConnection> connections = ConcurrentHashMap.newKeySet();
+
+    private final Timer sendLatency;
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+    private final Counter evictedCounter;
+
+    public SseDispatcher(MeterRegistry meterRegistry,
+                         @Value("${sse.outbound-queue-capacity:100}") int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        Gauge.builder("sse.outbound.queue.depth", this, SseDispatcher::getTotalQueueDepth)
+                .description("전체 연결의 전송 대기 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.outbound.connections", connections, Set::size)
+                .description("이 노드의 SSE 연결 수")
+                .register(meterRegistry);
+        this.sendLatency = Timer.builder("sse.outbound.send.latency")
+                .description("SSE 이벤트 1건 전송 소요 시간")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("sse.outbound.coalesced")
+                .description("대기 중인 같은 종류의 이벤트로 합쳐진 이벤트 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("sse.outbound.dropped")
+                .description("대기 이벤트가 있어 생략된 하트비트 수")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("sse.outbound.evicted")
+                .description("전송 큐가 가득 차 종료된 느린 연결 수")
+                .register(meterRegistry);
+    }
+
+    public SseConnection open(SseEmitter emitter, Runnable onClose) {
+        SseConnection connection = new SseConnection(this, emitter, queueCapacity, onClose);
+        connections.add(connection);
+        return connection;
+    }
+
+    public long getTotalQueueDepth() {
+        return connections.stream()
+                .mapToLong(SseConnection::queueDepth)
+                .sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.forEach(SseConnection::close);
+        senderExecutor.shutdownNow();
+    }
+
+    void startDrain(Runnable drain) {
+        senderExecutor.execute(drain);
+    }
+
+    void closed(SseConnection connection) {
+        connections.remove(connection);
+    }
+
+    void recordSend(long nanos) {
+        sendLatency.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordCoalesced() {
+        coalescedCounter.increment();
+    }
+
+    void recordDropped() {
+        droppedCounter.increment();
+    }
+
+    void recordEvicted() {
+        evictedCounter.increment();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.nexus.app.message.service.sse;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import java.util.Collection;
+
+/**
+ * 노드 간 SSE 이벤트 전달 버스
+ * 이벤트는 발행 노드에서 먼저 로컬 전달되고, 버스는 다른 노드에 연결된 사용자에게만 전달한다.
+ * 다른 노드에서 받은 이벤트는 {@link SseRemoteEvent}로 발행되어 로컬 연결에 전달된다.
+ */
+public interface SseEventBus {
+
+    // coalesceKey가 같은 대기 이벤트는 수신 노드에서도 하나로 합쳐진다 (null이면 합치지 않음)
+    void publish(Long userId, SseEventType eventType, Object data, String eventId, String coalesceKey);
+
+    // 이 노드에 사용자의 첫 연결이 생겼을 때
+    void registerLocal(Long userId);
+
+    // 이 노드에서 사용자의 마지막 연결이 끊겼을 때
+    void unregisterLocal(Long userId);
+
+    // 하트비트 주기마다 이 노드에 연결된 사용자의 접속 정보 갱신
+    void refreshPresence(Collection<Long> localUserIds);
+}
@@ -0,0 +1,21 @@
+package com.example.nexus.app.message.service.sse;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 최근 SSE 이벤트 보관소 (Last-Event-ID 기반 재전송용)
+ * 이벤트 ID는 사용자별로 단조 증가하며, 보관 개수와 보관 기간을 넘은 이벤트는 버린다.
+ */
+public interface SseEventStore {
+
+    // 이벤트를 보관하고 ID를 반환 (보관에 실패하면 null - 이벤트는 ID 없이 전달)
+    String append(Long userId, SseEventType eventType, Object data);
+
+    /**
+     * lastEventId 이후의 이벤트를 오래된 순으로 반환
+     * 그 사이 이벤트가 이미 버려졌을 수 있으면 빈 Optional (클라이언트가 목록을 다시 조회해야 함)
+     */
+    Optional<List<SseStoredEvent>> readAfter(Long userId, String lastEventId);
+}
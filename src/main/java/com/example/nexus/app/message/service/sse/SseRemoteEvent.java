@@ -0,0 +1,11 @@
+package com.example.nexus.app.message.service.sse;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 다른 노드에서 발행되어 이 노드의 로컬 연결로 전달할 SSE 이벤트
+ */
+public record SseRemoteEvent(Long userId, SseEventType eventType, JsonNode data, String eventId,
+                             String coalesceKey) {
+}
@@ -0,0 +1,9 @@
+package com.example.nexus.app.message.service.sse;
+
+import com.example.nexus.app.message.domain.SseEventType;
+
+/**
+ * 재연결 시 재전송하기 위해 보관된 SSE 이벤트
+ */
+public record SseStoredEvent(String id, SseEventType eventType, Object data) {
+}
@@ -9,6 +9,11 @@ import org.hibernate.annotations.DynamicInsert;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(
+        name = "recent_viewed_post",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "post_id"}),
+        indexes = @Index(name = "idx_recent_viewed_user_viewed_at", columnList = "user_id,viewed_at")
+)
 @Getter
 @Builder
 @DynamicInsert
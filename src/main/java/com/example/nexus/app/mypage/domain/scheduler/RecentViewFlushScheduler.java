@@ -0,0 +1,25 @@
+package com.example.nexus.app.mypage.domain.scheduler;
+
+import com.example.nexus.app.mypage.service.RecentViewRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecentViewFlushScheduler {
+
+    private final RecentViewRecorder recentViewRecorder;
+
+    // 메모리에 병합된 최근 본 게시글 기록을 주기적으로 DB에 반영
+    @Scheduled(fixedDelayString = "${recent-view.flush-interval:3000}")
+    public void flushRecentViews() {
+        try {
+            recentViewRecorder.flush();
+        } catch (Exception e) {
+            log.error("최근 본 게시글 반영 중 오류 발생", e);
+        }
+    }
+}
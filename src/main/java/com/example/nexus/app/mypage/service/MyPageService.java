@@ -6,8 +6,6 @@ import com.example.nexus.app.mypage.dto.RecentlyViewedTestDto;
 import com.example.nexus.app.mypage.dto.TotalParticipationDto;
 import com.example.nexus.app.mypage.dto.WatchlistDto;
 import com.example.nexus.app.mypage.dto.TestDeadlineDto;
-import com.example.nexus.app.mypage.domain.RecentViewedPost;
-import com.example.nexus.app.mypage.repository.RecentViewedPostRepository;
 import com.example.nexus.app.participation.domain.ParticipationStatus;
 import com.example.nexus.app.post.domain.Post;
 import com.example.nexus.app.post.domain.PostStatus;
@@ -24,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import com.example.nexus.app.participation.domain.Participation;
 
@@ -32,7 +31,7 @@ import com.example.nexus.app.participation.domain.Participation;
 @Transactional(readOnly = true)
 public class MyPageService {
 
-    private final RecentViewedPostRepository recentViewedPostRepository;
+    private final RecentViewRecorder recentViewRecorder;
     private final PostLikeRepository postLikeRepository;
     private final ParticipationRepository participationRepository;
     private final PostRepository postRepository;
@@ -45,11 +44,18 @@ public class MyPageService {
                     .build();
         }
 
-        List<RecentViewedPost> recentViewedPosts = recentViewedPostRepository.findByUserIdOrderByViewedAtDesc(userId);
+        // 최근 본 게시글 목록은 기록기의 사용자별 목록에서 읽고, 게시글은 한 번에 조회
+        List<RecentViewRecorder.RecentView> recentViews = recentViewRecorder.getRecentViews(userId);
+        Map<Long, Post> postsById = recentViews.isEmpty() ? Map.of() :
+                postRepository.findAllWithAllDetailsByIdIn(recentViews.stream()
+                                .map(RecentViewRecorder.RecentView::postId)
+                                .toList()).stream()
+                        .collect(Collectors.toMap(Post::getId, Function.identity()));
 
-        List<RecentlyViewedTestDto> recentTests = recentViewedPosts.stream()
+        List<RecentlyViewedTestDto> recentTests = recentViews.stream()
+                .filter(recentView -> postsById.containsKey(recentView.postId()))
                 .map(recentView -> {
-                    Post post = recentView.getPost();
+                    Post post = postsById.get(recentView.postId());
                     return RecentlyViewedTestDto.builder()
                             .postId(post.getId())
                             .category(post.getMainCategory().stream().map(Enum::toString).collect(Collectors.joining(", ")))
@@ -57,7 +63,7 @@ public class MyPageService {
                             .oneLineIntro(post.getServiceSummary())
                             .thumbnailUrl(post.getThumbnailUrl())
                             .tags(post.getGenreCategories().stream().map(Enum::toString).collect(Collectors.toList()))
-                            .viewedAt(recentView.getViewedAt())
+                            .viewedAt(recentView.viewedAt())
                             .build();
                 })
                 .collect(Collectors.toList());
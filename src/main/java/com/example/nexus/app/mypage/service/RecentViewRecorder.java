@@ -0,0 +1,205 @@
+package com.example.nexus.app.mypage.service;
+
+import com.example.nexus.app.mypage.repository.RecentViewedPostRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 본 게시글 비동기 기록기
+ * 상세 조회 시에는 (사용자, 게시글)별 마지막 조회 시각만 메모리에 병합하고(같은 주기 내 중복 조회는 1건으로 합침),
+ * 주기적으로 INSERT ... ON DUPLICATE KEY UPDATE 배치로 DB에 반영한다.
+ * 사용자별 최근 N건 목록도 함께 유지해 마이페이지 대시보드가 기록 테이블을 스캔하지 않도록 한다.
+ * 조회는 최근 N건만 읽으므로 반영할 때 오래된 기록을 지우지는 않는다.
+ */
+@Slf4j
+@Component
+public class RecentViewRecorder {
+
+    public static final int MAX_RECENT_VIEWS = 20;
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final long MAXIMUM_CACHED_USERS = 10_000;
+    // 다른 노드에서 기록된 조회를 반영하기 위해 목록은 적재 후 일정 시간이 지나면 DB에서 다시 읽는다
+    private static final Duration RECENT_LIST_TTL = Duration.ofMinutes(5);
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO recent_viewed_post (user_id, post_id, viewed_at) "
+                    + "SELECT ?, p.id, ? FROM posts p WHERE p.id = ? "
+                    + "ON DUPLICATE KEY UPDATE viewed_at = GREATEST(viewed_at, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecentViewedPostRepository recentViewedPostRepository;
+
+    // userId -> (postId -> 마지막 조회 시각), 내부 맵은 compute 안에서만 변경
+    private final Map<Long, Map<Long, LocalDateTime>> pendingViews = new ConcurrentHashMap<>();
+    private final Cache<Long, RecentViews> recentViewsByUser;
+
+    public RecentViewRecorder(JdbcTemplate jdbcTemplate, RecentViewedPostRepository recentViewedPostRepository,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recentViewedPostRepository = recentViewedPostRepository;
+        this.recentViewsByUser = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_CACHED_USERS)
+                .expireAfter(new Expiry<Long, RecentViews>() {
+                    @Override
+                    public long expireAfterCreate(Long key, RecentViews value, long currentTime) {
+                        return RECENT_LIST_TTL.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long key, RecentViews value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long key, RecentViews value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        Gauge.builder("mypage.recent_view.pending", this, RecentViewRecorder::getPendingCount)
+                .description("DB에 아직 반영되지 않은 최근 본 게시글 기록 수")
+                .register(meterRegistry);
+    }
+
+    public void record(Long userId, Long postId) {
+        LocalDateTime viewedAt = LocalDateTime.now();
+        pendingViews.compute(userId, (id, views) -> {
+            Map<Long, LocalDateTime> merged = views != null ? views : new HashMap<>();
+            merged.merge(postId, viewedAt, RecentViewRecorder::latest);
+            return merged;
+        });
+        // 적재 중인 목록이 있으면 적재 완료 후 반영되고, 없으면 다음 적재 시 대기 기록과 병합된다
+        recentViewsByUser.asMap().computeIfPresent(userId, (id, recentViews) -> {
+            recentViews.add(postId, viewedAt);
+            return recentViews;
+        });
+    }
+
+    /**
+     * 사용자의 최근 본 게시글 (최신순, 최대 MAX_RECENT_VIEWS건)
+     */
+    public List<RecentView> getRecentViews(Long userId) {
+        return recentViewsByUser.get(userId, this::load).snapshot();
+    }
+
+    public int getPendingCount() {
+        return pendingViews.values().stream()
+                .mapToInt(Map::size)
+                .sum();
+    }
+
+    /**
+     * 대기 중인 기록을 DB에 반영
+     * 반영에 실패한 기록은 다음 주기에 다시 시도하도록 되돌린다.
+     */
+    public synchronized void flush() {
+        List<Object[]> upserts = new ArrayList<>();
+        for (Long userId : pendingViews.keySet()) {
+            Map<Long, LocalDateTime> views = pendingViews.remove(userId);
+            if (views == null) {
+                continue;
+            }
+            views.forEach((postId, viewedAt) -> {
+                Timestamp timestamp = Timestamp.valueOf(viewedAt);
+                upserts.add(new Object[]{userId, timestamp, postId, timestamp});
+            });
+        }
+        if (upserts.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < upserts.size(); from += FLUSH_BATCH_SIZE) {
+            List<Object[]> chunk = upserts.subList(from, Math.min(from + FLUSH_BATCH_SIZE, upserts.size()));
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, chunk);
+            } catch (Exception e) {
+                log.error("최근 본 게시글 반영 실패, 다음 주기에 재시도: records={}", chunk.size(), e);
+                chunk.forEach(this::restore);
+            }
+        }
+        log.debug("최근 본 게시글 반영 완료: records={}", upserts.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 최근 본 게시글 반영: pending={}", getPendingCount());
+        flush();
+    }
+
+    private RecentViews load(Long userId) {
+        RecentViews recentViews = new RecentViews();
+        recentViewedPostRepository.findRecentViewsByUserId(userId, PageRequest.of(0, MAX_RECENT_VIEWS))
+                .forEach(row -> recentViews.add((Long) row[0], (LocalDateTime) row[1]));
+        // 아직 DB에 반영되지 않은 기록 병합
+        pendingViews.computeIfPresent(userId, (id, views) -> {
+            views.forEach(recentViews::add);
+            return views;
+        });
+        return recentViews;
+    }
+
+    private void restore(Object[] upsert) {
+        Long userId = (Long) upsert[0];
+        Long postId = (Long) upsert[2];
+        LocalDateTime viewedAt = ((Timestamp) upsert[1]).toLocalDateTime();
+        pendingViews.compute(userId, (id, views) -> {
+            Map<Long, LocalDateTime> merged = views != null ? views : new HashMap<>();
+            merged.merge(postId, viewedAt, RecentViewRecorder::latest);
+            return merged;
+        });
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    public record RecentView(Long postId, LocalDateTime viewedAt) {
+    }
+
+    // 사용자별 최근 본 게시글 목록 (최대 MAX_RECENT_VIEWS건, 초과 시 가장 오래된 조회부터 제거)
+    private static final class RecentViews {
+
+        private final Map<Long, LocalDateTime> views = new HashMap<>();
+
+        synchronized void add(Long postId, LocalDateTime viewedAt) {
+            LocalDateTime previous = views.get(postId);
+            if (previous != null && !viewedAt.isAfter(previous)) {
+                return;
+            }
+            views.put(postId, viewedAt);
+            if (views.size() > MAX_RECENT_VIEWS) {
+                Long oldest = views.entrySet().stream()
+                        .min(Map.Entry.comparingByValue())
+                        .map(Map.Entry::getKey)
+                        .orElseThrow();
+                views.remove(oldest);
+            }
+        }
+
+        synchronized List<RecentView> snapshot() {
+            List<RecentView> snapshot = new ArrayList<>(views.size());
+            views.forEach((postId, viewedAt) -> snapshot.add(new RecentView(postId, viewedAt)));
+            snapshot.sort((a, b) -> b.viewedAt().compareTo(a.viewedAt()));
+            return snapshot;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
 import com.example.nexus.app.participation.controller.doc.ParticipationControllerDoc;
 import com.example.nexus.app.participation.controller.dto.request.ParticipantSearchRequest;
 import com.example.nexus.app.participation.controller.dto.request.ParticipationApplicationRequest;
+import com.example.nexus.app.participation.controller.dto.request.ParticipationBulkRequest;
 import com.example.nexus.app.participation.controller.dto.response.ParticipantDetailResponse;
 import com.example.nexus.app.participation.controller.dto.response.ParticipantListResponse;
 import com.example.nexus.app.participation.controller.dto.response.ParticipantPrivacyResponse;
@@ -104,6 +105,26 @@ public class ParticipationController implements ParticipationControllerDoc {
         return ResponseEntity.ok(ApiResponse.onSuccess(null));
     }
 
+    @Override
+    @PatchMapping("/bulk-approve")
+    public ResponseEntity<ApiResponse<Void>> approveApplications(
+            @Valid @RequestBody ParticipationBulkRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        participationService.approveApplications(request.participationIds(), userDetails.getUserId());
+        return ResponseEntity.ok(ApiResponse.onSuccess(null));
+    }
+
+    @Override
+    @PatchMapping("/bulk-reject")
+    public ResponseEntity<ApiResponse<Void>> rejectApplications(
+            @Valid @RequestBody ParticipationBulkRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        participationService.rejectApplications(request.participationIds(), userDetails.getUserId());
+        return ResponseEntity.ok(ApiResponse.onSuccess(null));
+    }
+
     @Override
     @GetMapping("/posts/{postId}/privacy")
     public ResponseEntity<ApiResponse<Page<ParticipantPrivacyResponse>>> getParticipantsPrivacyInfo(
@@ -3,6 +3,7 @@ package com.example.nexus.app.participation.controller.doc;
 import com.example.nexus.app.global.code.dto.ApiResponse;
 import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
 import com.example.nexus.app.participation.controller.dto.request.ParticipationApplicationRequest;
+import com.example.nexus.app.participation.controller.dto.request.ParticipationBulkRequest;
 import com.example.nexus.app.participation.controller.dto.request.ParticipantSearchRequest;
 import com.example.nexus.app.participation.controller.dto.response.ParticipantDetailResponse;
 import com.example.nexus.app.participation.controller.dto.response.ParticipantPrivacyResponse;
@@ -99,6 +100,26 @@ public interface ParticipationControllerDoc {
             @AuthenticationPrincipal CustomUserDetails userDetails
     );
 
+    @Operation(
+            summary = "참가 신청 일괄 승인",
+            description = "여러 참가 신청을 한 번에 승인합니다. (게시글 작성자만 가능, 최대 100개) "
+                    + "하나라도 처리할 수 없으면 전체가 취소되며, 신청자 알림은 처리 후 순차적으로 전송됩니다."
+    )
+    ResponseEntity<ApiResponse<Void>> approveApplications(
+            @Valid @RequestBody ParticipationBulkRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    );
+
+    @Operation(
+            summary = "참가 신청 일괄 거절",
+            description = "여러 참가 신청을 한 번에 거절합니다. (게시글 작성자만 가능, 최대 100개) "
+                    + "하나라도 처리할 수 없으면 전체가 취소됩니다."
+    )
+    ResponseEntity<ApiResponse<Void>> rejectApplications(
+            @Valid @RequestBody ParticipationBulkRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    );
+
     @Operation(
             summary = "게시글 신청자 개인정보 조회",
             description = "게시글 작성자가 신청자들의 개인정보를 조회합니다 (페이징)"
@@ -0,0 +1,15 @@
+package com.example.nexus.app.participation.controller.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ParticipationBulkRequest(
+        @Schema(description = "처리할 참가 신청 ID 목록 (최대 100개)", example = "[1, 2, 3]")
+        @NotEmpty(message = "참가 신청 ID는 1개 이상이어야 합니다.")
+        @Size(max = 100, message = "한 번에 최대 100개까지 처리할 수 있습니다.")
+        List<@NotNull Long> participationIds
+) {
+}
@@ -3,6 +3,7 @@ package com.example.nexus.app.participation.repository;
 import com.example.nexus.app.participation.domain.Participation;
 import com.example.nexus.app.participation.domain.ParticipationStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -104,6 +105,12 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
             "WHERE p.id = :participationId")
     Optional<Participation> findByIdWithUserAndPost(@Param("participationId") Long participationId);
 
+    @Query("SELECT p FROM Participation p " +
+            "JOIN FETCH p.user " +
+            "JOIN FETCH p.post " +
+            "WHERE p.id IN :participationIds")
+    List<Participation> findAllByIdWithUserAndPost(@Param("participationIds") Collection<Long> participationIds);
+
     // 뱃지 시스템용 카운팅 메서드
 
     /**
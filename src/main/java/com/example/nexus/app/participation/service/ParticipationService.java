@@ -28,12 +28,14 @@ import com.example.nexus.app.reward.repository.ParticipantRewardRepository;
 import com.example.nexus.app.user.domain.User;
 import com.example.nexus.app.user.repository.UserRepository;
 import com.example.nexus.notification.NotificationType;
-import com.example.nexus.notification.service.NotificationService;
+import com.example.nexus.notification.domain.event.NotificationRequestedEvent;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -51,13 +53,14 @@ public class ParticipationService {
 
     private static final String SORT_DIRECTION_ASC = "ASC";
     private static final String SORT_FIELD_APPLIED_AT = "appliedAt";
+    private static final int MAX_BULK_SIZE = 100;
 
     private final ParticipationRepository participationRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostUserStatusService postUserStatusService;
     private final ViewCountService viewCountService;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
     private final ParticipantRewardRepository participantRewardRepository;
     private final FeedbackRepository feedbackRepository;
 
@@ -81,12 +84,13 @@ public class ParticipationService {
         Long currentViewCount = viewCountService.getTotalViewCount(postId);
 
         // 신청 알림 - 모집자에게
-        notificationService.createNotification(
+        eventPublisher.publishEvent(NotificationRequestedEvent.of(
                 post.getCreatedBy(),  // 모집자
                 NotificationType.NEW_PARTICIPANT,
+                savedParticipation.getId(),
                 "새로운 참여 신청이 도착했습니다.",
                 postId.toString()
-        );
+        ));
 
         return ParticipationResponse.from(savedParticipation, status.isLiked(), status.isParticipated(),
                 currentViewCount);
@@ -130,33 +134,39 @@ public class ParticipationService {
     public void approveApplication(Long participationId, Long userId) {
         Participation participation = getParticipation(participationId);
         validateParticipationOwnershipAndStatus(participation, userId);
-
-        Post post = participation.getPost();
-        participation.approve();
-        post.incrementParticipants();
-
-        // 승인 알림 - 신청자에게
-        notificationService.createNotification(
-                participation.getUser().getId(),  // 신청자
-                NotificationType.PARTICIPATION_APPROVED,
-                "참여 신청이 승인되었습니다. 테스트에 참여해보세요!",
-                post.getId().toString()
-        );
+        approve(participation);
     }
 
     @Transactional
     public void rejectApplication(Long participationId, Long userId) {
         Participation participation = getParticipation(participationId);
         validateParticipationOwnershipAndStatus(participation, userId);
-        participation.reject();
+        reject(participation);
+    }
 
-        // 거절 알림 - 신청자에게
-        notificationService.createNotification(
-                participation.getUser().getId(),  // 신청자
-                NotificationType.PARTICIPATION_REJECTED,
-                "참여 신청이 거절되었습니다.",
-                participation.getPost().getId().toString()
-        );
+    /**
+     * 참가 신청 일괄 승인
+     * 모두 검증한 뒤 한 트랜잭션에서 처리하고, 알림은 커밋 후 배치로 저장·전송된다.
+     */
+    @Retryable(
+            retryFor = ObjectOptimisticLockingFailureException.class,
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100)
+    )
+    @Transactional
+    public void approveApplications(List<Long> participationIds, Long userId) {
+        getParticipationsForBulk(participationIds, userId).forEach(this::approve);
+    }
+
+    // 참가 신청 일괄 거절
+    @Retryable(
+            retryFor = ObjectOptimisticLockingFailureException.class,
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100)
+    )
+    @Transactional
+    public void rejectApplications(List<Long> participationIds, Long userId) {
+        getParticipationsForBulk(participationIds, userId).forEach(this::reject);
     }
 
     @Retryable(
@@ -229,12 +239,13 @@ public class ParticipationService {
 
         participantReward.markAsCompleted();
 
-        notificationService.createNotification(
+        eventPublisher.publishEvent(NotificationRequestedEvent.of(
                 participation.getUser().getId(),
                 NotificationType.PARTICIPATION_COMPLETED,
+                participationId,
                 "참여가 완료되었습니다. 리워드 지급을 기다려주세요.",
                 null
-        );
+        ));
     }
 
     // 게시글 상태별 인원 통계
@@ -352,6 +363,48 @@ public class ParticipationService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PARTICIPATION_NOT_FOUND));
     }
 
+    private List<Participation> getParticipationsForBulk(List<Long> participationIds, Long userId) {
+        Set<Long> ids = new LinkedHashSet<>(participationIds);
+        if (ids.isEmpty() || ids.size() > MAX_BULK_SIZE) {
+            throw new GeneralException(ErrorStatus.BAD_REQUEST);
+        }
+
+        List<Participation> participations = participationRepository.findAllByIdWithUserAndPost(ids);
+        if (participations.size() != ids.size()) {
+            throw new GeneralException(ErrorStatus.PARTICIPATION_NOT_FOUND);
+        }
+        participations.forEach(participation -> validateParticipationOwnershipAndStatus(participation, userId));
+        return participations;
+    }
+
+    private void approve(Participation participation) {
+        Post post = participation.getPost();
+        participation.approve();
+        post.incrementParticipants();
+
+        // 승인 알림 - 신청자에게
+        eventPublisher.publishEvent(NotificationRequestedEvent.of(
+                participation.getUser().getId(),  // 신청자
+                NotificationType.PARTICIPATION_APPROVED,
+                participation.getId(),
+                "참여 신청이 승인되었습니다. 테스트에 참여해보세요!",
+                post.getId().toString()
+        ));
+    }
+
+    private void reject(Participation participation) {
+        participation.reject();
+
+        // 거절 알림 - 신청자에게
+        eventPublisher.publishEvent(NotificationRequestedEvent.of(
+                participation.getUser().getId(),  // 신청자
+                NotificationType.PARTICIPATION_REJECTED,
+                participation.getId(),
+                "참여 신청이 거절되었습니다.",
+                participation.getPost().getId().toString()
+        ));
+    }
+
     private void validateParticipationOwnershipAndStatus(Participation participation, Long userId) {
         if (!participation.getPost().isOwner(userId)) {
             throw new GeneralException(ErrorStatus.POST_ACCESS_DENIED);
@@ -1,6 +1,7 @@
 package com.example.nexus.app.post.controller;
 
 import com.example.nexus.app.global.code.dto.ApiResponse;
+import com.example.nexus.app.global.code.dto.CursorResponse;
 import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
 import com.example.nexus.app.global.web.CookieService;
 import com.example.nexus.app.post.controller.doc.PostControllerDoc;
@@ -121,6 +122,23 @@ public class PostController implements PostControllerDoc {
         return ResponseEntity.ok(ApiResponse.onSuccess(posts));
     }
 
+    @Override
+    @GetMapping("/list/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PostSummaryResponse>>> getPostsByCursor(
+            @RequestParam(required = false) String mainCategory,
+            @RequestParam(required = false) String platformCategory,
+            @RequestParam(required = false) String genreCategory,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "latest") String sortBy,
+            @RequestParam(required = false) Integer daysRemaining,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<PostSummaryResponse> posts = postService.findPostsByCursor(mainCategory, platformCategory,
+                genreCategory, keyword, sortBy, daysRemaining, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.onSuccess(posts));
+    }
+
     @Override
     @GetMapping("/my/drafts")
     public ResponseEntity<ApiResponse<Page<PostSummaryResponse>>> getMyDrafts(
@@ -34,6 +34,26 @@ public class PostLikeController implements PostLikeControllerDoc {
         return ResponseEntity.ok(ApiResponse.onSuccess(response));
     }
 
+    @Override
+    @PutMapping("/{postId}/like")
+    public ResponseEntity<ApiResponse<PostLikeToggleResponse>> like(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        PostLikeToggleResponse response = postLikeService.like(postId, userDetails.getUserId());
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
+    }
+
+    @Override
+    @DeleteMapping("/{postId}/like")
+    public ResponseEntity<ApiResponse<PostLikeToggleResponse>> unlike(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        PostLikeToggleResponse response = postLikeService.unlike(postId, userDetails.getUserId());
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
+    }
+
     @Override
     @GetMapping("/likes")
     public ResponseEntity<ApiResponse<Page<PostDetailResponse>>> getUserLikes(
@@ -1,6 +1,7 @@
 package com.example.nexus.app.post.controller.doc;
 
 import com.example.nexus.app.global.code.dto.ApiResponse;
+import com.example.nexus.app.global.code.dto.CursorResponse;
 import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
 import com.example.nexus.app.post.controller.dto.request.PostCreateRequest;
 import com.example.nexus.app.post.controller.dto.request.PostUpdateRequest;
@@ -152,6 +153,7 @@ public interface PostControllerDoc {
                   - `popular`: 인기순
                   - `deadline`: 마감임박순
                   - `viewCount`: 조회수순
+                  - `relevance`: 관련도순 (keyword가 없으면 최신순)
 
                   **남은 일수 필터 (daysRemaining):**
                   - 해당 일수 이내에 마감되는 게시글만 조회
@@ -174,6 +176,36 @@ public interface PostControllerDoc {
             Pageable pageable
     );
 
+    @Operation(
+            summary = "게시글 목록 커서 조회 (필터 검색 가능)",
+            description = """
+                  게시글 목록 조회와 같은 조건으로 커서 기반 조회를 합니다.
+
+                  - 첫 요청은 `cursor` 없이 호출하고, 이후 응답의 `nextCursor`를 그대로 전달합니다.
+                  - 전체 개수는 제공하지 않으며 `hasNext`로 다음 페이지 존재 여부를 확인합니다.
+                  - 커서는 정렬 기준(sortBy)별로 발급되므로 정렬을 바꾸면 첫 페이지부터 다시 조회해야 합니다.
+                  - `relevance` 정렬은 커서 조회에서 최신순으로 처리됩니다.
+                  """
+    )
+    ResponseEntity<ApiResponse<CursorResponse<PostSummaryResponse>>> getPostsByCursor(
+            @Parameter(description = "메인 카테고리 (WEB, APP, GAME, ETC)")
+            @RequestParam(required = false) String mainCategory,
+            @Parameter(description = "플랫폼 카테고리 (ANDROID, IOS, PC 등)")
+            @RequestParam(required = false) String platformCategory,
+            @Parameter(description = "장르 카테고리 (LIFESTYLE, EDUCATION, SOCIAL 등)")
+            @RequestParam(required = false) String genreCategory,
+            @Parameter(description = "검색 키워드")
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "정렬 기준 (latest, popular, deadline, viewCount)")
+            @RequestParam(defaultValue = "latest") String sortBy,
+            @Parameter(description = "남은 일수 (해당 일수 이내 마감 게시글만 조회)", example = "7")
+            @RequestParam(required = false) Integer daysRemaining,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 개수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    );
+
     @Operation(
             summary = "내 임시 저장 게시글 조회",
             description = """
@@ -26,6 +26,26 @@ public interface PostLikeControllerDoc {
             @AuthenticationPrincipal CustomUserDetails userDetails
     );
 
+    @Operation(
+            summary = "게시글 찜하기 (멱등)",
+            description = "게시글을 찜합니다. 이미 찜한 게시글이면 상태와 찜 개수가 변하지 않습니다."
+    )
+    ResponseEntity<ApiResponse<PostLikeToggleResponse>> like(
+            @Parameter(description = "게시글 ID", required = true)
+            @PathVariable Long postId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    );
+
+    @Operation(
+            summary = "게시글 찜하기 취소 (멱등)",
+            description = "게시글 찜을 취소합니다. 찜하지 않은 게시글이면 상태와 찜 개수가 변하지 않습니다."
+    )
+    ResponseEntity<ApiResponse<PostLikeToggleResponse>> unlike(
+            @Parameter(description = "게시글 ID", required = true)
+            @PathVariable Long postId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    );
+
     @Operation(
             summary = "내 찜 목록 조회",
             description = "사용자가 찜한 게시글 목록을 조회합니다."
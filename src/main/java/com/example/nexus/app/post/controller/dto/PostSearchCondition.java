@@ -4,6 +4,8 @@ import com.example.nexus.app.category.domain.GenreCategory;
 import com.example.nexus.app.category.domain.MainCategory;
 import com.example.nexus.app.category.domain.PlatformCategory;
 import com.example.nexus.app.post.domain.PostStatus;
+import com.querydsl.core.types.Predicate;
+import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -14,6 +16,10 @@ public class PostSearchCondition {
     private PlatformCategory platformCategory;
     private GenreCategory genreCategory;
     private String keyword;
+    // 관련도순 정렬: 검색 엔진이 반환한 키워드 일치 게시글 ID (관련도 내림차순, 최대 PostSearchEngine.MAX_HITS개)
+    private List<Long> keywordMatchedPostIds;
+    // 그 외 정렬: 검색 엔진의 키워드 일치 조건 (DB에서 정렬·페이징), 둘 다 null이면 LIKE 검색
+    private Predicate keywordPredicate;
     private String sortBy;
     private PostStatus status;
     private Integer daysRemaining;
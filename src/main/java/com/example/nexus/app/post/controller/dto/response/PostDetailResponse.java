@@ -126,4 +126,40 @@ public record PostDetailResponse(
                 participationStatus
         );
     }
+
+    /**
+     * 캐시된 정적 본문에 변동 값(상태/카운터/작성자 프로필/사용자별 상태)을 덧씌운 응답 생성
+     */
+    public PostDetailResponse withDynamicState(PostStatus status, Integer likeCount, Long currentViewCount,
+                                               Integer currentParticipants, String creatorProfileUrl,
+                                               Boolean isLiked, Boolean isParticipated,
+                                               ParticipationStatus participationStatus) {
+        return new PostDetailResponse(
+                id,
+                title,
+                serviceSummary,
+                creatorIntroduction,
+                creatorProfileUrl,
+                description,
+                thumbnailUrl,
+                mainCategories,
+                platformCategories,
+                genreCategories,
+                status,
+                qnaMethod,
+                likeCount,
+                currentViewCount != null ? currentViewCount.intValue() : 0,
+                currentParticipants,
+                schedule,
+                requirement,
+                reward,
+                feedback,
+                content,
+                createdAt,
+                createdBy,
+                isLiked,
+                isParticipated,
+                participationStatus
+        );
+    }
 }
@@ -18,7 +18,10 @@ public enum PostSortType {
     DEADLINE("deadline", "마감임박순"),
 
     @Schema(description = "조회수순")
-    VIEW_COUNT("viewCount", "조회수순");
+    VIEW_COUNT("viewCount", "조회수순"),
+
+    @Schema(description = "관련도순 (키워드 검색 시)")
+    RELEVANCE("relevance", "관련도순");
 
     private final String code;
     private final String description;
@@ -0,0 +1,35 @@
+package com.example.nexus.app.post.domain.event;
+
+/**
+ * 게시글 생성/수정/상태 변경/삭제 이벤트
+ * 트랜잭션 커밋 이후 인메모리 인덱스·캐시 동기화에 사용
+ */
+public record PostChangedEvent(Long postId, ChangeType changeType) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    public static PostChangedEvent created(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.CREATED);
+    }
+
+    public static PostChangedEvent updated(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.UPDATED);
+    }
+
+    public static PostChangedEvent statusChanged(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.STATUS_CHANGED);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(postId, ChangeType.DELETED);
+    }
+
+    public boolean isDeleted() {
+        return changeType == ChangeType.DELETED;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.nexus.app.post.domain.scheduler;
+
+import com.example.nexus.app.post.service.LikeCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountFlushScheduler {
+
+    private final LikeCountBuffer likeCountBuffer;
+
+    // 버퍼에 쌓인 좋아요 증감분을 주기적으로 DB에 반영
+    @Scheduled(fixedDelayString = "${like-count.flush-interval:3000}")
+    public void flushLikeCounts() {
+        try {
+            likeCountBuffer.flush();
+        } catch (Exception e) {
+            log.error("좋아요 수 버퍼 반영 중 오류 발생", e);
+        }
+    }
+
+    // 변경된 게시글의 좋아요 수를 post_likes 기준으로 보정
+    @Scheduled(fixedDelayString = "${like-count.reconcile-interval:60000}")
+    public void reconcileChangedLikeCounts() {
+        try {
+            likeCountBuffer.reconcileChanged();
+        } catch (Exception e) {
+            log.error("좋아요 수 보정 중 오류 발생", e);
+        }
+    }
+
+    // 유실된 증감분까지 바로잡도록 전체 게시글의 좋아요 수를 하루 한 번 보정
+    @Scheduled(cron = "${like-count.full-reconcile-cron:0 40 4 * * *}")
+    public void reconcileAllLikeCounts() {
+        try {
+            likeCountBuffer.reconcileAll();
+        } catch (Exception e) {
+            log.error("전체 좋아요 수 보정 중 오류 발생", e);
+        }
+    }
+}
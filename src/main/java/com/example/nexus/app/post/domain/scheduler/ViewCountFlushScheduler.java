@@ -0,0 +1,25 @@
+package com.example.nexus.app.post.domain.scheduler;
+
+import com.example.nexus.app.post.service.ViewCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountFlushScheduler {
+
+    private final ViewCountBuffer viewCountBuffer;
+
+    // 버퍼에 쌓인 조회수를 주기적으로 DB에 반영
+    @Scheduled(fixedDelayString = "${view-count.flush-interval:5000}")
+    public void flushViewCounts() {
+        try {
+            viewCountBuffer.flush();
+        } catch (Exception e) {
+            log.error("조회수 버퍼 반영 중 오류 발생", e);
+        }
+    }
+}
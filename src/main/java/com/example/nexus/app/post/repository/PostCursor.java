@@ -0,0 +1,9 @@
+package com.example.nexus.app.post.repository;
+
+import java.util.List;
+
+/**
+ * 키셋 페이징 커서 - 마지막으로 조회한 게시글의 정렬 키 값과 ID
+ */
+public record PostCursor(List<Object> values, Long id) {
+}
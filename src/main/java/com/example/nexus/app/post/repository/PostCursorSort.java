@@ -0,0 +1,178 @@
+package com.example.nexus.app.post.repository;
+
+import static com.example.nexus.app.post.domain.QPost.post;
+
+import com.example.nexus.app.global.code.status.ErrorStatus;
+import com.example.nexus.app.global.exception.GeneralException;
+import com.example.nexus.app.post.domain.Post;
+import com.example.nexus.app.post.domain.PostSortType;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이징 정렬 정의
+ * 각 정렬은 정렬 키 목록 + 게시글 ID(동점 처리)로 구성되며, 커서에는 마지막 게시글의 키 값이 담긴다.
+ * 게시글 목록(PostSortType)과 전체 랭킹(rankingType) 정렬을 함께 정의한다.
+ */
+public enum PostCursorSort {
+
+    LATEST(Order.DESC,
+            key(post.createdAt, Order.DESC, Post::getCreatedAt)),
+    POPULAR(Order.DESC,
+            key(post.likeCount, Order.DESC, Post::getLikeCount),
+            key(post.createdAt, Order.DESC, Post::getCreatedAt)),
+    DEADLINE(Order.DESC,
+            key(post.schedule.endDate, Order.ASC, PostCursorSort::endDateOf),
+            key(post.createdAt, Order.DESC, Post::getCreatedAt)),
+    VIEW_COUNT(Order.DESC,
+            key(post.viewCount, Order.DESC, Post::getViewCount),
+            key(post.createdAt, Order.DESC, Post::getCreatedAt)),
+
+    RANKING_POPULAR(Order.DESC,
+            key(post.likeCount, Order.DESC, Post::getLikeCount),
+            key(post.viewCount, Order.DESC, Post::getViewCount),
+            key(post.currentParticipants, Order.DESC, Post::getCurrentParticipants),
+            key(post.createdAt, Order.DESC, Post::getCreatedAt)),
+    RANKING_RECENT(Order.DESC,
+            key(post.createdAt, Order.DESC, Post::getCreatedAt)),
+    RANKING_DEADLINE_IMMINENT(Order.ASC,
+            key(post.schedule.endDate, Order.ASC, PostCursorSort::endDateOf)),
+    RANKING_PARTICIPATION_COUNT(Order.DESC,
+            key(post.currentParticipants, Order.DESC, Post::getCurrentParticipants),
+            key(post.createdAt, Order.DESC, Post::getCreatedAt));
+
+    private static final String DELIMITER = "|";
+
+    private final List<SortKey> keys;
+    private final Order idOrder;
+
+    PostCursorSort(Order idOrder, SortKey... keys) {
+        this.idOrder = idOrder;
+        this.keys = List.of(keys);
+    }
+
+    public static PostCursorSort from(PostSortType sortType) {
+        return switch (sortType) {
+            case POPULAR -> POPULAR;
+            case DEADLINE -> DEADLINE;
+            case VIEW_COUNT -> VIEW_COUNT;
+            case LATEST, RELEVANCE -> LATEST;
+        };
+    }
+
+    public static PostCursorSort fromRankingType(String rankingType) {
+        return switch (rankingType) {
+            case "recent" -> RANKING_RECENT;
+            case "deadline_imminent" -> RANKING_DEADLINE_IMMINENT;
+            case "participation_count" -> RANKING_PARTICIPATION_COUNT;
+            default -> RANKING_POPULAR;
+        };
+    }
+
+    public OrderSpecifier<?>[] orderSpecifiers() {
+        List<OrderSpecifier<?>> specifiers = new ArrayList<>();
+        for (SortKey key : keys) {
+            specifiers.add(new OrderSpecifier<>(key.order(), key.expression()));
+        }
+        specifiers.add(new OrderSpecifier<>(idOrder, post.id));
+        return specifiers.toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * 정렬 키가 NULL인 게시글은 키셋 비교가 불가능하므로 커서 조회 대상에서 제외
+     */
+    public Predicate keyNotNullPredicate() {
+        BooleanBuilder builder = new BooleanBuilder();
+        keys.forEach(key -> builder.and(key.expression().isNotNull()));
+        return builder;
+    }
+
+    /**
+     * 커서 이후 행을 찾는 seek 조건
+     * (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ... OR (k1 = v1 AND ... AND id > lastId)
+     */
+    public Predicate seekPredicate(PostCursor cursor) {
+        BooleanBuilder seek = new BooleanBuilder();
+        BooleanBuilder equalPrefix = new BooleanBuilder();
+
+        for (int i = 0; i < keys.size(); i++) {
+            SortKey key = keys.get(i);
+            Object value = cursor.values().get(i);
+            seek.or(new BooleanBuilder(equalPrefix).and(compare(key.expression(), key.order(), value)));
+            equalPrefix.and(Expressions.booleanOperation(Ops.EQ, key.expression(), Expressions.constant(value)));
+        }
+        seek.or(new BooleanBuilder(equalPrefix).and(compare(post.id, idOrder, cursor.id())));
+
+        return seek;
+    }
+
+    public String encode(Post last) {
+        StringBuilder raw = new StringBuilder(name());
+        for (SortKey key : keys) {
+            raw.append(DELIMITER).append(key.extractor().apply(last));
+        }
+        raw.append(DELIMITER).append(last.getId());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != keys.size() + 2 || !parts[0].equals(name())) {
+                throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+            }
+
+            List<Object> values = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                values.add(parseValue(keys.get(i).expression().getType(), parts[i + 1]));
+            }
+            return new PostCursor(values, Long.valueOf(parts[parts.length - 1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+
+    private static Predicate compare(Expression<?> expression, Order order, Object value) {
+        Ops operator = order == Order.ASC ? Ops.GT : Ops.LT;
+        return Expressions.booleanOperation(operator, expression, Expressions.constant(value));
+    }
+
+    private static Object parseValue(Class<?> type, String value) {
+        if (type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        throw new IllegalArgumentException("지원하지 않는 커서 키 타입: " + type);
+    }
+
+    private static LocalDateTime endDateOf(Post post) {
+        return post.getSchedule() != null ? post.getSchedule().getEndDate() : null;
+    }
+
+    private static SortKey key(ComparableExpressionBase<?> expression, Order order,
+                               Function<Post, Object> extractor) {
+        return new SortKey(expression, order, extractor);
+    }
+
+    private record SortKey(ComparableExpressionBase<?> expression, Order order, Function<Post, Object> extractor) {
+    }
+}
@@ -5,6 +5,7 @@ import com.example.nexus.app.post.domain.PostLike;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,6 +22,23 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     void deleteByUserIdAndPostId(Long userId, Long postId);
 
+    /**
+     * 좋아요 추가 (이미 있으면 무시) - 게시글과 사용자가 모두 존재할 때만 삽입되며, 삽입된 행 수를 반환
+     * INSERT IGNORE는 외래 키 오류도 경고로 바꾸므로 존재 여부를 SELECT 조건으로 걸러 0행으로 드러나게 한다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_likes (user_id, post_id, created_at) " +
+            "SELECT u.id, p.id, NOW(6) FROM posts p JOIN users u ON u.id = :userId WHERE p.id = :postId",
+            nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요 삭제 (엔티티 로딩 없이) - 삭제된 행 수를 반환
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id = :postId")
+    int deleteLike(@Param("userId") Long userId, @Param("postId") Long postId);
+
     @Query("SELECT pl FROM PostLike pl " +
             "JOIN FETCH pl.post p " +
             "LEFT JOIN FETCH p.schedule " +
@@ -2,7 +2,9 @@ package com.example.nexus.app.post.repository;
 
 import com.example.nexus.app.post.domain.Post;
 import com.example.nexus.app.post.domain.PostStatus;
+import com.example.nexus.app.post.service.dto.PostDetailState;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -24,6 +26,18 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
             "WHERE p.id = :postId")
     Optional<Post> findByIdWithAllDetails(@Param("postId") Long postId);
 
+    /**
+     * 게시글 상세 변동 값 조회 (상태/카운터/작성자 프로필/사용자 좋아요·참여 상태를 한 번에 조회)
+     * userId가 null이면 사용자별 값은 0/null로 반환된다.
+     */
+    @Query("SELECT new com.example.nexus.app.post.service.dto.PostDetailState(" +
+            "p.status, p.likeCount, p.viewCount, p.currentParticipants, " +
+            "(SELECT u.profileUrl FROM User u WHERE u.id = p.createdBy), " +
+            "(SELECT COUNT(l) FROM PostLike l WHERE l.post.id = p.id AND l.user.id = :userId), " +
+            "(SELECT pa.status FROM Participation pa WHERE pa.post.id = p.id AND pa.user.id = :userId)) " +
+            "FROM Post p WHERE p.id = :postId")
+    Optional<PostDetailState> findDetailStateById(@Param("postId") Long postId, @Param("userId") Long userId);
+
     @Query("SELECT p " +
             "FROM Post p " +
             "LEFT JOIN FETCH p.schedule " +
@@ -105,29 +119,64 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     List<Object[]> getBarChartStatsByPostId(@Param("postId") Long postId);
 
     /**
-     * 조회수 증가 (벌크 업데이트)
+     * 좋아요 수 단건 조회 (엔티티 로딩 없이 컬럼만 조회)
      */
-    @Modifying
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
-    void incrementViewCount(@Param("postId") Long postId);
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findLikeCountById(@Param("postId") Long postId);
 
     /**
-     * 좋아요 수 증가 (벌크 업데이트)
+     * 조회수 단건 조회 (엔티티 로딩 없이 컬럼만 조회)
      */
-    @Modifying
-    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
-    void incrementLikeCount(@Param("postId") Long postId);
+    @Query("SELECT p.viewCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findViewCountById(@Param("postId") Long postId);
 
     /**
-     * 좋아요 수 감소 (벌크 업데이트)
+     * 상태별 조회수 프로젝션 조회 (id 기준 커서 페이징)
      */
-    @Modifying
-    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
-    void decrementLikeCount(@Param("postId") Long postId);
+    @Query("SELECT p.id, p.viewCount FROM Post p WHERE p.status = :status AND p.id > :lastId ORDER BY p.id ASC")
+    List<Object[]> findViewCountsByStatusAfterId(@Param("status") PostStatus status, @Param("lastId") Long lastId,
+                                                 Pageable pageable);
 
     /**
      * 조회수 배치 조회
      */
     @Query("SELECT p.id, p.viewCount FROM Post p WHERE p.id IN :postIds")
     List<Object[]> findViewCountsByPostsIds(@Param("postIds") List<Long> postsIds);
+
+    // 유사 게시글 인덱스용 프로젝션 쿼리
+
+    @Query("SELECT p.id FROM Post p WHERE p.status = :status")
+    List<Long> findIdsByStatus(@Param("status") PostStatus status);
+
+    @Query("SELECT p.id, mc FROM Post p JOIN p.mainCategory mc WHERE p.status = :status")
+    List<Object[]> findMainCategoriesByStatus(@Param("status") PostStatus status);
+
+    @Query("SELECT p.id, gc FROM Post p JOIN p.genreCategories gc WHERE p.status = :status")
+    List<Object[]> findGenreCategoriesByStatus(@Param("status") PostStatus status);
+
+    @Query("SELECT r.post.id FROM PostReward r " +
+            "WHERE r.post.status = :status " +
+            "AND (r.rewardType IS NULL OR r.rewardType <> com.example.nexus.app.reward.domain.RewardType.NONE)")
+    List<Long> findRewardProvidedIdsByStatus(@Param("status") PostStatus status);
+
+    // 인메모리 검색 인덱스용 프로젝션 쿼리
+
+    @Query("SELECT p.id, p.title, p.description, p.status FROM Post p")
+    List<Object[]> findAllSearchableTexts();
+
+    @Query("SELECT p.id, p.title, p.description, p.status FROM Post p WHERE p.id = :postId")
+    List<Object[]> findSearchableTextById(@Param("postId") Long postId);
+
+    /**
+     * 상세 정보 포함 게시글 배치 조회
+     */
+    @Query("SELECT DISTINCT p " +
+            "FROM Post p " +
+            "LEFT JOIN FETCH p.schedule " +
+            "LEFT JOIN FETCH p.requirement " +
+            "LEFT JOIN FETCH p.reward " +
+            "LEFT JOIN FETCH p.feedback " +
+            "LEFT JOIN FETCH p.postContent " +
+            "WHERE p.id IN :postIds")
+    List<Post> findAllWithAllDetailsByIdIn(@Param("postIds") Collection<Long> postIds);
 }
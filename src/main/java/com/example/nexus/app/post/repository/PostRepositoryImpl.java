@@ -9,8 +9,15 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
@@ -27,6 +34,62 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
 
     @Override
     public Page<Post> findPostWithCondition(PostSearchCondition condition, Pageable pageable) {
+        List<Long> matchedPostIds = condition.getKeywordMatchedPostIds();
+        if (matchedPostIds != null && matchedPostIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        BooleanBuilder builder = buildCondition(condition);
+
+        if (matchedPostIds != null && PostSortType.fromCode(condition.getSortBy()) == PostSortType.RELEVANCE) {
+            return findByRelevance(builder, matchedPostIds, pageable);
+        }
+
+        // 정렬 조건
+        OrderSpecifier<?>[] orderSpecifiers = getOrderSpecifiers(condition.getSortBy());
+
+        // 데이터 조회
+        List<Post> content = selectPostWithDetails()
+                .where(builder)
+                .orderBy(orderSpecifiers)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 카운트 쿼리
+        JPAQuery<Long> countQuery = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 커서(키셋) 조회 - OFFSET/카운트 쿼리 없이 커서 이후 limit개 조회
+     */
+    @Override
+    public List<Post> findPostWithConditionByCursor(PostSearchCondition condition, PostCursorSort sort,
+                                                    PostCursor cursor, int limit) {
+        List<Long> matchedPostIds = condition.getKeywordMatchedPostIds();
+        if (matchedPostIds != null && matchedPostIds.isEmpty()) {
+            return List.of();
+        }
+
+        BooleanBuilder builder = buildCondition(condition);
+        builder.and(sort.keyNotNullPredicate());
+        if (cursor != null) {
+            builder.and(sort.seekPredicate(cursor));
+        }
+
+        return selectPostWithDetails()
+                .where(builder)
+                .orderBy(sort.orderSpecifiers())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanBuilder buildCondition(PostSearchCondition condition) {
         BooleanBuilder builder = new BooleanBuilder();
 
         // 기본 조건: ACTIVE
@@ -57,8 +120,12 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
             builder.and(post.genreCategories.contains(condition.getGenreCategory()));
         }
 
-        // 키워드 검색 조건
-        if (condition.getKeyword() != null && !condition.getKeyword().trim().isEmpty()) {
+        // 키워드 검색 조건: 관련도순이면 검색 엔진 결과 ID, 그 외 정렬은 검색 엔진 일치 조건, 둘 다 없으면 LIKE 검색
+        if (condition.getKeywordMatchedPostIds() != null) {
+            builder.and(post.id.in(condition.getKeywordMatchedPostIds()));
+        } else if (condition.getKeywordPredicate() != null) {
+            builder.and(condition.getKeywordPredicate());
+        } else if (condition.getKeyword() != null && !condition.getKeyword().trim().isEmpty()) {
             String keyword = "%" + condition.getKeyword().trim() + "%";
             builder.and(
                     post.title.like(keyword)
@@ -66,30 +133,54 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
             );
         }
 
-        // 정렬 조건
-        OrderSpecifier<?>[] orderSpecifiers = getOrderSpecifiers(condition.getSortBy());
+        return builder;
+    }
 
-        // 데이터 조회
-        List<Post> content = queryFactory
+    /**
+     * 관련도순 조회
+     * 필터를 통과한 ID만 먼저 조회해 검색 엔진 순위대로 정렬한 뒤, 해당 페이지의 게시글만 상세 조회한다.
+     * (검색 엔진이 모집 중 게시글만 최대 PostSearchEngine.MAX_HITS 건 반환하므로 별도 카운트 쿼리 없이 전체 건수를 계산)
+     */
+    private Page<Post> findByRelevance(BooleanBuilder builder, List<Long> rankedPostIds, Pageable pageable) {
+        Set<Long> filteredIds = new HashSet<>(queryFactory
+                .select(post.id)
+                .from(post)
+                .where(builder)
+                .fetch());
+
+        List<Long> orderedIds = rankedPostIds.stream()
+                .filter(filteredIds::contains)
+                .toList();
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), orderedIds.size());
+        List<Long> pageIds = orderedIds.subList(fromIndex, toIndex);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, orderedIds.size());
+        }
+
+        Map<Long, Post> postsById = selectPostWithDetails()
+                .where(post.id.in(pageIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<Post> content = pageIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, orderedIds.size());
+    }
+
+    private JPAQuery<Post> selectPostWithDetails() {
+        return queryFactory
                 .selectFrom(post)
                 .leftJoin(post.schedule).fetchJoin()
                 .leftJoin(post.requirement).fetchJoin()
                 .leftJoin(post.reward).fetchJoin()
                 .leftJoin(post.feedback).fetchJoin()
-                .leftJoin(post.postContent).fetchJoin()
-                .where(builder)
-                .orderBy(orderSpecifiers)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // 카운트 쿼리
-        JPAQuery<Long> countQuery = queryFactory
-                .select(post.count())
-                .from(post)
-                .where(builder);
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+                .leftJoin(post.postContent).fetchJoin();
     }
 
     private OrderSpecifier<?>[] getOrderSpecifiers(String sortBy) {
@@ -108,7 +199,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                     post.viewCount.desc(),
                     post.createdAt.desc()
             };
-            case LATEST -> new OrderSpecifier[]{
+            case LATEST, RELEVANCE -> new OrderSpecifier[]{
                     post.createdAt.desc()
             };
         };
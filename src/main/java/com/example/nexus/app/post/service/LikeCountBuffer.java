@@ -0,0 +1,175 @@
+package com.example.nexus.app.post.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 수 증감 집계 버퍼
+ * 좋아요/취소 시에는 게시글별 LongAdder에 +1/-1만 누적하고(posts 행 잠금 없음),
+ * 주기적으로 순증감분을 UPDATE ... CASE 배치로 posts.like_count에 반영한다.
+ * 좋아요 여부 자체는 post_likes에 즉시 기록되므로, 버퍼는 카운터 반영만 지연시킨다.
+ * 버퍼는 메모리에만 있어 비정상 종료 시 증감분이 유실될 수 있으므로,
+ * 변경된 게시글은 주기적으로, 전체 게시글은 하루 한 번 post_likes의 COUNT(*)로 다시 맞춘다.
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private static final String RECONCILE_RANGE_SQL = "UPDATE posts p " +
+            "LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_likes " +
+            "WHERE post_id > ? AND post_id <= ? GROUP BY post_id) pl ON pl.post_id = p.id " +
+            "SET p.like_count = COALESCE(pl.cnt, 0) " +
+            "WHERE p.id > ? AND p.id <= ? AND p.like_count <> COALESCE(pl.cnt, 0)";
+
+    private static final String CHUNK_END_SQL = "SELECT MAX(id) FROM " +
+            "(SELECT id FROM posts WHERE id > ? ORDER BY id LIMIT ?) chunk";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+    // 마지막 보정 이후 좋아요가 바뀐 게시글
+    private final Set<Long> changedPosts = ConcurrentHashMap.newKeySet();
+
+    public LikeCountBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("post.like_count.pending_posts", this, LikeCountBuffer::getPendingPostCount)
+                .description("DB에 아직 반영되지 않은 좋아요 증감이 있는 게시글 수")
+                .register(meterRegistry);
+    }
+
+    public void add(Long postId, long delta) {
+        pendingDeltas.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+        changedPosts.add(postId);
+    }
+
+    public long getPendingDelta(Long postId) {
+        LongAdder adder = pendingDeltas.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    public long getPendingPostCount() {
+        return pendingDeltas.values().stream()
+                .filter(adder -> adder.sum() != 0)
+                .count();
+    }
+
+    /**
+     * 누적된 증감분을 DB에 반영
+     * 반영에 실패한 증감분은 다음 주기에 다시 시도하도록 버퍼로 되돌린다.
+     */
+    public synchronized void flush() {
+        List<long[]> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < deltas.size(); from += FLUSH_BATCH_SIZE) {
+            List<long[]> chunk = deltas.subList(from, Math.min(from + FLUSH_BATCH_SIZE, deltas.size()));
+            try {
+                updateLikeCounts(chunk);
+            } catch (Exception e) {
+                log.error("좋아요 수 반영 실패, 다음 주기에 재시도: posts={}", chunk.size(), e);
+                chunk.forEach(delta -> add(delta[0], delta[1]));
+            }
+        }
+        log.debug("좋아요 수 반영 완료: posts={}", deltas.size());
+    }
+
+    /**
+     * 변경된 게시글의 좋아요 수를 post_likes 기준으로 다시 계산
+     * 커밋과 버퍼 반영 사이에 재계산되면 한 번 더 더해질 수 있지만, 그 게시글은 다시 변경 목록에 올라 다음 주기에 맞춰진다.
+     */
+    public synchronized void reconcileChanged() {
+        flush();
+        List<Long> postIds = new ArrayList<>();
+        for (Long postId : changedPosts) {
+            if (getPendingDelta(postId) == 0 && changedPosts.remove(postId)) {
+                postIds.add(postId);
+            }
+        }
+
+        for (int from = 0; from < postIds.size(); from += FLUSH_BATCH_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + FLUSH_BATCH_SIZE, postIds.size()));
+            try {
+                recountLikeCounts(chunk);
+            } catch (Exception e) {
+                log.error("좋아요 수 보정 실패, 다음 주기에 재시도: posts={}", chunk.size(), e);
+                changedPosts.addAll(chunk);
+            }
+        }
+        log.debug("좋아요 수 보정 완료: posts={}", postIds.size());
+    }
+
+    /**
+     * 전체 게시글의 좋아요 수를 post_likes 기준으로 다시 계산 (게시글 ID 구간 단위)
+     * 비정상 종료로 유실된 증감분처럼 어느 노드에도 기록이 남지 않은 차이를 바로잡는다.
+     */
+    public void reconcileAll() {
+        flush();
+        long afterId = 0L;
+        int corrected = 0;
+        Long lastId;
+        while ((lastId = jdbcTemplate.queryForObject(CHUNK_END_SQL, Long.class, afterId, RECONCILE_CHUNK_SIZE)) != null) {
+            corrected += jdbcTemplate.update(RECONCILE_RANGE_SQL, afterId, lastId, afterId, lastId);
+            afterId = lastId;
+        }
+        log.info("전체 좋아요 수 보정 완료: corrected={}", corrected);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 좋아요 수 버퍼 반영: pendingPosts={}", getPendingPostCount());
+        flush();
+    }
+
+    // 증감분을 0으로 되돌리며 수집 (엔트리는 제거하지 않아 동시 증감분 유실 방지)
+    private List<long[]> drain() {
+        List<long[]> deltas = new ArrayList<>();
+        pendingDeltas.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.add(new long[]{postId, delta});
+            }
+        });
+        return deltas;
+    }
+
+    private void recountLikeCounts(List<Long> postIds) {
+        String placeholders = String.join(", ", Collections.nCopies(postIds.size(), "?"));
+        jdbcTemplate.update("UPDATE posts p SET p.like_count = " +
+                "(SELECT COUNT(*) FROM post_likes pl WHERE pl.post_id = p.id) " +
+                "WHERE p.id IN (" + placeholders + ")", postIds.toArray());
+    }
+
+    private void updateLikeCounts(List<long[]> deltas) {
+        StringBuilder sql = new StringBuilder("UPDATE posts SET like_count = GREATEST(like_count + CASE id");
+        List<Object> args = new ArrayList<>(deltas.size() * 3);
+
+        for (long[] delta : deltas) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(delta[0]);
+            args.add(delta[1]);
+        }
+        sql.append(" ELSE 0 END, 0) WHERE id IN (");
+        for (int i = 0; i < deltas.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(deltas.get(i)[0]);
+        }
+        sql.append(")");
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
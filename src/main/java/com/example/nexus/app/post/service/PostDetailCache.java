@@ -0,0 +1,59 @@
+package com.example.nexus.app.post.service;
+
+import com.example.nexus.app.post.controller.dto.response.PostDetailResponse;
+import com.example.nexus.app.post.domain.event.PostChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 상세 정적 본문 캐시 (제목/설명/카테고리/일정/조건/리워드/피드백/콘텐츠)
+ * 변경 커밋 후 캐시 항목을 새 버전의 무효화 표시로 바꾼다.
+ * 변경 전에 읽기 시작한 요청은 그보다 낮은 버전을 들고 있어 이전 본문을 다시 넣지 못한다.
+ * 버전은 캐시 항목 안에만 두므로 게시글별 상태가 캐시 크기와 만료를 넘어 쌓이지 않는다.
+ * 카운터/상태처럼 자주 바뀌는 값은 캐시하지 않는다.
+ */
+@Component
+public class PostDetailCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    // 다른 노드에서 발생한 변경은 이벤트가 전달되지 않으므로 만료 시간으로 신선도를 보장
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Cache<Long, VersionedDetail> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+
+    public PostDetailResponse get(Long postId, Supplier<PostDetailResponse> loader) {
+        VersionedDetail cached = cache.getIfPresent(postId);
+        if (cached != null && cached.detail() != null) {
+            return cached.detail();
+        }
+
+        long version = versionSequence.get();
+        PostDetailResponse detail = loader.get();
+        // 읽는 동안 무효화되었으면(더 높은 버전) 읽은 본문은 넣지 않는다
+        cache.asMap().compute(postId, (id, existing) ->
+                existing != null && existing.version() > version ? existing : new VersionedDetail(version, detail));
+        return detail;
+    }
+
+    @TransactionalEventListener
+    public void handlePostChanged(PostChangedEvent event) {
+        invalidate(event.postId());
+    }
+
+    public void invalidate(Long postId) {
+        cache.put(postId, new VersionedDetail(versionSequence.incrementAndGet(), null));
+    }
+
+    // detail이 null이면 무효화 표시
+    private record VersionedDetail(long version, PostDetailResponse detail) {
+    }
+}
@@ -4,7 +4,6 @@ import com.example.nexus.app.global.code.status.ErrorStatus;
 import com.example.nexus.app.global.exception.GeneralException;
 import com.example.nexus.app.post.controller.dto.response.PostDetailResponse;
 import com.example.nexus.app.post.controller.dto.response.PostLikeToggleResponse;
-import com.example.nexus.app.post.domain.Post;
 import com.example.nexus.app.post.domain.PostLike;
 import com.example.nexus.app.post.repository.PostLikeRepository;
 import com.example.nexus.app.post.repository.PostRepository;
@@ -16,6 +15,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Map;
@@ -30,30 +31,49 @@ public class PostLikeService {
     private final UserRepository userRepository;
     private final PostUserStatusService postUserStatusService;
     private final ViewCountService viewCountService;
+    private final LikeCountBuffer likeCountBuffer;
 
+    /**
+     * 좋아요 토글 - 삭제를 먼저 시도하고, 삭제할 좋아요가 없으면 추가
+     * (user_id, post_id) 유니크 제약과 영향 행 수로 상태를 판단하므로 게시글/사용자 엔티티를 로딩하지 않는다.
+     */
     @Transactional
     public PostLikeToggleResponse toggleLike(Long postId, Long userId) {
-        Post post = getPost(postId);
-        User user = getUser(userId);
-
-        boolean isLiked = postLikeRepository.existsByUserIdAndPostId(userId, postId);
-        Long currentCount = post.getLikeCount().longValue();
-
-        if (isLiked) {
-            postLikeRepository.deleteByUserIdAndPostId(userId, postId);
-            postRepository.decrementLikeCount(postId);
-
-            return PostLikeToggleResponse.of(false, currentCount - 1);
-        } else {
-            PostLike postLike = PostLike.builder()
-                    .user(user)
-                    .post(post)
-                    .build();
-            postLikeRepository.save(postLike);
-            postRepository.incrementLikeCount(postId);
-
-            return PostLikeToggleResponse.of(true, currentCount + 1);
+        if (postLikeRepository.deleteLike(userId, postId) > 0) {
+            applyLikeCountDelta(postId, -1);
+            return PostLikeToggleResponse.of(false, getCurrentLikeCount(postId, -1));
         }
+        return like(postId, userId);
+    }
+
+    /**
+     * 좋아요 (멱등) - 이미 좋아요한 경우 상태/개수 변화 없음
+     */
+    @Transactional
+    public PostLikeToggleResponse like(Long postId, Long userId) {
+        int inserted = postLikeRepository.insertIgnore(userId, postId);
+        if (inserted == 0) {
+            // 게시글이나 사용자가 없어도 0행이므로 이미 좋아요한 경우와 구분
+            validatePostExists(postId);
+            validateUserExists(userId);
+            return PostLikeToggleResponse.of(true, getCurrentLikeCount(postId, 0));
+        }
+        applyLikeCountDelta(postId, 1);
+        return PostLikeToggleResponse.of(true, getCurrentLikeCount(postId, 1));
+    }
+
+    /**
+     * 좋아요 취소 (멱등) - 좋아요하지 않은 경우 상태/개수 변화 없음
+     */
+    @Transactional
+    public PostLikeToggleResponse unlike(Long postId, Long userId) {
+        int deleted = postLikeRepository.deleteLike(userId, postId);
+        if (deleted == 0) {
+            validatePostExists(postId);
+            return PostLikeToggleResponse.of(false, getCurrentLikeCount(postId, 0));
+        }
+        applyLikeCountDelta(postId, -1);
+        return PostLikeToggleResponse.of(false, getCurrentLikeCount(postId, -1));
     }
 
     public Page<PostDetailResponse> findUserLike(Long userId, Pageable pageable) {
@@ -76,9 +96,34 @@ public class PostLikeService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
     }
 
-    private Post getPost(Long postId) {
-        return postRepository.findByIdWithAllDetails(postId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.POST_NOT_FOUND));
+    private void validatePostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new GeneralException(ErrorStatus.POST_NOT_FOUND);
+        }
+    }
+
+    private void validateUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
+        }
+    }
+
+    // 커밋된 좋아요 변경만 카운터 버퍼에 반영
+    private void applyLikeCountDelta(Long postId, long delta) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                likeCountBuffer.add(postId, delta);
+            }
+        });
+    }
+
+    // DB 좋아요 수 + 버퍼 누적분 + 이번 요청의 증감분 (커밋 후 버퍼에 반영되기 전이므로 직접 더함)
+    private Long getCurrentLikeCount(Long postId, long delta) {
+        long persistedCount = postRepository.findLikeCountById(postId)
+                .map(Integer::longValue)
+                .orElse(0L);
+        return Math.max(persistedCount + likeCountBuffer.getPendingDelta(postId) + delta, 0L);
     }
 
     private Page<PostDetailResponse> mapPostLikeWithUserStatus(Page<PostLike> likes, Long userId) {
@@ -5,6 +5,7 @@ import com.example.nexus.app.badge.service.BadgeService;
 import com.example.nexus.app.category.domain.GenreCategory;
 import com.example.nexus.app.category.domain.MainCategory;
 import com.example.nexus.app.category.domain.PlatformCategory;
+import com.example.nexus.app.global.code.dto.CursorResponse;
 import com.example.nexus.app.global.code.status.ErrorStatus;
 import com.example.nexus.app.global.exception.GeneralException;
 import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
@@ -24,30 +25,40 @@ import com.example.nexus.app.post.domain.PostContent;
 import com.example.nexus.app.post.domain.PostFeedback;
 import com.example.nexus.app.post.domain.PostRequirement;
 import com.example.nexus.app.post.domain.PostSchedule;
+import com.example.nexus.app.post.domain.PostSortType;
 import com.example.nexus.app.post.domain.PostStatus;
+import com.example.nexus.app.post.domain.event.PostChangedEvent;
 import com.example.nexus.app.post.repository.PostContentRepository;
+import com.example.nexus.app.post.repository.PostCursor;
+import com.example.nexus.app.post.repository.PostCursorSort;
 import com.example.nexus.app.post.repository.PostFeedbackRepository;
 import com.example.nexus.app.post.repository.PostRepository;
 import com.example.nexus.app.post.repository.PostRequirementRepository;
 import com.example.nexus.app.post.repository.PostScheduleRepository;
+import com.example.nexus.app.post.service.dto.PostDetailState;
 import com.example.nexus.app.post.service.dto.PostUserStatus;
+import com.example.nexus.app.post.service.search.PostSearchEngine;
 import com.example.nexus.app.reward.domain.PostReward;
-import com.example.nexus.app.reward.domain.RewardType;
 import com.example.nexus.app.reward.repository.PostRewardRepository;
 import com.example.nexus.app.user.domain.User;
 import com.example.nexus.app.user.repository.UserRepository;
+import com.querydsl.core.types.Predicate;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -56,6 +67,8 @@ import org.springframework.web.multipart.MultipartFile;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final PostScheduleRepository postScheduleRepository;
     private final PostRequirementRepository postRequirementRepository;
@@ -63,42 +76,64 @@ public class PostService {
     private final PostFeedbackRepository postFeedbackRepository;
     private final PostContentRepository postContentRepository;
     private final S3UploadService s3UploadService;
-    private final PostUserStatusService postUserStatusService;
+    private final PostDetailCache postDetailCache;
+    private final LikeCountBuffer likeCountBuffer;
     private final ViewCountService viewCountService;
     private final UserRepository userRepository;
     private final RecentViewedPostService recentViewedPostService;
     private final BadgeService badgeService;
+    private final SimilarPostIndex similarPostIndex;
+    private final PostSearchEngine postSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 이미지 업로드는 트랜잭션 밖에서 먼저 수행 (업로드 동안 DB 커넥션을 점유하지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long createPost(PostCreateRequest request, MultipartFile thumbnailFile, List<MultipartFile> imageFiles, CustomUserDetails userDetails) {
-        Post post = createPostWithThumbnailAndImage(request, thumbnailFile, imageFiles, PostStatus.ACTIVE);
-        Post savedPost = postRepository.save(post);
-        createAndSaveRelatedEntitiesWithImage(request, savedPost, imageFiles);
-
-        // 뱃지 부여 체크 - 플래너 뱃지 (테스트 모집)
-        badgeService.checkAndAwardBadge(userDetails.getUserId(), BadgeConditionType.POST_PUBLISHED);
+        UploadedImages uploaded = uploadImages(thumbnailFile, imageFiles);
+        return executeWithUploadedImages(uploaded, () -> {
+            Post post = createPostWithThumbnail(request, uploaded.thumbnailUrl(), PostStatus.ACTIVE);
+            Post savedPost = postRepository.save(post);
+            createAndSaveRelatedEntitiesWithImage(request, savedPost, uploaded.imageUrls());
+            eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId()));
+
+            // 뱃지 부여 체크 - 플래너 뱃지 (테스트 모집)
+            badgeService.checkAndAwardBadge(userDetails.getUserId(), BadgeConditionType.POST_PUBLISHED);
 
-        return savedPost.getId();
+            return savedPost.getId();
+        });
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long saveDraft(PostCreateRequest request, MultipartFile thumbnailFile, List<MultipartFile> imageFiles, CustomUserDetails userDetails) {
-        Post post = createPostWithThumbnailAndImage(request, thumbnailFile, imageFiles, PostStatus.DRAFT);
-        Post savedPost = postRepository.save(post);
-        createAndSaveRelatedEntitiesWithImage(request, savedPost, imageFiles);
+        UploadedImages uploaded = uploadImages(thumbnailFile, imageFiles);
+        return executeWithUploadedImages(uploaded, () -> {
+            Post post = createPostWithThumbnail(request, uploaded.thumbnailUrl(), PostStatus.DRAFT);
+            Post savedPost = postRepository.save(post);
+            createAndSaveRelatedEntitiesWithImage(request, savedPost, uploaded.imageUrls());
+            eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId()));
 
-        return savedPost.getId();
+            return savedPost.getId();
+        });
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateAndPublishDraft(Long postId, PostUpdateRequest request, MultipartFile thumbnailFile,
                                       List<MultipartFile> imageFiles, CustomUserDetails userDetails) {
+        // 존재/권한/상태 확인을 업로드 전에 먼저 수행 (거절될 요청으로 S3에 파일을 올리지 않음)
+        validateDraft(getPostWithValidation(postId, userDetails.getUserId()));
+        UploadedImages uploaded = uploadImages(thumbnailFile, imageFiles);
+        executeWithUploadedImages(uploaded, () -> {
+            updateAndPublishDraftInTransaction(postId, request, uploaded, userDetails);
+            return null;
+        });
+    }
+
+    private void updateAndPublishDraftInTransaction(Long postId, PostUpdateRequest request, UploadedImages uploaded,
+                                                    CustomUserDetails userDetails) {
         Post post = getPostWithDetail(postId);
         validateOwnership(post, userDetails.getUserId());
-
-        if (!post.isDraft()) {
-            throw new GeneralException(ErrorStatus.POST_NOT_DRAFT);
-        }
+        validateDraft(post);
 
         // Draft를 Active로 변경 전에 상태 확인
         boolean wasDraft = post.isDraft();
@@ -121,9 +156,8 @@ public class PostService {
         if (request.teamMemberCount() != null) {
             post.updateTeamMemberCount(request.teamMemberCount());
         }
-        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            String thumbnailUrl = s3UploadService.uploadFile(thumbnailFile);
-            post.updateThumbnailUrl(thumbnailUrl);
+        if (uploaded.thumbnailUrl() != null) {
+            post.updateThumbnailUrl(uploaded.thumbnailUrl());
         }
 
         if (request.mainCategory() != null) {
@@ -136,10 +170,11 @@ public class PostService {
             post.updateGenreCategories(request.genreCategories());
         }
 
-        updateRelatedEntitiesWithImage(request, post, imageFiles);
+        updateRelatedEntitiesWithImage(request, post, uploaded.imageUrls());
 
         validatePostForPublishing(post);
         post.active();
+        eventPublisher.publishEvent(PostChangedEvent.statusChanged(postId));
 
         // 뱃지 부여 체크 - 플래너 뱃지 (Draft를 Active로 변경하여 테스트 모집)
         if (wasDraft) {
@@ -158,20 +193,28 @@ public class PostService {
 
         validatePostForPublishing(post);
         post.active();
+        eventPublisher.publishEvent(PostChangedEvent.statusChanged(postId));
 
         // 뱃지 부여 체크 - 플래너 뱃지 (Draft를 Active로 변경하여 테스트 모집)
         badgeService.checkAndAwardBadge(userId, BadgeConditionType.POST_PUBLISHED);
     }
 
-    @Transactional
+    /**
+     * 게시글 상세 조회
+     * 변동 값은 한 번의 프로젝션 쿼리로, 정적 본문은 버전 캐시에서 조회 (캐시 미스 시에만 본문 쿼리 1회 추가)
+     * 조회수 증가와 최근 본 게시글 기록은 요청 경로에서 DB 쓰기 없이 처리
+     */
     public PostDetailResponse findPost(Long postId, Long userId, boolean incrementView) {
-        Post post = getPostWithDetail(postId);
+        PostDetailState state = postRepository.findDetailStateById(postId, userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.POST_NOT_FOUND));
+        PostDetailResponse detail = postDetailCache.get(postId,
+                () -> PostDetailResponse.from(getPostWithDetail(postId), null, null, null));
 
-        if (post.isDraft() && !post.isOwner(userId)) {
+        if (state.status() == PostStatus.DRAFT && !detail.createdBy().equals(userId)) {
             throw new GeneralException(ErrorStatus.POST_ACCESS_DENIED);
         }
 
-        if (incrementView && post.isActive()) {
+        if (incrementView && state.status() == PostStatus.ACTIVE) {
             viewCountService.incrementViewCount(postId);
         }
 
@@ -179,15 +222,16 @@ public class PostService {
             recentViewedPostService.saveRecentView(userId, postId);
         }
 
-        PostUserStatus status = postUserStatusService.getPostUserStatus(postId, userId);
-        Long currentViewCount = viewCountService.getTotalViewCount(postId);
+        PostUserStatus status = state.toUserStatus();
+        long persistedViewCount = state.viewCount() != null ? state.viewCount() : 0L;
+        Long currentViewCount = viewCountService.getTotalViewCount(postId, persistedViewCount);
 
-        String creatorProfileUrl = userRepository.findById(post.getCreatedBy())
-                .map(User::getProfileUrl)
-                .orElse(null);
+        int currentLikeCount = (int) Math.max(
+                (state.likeCount() != null ? state.likeCount() : 0) + likeCountBuffer.getPendingDelta(postId), 0);
 
-        return PostDetailResponse.from(post, status.isLiked(), status.isParticipated(), currentViewCount,
-                creatorProfileUrl, status.participationStatus());
+        return detail.withDynamicState(state.status(), currentLikeCount, currentViewCount,
+                state.currentParticipants(), state.creatorProfileUrl(),
+                status.isLiked(), status.isParticipated(), status.participationStatus());
     }
 
 
@@ -209,6 +253,8 @@ public class PostService {
                 .platformCategory(parsePlatformCategory(platformCategory))
                 .genreCategory(parseGenreCategory(genreCategory))
                 .keyword(keyword)
+                .keywordMatchedPostIds(isRelevanceSort(sortBy) ? rankKeyword(keyword) : null)
+                .keywordPredicate(isRelevanceSort(sortBy) ? null : keywordPredicate(keyword))
                 .sortBy(sortBy)
                 .status(PostStatus.ACTIVE)
                 .daysRemaining(daysRemaining)
@@ -218,9 +264,63 @@ public class PostService {
         return posts.map(PostSummaryResponse::from);
     }
 
-    @Transactional
+    public CursorResponse<PostSummaryResponse> findPostsByCursor(String mainCategory, String platformCategory,
+                                                                 String genreCategory, String keyword, String sortBy,
+                                                                 Integer daysRemaining, String cursor, int size) {
+        PostSearchCondition condition = PostSearchCondition.builder()
+                .mainCategory(parseMainCategory(mainCategory))
+                .platformCategory(parsePlatformCategory(platformCategory))
+                .genreCategory(parseGenreCategory(genreCategory))
+                .keyword(keyword)
+                .keywordPredicate(keywordPredicate(keyword))
+                .sortBy(sortBy)
+                .status(PostStatus.ACTIVE)
+                .daysRemaining(daysRemaining)
+                .build();
+
+        // 커서 조회에는 관련도순이 없으므로 (최신순으로 대체) 항상 DB에서 정렬·페이징
+        PostCursorSort sort = PostCursorSort.from(PostSortType.fromCode(sortBy));
+        PostCursor postCursor = cursor != null && !cursor.isBlank() ? sort.decode(cursor) : null;
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        List<Post> posts = postRepository.findPostWithConditionByCursor(condition, sort, postCursor, limit + 1);
+        return CursorResponse.of(posts, limit, PostSummaryResponse::from, sort::encode);
+    }
+
+    private boolean isRelevanceSort(String sortBy) {
+        return PostSortType.fromCode(sortBy) == PostSortType.RELEVANCE;
+    }
+
+    // 검색 엔진이 처리할 수 있는 키워드면 모집 중 게시글 ID를 관련도순으로 (최대 MAX_HITS개), 아니면 null (LIKE 검색)
+    private List<Long> rankKeyword(String keyword) {
+        if (keyword == null || !postSearchEngine.supports(keyword.trim())) {
+            return null;
+        }
+        return postSearchEngine.search(keyword.trim(), PostStatus.ACTIVE, PostSearchEngine.MAX_HITS);
+    }
+
+    // 검색 엔진이 처리할 수 있는 키워드면 목록 쿼리에 더할 일치 조건, 아니면 null (LIKE 검색)
+    private Predicate keywordPredicate(String keyword) {
+        if (keyword == null || !postSearchEngine.supports(keyword.trim())) {
+            return null;
+        }
+        return postSearchEngine.matchPredicate(keyword.trim());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updatePost(Long postId, PostUpdateRequest request, MultipartFile thumbnailFile,
                            List<MultipartFile> imageFiles, CustomUserDetails userDetails) {
+        // 존재/권한 확인을 업로드 전에 먼저 수행 (거절될 요청으로 S3에 파일을 올리지 않음)
+        getPostWithValidation(postId, userDetails.getUserId());
+        UploadedImages uploaded = uploadImages(thumbnailFile, imageFiles);
+        executeWithUploadedImages(uploaded, () -> {
+            updatePostInTransaction(postId, request, uploaded, userDetails);
+            return null;
+        });
+    }
+
+    private void updatePostInTransaction(Long postId, PostUpdateRequest request, UploadedImages uploaded,
+                                         CustomUserDetails userDetails) {
         Post post = getPostWithDetail(postId);
         validateOwnership(post, userDetails.getUserId());
 
@@ -242,9 +342,8 @@ public class PostService {
         if (request.teamMemberCount() != null) {
             post.updateTeamMemberCount(request.teamMemberCount());
         }
-        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            String thumbnailUrl = s3UploadService.uploadFile(thumbnailFile);
-            post.updateThumbnailUrl(thumbnailUrl);
+        if (uploaded.thumbnailUrl() != null) {
+            post.updateThumbnailUrl(uploaded.thumbnailUrl());
         }
 
         if (request.mainCategory() != null) {
@@ -257,7 +356,8 @@ public class PostService {
             post.updateGenreCategories(request.genreCategories());
         }
 
-        updateRelatedEntitiesWithImage(request, post, imageFiles);
+        updateRelatedEntitiesWithImage(request, post, uploaded.imageUrls());
+        eventPublisher.publishEvent(PostChangedEvent.updated(postId));
     }
 
     @Transactional
@@ -267,6 +367,7 @@ public class PostService {
         recentViewedPostService.deleteByPostId(postId);
 
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
     }
 
     public PostScreenerQuestionResponse findQuestions(Long postId) {
@@ -282,7 +383,7 @@ public class PostService {
         return postRequirement;
     }
 
-    private void createAndSaveRelatedEntitiesWithImage(PostCreateRequest request, Post post, List<MultipartFile> imageFiles) {
+    private void createAndSaveRelatedEntitiesWithImage(PostCreateRequest request, Post post, List<String> uploadedImageUrls) {
         PostSchedule schedule = PostSchedule.builder()
                 .post(post)
                 .startDate(request.startDate())
@@ -320,8 +421,6 @@ public class PostService {
                 .build();
         postFeedbackRepository.save(feedback);
 
-        // 이미지 파일들 업로드 처리
-        List<String> uploadedImageUrls = uploadImagesIfPresent(imageFiles);
         List<String> finalMediaUrls = new ArrayList<>();
 
         if (!uploadedImageUrls.isEmpty()) {
@@ -339,12 +438,12 @@ public class PostService {
         postContentRepository.save(content);
     }
 
-    private void updateRelatedEntitiesWithImage(PostUpdateRequest request, Post post, List<MultipartFile> imageFiles) {
+    private void updateRelatedEntitiesWithImage(PostUpdateRequest request, Post post, List<String> uploadedImageUrls) {
         updateSchedule(request, post.getSchedule());
         updateRequirement(request, post.getRequirement());
         updateReward(request, post);
         updateFeedback(request, post.getFeedback());
-        updateContent(request, post.getPostContent(), imageFiles);
+        updateContent(request, post.getPostContent(), uploadedImageUrls);
     }
 
     private void updateSchedule(PostUpdateRequest request, PostSchedule schedule) {
@@ -437,7 +536,7 @@ public class PostService {
         }
     }
 
-    private void updateContent(PostUpdateRequest request, PostContent content, List<MultipartFile> imageFiles) {
+    private void updateContent(PostUpdateRequest request, PostContent content, List<String> uploadedImageUrls) {
         if (content == null) {
             return;
         }
@@ -449,7 +548,6 @@ public class PostService {
             content.updateStoryGuide(request.storyGuide());
         }
 
-        List<String> uploadedImageUrls = uploadImagesIfPresent(imageFiles);
         if (!uploadedImageUrls.isEmpty()) {
             content.updateMediaUrls(uploadedImageUrls);
         } else if (request.mediaUrl() != null) {
@@ -485,6 +583,12 @@ public class PostService {
         }
     }
 
+    private void validateDraft(Post post) {
+        if (!post.isDraft()) {
+            throw new GeneralException(ErrorStatus.POST_NOT_DRAFT);
+        }
+    }
+
     private Post getPost(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.POST_NOT_FOUND));
@@ -528,9 +632,7 @@ public class PostService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.POST_NOT_FOUND));
     }
 
-    private Post createPostWithThumbnailAndImage(PostCreateRequest request, MultipartFile thumbnailFile,
-                                                 List<MultipartFile> imageFiles, PostStatus status) {
-        String thumbnailUrl = uploadThumbnailIfPresent(thumbnailFile, null);
+    private Post createPostWithThumbnail(PostCreateRequest request, String thumbnailUrl, PostStatus status) {
         Post post = (status == PostStatus.DRAFT) ? request.toPostEntity(PostStatus.DRAFT) : request.toPostEntity();
 
         if (thumbnailUrl != null) {
@@ -539,28 +641,51 @@ public class PostService {
         return post;
     }
 
-    private String uploadThumbnailIfPresent(MultipartFile thumbnailFile, String currentThumbnailUrl) {
-        if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-//            기존 이미지 삭제 (선택사항)
-//            if (post.getThumbnailUrl() != null) {
-//                deleteS3Image(post.getThumbnailUrl());
-//            }
-            return s3UploadService.uploadFile(thumbnailFile);
+    /**
+     * 썸네일과 이미지를 한 번에 동시 업로드 (트랜잭션 시작 전에 호출)
+     */
+    private UploadedImages uploadImages(MultipartFile thumbnailFile, List<MultipartFile> imageFiles) {
+        boolean hasThumbnail = thumbnailFile != null && !thumbnailFile.isEmpty();
+
+        List<MultipartFile> files = new ArrayList<>();
+        if (hasThumbnail) {
+            files.add(thumbnailFile);
+        }
+        if (imageFiles != null) {
+            imageFiles.stream()
+                    .filter(imageFile -> imageFile != null && !imageFile.isEmpty())
+                    .forEach(files::add);
+        }
+
+        List<String> uploadedUrls = s3UploadService.uploadFiles(files);
+        if (!hasThumbnail) {
+            return new UploadedImages(null, uploadedUrls);
+        }
+        return new UploadedImages(uploadedUrls.get(0), uploadedUrls.subList(1, uploadedUrls.size()));
+    }
+
+    /**
+     * 업로드된 이미지를 사용하는 DB 작업을 트랜잭션으로 실행
+     * 트랜잭션이 롤백되면(커밋 실패 포함) 참조되지 않게 된 업로드 파일을 삭제한다.
+     */
+    private <T> T executeWithUploadedImages(UploadedImages uploaded, Supplier<T> action) {
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (RuntimeException e) {
+            s3UploadService.deleteFilesQuietly(uploaded.allUrls());
+            throw e;
         }
-        return currentThumbnailUrl;
     }
 
-    private List<String> uploadImagesIfPresent(List<MultipartFile> imageFiles) {
-        List<String> uploadedUrls = new ArrayList<>();
-        if (imageFiles != null && !imageFiles.isEmpty()) {
-            for (MultipartFile imageFile : imageFiles) {
-                if (imageFile != null && !imageFile.isEmpty()) {
-                    String uploadedUrl = s3UploadService.uploadFile(imageFile);
-                    uploadedUrls.add(uploadedUrl);
-                }
+    private record UploadedImages(String thumbnailUrl, List<String> imageUrls) {
+
+        List<String> allUrls() {
+            List<String> urls = new ArrayList<>(imageUrls);
+            if (thumbnailUrl != null) {
+                urls.add(thumbnailUrl);
             }
+            return urls;
         }
-        return uploadedUrls;
     }
 
     public PostMainViewDetailResponse findPostMainViewDetails(Long postId) {
@@ -576,38 +701,31 @@ public class PostService {
     }
 
     public List<SimilarPostResponse> findSimilarPosts(Long postId, int limit) {
-        Post basePost = postRepository.findByIdWithAllDetails(postId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.POST_NOT_FOUND));
-
-        // ACTIVE 상태가 아닌 게시글은 유사 게시글 검색 기준에서 제외
-        if (!basePost.isActive()) {
-            throw new GeneralException(ErrorStatus.POST_ACCESS_DENIED);
-        }
+        if (!similarPostIndex.contains(postId)) {
+            Post basePost = postRepository.findByIdWithAllDetails(postId)
+                    .orElseThrow(() -> new GeneralException(ErrorStatus.POST_NOT_FOUND));
 
-        Set<MainCategory> baseMainCategories = basePost.getMainCategory();
-        Set<GenreCategory> baseGenreCategories = new HashSet<>(basePost.getGenreCategories());
-        boolean baseRewardProvided =
-                basePost.getReward() != null && basePost.getReward().getRewardType() != RewardType.NONE;
+            // ACTIVE 상태가 아닌 게시글은 유사 게시글 검색 기준에서 제외
+            if (!basePost.isActive()) {
+                throw new GeneralException(ErrorStatus.POST_ACCESS_DENIED);
+            }
 
-        List<Post> similarPosts = postRepository.findAll().stream()
-                .filter(post -> !post.getId().equals(postId))
-                .filter(Post::isActive)
-                .filter(post -> {
-                    boolean categoryMatch = !post.getMainCategory().stream().filter(baseMainCategories::contains)
-                            .collect(Collectors.toSet()).isEmpty() ||
-                            !post.getGenreCategories().stream().filter(baseGenreCategories::contains).collect(
-                                    Collectors.toSet()).isEmpty();
+            // 아직 색인되지 않은 활성 게시글은 즉시 색인
+            similarPostIndex.index(basePost);
+        }
 
-                    boolean rewardMatch =
-                            (post.getReward() != null && post.getReward().getRewardType() != RewardType.NONE)
-                                    == baseRewardProvided;
+        List<Long> similarPostIds = similarPostIndex.findSimilarPostIds(postId, limit);
+        if (similarPostIds.isEmpty()) {
+            return List.of();
+        }
 
-                    return categoryMatch && rewardMatch;
-                })
-                .limit(limit)
-                .toList();
+        // 인덱스 순위를 유지하며 한 번의 쿼리로 게시글 조회
+        Map<Long, Post> postsById = postRepository.findAllWithAllDetailsByIdIn(similarPostIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
 
-        return similarPosts.stream()
+        return similarPostIds.stream()
+                .map(postsById::get)
+                .filter(post -> post != null && post.isActive())
                 .map(SimilarPostResponse::from)
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,213 @@
+package com.example.nexus.app.post.service;
+
+import com.example.nexus.app.category.domain.GenreCategory;
+import com.example.nexus.app.category.domain.MainCategory;
+import com.example.nexus.app.post.domain.Post;
+import com.example.nexus.app.post.domain.PostStatus;
+import com.example.nexus.app.post.domain.event.PostChangedEvent;
+import com.example.nexus.app.post.repository.PostRepository;
+import com.example.nexus.app.reward.domain.RewardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 유사 게시글 검색용 인메모리 역색인
+ * 메인 카테고리/장르 카테고리 -> 활성 게시글 ID 목록을 유지하고,
+ * 겹치는 카테고리 수(overlap score)로 상위 N개 게시글 ID를 반환한다.
+ */
+@Slf4j
+@Component
+public class SimilarPostIndex {
+
+    private static final Comparator<Map.Entry<Long, Integer>> RANKING_ORDER =
+            Map.Entry.<Long, Integer>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey());
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, PostSignature> signatures = new ConcurrentHashMap<>();
+    private final Map<MainCategory, Set<Long>> mainCategoryPostings = new EnumMap<>(MainCategory.class);
+    private final Map<GenreCategory, Set<Long>> genreCategoryPostings = new EnumMap<>(GenreCategory.class);
+
+    public SimilarPostIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+        for (MainCategory category : MainCategory.values()) {
+            mainCategoryPostings.put(category, ConcurrentHashMap.newKeySet());
+        }
+        for (GenreCategory category : GenreCategory.values()) {
+            genreCategoryPostings.put(category, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    // 애플리케이션 시작 시 활성 게시글 전체를 프로젝션 쿼리로 색인
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try {
+            Map<Long, Set<MainCategory>> mainCategories = new HashMap<>();
+            Map<Long, Set<GenreCategory>> genreCategories = new HashMap<>();
+
+            for (Object[] row : postRepository.findMainCategoriesByStatus(PostStatus.ACTIVE)) {
+                mainCategories.computeIfAbsent((Long) row[0], id -> EnumSet.noneOf(MainCategory.class))
+                        .add((MainCategory) row[1]);
+            }
+            for (Object[] row : postRepository.findGenreCategoriesByStatus(PostStatus.ACTIVE)) {
+                genreCategories.computeIfAbsent((Long) row[0], id -> EnumSet.noneOf(GenreCategory.class))
+                        .add((GenreCategory) row[1]);
+            }
+            Set<Long> rewardProvided = new HashSet<>(postRepository.findRewardProvidedIdsByStatus(PostStatus.ACTIVE));
+
+            List<Long> activePostIds = postRepository.findIdsByStatus(PostStatus.ACTIVE);
+            synchronized (this) {
+                clear();
+                for (Long postId : activePostIds) {
+                    put(postId,
+                            mainCategories.getOrDefault(postId, Collections.emptySet()),
+                            genreCategories.getOrDefault(postId, Collections.emptySet()),
+                            rewardProvided.contains(postId));
+                }
+            }
+            log.info("유사 게시글 인덱스 구축 완료: {}건", activePostIds.size());
+        } catch (Exception e) {
+            log.error("유사 게시글 인덱스 구축 실패", e);
+        }
+    }
+
+    // 게시글 변경이 커밋된 이후 해당 게시글만 재색인
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handlePostChanged(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.postId());
+            return;
+        }
+
+        postRepository.findById(event.postId())
+                .ifPresentOrElse(this::index, () -> remove(event.postId()));
+    }
+
+    public void index(Post post) {
+        if (!post.isActive()) {
+            remove(post.getId());
+            return;
+        }
+
+        boolean rewardProvided = post.getReward() != null && post.getReward().getRewardType() != RewardType.NONE;
+        put(post.getId(), post.getMainCategory(), new HashSet<>(post.getGenreCategories()), rewardProvided);
+    }
+
+    public synchronized void put(Long postId, Set<MainCategory> mainCategories,
+                                 Set<GenreCategory> genreCategories, boolean rewardProvided) {
+        removePostings(postId);
+
+        PostSignature signature = new PostSignature(
+                mainCategories == null || mainCategories.isEmpty()
+                        ? EnumSet.noneOf(MainCategory.class) : EnumSet.copyOf(mainCategories),
+                genreCategories == null || genreCategories.isEmpty()
+                        ? EnumSet.noneOf(GenreCategory.class) : EnumSet.copyOf(genreCategories),
+                rewardProvided
+        );
+        signature.mainCategories().forEach(category -> mainCategoryPostings.get(category).add(postId));
+        signature.genreCategories().forEach(category -> genreCategoryPostings.get(category).add(postId));
+        signatures.put(postId, signature);
+    }
+
+    public synchronized void remove(Long postId) {
+        removePostings(postId);
+    }
+
+    public boolean contains(Long postId) {
+        return signatures.containsKey(postId);
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    /**
+     * 기준 게시글과 카테고리가 하나 이상 겹치고 리워드 제공 여부가 같은 게시글 ID를
+     * 겹치는 카테고리 수 내림차순(동점 시 최신 게시글 우선)으로 최대 limit개 반환
+     */
+    public List<Long> findSimilarPostIds(Long postId, int limit) {
+        PostSignature base = signatures.get(postId);
+        if (base == null || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Integer> scores = new HashMap<>();
+        for (MainCategory category : base.mainCategories()) {
+            for (Long candidateId : mainCategoryPostings.get(category)) {
+                scores.merge(candidateId, 1, Integer::sum);
+            }
+        }
+        for (GenreCategory category : base.genreCategories()) {
+            for (Long candidateId : genreCategoryPostings.get(category)) {
+                scores.merge(candidateId, 1, Integer::sum);
+            }
+        }
+
+        // 점수가 가장 낮은 후보를 바로 버릴 수 있도록 크기 limit의 최소 힙 유지
+        PriorityQueue<Map.Entry<Long, Integer>> topN = new PriorityQueue<>(limit + 1, RANKING_ORDER);
+        for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+            Long candidateId = entry.getKey();
+            if (candidateId.equals(postId)) {
+                continue;
+            }
+            PostSignature candidate = signatures.get(candidateId);
+            if (candidate == null || candidate.rewardProvided() != base.rewardProvided()) {
+                continue;
+            }
+
+            topN.offer(entry);
+            if (topN.size() > limit) {
+                topN.poll();
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(topN.size());
+        while (!topN.isEmpty()) {
+            ranked.add(topN.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    private void removePostings(Long postId) {
+        PostSignature previous = signatures.remove(postId);
+        if (previous == null) {
+            return;
+        }
+        previous.mainCategories().forEach(category -> mainCategoryPostings.get(category).remove(postId));
+        previous.genreCategories().forEach(category -> genreCategoryPostings.get(category).remove(postId));
+    }
+
+    private void clear() {
+        signatures.clear();
+        mainCategoryPostings.values().forEach(Set::clear);
+        genreCategoryPostings.values().forEach(Set::clear);
+    }
+
+    private record PostSignature(
+            Set<MainCategory> mainCategories,
+            Set<GenreCategory> genreCategories,
+            boolean rewardProvided
+    ) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.nexus.app.post.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수 쓰기 지연 버퍼
+ * 상세 조회 시에는 게시글별 LongAdder만 증가시키고(락 없음),
+ * 주기적으로 누적분을 UPDATE ... CASE 배치로 posts.view_count에 반영한다.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("post.view_count.pending", this, ViewCountBuffer::getTotalPendingCount)
+                .description("DB에 아직 반영되지 않은 조회수 누적분")
+                .register(meterRegistry);
+    }
+
+    public void increment(Long postId) {
+        pendingCounts.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    public long getPendingCount(Long postId) {
+        LongAdder adder = pendingCounts.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    public long getTotalPendingCount() {
+        return pendingCounts.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     * 반영에 실패한 누적분은 다음 주기에 다시 시도하도록 버퍼로 되돌린다.
+     */
+    public synchronized void flush() {
+        List<long[]> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < deltas.size(); from += FLUSH_BATCH_SIZE) {
+            List<long[]> chunk = deltas.subList(from, Math.min(from + FLUSH_BATCH_SIZE, deltas.size()));
+            try {
+                updateViewCounts(chunk);
+            } catch (Exception e) {
+                log.error("조회수 반영 실패, 다음 주기에 재시도: posts={}", chunk.size(), e);
+                chunk.forEach(delta -> pendingCounts.computeIfAbsent(delta[0], id -> new LongAdder()).add(delta[1]));
+            }
+        }
+        log.debug("조회수 반영 완료: posts={}", deltas.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 조회수 버퍼 반영: pending={}", getTotalPendingCount());
+        flush();
+    }
+
+    // 증가분을 0으로 되돌리며 수집 (수집 이후의 증가는 다음 주기에 반영)
+    // 동시 증가분 유실을 막기 위해 엔트리는 제거하지 않는다 (최대 게시글 수만큼만 유지됨)
+    private List<long[]> drain() {
+        List<long[]> deltas = new ArrayList<>();
+        pendingCounts.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.add(new long[]{postId, delta});
+            }
+        });
+        return deltas;
+    }
+
+    private void updateViewCounts(List<long[]> deltas) {
+        StringBuilder sql = new StringBuilder("UPDATE posts SET view_count = view_count + CASE id");
+        List<Object> args = new ArrayList<>(deltas.size() * 3);
+
+        for (long[] delta : deltas) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(delta[0]);
+            args.add(delta[1]);
+        }
+        sql.append(" ELSE 0 END WHERE id IN (");
+        for (int i = 0; i < deltas.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(deltas.get(i)[0]);
+        }
+        sql.append(")");
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -22,24 +22,26 @@ public class ViewCountService {
 
     private final StringRedisTemplate stringRedisTemplate;
     private final PostRepository postRepository;
+    private final ViewCountBuffer viewCountBuffer;
 
     private static final String DAILY_VIEW_PREFIX = "view:daily:";
 
-    // 실시간 조회수 증가 - DB 직접 업데이트
-    @Transactional
+    // 실시간 조회수 증가 - 버퍼에 누적 후 주기적으로 DB 반영
     public void incrementViewCount(Long postId) {
-        try {
-            postRepository.incrementViewCount(postId);
-        } catch (Exception e) {
-            log.error("DB 조회수 증가 실패: postId={}", postId, e);
-        }
+        viewCountBuffer.increment(postId);
     }
 
-    // 현재 조회수 - DB에서 직접 조회
+    // 현재 조회수 - DB 값 + 아직 반영되지 않은 버퍼 누적분
     public Long getTotalViewCount(Long postId) {
-        return postRepository.findById(postId)
-                .map(post -> post.getViewCount().longValue())
+        Long persistedCount = postRepository.findViewCountById(postId)
+                .map(Integer::longValue)
                 .orElse(0L);
+        return getTotalViewCount(postId, persistedCount);
+    }
+
+    // 이미 조회한 DB 조회수에 버퍼 누적분만 더함 (추가 쿼리 없음)
+    public Long getTotalViewCount(Long postId, long persistedCount) {
+        return persistedCount + viewCountBuffer.getPendingCount(postId);
     }
 
     // 어제 조회수 - Redis에서 조회
@@ -60,24 +62,27 @@ public class ViewCountService {
         List<Long> weeklyViews = new ArrayList<>();
         LocalDate today = LocalDate.now();
 
-        // 7일간 데이터 수집 (6일 전부터 오늘까지)
-        for (int i = 6; i >= 0; i--) {
-            LocalDate targetDate = today.minusDays(i);
-            Long cumulativeCount;
-
-            if (i == 0) {
-                // 오늘: DB에서 현재 누적 조회수 조회
-                cumulativeCount = getTotalViewCount(postId);
-            } else {
-                // 과거: Redis에서 해당 날짜의 누적 조회수 조회
-                String dailyKey = DAILY_VIEW_PREFIX + postId + ":" + targetDate.toString();
-                String value = stringRedisTemplate.opsForValue().get(dailyKey);
-                cumulativeCount = value != null ? Long.parseLong(value) : 0L;
-            }
-
-            weeklyViews.add(cumulativeCount);
+        // 과거 6일: Redis에서 날짜별 누적 조회수를 한 번에 조회 (6일 전부터 어제까지)
+        List<String> dailyKeys = new ArrayList<>();
+        for (int i = 6; i >= 1; i--) {
+            dailyKeys.add(DAILY_VIEW_PREFIX + postId + ":" + today.minusDays(i));
+        }
+
+        List<String> values = null;
+        try {
+            values = stringRedisTemplate.opsForValue().multiGet(dailyKeys);
+        } catch (Exception e) {
+            log.error("주간 조회수 조회 실패: postId={}", postId, e);
+        }
+
+        for (int i = 0; i < dailyKeys.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            weeklyViews.add(value != null ? Long.parseLong(value) : 0L);
         }
 
+        // 오늘: 현재 누적 조회수
+        weeklyViews.add(getTotalViewCount(postId));
+
         return weeklyViews;
     }
 
@@ -85,7 +90,7 @@ public class ViewCountService {
         return postRepository.findViewCountsByPostsIds(postIds).stream()
                 .collect(Collectors.toMap(
                         row -> (Long) row[0],
-                        row -> ((Number) row[1]).longValue()
+                        row -> ((Number) row[1]).longValue() + viewCountBuffer.getPendingCount((Long) row[0])
                 ));
     }
 }
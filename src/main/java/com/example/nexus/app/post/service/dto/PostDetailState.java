@@ -0,0 +1,25 @@
+package com.example.nexus.app.post.service.dto;
+
+import com.example.nexus.app.participation.domain.ParticipationStatus;
+import com.example.nexus.app.post.domain.PostStatus;
+
+/**
+ * 게시글 상세의 변동 값 (상태/카운터/작성자 프로필/사용자별 상태) - 한 번의 프로젝션 쿼리로 조회
+ */
+public record PostDetailState(
+        PostStatus status,
+        Integer likeCount,
+        Integer viewCount,
+        Integer currentParticipants,
+        String creatorProfileUrl,
+        Long likedCount,
+        ParticipationStatus participationStatus
+) {
+    public PostUserStatus toUserStatus() {
+        return new PostUserStatus(
+                likedCount != null && likedCount > 0,
+                participationStatus == ParticipationStatus.APPROVED,
+                participationStatus
+        );
+    }
+}
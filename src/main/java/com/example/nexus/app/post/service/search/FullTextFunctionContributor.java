@@ -0,0 +1,21 @@
+package com.example.nexus.app.post.service.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL에서 MySQL FULLTEXT 검색을 쓰기 위한 함수 등록
+ * match_against(title, description, booleanQuery)는 MATCH(title, description) AGAINST (? IN BOOLEAN MODE)로 변환된다.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(MATCH_AGAINST,
+                "match(?1, ?2) against (?3 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
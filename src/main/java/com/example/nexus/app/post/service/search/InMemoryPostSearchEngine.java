@@ -0,0 +1,191 @@
+package com.example.nexus.app.post.service.search;
+
+import static com.example.nexus.app.post.domain.QPost.post;
+
+import com.example.nexus.app.post.domain.PostStatus;
+import com.example.nexus.app.post.domain.event.PostChangedEvent;
+import com.example.nexus.app.post.repository.PostRepository;
+import com.querydsl.core.types.Predicate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로세스 내 역색인 기반 게시글 검색 (테스트/로컬용)
+ * MySQL ngram parser와 같이 2-gram 단위로 색인하며, 검색어의 모든 토큰을 포함한 게시글을
+ * TF-IDF 점수(제목 가중치 적용) 내림차순으로 반환한다.
+ * DB 쿼리에 넣을 수 있는 색인이 아니므로, 관련도순 외 정렬에서는 일치 게시글 ID 전체를 ID 조건으로 넘긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "memory")
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+
+    private static final int NGRAM_SIZE = 2;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final PostRepository postRepository;
+
+    // token -> (postId -> 가중치 적용 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> documentTokens = new ConcurrentHashMap<>();
+    private final Map<Long, PostStatus> documentStatuses = new ConcurrentHashMap<>();
+
+    public InMemoryPostSearchEngine(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Object[]> rows = postRepository.findAllSearchableTexts();
+        rows.forEach(row -> index((Long) row[0], (String) row[1], (String) row[2], (PostStatus) row[3]));
+        log.info("게시글 검색 인덱스 구축 완료: {}건", rows.size());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handlePostChanged(PostChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.postId());
+            return;
+        }
+
+        List<Object[]> rows = postRepository.findSearchableTextById(event.postId());
+        if (rows.isEmpty()) {
+            remove(event.postId());
+            return;
+        }
+        Object[] row = rows.get(0);
+        index((Long) row[0], (String) row[1], (String) row[2], (PostStatus) row[3]);
+    }
+
+    public synchronized void index(Long postId, String title, String description, PostStatus status) {
+        removePostings(postId);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(title).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        tokenize(description).forEach(token -> frequencies.merge(token, DESCRIPTION_WEIGHT, Integer::sum));
+
+        frequencies.forEach((token, frequency) ->
+                postings.computeIfAbsent(token, key -> new ConcurrentHashMap<>()).put(postId, frequency));
+        documentTokens.put(postId, frequencies.keySet());
+        documentStatuses.put(postId, status);
+    }
+
+    public synchronized void remove(Long postId) {
+        removePostings(postId);
+    }
+
+    @Override
+    public boolean supports(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return false;
+        }
+        for (String term : keyword.trim().split("\\s+")) {
+            if (term.length() < NGRAM_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<Long> search(String keyword, PostStatus status, int maxHits) {
+        return score(keyword).entrySet().stream()
+                .filter(entry -> documentStatuses.get(entry.getKey()) == status)
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(maxHits)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public Predicate matchPredicate(String keyword) {
+        return post.id.in(score(keyword).keySet());
+    }
+
+    // 검색어의 모든 토큰을 포함한 게시글별 점수
+    private Map<Long, Double> score(String keyword) {
+        List<String> queryTokens = tokenize(keyword).stream().distinct().toList();
+        if (queryTokens.isEmpty()) {
+            return Map.of();
+        }
+
+        // 가장 희소한 토큰의 게시글부터 후보로 삼아 나머지 토큰을 모두 포함하는지 확인
+        List<Map<Long, Integer>> tokenPostings = new ArrayList<>();
+        for (String token : queryTokens) {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting == null || posting.isEmpty()) {
+                return Map.of();
+            }
+            tokenPostings.add(posting);
+        }
+        tokenPostings.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        int documentCount = Math.max(documentTokens.size(), 1);
+        Map<Long, Double> scores = new HashMap<>();
+        candidates:
+        for (Long postId : tokenPostings.get(0).keySet()) {
+            double score = 0;
+            for (Map<Long, Integer> posting : tokenPostings) {
+                Integer frequency = posting.get(postId);
+                if (frequency == null) {
+                    continue candidates;
+                }
+                score += frequency * Math.log(1.0 + (double) documentCount / posting.size());
+            }
+            scores.put(postId, score);
+        }
+        return scores;
+    }
+
+    private void removePostings(Long postId) {
+        documentStatuses.remove(postId);
+        Set<String> tokens = documentTokens.remove(postId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(postId);
+            }
+        }
+    }
+
+    // 공백/구두점으로 단어를 나눈 뒤 2-gram 토큰으로 분해 (2글자 이하 단어는 그대로 사용)
+    private List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.length() <= NGRAM_SIZE) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + NGRAM_SIZE <= word.length(); i++) {
+                tokens.add(word.substring(i, i + NGRAM_SIZE));
+            }
+        }
+        return tokens;
+    }
+}
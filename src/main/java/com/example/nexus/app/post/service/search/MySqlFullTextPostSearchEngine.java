@@ -0,0 +1,99 @@
+package com.example.nexus.app.post.service.search;
+
+import static com.example.nexus.app.post.domain.QPost.post;
+
+import com.example.nexus.app.post.domain.PostStatus;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 기반 게시글 검색
+ * 색인은 MySQL이 INSERT/UPDATE 시 자동으로 갱신하므로 별도 동기화가 필요 없다.
+ * 관련도순 외 정렬은 목록 쿼리의 WHERE에 MATCH 조건을 넣어 DB가 정렬·페이징한다 ({@link FullTextFunctionContributor}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "mysql", matchIfMissing = true)
+public class MySqlFullTextPostSearchEngine implements PostSearchEngine {
+
+    private static final String INDEX_NAME = "ft_posts_title_description";
+    // ngram_token_size 기본값(2)보다 짧은 검색어는 FULLTEXT로 찾을 수 없음
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final String MATCH_EXPRESSION = "MATCH(title, description) AGAINST (? IN BOOLEAN MODE)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean indexReady = false;
+
+    // ddl-auto로는 FULLTEXT 인덱스가 생성되지 않으므로 시작 시 확인 후 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureFullTextIndex() {
+        try {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+
+            if (count == null || count == 0) {
+                log.info("게시글 FULLTEXT 인덱스 생성 시작: {}", INDEX_NAME);
+                jdbcTemplate.execute("ALTER TABLE posts ADD FULLTEXT INDEX " + INDEX_NAME +
+                        " (title, description) WITH PARSER ngram");
+            }
+            indexReady = true;
+        } catch (Exception e) {
+            log.error("게시글 FULLTEXT 인덱스 준비 실패, LIKE 검색으로 대체합니다.", e);
+        }
+    }
+
+    @Override
+    public boolean supports(String keyword) {
+        return indexReady && toBooleanQuery(keyword) != null;
+    }
+
+    @Override
+    public List<Long> search(String keyword, PostStatus status, int maxHits) {
+        String booleanQuery = toBooleanQuery(keyword);
+        if (booleanQuery == null) {
+            return List.of();
+        }
+
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM posts WHERE " + MATCH_EXPRESSION + " AND status = ?" +
+                        " ORDER BY " + MATCH_EXPRESSION + " DESC, id DESC LIMIT ?",
+                Long.class, booleanQuery, status.name(), booleanQuery, maxHits);
+    }
+
+    @Override
+    public Predicate matchPredicate(String keyword) {
+        return Expressions.numberTemplate(Double.class,
+                "function('" + FullTextFunctionContributor.MATCH_AGAINST + "', {0}, {1}, {2})",
+                post.title, post.description, Expressions.constant(toBooleanQuery(keyword))).gt(0.0);
+    }
+
+    // 공백으로 구분된 각 검색어를 필수 구문(+"term")으로 변환, 처리할 수 없는 검색어가 있으면 null
+    private String toBooleanQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String rawTerm : keyword.trim().split("\\s+")) {
+            String term = rawTerm.replaceAll("[+\\-<>()~*\"@]", "");
+            if (term.length() < MIN_TERM_LENGTH) {
+                return null;
+            }
+            terms.add("+\"" + term + "\"");
+        }
+        return String.join(" ", terms);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.nexus.app.post.service.search;
+
+import com.example.nexus.app.post.domain.PostStatus;
+import com.querydsl.core.types.Predicate;
+import java.util.List;
+
+/**
+ * 게시글 키워드 검색 백엔드
+ * - 관련도순 정렬: 해당 상태의 일치 게시글 ID를 관련도 순으로 최대 MAX_HITS개 제공한다.
+ * - 그 외 정렬/커서 조회: 키워드 일치 조건을 목록 쿼리에 더해 DB에서 정렬·페이징한다 (건수 제한 없음).
+ */
+public interface PostSearchEngine {
+
+    int MAX_HITS = 1000;
+
+    /**
+     * 해당 키워드를 이 검색 백엔드로 처리할 수 있는지 여부
+     * false인 경우 호출자는 LIKE 검색으로 대체한다.
+     */
+    boolean supports(String keyword);
+
+    /**
+     * 키워드와 일치하는 해당 상태의 게시글 ID를 관련도 내림차순으로 최대 maxHits개 반환
+     */
+    List<Long> search(String keyword, PostStatus status, int maxHits);
+
+    /**
+     * 목록 쿼리에 더할 키워드 일치 조건 (QPost 기준)
+     */
+    Predicate matchPredicate(String keyword);
+}
@@ -1,6 +1,7 @@
 package com.example.nexus.app.ranking.controller;
 
 import com.example.nexus.app.global.code.dto.ApiResponse;
+import com.example.nexus.app.global.code.dto.CursorResponse;
 import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
 import com.example.nexus.app.ranking.dto.FullRankingResponse;
 import com.example.nexus.app.ranking.dto.HomeRankingResponse;
@@ -52,4 +53,28 @@ public class RankingController {
         FullRankingResponse response = rankingService.getFullRanking(rankingType, mainCategory, platformCategory, pageable);
         return ApiResponse.onSuccess(response);
     }
+
+    @Operation(summary = "전체보기 랭킹 커서 조회", description = "커서 기반으로 전체 랭킹을 조회합니다. " +
+            "응답의 nextCursor를 다음 요청의 cursor로 전달하며, 전체 개수는 제공하지 않습니다.")
+    @GetMapping("/ranking/cursor")
+    public ApiResponse<CursorResponse<FullRankingResponse.RankingItem>> getFullRankingByCursor(
+            @Parameter(description = "랭킹 타입 (popular, recent, deadline_imminent, participation_count)")
+            @RequestParam(defaultValue = "popular") String rankingType,
+
+            @Parameter(description = "메인 카테고리 (WEB, APP, GAME, ETC)")
+            @RequestParam(required = false) String mainCategory,
+
+            @Parameter(description = "플랫폼 카테고리")
+            @RequestParam(required = false) String platformCategory,
+
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "조회 개수 (최대 100)")
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorResponse<FullRankingResponse.RankingItem> response = rankingService.getFullRankingByCursor(
+                rankingType, mainCategory, platformCategory, cursor, size);
+        return ApiResponse.onSuccess(response);
+    }
 }
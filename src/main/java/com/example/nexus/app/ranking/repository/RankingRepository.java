@@ -15,13 +15,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
-public interface RankingRepository extends JpaRepository<Post, Long> {
+public interface RankingRepository extends JpaRepository<Post, Long>, RankingRepositoryCustom {
 
-    // 홈 화면용 랭킹 쿼리 (4개)
+    // 홈 화면용 랭킹 쿼리 (4개) - 랭킹 스냅샷 계산용으로 ID만 조회
     
     // 오늘의 추천 (인기순 + 최신순 + 가나다순)
-    @Query("SELECT p FROM Post p WHERE p.status = :status ORDER BY p.likeCount DESC, p.viewCount DESC, p.createdAt DESC, p.title ASC")
-    List<Post> findTodayRecommendations(@Param("status") PostStatus status, Pageable pageable);
+    @Query("SELECT p.id FROM Post p WHERE p.status = :status ORDER BY p.likeCount DESC, p.viewCount DESC, p.createdAt DESC, p.title ASC")
+    List<Long> findTodayRecommendationIds(@Param("status") PostStatus status, Pageable pageable);
 
     // 개인화 추천 (사용자 관심사 기반 + 마감일 적게 남은 순 + 가나다순)
     @Query("SELECT p FROM Post p JOIN p.schedule s WHERE p.status = :status " +
@@ -36,16 +36,36 @@ public interface RankingRepository extends JpaRepository<Post, Long> {
                                               Pageable pageable);
 
     // 마감 임박 (7일) - PostSchedule과 JOIN + 가나다순
-    @Query("SELECT p FROM Post p JOIN p.schedule s WHERE p.status = :status AND s.endDate <= :deadline ORDER BY s.endDate ASC, p.title ASC")
-    List<Post> findDeadlineImminentForHome(@Param("status") PostStatus status, @Param("deadline") LocalDateTime deadline, Pageable pageable);
+    @Query("SELECT p.id FROM Post p JOIN p.schedule s WHERE p.status = :status AND s.endDate <= :deadline ORDER BY s.endDate ASC, p.title ASC")
+    List<Long> findDeadlineImminentIdsForHome(@Param("status") PostStatus status, @Param("deadline") LocalDateTime deadline, Pageable pageable);
 
     // 인기있는 테스트 + 가나다순
-    @Query("SELECT p FROM Post p WHERE p.status = :status ORDER BY p.likeCount DESC, p.viewCount DESC, p.title ASC")
-    List<Post> findPopularForHome(@Param("status") PostStatus status, Pageable pageable);
+    @Query("SELECT p.id FROM Post p WHERE p.status = :status ORDER BY p.likeCount DESC, p.viewCount DESC, p.title ASC")
+    List<Long> findPopularIdsForHome(@Param("status") PostStatus status, Pageable pageable);
 
     // 방금 등록한 테스트 (최신순 + 가나다순)
-    @Query("SELECT p FROM Post p WHERE p.status = :status ORDER BY p.createdAt DESC, p.title ASC")
-    List<Post> findRecentTestsForHome(@Param("status") PostStatus status, Pageable pageable);
+    @Query("SELECT p.id FROM Post p WHERE p.status = :status ORDER BY p.createdAt DESC, p.title ASC")
+    List<Long> findRecentTestIdsForHome(@Param("status") PostStatus status, Pageable pageable);
+
+    // 개인화 추천 후보 - 카테고리별 마감일 적게 남은 순 + 가나다순 상위 ID
+
+    @Query("SELECT p.id FROM Post p JOIN p.schedule s WHERE p.status = :status " +
+           "AND :mainCategory MEMBER OF p.mainCategory ORDER BY s.endDate ASC, p.title ASC")
+    List<Long> findDeadlineOrderedIdsByMainCategory(@Param("status") PostStatus status,
+                                                    @Param("mainCategory") MainCategory mainCategory,
+                                                    Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p JOIN p.schedule s WHERE p.status = :status " +
+           "AND :platformCategory MEMBER OF p.platformCategory ORDER BY s.endDate ASC, p.title ASC")
+    List<Long> findDeadlineOrderedIdsByPlatformCategory(@Param("status") PostStatus status,
+                                                        @Param("platformCategory") PlatformCategory platformCategory,
+                                                        Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p JOIN p.schedule s WHERE p.status = :status " +
+           "AND :genreCategory MEMBER OF p.genreCategories ORDER BY s.endDate ASC, p.title ASC")
+    List<Long> findDeadlineOrderedIdsByGenreCategory(@Param("status") PostStatus status,
+                                                     @Param("genreCategory") GenreCategory genreCategory,
+                                                     Pageable pageable);
 
     // 전체보기용 랭킹 쿼리
     
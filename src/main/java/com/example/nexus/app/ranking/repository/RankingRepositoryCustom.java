@@ -0,0 +1,16 @@
+package com.example.nexus.app.ranking.repository;
+
+import com.example.nexus.app.category.domain.MainCategory;
+import com.example.nexus.app.category.domain.PlatformCategory;
+import com.example.nexus.app.post.domain.Post;
+import com.example.nexus.app.post.domain.PostStatus;
+import com.example.nexus.app.post.repository.PostCursor;
+import com.example.nexus.app.post.repository.PostCursorSort;
+import java.util.List;
+
+public interface RankingRepositoryCustom {
+
+    List<Post> findRankedPostsByCursor(PostStatus status, MainCategory mainCategory,
+                                       PlatformCategory platformCategory, PostCursorSort sort,
+                                       PostCursor cursor, int limit);
+}
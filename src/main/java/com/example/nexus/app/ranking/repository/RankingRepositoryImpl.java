@@ -0,0 +1,55 @@
+package com.example.nexus.app.ranking.repository;
+
+import static com.example.nexus.app.post.domain.QPost.post;
+
+import com.example.nexus.app.category.domain.MainCategory;
+import com.example.nexus.app.category.domain.PlatformCategory;
+import com.example.nexus.app.post.domain.Post;
+import com.example.nexus.app.post.domain.PostStatus;
+import com.example.nexus.app.post.repository.PostCursor;
+import com.example.nexus.app.post.repository.PostCursorSort;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RankingRepositoryImpl implements RankingRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 전체보기 랭킹 커서 조회 - 정렬 키 seek 조건으로 다음 limit개 조회 (카운트 쿼리 없음)
+     */
+    @Override
+    public List<Post> findRankedPostsByCursor(PostStatus status, MainCategory mainCategory,
+                                              PlatformCategory platformCategory, PostCursorSort sort,
+                                              PostCursor cursor, int limit) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(post.status.eq(status));
+
+        if (mainCategory != null) {
+            builder.and(post.mainCategory.contains(mainCategory));
+        }
+        if (platformCategory != null) {
+            builder.and(post.platformCategory.contains(platformCategory));
+        }
+
+        builder.and(sort.keyNotNullPredicate());
+        if (cursor != null) {
+            builder.and(sort.seekPredicate(cursor));
+        }
+
+        return queryFactory
+                .selectFrom(post)
+                .leftJoin(post.schedule).fetchJoin()
+                .leftJoin(post.requirement).fetchJoin()
+                .leftJoin(post.reward).fetchJoin()
+                .leftJoin(post.feedback).fetchJoin()
+                .leftJoin(post.postContent).fetchJoin()
+                .where(builder)
+                .orderBy(sort.orderSpecifiers())
+                .limit(limit)
+                .fetch();
+    }
+}
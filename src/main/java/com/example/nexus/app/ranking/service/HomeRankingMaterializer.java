@@ -0,0 +1,219 @@
+package com.example.nexus.app.ranking.service;
+
+import com.example.nexus.app.category.domain.GenreCategory;
+import com.example.nexus.app.category.domain.MainCategory;
+import com.example.nexus.app.category.domain.PlatformCategory;
+import com.example.nexus.app.post.domain.Post;
+import com.example.nexus.app.post.domain.PostStatus;
+import com.example.nexus.app.post.domain.event.PostChangedEvent;
+import com.example.nexus.app.post.repository.PostRepository;
+import com.example.nexus.app.ranking.dto.HomeRankingResponse;
+import com.example.nexus.app.ranking.repository.RankingRepository;
+import com.example.nexus.app.ranking.service.dto.HomeRankingSnapshot;
+import com.example.nexus.app.ranking.service.dto.RankedPost;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 홈 랭킹 스냅샷 계산기
+ * 홈 화면 섹션과 카테고리별 개인화 후보 목록을 주기적으로(그리고 게시글 변경 시) 미리 계산해 Caffeine에 보관한다.
+ * 재계산 중에는 이전 스냅샷을 그대로 제공하므로, 요청 처리 시에는 DB 조회가 발생하지 않는다.
+ */
+@Slf4j
+@Component
+public class HomeRankingMaterializer {
+
+    private static final String SNAPSHOT_KEY = "home";
+    private static final int SECTION_SIZE = 4;
+    private static final int CATEGORY_LIST_SIZE = 20;
+    private static final int DEADLINE_IMMINENT_DAYS = 7;
+
+    private final RankingRepository rankingRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final LoadingCache<String, HomeRankingSnapshot> snapshotCache;
+
+    public HomeRankingMaterializer(RankingRepository rankingRepository, PostRepository postRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.rankingRepository = rankingRepository;
+        this.postRepository = postRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.snapshotCache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .build(key -> compute());
+    }
+
+    public HomeRankingSnapshot getSnapshot() {
+        return snapshotCache.get(SNAPSHOT_KEY);
+    }
+
+    /**
+     * 사용자 관심사 기반 개인화 추천을 카테고리별 후보 목록으로 조립
+     * 후보 목록이 잘려 있어 정확한 상위 결과를 보장할 수 없으면 empty를 반환한다 (호출자가 DB 조회로 대체).
+     */
+    public Optional<List<HomeRankingResponse.RankingSection>> findPersonalized(Set<MainCategory> mainCategories,
+                                                                               Set<PlatformCategory> platformCategories,
+                                                                               Set<GenreCategory> genreCategories) {
+        HomeRankingSnapshot snapshot = getSnapshot();
+
+        // 관심사가 있는 한 차원의 목록만으로 후보 생성 (결과는 반드시 이 목록 중 하나에 속함)
+        Collection<List<RankedPost>> candidateLists;
+        if (!mainCategories.isEmpty()) {
+            candidateLists = listsOf(snapshot.byMainCategory(), mainCategories);
+        } else if (!platformCategories.isEmpty()) {
+            candidateLists = listsOf(snapshot.byPlatformCategory(), platformCategories);
+        } else {
+            candidateLists = listsOf(snapshot.byGenreCategory(), genreCategories);
+        }
+
+        Set<RankedPost> candidates = new LinkedHashSet<>();
+        candidateLists.forEach(candidates::addAll);
+
+        List<RankedPost> ranked = candidates.stream()
+                .filter(candidate -> candidate.matches(mainCategories, platformCategories, genreCategories))
+                .sorted(RankedPost.DEADLINE_ORDER)
+                .limit(SECTION_SIZE)
+                .toList();
+
+        // 잘린 목록의 마지막 항목보다 뒤에 있는 결과는 목록 밖 게시글에 밀릴 수 있으므로 정확성 확인
+        for (List<RankedPost> list : candidateLists) {
+            if (list.size() < snapshot.categoryListSize()) {
+                continue;
+            }
+            if (ranked.size() < SECTION_SIZE) {
+                return Optional.empty();
+            }
+            RankedPost lastInResult = ranked.get(ranked.size() - 1);
+            if (RankedPost.DEADLINE_ORDER.compare(lastInResult, list.get(list.size() - 1)) > 0) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(ranked.stream().map(RankedPost::section).toList());
+    }
+
+    // 주기적으로 스냅샷 재계산 (재계산 중에도 이전 스냅샷 제공)
+    @Scheduled(fixedDelayString = "${ranking.home.refresh-interval:60000}")
+    public void refresh() {
+        snapshotCache.refresh(SNAPSHOT_KEY);
+    }
+
+    @TransactionalEventListener
+    public void handlePostChanged(PostChangedEvent event) {
+        refresh();
+    }
+
+    private HomeRankingSnapshot compute() {
+        long start = System.currentTimeMillis();
+        HomeRankingSnapshot snapshot = readOnlyTransaction.execute(status -> computeInTransaction());
+        log.info("홈 랭킹 스냅샷 계산 완료: {}ms", System.currentTimeMillis() - start);
+        return snapshot;
+    }
+
+    private HomeRankingSnapshot computeInTransaction() {
+        PageRequest sectionPage = PageRequest.of(0, SECTION_SIZE);
+        PageRequest categoryPage = PageRequest.of(0, CATEGORY_LIST_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> defaultIds = rankingRepository.findTodayRecommendationIds(PostStatus.ACTIVE, sectionPage);
+        List<Long> deadlineIds = rankingRepository.findDeadlineImminentIdsForHome(PostStatus.ACTIVE,
+                now.plusDays(DEADLINE_IMMINENT_DAYS), sectionPage);
+        List<Long> popularIds = rankingRepository.findPopularIdsForHome(PostStatus.ACTIVE, sectionPage);
+        List<Long> recentIds = rankingRepository.findRecentTestIdsForHome(PostStatus.ACTIVE, sectionPage);
+
+        Map<MainCategory, List<Long>> mainIds = idsByCategory(MainCategory.class,
+                rankingRepository::findDeadlineOrderedIdsByMainCategory, categoryPage);
+        Map<PlatformCategory, List<Long>> platformIds = idsByCategory(PlatformCategory.class,
+                rankingRepository::findDeadlineOrderedIdsByPlatformCategory, categoryPage);
+        Map<GenreCategory, List<Long>> genreIds = idsByCategory(GenreCategory.class,
+                rankingRepository::findDeadlineOrderedIdsByGenreCategory, categoryPage);
+
+        // 모든 섹션/후보 목록에 등장하는 게시글을 한 번에 조회해 DTO로 변환
+        Set<Long> allIds = new LinkedHashSet<>();
+        allIds.addAll(defaultIds);
+        allIds.addAll(deadlineIds);
+        allIds.addAll(popularIds);
+        allIds.addAll(recentIds);
+        mainIds.values().forEach(allIds::addAll);
+        platformIds.values().forEach(allIds::addAll);
+        genreIds.values().forEach(allIds::addAll);
+
+        Map<Long, RankedPost> rankedPosts = allIds.isEmpty() ? Map.of() :
+                postRepository.findAllWithAllDetailsByIdIn(allIds).stream()
+                        .collect(Collectors.toMap(Post::getId, RankedPost::from));
+
+        return new HomeRankingSnapshot(
+                sections(defaultIds, rankedPosts),
+                sections(deadlineIds, rankedPosts),
+                sections(popularIds, rankedPosts),
+                sections(recentIds, rankedPosts),
+                rankedByCategory(mainIds, rankedPosts),
+                rankedByCategory(platformIds, rankedPosts),
+                rankedByCategory(genreIds, rankedPosts),
+                CATEGORY_LIST_SIZE,
+                now
+        );
+    }
+
+    private <E extends Enum<E>> Map<E, List<Long>> idsByCategory(
+            Class<E> type, CategoryIdQuery<E> query, PageRequest page) {
+        Map<E, List<Long>> ids = new EnumMap<>(type);
+        for (E category : type.getEnumConstants()) {
+            ids.put(category, query.find(PostStatus.ACTIVE, category, page));
+        }
+        return ids;
+    }
+
+    private List<HomeRankingResponse.RankingSection> sections(List<Long> ids, Map<Long, RankedPost> rankedPosts) {
+        return resolve(ids, rankedPosts).stream()
+                .map(RankedPost::section)
+                .toList();
+    }
+
+    private <E extends Enum<E>> Map<E, List<RankedPost>> rankedByCategory(Map<E, List<Long>> ids,
+                                                                        Map<Long, RankedPost> rankedPosts) {
+        Map<E, List<RankedPost>> ranked = new HashMap<>();
+        ids.forEach((category, postIds) -> ranked.put(category, resolve(postIds, rankedPosts)));
+        return ranked;
+    }
+
+    private List<RankedPost> resolve(List<Long> ids, Map<Long, RankedPost> rankedPosts) {
+        return ids.stream()
+                .map(rankedPosts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private <E> Collection<List<RankedPost>> listsOf(Map<E, List<RankedPost>> lists, Set<E> categories) {
+        List<List<RankedPost>> selected = new ArrayList<>();
+        for (E category : categories) {
+            selected.add(lists.getOrDefault(category, List.of()));
+        }
+        return selected;
+    }
+
+    @FunctionalInterface
+    private interface CategoryIdQuery<E> {
+        List<Long> find(PostStatus status, E category, PageRequest page);
+    }
+}
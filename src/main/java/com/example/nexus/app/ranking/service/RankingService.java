@@ -1,12 +1,16 @@
 package com.example.nexus.app.ranking.service;
 
 import com.example.nexus.app.category.domain.MainCategory;
+import com.example.nexus.app.global.code.dto.CursorResponse;
 import com.example.nexus.app.category.domain.PlatformCategory;
 import com.example.nexus.app.post.domain.Post;
 import com.example.nexus.app.post.domain.PostStatus;
+import com.example.nexus.app.post.repository.PostCursor;
+import com.example.nexus.app.post.repository.PostCursorSort;
 import com.example.nexus.app.ranking.repository.RankingRepository;
 import com.example.nexus.app.ranking.dto.FullRankingResponse;
 import com.example.nexus.app.ranking.dto.HomeRankingResponse;
+import com.example.nexus.app.ranking.service.dto.HomeRankingSnapshot;
 import com.example.nexus.app.user.domain.UserInterest;
 import com.example.nexus.app.user.repository.UserInterestRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +21,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -26,70 +29,37 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class RankingService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final RankingRepository rankingRepository;
     private final UserInterestRepository userInterestRepository;
+    private final HomeRankingMaterializer homeRankingMaterializer;
 
     /**
      * 홈 화면 랭킹 조회 (4개씩)
      * 오늘의 추천, 마감 임박, 인기있는 테스트, 방금 등록한 테스트 조회
+     * 공통 섹션은 미리 계산된 스냅샷에서 제공하고, 개인화 추천만 사용자 관심사로 조립
      */
     public HomeRankingResponse getHomeRanking(Long userId) {
         boolean isAuthenticated = userId != null;
-        
-        // 오늘의 추천 (인증된 사용자용 추천)
-        List<Post> todayRecommendations = isAuthenticated ? 
-            getPersonalizedRecommendations(userId) : null;
-        
-        // 기본 추천 (비인증 사용자용)
-        List<Post> defaultRecommendations = !isAuthenticated ? 
-            getDefaultRecommendations() : null;
-        
-        // 마감 임박 (7일) - 마감일 적게 남은 순 + 가나다순 (공통)
-        LocalDateTime sevenDaysFromNow = LocalDateTime.now().plusDays(7);
-        List<Post> deadlineImminent = rankingRepository.findDeadlineImminentForHome(
-                PostStatus.ACTIVE, 
-                sevenDaysFromNow,
-                PageRequest.of(0, 4)
-        );
-        
-        // 인기있는 테스트 - 인기순 + 가나다순 (공통)
-        List<Post> popularTests = rankingRepository.findPopularForHome(
-                PostStatus.ACTIVE, 
-                PageRequest.of(0, 4)
-        );
-
-        // 방금 등록한 테스트 - 최신순 + 가나다순 (공통)
-        List<Post> recentTests = rankingRepository.findRecentTestsForHome(
-                PostStatus.ACTIVE, 
-                PageRequest.of(0, 4)
-        );
+        HomeRankingSnapshot snapshot = homeRankingMaterializer.getSnapshot();
 
         return HomeRankingResponse.builder()
-                .todayRecommendations(todayRecommendations != null ? 
-                    todayRecommendations.stream()
-                        .map(HomeRankingResponse::from)
-                        .toList() : null)
-                .defaultRecommendations(defaultRecommendations != null ? 
-                    defaultRecommendations.stream()
-                        .map(HomeRankingResponse::from)
-                        .toList() : null)
-                .deadlineImminent(deadlineImminent.stream()
-                        .map(HomeRankingResponse::from)
-                        .toList())
-                .popularTests(popularTests.stream()
-                        .map(HomeRankingResponse::from)
-                        .toList())
-                .recentTests(recentTests.stream()
-                        .map(HomeRankingResponse::from)
-                        .toList())
+                .todayRecommendations(isAuthenticated ? getPersonalizedRecommendations(userId, snapshot) : null)
+                .defaultRecommendations(!isAuthenticated ? snapshot.defaultRecommendations() : null)
+                .deadlineImminent(snapshot.deadlineImminent())
+                .popularTests(snapshot.popularTests())
+                .recentTests(snapshot.recentTests())
                 .isAuthenticated(isAuthenticated)
                 .build();
     }
 
     /**
      * 인증된 사용자용 개인화 추천 로직
+     * 스냅샷의 카테고리별 후보 목록으로 정확한 결과를 만들 수 없을 때만 DB 조회
      */
-    private List<Post> getPersonalizedRecommendations(Long userId) {
+    private List<HomeRankingResponse.RankingSection> getPersonalizedRecommendations(Long userId,
+                                                                                    HomeRankingSnapshot snapshot) {
         try {
             UserInterest userInterest = userInterestRepository.findByUserId(userId).orElse(null);
             
@@ -99,33 +69,26 @@ public class RankingService {
                  !userInterest.getGenreCategories().isEmpty())) {
                 
                 // 개인화 추천 (사용자 관심사 기반 + 마감일 적게 남은 순)
-                log.info("사용자 {}에게 개인화 추천 제공", userId);
-                return rankingRepository.findPersonalizedRecommendations(
+                log.debug("사용자 {}에게 개인화 추천 제공", userId);
+                return homeRankingMaterializer.findPersonalized(
+                        userInterest.getMainCategories(),
+                        userInterest.getPlatformCategories(),
+                        userInterest.getGenreCategories()
+                ).orElseGet(() -> rankingRepository.findPersonalizedRecommendations(
                         PostStatus.ACTIVE,
                         userInterest.getMainCategories(),
                         userInterest.getPlatformCategories(),
                         userInterest.getGenreCategories(),
                         PageRequest.of(0, 4)
-                );
+                ).stream().map(HomeRankingResponse::from).toList());
             }
         } catch (Exception e) {
             log.warn("개인화 추천 중 오류 발생, 기본 추천으로 대체: {}", e.getMessage());
         }
 
         // 관심사 정보가 없거나 오류 발생 시: 기본 추천
-        log.info("사용자 {}에게 기본 추천 제공 (관심사 정보 없음)", userId);
-        return getDefaultRecommendations();
-    }
-
-    /**
-     * 비인증 사용자용 기본 추천 로직
-     */
-    private List<Post> getDefaultRecommendations() {
-        log.info("비로그인 사용자에게 기본 추천 제공");
-        return rankingRepository.findTodayRecommendations(
-                PostStatus.ACTIVE, 
-                PageRequest.of(0, 4)
-        );
+        log.debug("사용자 {}에게 기본 추천 제공 (관심사 정보 없음)", userId);
+        return snapshot.defaultRecommendations();
     }
 
     /**
@@ -141,6 +104,24 @@ public class RankingService {
         return FullRankingResponse.from(posts);
     }
 
+    /**
+     * 전체보기 랭킹 커서 조회 (전체 개수 없이 다음 커서만 제공)
+     */
+    public CursorResponse<FullRankingResponse.RankingItem> getFullRankingByCursor(String rankingType, String mainCategory,
+                                                                                 String platformCategory, String cursor,
+                                                                                 int size) {
+        MainCategory mainCat = parseMainCategory(mainCategory);
+        PlatformCategory platformCat = parsePlatformCategory(platformCategory);
+
+        PostCursorSort sort = PostCursorSort.fromRankingType(rankingType);
+        PostCursor postCursor = cursor != null && !cursor.isBlank() ? sort.decode(cursor) : null;
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        List<Post> posts = rankingRepository.findRankedPostsByCursor(PostStatus.ACTIVE, mainCat, platformCat,
+                sort, postCursor, limit + 1);
+        return CursorResponse.of(posts, limit, FullRankingResponse::from, sort::encode);
+    }
+
     /**
      * 랭킹 타입에 따른 게시글 조회
      */
@@ -0,0 +1,26 @@
+package com.example.nexus.app.ranking.service.dto;
+
+import com.example.nexus.app.category.domain.GenreCategory;
+import com.example.nexus.app.category.domain.MainCategory;
+import com.example.nexus.app.category.domain.PlatformCategory;
+import com.example.nexus.app.ranking.dto.HomeRankingResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주기적으로 미리 계산해 두는 홈 랭킹 스냅샷
+ * 공통 섹션은 응답 DTO 그대로, 개인화 추천은 카테고리별 상위 K개 후보 목록으로 보관한다.
+ */
+public record HomeRankingSnapshot(
+        List<HomeRankingResponse.RankingSection> defaultRecommendations,
+        List<HomeRankingResponse.RankingSection> deadlineImminent,
+        List<HomeRankingResponse.RankingSection> popularTests,
+        List<HomeRankingResponse.RankingSection> recentTests,
+        Map<MainCategory, List<RankedPost>> byMainCategory,
+        Map<PlatformCategory, List<RankedPost>> byPlatformCategory,
+        Map<GenreCategory, List<RankedPost>> byGenreCategory,
+        int categoryListSize,
+        LocalDateTime computedAt
+) {
+}
@@ -0,0 +1,68 @@
+package com.example.nexus.app.ranking.service.dto;
+
+import com.example.nexus.app.category.domain.GenreCategory;
+import com.example.nexus.app.category.domain.MainCategory;
+import com.example.nexus.app.category.domain.PlatformCategory;
+import com.example.nexus.app.post.domain.Post;
+import com.example.nexus.app.ranking.dto.HomeRankingResponse;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 캐시에 보관하는 랭킹 항목 - 응답 DTO와 개인화 필터링에 필요한 카테고리/정렬 키만 보관
+ */
+public record RankedPost(
+        HomeRankingResponse.RankingSection section,
+        Set<MainCategory> mainCategories,
+        Set<PlatformCategory> platformCategories,
+        Set<GenreCategory> genreCategories,
+        LocalDateTime endDate,
+        String title
+) {
+
+    // 개인화 추천 정렬: 마감일 오름차순 + 가나다순 (RankingRepository.findPersonalizedRecommendations 와 동일)
+    public static final Comparator<RankedPost> DEADLINE_ORDER = Comparator
+            .comparing(RankedPost::endDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(RankedPost::title, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    public static RankedPost from(Post post) {
+        return new RankedPost(
+                HomeRankingResponse.from(post),
+                copyOf(post.getMainCategory(), MainCategory.class),
+                copyOf(post.getPlatformCategory(), PlatformCategory.class),
+                copyOf(post.getGenreCategories(), GenreCategory.class),
+                post.getSchedule() != null ? post.getSchedule().getEndDate() : null,
+                post.getTitle()
+        );
+    }
+
+    public boolean matches(Set<MainCategory> mainFilter, Set<PlatformCategory> platformFilter,
+                           Set<GenreCategory> genreFilter) {
+        return overlaps(mainCategories, mainFilter)
+                && overlaps(platformCategories, platformFilter)
+                && overlaps(genreCategories, genreFilter);
+    }
+
+    // 필터가 비어 있으면 조건 없음으로 처리
+    private static <E> boolean overlaps(Set<E> values, Set<E> filter) {
+        if (filter == null || filter.isEmpty()) {
+            return true;
+        }
+        for (E value : values) {
+            if (filter.contains(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <E extends Enum<E>> Set<E> copyOf(Iterable<E> values, Class<E> type) {
+        Set<E> copy = EnumSet.noneOf(type);
+        if (values != null) {
+            values.forEach(copy::add);
+        }
+        return copy;
+    }
+}
@@ -7,9 +7,10 @@ import com.example.nexus.app.post.domain.Post;
 import com.example.nexus.app.reward.domain.ParticipantReward;
 import com.example.nexus.app.reward.repository.ParticipantRewardRepository;
 import com.example.nexus.notification.NotificationType;
-import com.example.nexus.notification.service.NotificationService;
+import com.example.nexus.notification.domain.event.NotificationRequestedEvent;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class RewardService {
 
     private final ParticipantRewardRepository participantRewardRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void payReward(Long participationId, Long userId) {
@@ -42,12 +43,13 @@ public class RewardService {
         participantReward.markAsPaid();
         participation.updatePaidStatus(LocalDateTime.now());
 
-        notificationService.createNotification(
+        eventPublisher.publishEvent(NotificationRequestedEvent.of(
                 participation.getUser().getId(),
                 NotificationType.REWARD_PAID,
+                participationId,
                 "리워드가 지급되었습니다. 확인해보세요.",
                 null
-        );
+        ));
     }
 
     private void validatePostOwnership(Post post, Long userId) {
@@ -1,6 +1,7 @@
 package com.example.nexus.notification.controller;
 
 import com.example.nexus.app.global.code.dto.ApiResponse;
+import com.example.nexus.app.global.code.dto.CursorResponse;
 import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
 import com.example.nexus.notification.dto.NotificationCountDto;
 import com.example.nexus.notification.dto.NotificationResponseDto;
@@ -23,13 +24,15 @@ public class NotificationController {
     private final NotificationService notificationService;
 
     // SSE 구독 엔드포인트 (실시간 알림/메시지 수신)
-    @Operation(summary = "알림 구독 (SSE 연결)", description = "클라이언트가 실시간 알림 및 쪽지 도착 푸시를 받기 위해 구독하는 엔드포인트")
+    @Operation(summary = "알림 구독 (SSE 연결)", description = "클라이언트가 실시간 알림 및 쪽지 도착 푸시를 받기 위해 구독하는 엔드포인트 "
+            + "(메시지 SSE 구독과 같은 연결이며, 알림은 NOTIFICATION 이벤트로 전달)")
     @GetMapping(value = "/subscribe", produces = "text/event-stream")
     public SseEmitter subscribe(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
 
-        // 로그인한 사용자 ID를 기반으로 SSE 연결 및 Emitter 객체 반환
-        return notificationService.subscribe(userDetails.getUserId());
+        // 로그인한 사용자 ID를 기반으로 SSE 연결 및 Emitter 객체 반환 (재연결 시 놓친 이벤트 재전송)
+        return notificationService.subscribe(userDetails.getUserId(), lastEventId);
     }
 
     @Operation(summary = "내 모든 알림 목록 조회")
@@ -40,6 +43,19 @@ public class NotificationController {
         return ApiResponse.onSuccess(notifications);
     }
 
+    @Operation(summary = "내 알림 커서 조회", description = "알림을 최신순으로 커서 기반 조회합니다. "
+            + "첫 요청은 cursor 없이 호출하고 이후 응답의 nextCursor를 전달합니다. unreadOnly=true면 안 읽은 알림만 조회합니다. "
+            + "보관 기간이 지난 알림은 조회되지 않습니다.")
+    @GetMapping("/cursor")
+    public ApiResponse<CursorResponse<NotificationResponseDto>> getMyNotificationsByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.onSuccess(notificationService.getNotificationsByCursor(userDetails.getUserId(), unreadOnly,
+                cursor, size));
+    }
+
     @Operation(summary = "읽지 않은 알림 개수 조회")
     @GetMapping("/unread-count")
     public ApiResponse<NotificationCountDto> getUnreadNotificationCount(
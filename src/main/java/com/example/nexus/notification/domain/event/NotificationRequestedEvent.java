@@ -0,0 +1,20 @@
+package com.example.nexus.notification.domain.event;
+
+import com.example.nexus.notification.NotificationType;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 알림 생성 요청 이벤트
+ * 요청한 트랜잭션이 커밋된 뒤에만 알림 버퍼에 쌓이고, 배치로 저장·전송된다 (롤백되면 버려짐).
+ * sourceId는 알림을 만든 원본(참여 신청 등)의 ID로, 같은 사용자·종류·원본의 요청만 같은 알림으로 본다.
+ */
+public record NotificationRequestedEvent(Long userId, NotificationType type, Long sourceId, String content, String link,
+                                         LocalDateTime requestedAt) {
+
+    public static NotificationRequestedEvent of(Long userId, NotificationType type, Long sourceId, String content,
+                                                String link) {
+        return new NotificationRequestedEvent(userId, type, Objects.requireNonNull(sourceId), content, link,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.nexus.notification.domain.scheduler;
+
+import com.example.nexus.notification.service.NotificationArchiver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationArchiveScheduler {
+
+    private final NotificationArchiver notificationArchiver;
+
+    // 매일 새벽 보관 기간이 지난 알림을 보관 테이블로 이동
+    @Scheduled(cron = "${notification.archive.cron:0 30 4 * * *}")
+    public void archiveNotifications() {
+        log.info("알림 보관 이동 시작");
+        try {
+            long archived = notificationArchiver.archiveExpired();
+            log.info("알림 보관 이동 완료: {}건", archived);
+        } catch (Exception e) {
+            log.error("알림 보관 이동 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.nexus.notification.domain.scheduler;
+
+import com.example.nexus.notification.service.NotificationBatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationFlushScheduler {
+
+    private final NotificationBatcher notificationBatcher;
+
+    // 커밋된 알림 요청을 주기적으로 배치 저장·전송 (알림 지연은 최대 이 주기만큼)
+    @Scheduled(fixedDelayString = "${notification.batch.flush-interval:1000}")
+    public void flushNotifications() {
+        try {
+            notificationBatcher.flush();
+        } catch (Exception e) {
+            log.error("알림 버퍼 반영 중 오류 발생", e);
+        }
+    }
+}
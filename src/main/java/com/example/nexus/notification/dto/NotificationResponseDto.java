@@ -23,4 +23,14 @@ public class NotificationResponseDto {
         this.link = notification.getLink();
         this.createdAt = notification.getCreatedAt();
     }
+
+    // 엔티티 없이 배치 저장한 알림을 바로 전송할 때 사용
+    public NotificationResponseDto(Long id, NotificationType type, String content, String link, LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type;
+        this.content = content;
+        this.isRead = false;
+        this.link = link;
+        this.createdAt = createdAt;
+    }
 }
@@ -1,26 +0,0 @@
-package com.example.nexus.notification.repository;
-
-import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-@Repository
-public class EmitterRepository {
-
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-
-    public SseEmitter save(Long userId, SseEmitter emitter) {
-        emitters.put(userId, emitter);
-        return emitter;
-    }
-
-    public void deleteById(Long userId) {
-        emitters.remove(userId);
-    }
-
-    public SseEmitter findById(Long userId) {
-        return emitters.get(userId);
-    }
-}
@@ -2,12 +2,14 @@ package com.example.nexus.notification.repository;
 
 import com.example.nexus.app.user.domain.User;
 import com.example.nexus.notification.domain.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -16,8 +18,35 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByUserOrderByCreatedAtDesc(User user);
     List<Notification> findByUserAndIsReadFalseOrderByCreatedAtDesc(User user);
 
+    // 커서 조회는 (user_id, created_at, id) / (user_id, is_read, created_at, id) 인덱스를 역순으로 읽고 멈춘다
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.user.id = :userId " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.user.id = :userId " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findByUserIdBeforeCursor(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.isRead = false " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findLatestUnreadByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.isRead = false " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findUnreadByUserIdBeforeCursor(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id, Pageable pageable);
+
     long countByUserAndIsReadFalse(User user);
 
+    long countByUserIdAndIsReadFalse(Long userId);
+
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user = :user AND n.isRead = false")
     void markAllAsReadByUser(@Param("user") User user);
@@ -0,0 +1,89 @@
+package com.example.nexus.notification.service;
+
+import com.example.nexus.app.global.unread.UnreadCountService;
+import com.example.nexus.app.global.unread.UnreadCountType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 보관 기간이 지난 알림을 notifications_archive로 옮기는 작업
+ * - 오래된 행부터 (created_at, id) 인덱스 순으로 chunk-size개씩 골라, 청크마다 짧은 트랜잭션으로 INSERT ... SELECT 후 DELETE
+ *   (전체를 한 번에 옮기지 않아 잠금이 길어지지 않음)
+ * - INSERT IGNORE라 재시도나 다른 노드와 동시에 실행되어도 중복 적재되지 않는다.
+ */
+@Slf4j
+@Service
+public class NotificationArchiver {
+
+    private static final String SELECT_EXPIRED_SQL = "SELECT id, user_id, is_read FROM notifications " +
+            "WHERE created_at < ? ORDER BY created_at, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadCountService unreadCountService;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public NotificationArchiver(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                UnreadCountService unreadCountService,
+                                @Value("${notification.archive.retention-days:90}") int retentionDays,
+                                @Value("${notification.archive.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.unreadCountService = unreadCountService;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 보관 기간이 지난 알림을 모두 옮기고 옮긴 개수를 반환
+     */
+    public long archiveExpired() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        long archived = 0;
+        int moved;
+        do {
+            moved = archiveChunk(cutoff);
+            archived += moved;
+        } while (moved == chunkSize);
+        return archived;
+    }
+
+    private int archiveChunk(Timestamp cutoff) {
+        Set<Long> unreadUserIds = new HashSet<>();
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.query(SELECT_EXPIRED_SQL, (rs, rowNum) -> {
+                if (!rs.getBoolean("is_read")) {
+                    unreadUserIds.add(rs.getLong("user_id"));
+                }
+                return rs.getLong("id");
+            }, cutoff, chunkSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            Object[] args = ids.toArray();
+            jdbcTemplate.update("INSERT IGNORE INTO notifications_archive " +
+                    "(id, user_id, type, content, is_read, link, created_at, archived_at) " +
+                    "SELECT id, user_id, type, content, is_read, link, created_at, NOW() " +
+                    "FROM notifications WHERE id IN (" + placeholders + ")", args);
+            jdbcTemplate.update("DELETE FROM notifications WHERE id IN (" + placeholders + ")", args);
+            return ids.size();
+        });
+
+        // 안 읽은 알림이 빠졌으므로 뱃지 캐시를 DB 값으로 다시 맞춤
+        unreadUserIds.forEach(userId -> unreadCountService.evict(UnreadCountType.NOTIFICATION, userId));
+        return moved != null ? moved : 0;
+    }
+}
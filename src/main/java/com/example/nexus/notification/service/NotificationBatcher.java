@@ -0,0 +1,196 @@
+package com.example.nexus.notification.service;
+
+import com.example.nexus.app.global.unread.UnreadCountService;
+import com.example.nexus.app.global.unread.UnreadCountType;
+import com.example.nexus.app.message.service.SseEmitterService;
+import com.example.nexus.notification.NotificationType;
+import com.example.nexus.notification.domain.event.NotificationRequestedEvent;
+import com.example.nexus.notification.dto.NotificationResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림 배치 저장·전송 버퍼
+ * - 커밋된 트랜잭션의 알림 요청만 모으고, 같은 원본으로 같은 사용자에게 같은 종류의 알림이 중복 요청되면 하나로 합친다.
+ *   (내용이 같아도 원본이 다르면 다른 알림이다: 예) 신청자별 NEW_PARTICIPANT)
+ * - 주기적으로 JDBC 배치 INSERT 후 SSE 전송과 안 읽은 수 증가를 한 번에 처리한다 (User 조회 없음).
+ * - 저장에 실패한 알림은 버퍼로 되돌려 재시도하고, MAX_ATTEMPTS번 실패하면 버린다.
+ */
+@Slf4j
+@Component
+public class NotificationBatcher {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications (user_id, type, content, is_read, link, created_at) " +
+            "VALUES (?, ?, ?, false, ?, ?)";
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SseEmitterService sseEmitterService;
+    private final UnreadCountService unreadCountService;
+    private final Map<PendingKey, PendingNotification> pendingNotifications = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+
+    public NotificationBatcher(JdbcTemplate jdbcTemplate, SseEmitterService sseEmitterService,
+                               UnreadCountService unreadCountService, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sseEmitterService = sseEmitterService;
+        this.unreadCountService = unreadCountService;
+        Gauge.builder("notification.batch.pending", pendingNotifications, Map::size)
+                .description("저장을 기다리는 알림 수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("notification.batch.coalesced")
+                .description("대기 중인 같은 알림으로 합쳐진 알림 요청 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.batch.dropped")
+                .description("재시도 후에도 저장하지 못해 버린 알림 수")
+                .register(meterRegistry);
+    }
+
+    // 요청한 트랜잭션이 커밋된 뒤에만 버퍼에 추가 (트랜잭션 밖에서 발행하면 바로 추가)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleNotificationRequested(NotificationRequestedEvent event) {
+        PendingKey key = new PendingKey(event.userId(), event.type(), event.sourceId());
+        PendingNotification pending = new PendingNotification(event.content(), event.link(), event.requestedAt(), 0);
+        if (pendingNotifications.putIfAbsent(key, pending) != null) {
+            pendingNotifications.merge(key, pending, PendingNotification::merge);
+            coalescedCounter.increment();
+        }
+    }
+
+    /**
+     * 모인 알림을 배치로 저장하고 사용자에게 전송
+     * 요청 순서대로 저장해 알림 ID 순서가 요청 순서와 같도록 한다.
+     */
+    public synchronized void flush() {
+        List<Map.Entry<PendingKey, PendingNotification>> notifications = drain();
+        if (notifications.isEmpty()) {
+            return;
+        }
+        notifications.sort(Comparator.comparing(entry -> entry.getValue().requestedAt()));
+
+        for (int from = 0; from < notifications.size(); from += FLUSH_BATCH_SIZE) {
+            List<Map.Entry<PendingKey, PendingNotification>> chunk =
+                    notifications.subList(from, Math.min(from + FLUSH_BATCH_SIZE, notifications.size()));
+            List<Long> ids;
+            try {
+                ids = insert(chunk);
+            } catch (Exception e) {
+                log.error("알림 배치 저장 실패, 다음 주기에 재시도: notifications={}", chunk.size(), e);
+                requeue(chunk);
+                continue;
+            }
+            deliver(chunk, ids);
+        }
+        log.debug("알림 배치 저장 완료: notifications={}", notifications.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 알림 버퍼 반영: pending={}", pendingNotifications.size());
+        flush();
+    }
+
+    private List<Long> insert(List<Map.Entry<PendingKey, PendingNotification>> chunk) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingKey key = chunk.get(i).getKey();
+                        PendingNotification notification = chunk.get(i).getValue();
+                        ps.setLong(1, key.userId());
+                        ps.setString(2, key.type().name());
+                        ps.setString(3, notification.content());
+                        ps.setString(4, notification.link());
+                        ps.setTimestamp(5, Timestamp.valueOf(notification.requestedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                }, keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    // 저장된 알림만 전송 (생성 키를 못 받은 경우에도 안 읽은 수는 반영)
+    private void deliver(List<Map.Entry<PendingKey, PendingNotification>> chunk, List<Long> ids) {
+        Map<Long, Long> insertedByUser = new HashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            PendingKey key = chunk.get(i).getKey();
+            PendingNotification notification = chunk.get(i).getValue();
+            insertedByUser.merge(key.userId(), 1L, Long::sum);
+            if (i < ids.size()) {
+                sseEmitterService.sendNotification(key.userId(), new NotificationResponseDto(ids.get(i), key.type(),
+                        notification.content(), notification.link(), notification.requestedAt()));
+            }
+        }
+        insertedByUser.forEach((userId, count) ->
+                unreadCountService.increment(UnreadCountType.NOTIFICATION, userId, count));
+    }
+
+    private void requeue(List<Map.Entry<PendingKey, PendingNotification>> chunk) {
+        for (Map.Entry<PendingKey, PendingNotification> entry : chunk) {
+            PendingNotification retry = entry.getValue().retry();
+            if (retry.attempts() >= MAX_ATTEMPTS) {
+                log.error("알림 저장 재시도 초과로 버림: userId={}, type={}", entry.getKey().userId(), entry.getKey().type());
+                droppedCounter.increment();
+                continue;
+            }
+            pendingNotifications.merge(entry.getKey(), retry, PendingNotification::merge);
+        }
+    }
+
+    // 수집한 값과 같을 때만 제거 (그 사이 합쳐진 요청은 다음 주기에 반영)
+    private List<Map.Entry<PendingKey, PendingNotification>> drain() {
+        List<Map.Entry<PendingKey, PendingNotification>> notifications = new ArrayList<>();
+        pendingNotifications.forEach((key, notification) -> {
+            if (pendingNotifications.remove(key, notification)) {
+                notifications.add(Map.entry(key, notification));
+            }
+        });
+        return notifications;
+    }
+
+    private record PendingKey(Long userId, NotificationType type, Long sourceId) {
+    }
+
+    // 중복 요청은 나중 요청의 내용을 쓴다
+    private record PendingNotification(String content, String link, LocalDateTime requestedAt, int attempts) {
+
+        private PendingNotification merge(PendingNotification other) {
+            PendingNotification latest = requestedAt.isAfter(other.requestedAt) ? this : other;
+            return new PendingNotification(latest.content, latest.link, latest.requestedAt,
+                    Math.min(attempts, other.attempts));
+        }
+
+        private PendingNotification retry() {
+            return new PendingNotification(content, link, requestedAt, attempts + 1);
+        }
+    }
+}
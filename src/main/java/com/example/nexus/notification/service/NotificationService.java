@@ -1,15 +1,20 @@
 package com.example.nexus.notification.service;
 
+import com.example.nexus.app.global.code.dto.CursorResponse;
+import com.example.nexus.app.global.code.dto.KeysetCursor;
 import com.example.nexus.app.global.code.status.ErrorStatus;
 import com.example.nexus.app.global.exception.GeneralException;
+import com.example.nexus.app.global.unread.UnreadCountService;
+import com.example.nexus.app.global.unread.UnreadCountType;
+import com.example.nexus.app.message.service.SseEmitterService;
 import com.example.nexus.app.user.domain.User;
 import com.example.nexus.app.user.repository.UserRepository;
-import com.example.nexus.notification.NotificationType;
 import com.example.nexus.notification.domain.Notification;
 import com.example.nexus.notification.dto.NotificationResponseDto;
 import com.example.nexus.notification.repository.NotificationRepository;
-import com.example.nexus.notification.repository.EmitterRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -21,73 +26,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final EmitterRepository emitterRepository;
-
-    private static final Long DEFAULT_TIMEOUT = 60L * 30 * 1000;
-
-    public SseEmitter subscribe(Long userId) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitterRepository.save(userId, emitter);
-
-        emitter.onCompletion(() -> emitterRepository.deleteById(userId));
-        emitter.onTimeout(() -> emitterRepository.deleteById(userId));
-        emitter.onError((e) -> emitterRepository.deleteById(userId));
-
-        try {
-            emitter.send(SseEmitter.event()
-                    .id("0")
-                    .name("connect")
-                    .data("EventStream Connected. [userId=" + userId + "]"));
-        } catch (Exception e) {
-            emitterRepository.deleteById(userId);
-            throw new GeneralException(ErrorStatus.INTERNAL_SERVER_ERROR);
-        }
-
-        return emitter;
-    }
+    private final SseEmitterService sseEmitterService;
+    private final UnreadCountService unreadCountService;
 
-    @Transactional
-    public void createNotification(Long userId, NotificationType type, String content, String link) {
-        User user = findUserById(userId);
-
-        Notification notification = Notification.builder()
-                .user(user).type(type).content(content).link(link).build();
-        notificationRepository.save(notification);
-
-        sendNotification(userId, new NotificationResponseDto(notification));
-    }
-
-    @Transactional
-    public void sendDirectMessageNotification(Long receiverId, String senderName, String messageContent, String messageLink) {
-        User receiver = findUserById(receiverId);
-
-        String content = String.format("%s님으로부터 새로운 메시지가 도착했습니다: %s", senderName, messageContent);
-        Notification notification = Notification.builder()
-                .user(receiver)
-                .type(NotificationType.MESSAGE)
-                .content(content)
-                .link(messageLink)
-                .build();
-        notificationRepository.save(notification);
-
-        sendNotification(receiverId, new NotificationResponseDto(notification));
-    }
-
-    private void sendNotification(Long userId, NotificationResponseDto responseDto) {
-        SseEmitter emitter = emitterRepository.findById(userId);
-
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .id(String.valueOf(responseDto.getId()))
-                        .name("sse")
-                        .data(responseDto));
-            } catch (Exception e) {
-                emitterRepository.deleteById(userId);
-            }
-        }
+    // 알림도 채팅과 같은 SSE 연결로 전달 (노드 간 전달, 다중 연결, Last-Event-ID 재전송 공유)
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        return sseEmitterService.createEmitter(userId, lastEventId);
     }
 
     @Transactional(readOnly = true)
@@ -97,6 +45,33 @@ public class NotificationService {
                 .stream().map(NotificationResponseDto::new).collect(Collectors.toList());
     }
 
+    /**
+     * 알림함 커서 조회 (최신순, 전체 개수 없음)
+     * unreadOnly면 안 읽은 알림만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<NotificationResponseDto> getNotificationsByCursor(Long userId, boolean unreadOnly, String cursor,
+                                                                            int size) {
+        KeysetCursor notificationCursor = KeysetCursor.decodeOrNull(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable fetchSize = PageRequest.of(0, limit + 1);
+
+        List<Notification> notifications;
+        if (notificationCursor == null) {
+            notifications = unreadOnly
+                    ? notificationRepository.findLatestUnreadByUserId(userId, fetchSize)
+                    : notificationRepository.findLatestByUserId(userId, fetchSize);
+        } else {
+            notifications = unreadOnly
+                    ? notificationRepository.findUnreadByUserIdBeforeCursor(userId, notificationCursor.sortAt(),
+                    notificationCursor.id(), fetchSize)
+                    : notificationRepository.findByUserIdBeforeCursor(userId, notificationCursor.sortAt(),
+                    notificationCursor.id(), fetchSize);
+        }
+        return CursorResponse.of(notifications, limit, NotificationResponseDto::new,
+                last -> KeysetCursor.encode(last.getCreatedAt(), last.getId()));
+    }
+
     @Transactional(readOnly = true)
     public NotificationResponseDto getNotification(Long userId, Long notificationId) {
         Notification notification = findNotificationById(notificationId);
@@ -108,19 +83,23 @@ public class NotificationService {
     public void markAsRead(Long userId, Long notificationId) {
         Notification notification = findNotificationById(notificationId);
         validateNotificationOwner(userId, notification);
-        notification.markAsRead();
+        if (!notification.isRead()) {
+            notification.markAsRead();
+            unreadCountService.decrement(UnreadCountType.NOTIFICATION, userId, 1);
+        }
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
         User user = findUserById(userId);
         notificationRepository.markAllAsReadByUser(user);
+        unreadCountService.reset(UnreadCountType.NOTIFICATION, userId);
     }
 
-    @Transactional(readOnly = true)
+    // 뱃지 폴링용 - 보통은 캐시만 읽음 (캐시가 없을 때도 User를 조회하지 않고 바로 집계)
     public long getUnreadNotificationCount(Long userId) {
-        User user = findUserById(userId);
-        return notificationRepository.countByUserAndIsReadFalse(user);
+        return unreadCountService.get(UnreadCountType.NOTIFICATION, userId,
+                () -> notificationRepository.countByUserIdAndIsReadFalse(userId));
     }
 
     private User findUserById(Long userId) {
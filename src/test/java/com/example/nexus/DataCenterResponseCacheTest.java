@@ -0,0 +1,107 @@
+package com.example.nexus;
+
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.DataCenterResponse;
+import com.example.nexus.app.datacenter.domain.FeedbackStatisticsCache;
+import com.example.nexus.app.datacenter.repository.FeedbackStatisticsCacheRepository;
+import com.example.nexus.app.datacenter.service.DataCenterResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DataCenterResponseCacheTest {
+
+    private static final Long POST_ID = 100L;
+    private static final int DAYS = 7;
+
+    @Mock
+    private FeedbackStatisticsCacheRepository cacheRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DataCenterResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new DataCenterResponseCache(cacheRepository, new ObjectMapper(),
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), 600_000L);
+    }
+
+    @Test
+    @DisplayName("응답 저장은 JSON과 저장 시각만 갱신하고 스케줄러의 요약 통계 행은 다시 저장하지 않는다")
+    void store_updates_only_response_columns() {
+        when(cacheRepository.updateResponseJson(eq(POST_ID), eq(DAYS), anyString(), any())).thenReturn(1);
+
+        responseCache.store(POST_ID, DAYS, DataCenterResponse.builder().build());
+
+        verify(cacheRepository).updateResponseJson(eq(POST_ID), eq(DAYS), anyString(), any(LocalDateTime.class));
+        verify(cacheRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("행이 없으면 요약 통계 없이 응답 JSON만 가진 행을 만든다")
+    void store_creates_row_without_summary() {
+        when(cacheRepository.updateResponseJson(eq(POST_ID), eq(DAYS), anyString(), any())).thenReturn(0);
+
+        responseCache.store(POST_ID, DAYS, DataCenterResponse.builder().build());
+
+        ArgumentCaptor<FeedbackStatisticsCache> captor = ArgumentCaptor.forClass(FeedbackStatisticsCache.class);
+        verify(cacheRepository).save(captor.capture());
+        FeedbackStatisticsCache saved = captor.getValue();
+        assertEquals(POST_ID, saved.getPostId());
+        assertNull(saved.getTotalParticipants());
+        assertNull(saved.getAverageSatisfaction());
+        assertTrue(saved.getFullStatisticsJson() != null && saved.getResponseCachedAt() != null);
+    }
+
+    @Test
+    @DisplayName("스케줄러가 응답을 무효화한 행은 캐시 미스로 처리한다")
+    void find_misses_after_scheduler_invalidates() {
+        FeedbackStatisticsCache cache = FeedbackStatisticsCache.builder().postId(POST_ID).periodDays(DAYS).build();
+        cache.cacheResponse("{}", LocalDateTime.now());
+        cache.updateStatistics(3L, 4.0, 0.0, 1.0, 4.0, 4.0, 4.0, 4.0, 4.0, 4.0, 0.0);
+        cache.invalidateResponse();
+        when(cacheRepository.findByPostIdAndPeriodDays(POST_ID, DAYS)).thenReturn(Optional.of(cache));
+
+        assertTrue(responseCache.find(POST_ID, DAYS).isEmpty());
+    }
+
+    @Test
+    @DisplayName("신선도는 응답 저장 시각 기준으로 판단한다")
+    void find_uses_response_cached_at() {
+        FeedbackStatisticsCache fresh = FeedbackStatisticsCache.builder().postId(POST_ID).periodDays(DAYS).build();
+        fresh.cacheResponse("{}", LocalDateTime.now().minusMinutes(1));
+        when(cacheRepository.findByPostIdAndPeriodDays(POST_ID, DAYS)).thenReturn(Optional.of(fresh));
+        assertTrue(responseCache.find(POST_ID, DAYS).isPresent());
+
+        FeedbackStatisticsCache stale = FeedbackStatisticsCache.builder().postId(POST_ID).periodDays(DAYS).build();
+        stale.cacheResponse("{}", LocalDateTime.now().minusMinutes(11));
+        when(cacheRepository.findByPostIdAndPeriodDays(POST_ID, DAYS)).thenReturn(Optional.of(stale));
+        assertTrue(responseCache.find(POST_ID, DAYS).isEmpty());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.nexus;
+
+import com.example.nexus.app.global.migration.DataMigrationRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DataMigrationRunnerTest {
+
+    private static final String NAME = "test-migration";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private DataMigrationRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new DataMigrationRunner(jdbcTemplate, transactionTemplate);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 점유했거나 이미 끝난 마이그레이션은 실행하지 않는다")
+    void run_skips_when_not_claimed() {
+        when(jdbcTemplate.update(startsWith("UPDATE data_migrations SET locked_until = ?"), any(), eq(NAME), any()))
+                .thenReturn(0);
+        List<Long> calls = new ArrayList<>();
+
+        runner.run(NAME, afterId -> {
+            calls.add(afterId);
+            return null;
+        });
+
+        assertEquals(List.of(), calls);
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE data_migrations SET completed_at"), any(), eq(NAME));
+    }
+
+    @Test
+    @DisplayName("기록된 위치부터 묶음 단위로 이어서 실행하고, 묶음마다 위치를 남긴 뒤 완료로 표시한다")
+    void run_resumes_from_checkpoint_until_done() {
+        when(jdbcTemplate.update(startsWith("UPDATE data_migrations SET locked_until = ?"), any(), eq(NAME), any()))
+                .thenReturn(1);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(NAME))).thenReturn(List.of(1000L));
+        List<Long> calls = new ArrayList<>();
+
+        runner.run(NAME, afterId -> {
+            calls.add(afterId);
+            return afterId < 3000 ? afterId + 1000 : null;
+        });
+
+        assertEquals(List.of(1000L, 2000L, 3000L), calls);
+        verify(jdbcTemplate).update(startsWith("UPDATE data_migrations SET last_id"), eq(2000L), any(), eq(NAME));
+        verify(jdbcTemplate).update(startsWith("UPDATE data_migrations SET last_id"), eq(3000L), any(), eq(NAME));
+        verify(jdbcTemplate).update(startsWith("UPDATE data_migrations SET completed_at"), any(), eq(NAME));
+    }
+
+    @Test
+    @DisplayName("묶음 처리에 실패하면 완료로 표시하지 않고 점유를 푼다")
+    void run_releases_lock_on_failure() {
+        when(jdbcTemplate.update(startsWith("UPDATE data_migrations SET locked_until = ?"), any(), eq(NAME), any()))
+                .thenReturn(1);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(NAME))).thenReturn(List.of(0L));
+
+        runner.run(NAME, afterId -> {
+            throw new IllegalStateException("chunk failed");
+        });
+
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE data_migrations SET completed_at"), any(), eq(NAME));
+        verify(jdbcTemplate).update(startsWith("UPDATE data_migrations SET locked_until = NULL"), eq(NAME));
+    }
+}
@@ -0,0 +1,334 @@
+package com.example.nexus;
+
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.DataCenterSummaryResponse;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.OverallEvaluationResponse;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.QualityFeedbackResponse;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.QualityFeedbackResponse.ProblemLocationDto;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.UsabilityEvaluationResponse;
+import com.example.nexus.app.datacenter.service.FeedbackAnalyticsAccumulator;
+import com.example.nexus.app.datacenter.service.dto.FeedbackAnalyticsRow;
+import com.example.nexus.app.datacenter.service.dto.FeedbackWindowStats;
+import com.example.nexus.app.feedback.domain.BugType;
+import com.example.nexus.app.feedback.domain.InconvenienceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FeedbackAnalyticsBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedbackAnalyticsBenchmarkTest.class);
+
+    private static final int ROUNDS = 5;
+    private static final int LOCATIONS = 50;
+
+    private record SyntheticFeedback(long id, int satisfaction, int recommendation, int reuse, int functionality,
+                                     int comprehensibility, int speed, int responseTiming,
+                                     InconvenienceType mostInconvenient, boolean hasBug, Set<BugType> bugTypes,
+                                     String bugLocation) {
+
+        private FeedbackAnalyticsRow toRow() {
+            int mask = 0;
+            for (BugType bugType : bugTypes) {
+                mask |= 1 << bugType.ordinal();
+            }
+            return new FeedbackAnalyticsRow(id, satisfaction, recommendation, reuse, functionality, comprehensibility,
+                    speed, responseTiming, mostInconvenient, hasBug, mask, bugLocation, null, null);
+        }
+    }
+
+    private record Sections(DataCenterSummaryResponse summary, OverallEvaluationResponse overall,
+                            QualityFeedbackResponse quality, UsabilityEvaluationResponse usability) {
+    }
+
+    @Test
+    @DisplayName("누산기는 손으로 계산한 요약·종합 평가·품질·사용성 통계와 같아야 한다")
+    void accumulator_matches_hand_computed_fixture() {
+        // 최신순: A(4) → B(3) → C(2) → D(1)
+        FeedbackAnalyticsAccumulator accumulator = new FeedbackAnalyticsAccumulator();
+        accumulator.add(row(4, 5, 4, 3, 5, 4, 3, 2, InconvenienceType.UI_UX,
+                EnumSet.of(BugType.UI_UX_ERROR, BugType.FUNCTIONAL_ERROR), "login"));
+        accumulator.add(row(3, 4, 2, 5, 3, 3, 3, 4, InconvenienceType.SPEED,
+                EnumSet.of(BugType.FUNCTIONAL_ERROR), "home"));
+        accumulator.add(row(2, 2, 3, 1, 1, 2, 3, 3, InconvenienceType.SPEED,
+                EnumSet.of(BugType.RESPONSE_SPEED), "login"));
+        accumulator.add(row(1, 1, 1, 1, 1, 1, 1, 3, InconvenienceType.UI_UX,
+                EnumSet.noneOf(BugType.class), null));
+
+        // 비교 기간: 2건, 버그 1건, 긍정 1건, 만족도 합 6
+        DataCenterSummaryResponse summary = accumulator.summary(new FeedbackWindowStats(2, 1, 1, 6, 0, 0, 0, 0, 0, 0));
+        assertEquals(4L, summary.totalParticipants());
+        assertEquals(100.0, summary.participantChangeRate());
+        assertEquals(2L, summary.thisWeekParticipants());
+        assertEquals(3.0, summary.averageSatisfaction());
+        assertEquals(0.0, summary.satisfactionChangeRate());
+        assertEquals(75.0, summary.bugOccurrenceRate());
+        assertEquals(50.0, summary.bugRateChangeRate());
+        assertEquals(3L, summary.bugCount());
+        assertEquals(50.0, summary.positiveFeedbackRate());
+        assertEquals(0.0, summary.positiveFeedbackChangeRate());
+        assertEquals(2L, summary.positiveFeedbackCount());
+
+        OverallEvaluationResponse overall = accumulator.overallEvaluation();
+        assertEquals(2.5, overall.averageRecommendation());
+        assertEquals(2.5, overall.averageReuse());
+        assertEquals(Map.of(1, 1L, 2, 1L, 3, 0L, 4, 1L, 5, 1L), overall.satisfactionDistribution());
+        assertEquals(Map.of(1, 2L, 2, 0L, 3, 1L, 4, 0L, 5, 1L), overall.reuseDistribution());
+
+        QualityFeedbackResponse quality = accumulator.qualityFeedback(List.of());
+        // 같은 수(2건)면 enum 선언 순서
+        assertEquals(List.of("UI/UX", "속도"), List.copyOf(quality.topInconvenientElements().keySet()));
+        assertEquals(List.of(2L, 2L), List.copyOf(quality.topInconvenientElements().values()));
+        assertEquals(Map.of("UI/UX 오류", 25.0, "기능 작동 오류", 50.0, "응답 속도 문제", 25.0),
+                quality.problemTypeProportions());
+        assertEquals(Map.of(1, 25.0, 2, 25.0, 3, 0.0, 4, 25.0, 5, 25.0), quality.satisfactionScoreDistribution());
+        assertEquals(3L, quality.bugExistCount());
+        assertEquals(1L, quality.noBugCount());
+        // login의 주요 문제 유형은 가장 최근 보고(A)의 첫 유형
+        assertEquals(List.of(
+                ProblemLocationDto.builder().location("login").problemType("UI/UX 오류").reportCount(2L).build(),
+                ProblemLocationDto.builder().location("home").problemType("기능 작동 오류").reportCount(1L).build()
+        ), quality.topProblemLocations());
+
+        UsabilityEvaluationResponse usability = accumulator.usabilityEvaluation();
+        assertEquals(2.5, usability.functionalityScore());
+        assertEquals(2.5, usability.comprehensibilityScore());
+        assertEquals(2.5, usability.loadingSpeedScore());
+        assertEquals(3.0, usability.responseTimingScore());
+    }
+
+    @Test
+    @DisplayName("보고 수가 같은 위치는 최근에 보고된 위치가 먼저이고, 버그 유형이 없으면 기본 문제 유형을 쓴다")
+    void problem_location_ties_follow_recency() {
+        FeedbackAnalyticsAccumulator accumulator = new FeedbackAnalyticsAccumulator();
+        accumulator.add(row(2, 3, 3, 3, 3, 3, 3, 3, null, EnumSet.noneOf(BugType.class), "settings"));
+        accumulator.add(row(1, 3, 3, 3, 3, 3, 3, 3, null, EnumSet.of(BugType.CRASH), "home"));
+
+        assertEquals(List.of(
+                ProblemLocationDto.builder().location("settings").problemType("오류").reportCount(1L).build(),
+                ProblemLocationDto.builder().location("home").problemType("앱/화면 크래시").reportCount(1L).build()
+        ), accumulator.qualityFeedback(List.of()).topProblemLocations());
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    @DisplayName("누산기와 섹션별 다중 순회의 계산 시간을 비교한다")
+    void accumulator_vs_multi_pass(int feedbackCount) {
+        Random random = new Random(42);
+        List<SyntheticFeedback> feedbacks = generate(random, feedbackCount);
+        List<SyntheticFeedback> lastWeekFeedbacks = generate(random, feedbackCount / 4);
+        List<FeedbackAnalyticsRow> rows = feedbacks.stream().map(SyntheticFeedback::toRow).toList();
+        FeedbackWindowStats lastWeek = windowStats(lastWeekFeedbacks);
+        assertEquals(multiPass(feedbacks, lastWeekFeedbacks), singlePass(rows, lastWeek));
+
+        long multiPassStart = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            multiPass(feedbacks, lastWeekFeedbacks);
+        }
+        long multiPassNanos = System.nanoTime() - multiPassStart;
+
+        long singlePassStart = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            singlePass(rows, lastWeek);
+        }
+        long singlePassNanos = System.nanoTime() - singlePassStart;
+
+        log.info("[feedback-analytics] feedbacks={}, multi-pass={}ms/op, single-pass={}ms/op", feedbackCount,
+                String.format("%.2f", multiPassNanos / 1e6 / ROUNDS), String.format("%.2f", singlePassNanos / 1e6 / ROUNDS));
+    }
+
+    private Sections singlePass(List<FeedbackAnalyticsRow> rows, FeedbackWindowStats lastWeek) {
+        FeedbackAnalyticsAccumulator accumulator = new FeedbackAnalyticsAccumulator();
+        rows.forEach(accumulator::add);
+        return new Sections(accumulator.summary(lastWeek), accumulator.overallEvaluation(),
+                accumulator.qualityFeedback(List.of()), accumulator.usabilityEvaluation());
+    }
+
+    // 시간 비교용 섹션별 스트림 방식 (DataCenterService 기존 구현을 옮긴 것으로, 동점 순서만 누산기에 맞춤)
+    private Sections multiPass(List<SyntheticFeedback> feedbacks, List<SyntheticFeedback> lastWeekFeedbacks) {
+        long total = feedbacks.size();
+        long lastWeekTotal = lastWeekFeedbacks.size();
+        double avgSatisfaction = average(feedbacks, SyntheticFeedback::satisfaction);
+        double lastWeekAvgSatisfaction = average(lastWeekFeedbacks, SyntheticFeedback::satisfaction);
+        long bugCount = feedbacks.stream().filter(SyntheticFeedback::hasBug).count();
+        double bugRate = total > 0 ? bugCount * 100.0 / total : 0.0;
+        long lastWeekBugCount = lastWeekFeedbacks.stream().filter(SyntheticFeedback::hasBug).count();
+        double lastWeekBugRate = lastWeekTotal > 0 ? lastWeekBugCount * 100.0 / lastWeekTotal : 0.0;
+        long positiveCount = feedbacks.stream().filter(f -> f.satisfaction() >= 4).count();
+        double positiveRate = total > 0 ? positiveCount * 100.0 / total : 0.0;
+        long lastWeekPositiveCount = lastWeekFeedbacks.stream().filter(f -> f.satisfaction() >= 4).count();
+        double lastWeekPositiveRate = lastWeekTotal > 0 ? lastWeekPositiveCount * 100.0 / lastWeekTotal : 0.0;
+
+        DataCenterSummaryResponse summary = DataCenterSummaryResponse.builder()
+                .totalParticipants(total)
+                .participantChangeRate(changeRate(total, lastWeekTotal))
+                .thisWeekParticipants(total - lastWeekTotal)
+                .averageSatisfaction(round(avgSatisfaction))
+                .satisfactionChangeRate(changeRate(avgSatisfaction, lastWeekAvgSatisfaction))
+                .bugOccurrenceRate(round(bugRate))
+                .bugRateChangeRate(changeRate(bugRate, lastWeekBugRate))
+                .totalFeedbacks(total)
+                .bugCount(bugCount)
+                .positiveFeedbackRate(round(positiveRate))
+                .positiveFeedbackChangeRate(changeRate(positiveRate, lastWeekPositiveRate))
+                .positiveFeedbackCount(positiveCount)
+                .build();
+
+        OverallEvaluationResponse overall = OverallEvaluationResponse.builder()
+                .averageSatisfaction(round(avgSatisfaction))
+                .averageRecommendation(round(average(feedbacks, SyntheticFeedback::recommendation)))
+                .averageReuse(round(average(feedbacks, SyntheticFeedback::reuse)))
+                .satisfactionDistribution(distribution(feedbacks, SyntheticFeedback::satisfaction))
+                .recommendationDistribution(distribution(feedbacks, SyntheticFeedback::recommendation))
+                .reuseDistribution(distribution(feedbacks, SyntheticFeedback::reuse))
+                .build();
+
+        Map<String, Long> inconvenientElements = feedbacks.stream()
+                .map(SyntheticFeedback::mostInconvenient)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(type -> type, () -> new EnumMap<>(InconvenienceType.class),
+                        Collectors.counting()))
+                .entrySet().stream()
+                .sorted(Map.Entry.<InconvenienceType, Long>comparingByValue().reversed())
+                .limit(3)
+                .collect(Collectors.toMap(e -> e.getKey().getDescription(), Map.Entry::getValue,
+                        (e1, e2) -> e1, LinkedHashMap::new));
+
+        Map<String, Double> problemTypeProportions = feedbacks.stream()
+                .flatMap(f -> f.bugTypes().stream())
+                .collect(Collectors.groupingBy(type -> type, () -> new EnumMap<>(BugType.class), Collectors.counting()))
+                .entrySet().stream()
+                .collect(Collectors.toMap(e -> e.getKey().getDescription(), e -> e.getValue() * 100.0 / total,
+                        (e1, e2) -> e1, LinkedHashMap::new));
+
+        List<ProblemLocationDto> topProblemLocations = feedbacks.stream()
+                .filter(f -> f.bugLocation() != null)
+                .collect(Collectors.groupingBy(SyntheticFeedback::bugLocation, LinkedHashMap::new,
+                        Collectors.counting()))
+                .entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(5)
+                .map(e -> ProblemLocationDto.builder()
+                        .location(e.getKey())
+                        .problemType(feedbacks.stream()
+                                .filter(f -> e.getKey().equals(f.bugLocation()))
+                                .flatMap(f -> f.bugTypes().stream())
+                                .map(BugType::getDescription)
+                                .findFirst()
+                                .orElse("오류"))
+                        .reportCount(e.getValue())
+                        .build())
+                .toList();
+
+        Map<Integer, Long> satisfactionDistribution = distribution(feedbacks, SyntheticFeedback::satisfaction);
+        Map<Integer, Double> satisfactionScoreDistribution = new LinkedHashMap<>();
+        for (int score = 1; score <= 5; score++) {
+            satisfactionScoreDistribution.put(score,
+                    round(total > 0 ? satisfactionDistribution.get(score) * 100.0 / total : 0.0));
+        }
+
+        QualityFeedbackResponse quality = QualityFeedbackResponse.builder()
+                .topInconvenientElements(inconvenientElements)
+                .bugExistenceRate(round(bugRate))
+                .bugExistCount(bugCount)
+                .noBugCount(total - bugCount)
+                .satisfactionScoreDistribution(satisfactionScoreDistribution)
+                .problemTypeProportions(problemTypeProportions)
+                .topProblemLocations(topProblemLocations)
+                .screenshotPreviews(List.of())
+                .build();
+
+        UsabilityEvaluationResponse usability = UsabilityEvaluationResponse.builder()
+                .functionalityScore(round(average(feedbacks, SyntheticFeedback::functionality)))
+                .comprehensibilityScore(round(average(feedbacks, SyntheticFeedback::comprehensibility)))
+                .loadingSpeedScore(round(average(feedbacks, SyntheticFeedback::speed)))
+                .responseTimingScore(round(average(feedbacks, SyntheticFeedback::responseTiming)))
+                .stabilityScore(0.0)
+                .build();
+
+        return new Sections(summary, overall, quality, usability);
+    }
+
+    private FeedbackAnalyticsRow row(long id, int satisfaction, int recommendation, int reuse, int functionality,
+                                     int comprehensibility, int speed, int responseTiming,
+                                     InconvenienceType mostInconvenient, Set<BugType> bugTypes, String bugLocation) {
+        return new SyntheticFeedback(id, satisfaction, recommendation, reuse, functionality, comprehensibility, speed,
+                responseTiming, mostInconvenient, !bugTypes.isEmpty(), bugTypes, bugLocation).toRow();
+    }
+
+    private FeedbackWindowStats windowStats(List<SyntheticFeedback> feedbacks) {
+        return new FeedbackWindowStats(feedbacks.size(),
+                feedbacks.stream().filter(SyntheticFeedback::hasBug).count(),
+                feedbacks.stream().filter(f -> f.satisfaction() >= 4).count(),
+                feedbacks.stream().mapToLong(SyntheticFeedback::satisfaction).sum(),
+                0, 0, 0, 0, 0, 0);
+    }
+
+    private List<SyntheticFeedback> generate(Random random, int count) {
+        InconvenienceType[] inconvenienceTypes = InconvenienceType.values();
+        BugType[] bugTypes = BugType.values();
+        List<SyntheticFeedback> feedbacks = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            boolean hasBug = random.nextInt(3) == 0;
+            Set<BugType> types = EnumSet.noneOf(BugType.class);
+            if (hasBug) {
+                int size = random.nextInt(3) + 1;
+                for (int i = 0; i < size; i++) {
+                    types.add(bugTypes[random.nextInt(bugTypes.length)]);
+                }
+            }
+            feedbacks.add(new SyntheticFeedback(id, score(random), score(random), score(random), score(random),
+                    score(random), score(random), score(random),
+                    random.nextInt(4) == 0 ? null : inconvenienceTypes[random.nextInt(inconvenienceTypes.length)],
+                    hasBug, types, hasBug ? "screen-" + random.nextInt(LOCATIONS) : null));
+        }
+        return feedbacks;
+    }
+
+    private int score(Random random) {
+        return random.nextInt(5) + 1;
+    }
+
+    private double average(List<SyntheticFeedback> feedbacks, ToIntFunction<SyntheticFeedback> getter) {
+        return feedbacks.stream().mapToInt(getter).average().orElse(0.0);
+    }
+
+    private Map<Integer, Long> distribution(List<SyntheticFeedback> feedbacks, ToIntFunction<SyntheticFeedback> getter) {
+        Map<Integer, Long> counts = feedbacks.stream()
+                .collect(Collectors.groupingBy(getter::applyAsInt, Collectors.counting()));
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        for (int score = 1; score <= 5; score++) {
+            result.put(score, counts.getOrDefault(score, 0L));
+        }
+        return result;
+    }
+
+    private double changeRate(double current, double previous) {
+        if (previous == 0) {
+            return current > 0 ? 100.0 : 0.0;
+        }
+        return Math.round(((current - previous) / previous) * 1000) / 10.0;
+    }
+
+    private double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.nexus;
+
+import com.example.nexus.app.datacenter.service.FeedbackDailyStatsBackfill;
+import com.example.nexus.app.global.migration.DataMigrationRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedbackDailyStatsBackfillTest {
+
+    @Mock
+    private DataMigrationRunner dataMigrationRunner;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("백필은 한 번만 실행되는 마이그레이션으로 등록되고, 피드백 ID 구간의 (게시글, 날짜) 행을 재계산 대상으로 표시한다")
+    void backfill_marks_days_per_feedback_range() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(0L), any())).thenReturn(1000L);
+
+        Long lastFeedbackId = runChunk(0L);
+
+        assertEquals(1000L, lastFeedbackId);
+        verify(jdbcTemplate).update(argThat((String sql) -> sql.startsWith("INSERT INTO feedback_daily_stats")
+                        && sql.contains("WHERE f.id > ? AND f.id <= ?")
+                        && sql.contains("ON DUPLICATE KEY UPDATE dirty = true")),
+                eq(0L), eq(1000L));
+    }
+
+    @Test
+    @DisplayName("남은 피드백이 없으면 쓰기 없이 끝을 알린다")
+    void backfill_finishes_when_no_feedbacks_left() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(1000L), any())).thenReturn(null);
+
+        assertNull(runChunk(1000L));
+        verify(jdbcTemplate, never()).update(anyString(), anyLong(), anyLong());
+    }
+
+    private Long runChunk(long afterFeedbackId) {
+        new FeedbackDailyStatsBackfill(dataMigrationRunner, jdbcTemplate).backfill();
+        ArgumentCaptor<DataMigrationRunner.Chunk> chunk = ArgumentCaptor.forClass(DataMigrationRunner.Chunk.class);
+        verify(dataMigrationRunner).run(eq("feedback-daily-stats-backfill"), chunk.capture());
+        return chunk.getValue().migrate(afterFeedbackId);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.nexus;
+
+import com.example.nexus.app.datacenter.repository.FeedbackDailyStatsRepository;
+import com.example.nexus.app.datacenter.service.FeedbackStatsAggregator;
+import com.example.nexus.app.datacenter.service.FeedbackStatsAggregator.DirtyDay;
+import com.example.nexus.app.feedback.domain.BugType;
+import com.example.nexus.app.feedback.domain.event.FeedbackSubmittedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedbackStatsAggregatorTest {
+
+    private static final Long POST_ID = 100L;
+    private static final LocalDate STAT_DATE = LocalDate.of(2026, 10, 18);
+    private static final String UPSERT_SQL = "feedback_count = feedback_count + 1";
+    private static final String MARK_DIRTY_SQL = "ON DUPLICATE KEY UPDATE dirty = true";
+    private static final String RECONCILE_SQL = "UPDATE feedback_daily_stats SET feedback_count = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private FeedbackDailyStatsRepository dailyStatsRepository;
+
+    private FeedbackStatsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new FeedbackStatsAggregator(jdbcTemplate, new TransactionTemplate(transactionManager),
+                dailyStatsRepository);
+    }
+
+    @Test
+    @DisplayName("제출이 커밋된 피드백은 별도 트랜잭션에서 일별 행에 증분 반영만 하고 재계산 대상(dirty)으로 표시하지 않는다")
+    void handleFeedbackSubmitted_upserts_without_marking_dirty() {
+        aggregator.handleFeedbackSubmitted(event());
+
+        verify(jdbcTemplate).update(argThat((String sql) -> sql.contains(UPSERT_SQL)
+                        && sql.contains("false, true, 1)") && !sql.contains("dirty = true")),
+                eq(POST_ID), eq(Date.valueOf(STAT_DATE)), eq(1), eq(1), eq(5), eq(4), eq(3), eq(5), eq(4), eq(3), eq(2));
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO feedback_daily_category_stats"), anyList());
+        verify(jdbcTemplate, never()).update(contains(MARK_DIRTY_SQL), any(Object[].class));
+        verify(transactionManager).getTransaction(argThat((TransactionDefinition definition) ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("증분 반영이 실패하면 해당 일을 재계산 대상으로 표시한다")
+    void handleFeedbackSubmitted_marks_dirty_when_upsert_fails() {
+        when(jdbcTemplate.update(contains(UPSERT_SQL), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        aggregator.handleFeedbackSubmitted(event());
+
+        verify(jdbcTemplate).update(contains(MARK_DIRTY_SQL), eq(POST_ID), eq(Date.valueOf(STAT_DATE)));
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT INTO feedback_daily_category_stats"), anyList());
+    }
+
+    @Test
+    @DisplayName("재계산한 값은 version이 그대로일 때만 덮어쓰고 항목별 집계를 교체한다")
+    void reconcile_replaces_row_when_version_matches() {
+        stubRecompute();
+        when(jdbcTemplate.update(startsWith(RECONCILE_SQL), any(Object[].class))).thenReturn(1);
+
+        assertTrue(aggregator.reconcile(new DirtyDay(POST_ID, STAT_DATE, 3L)));
+
+        verify(jdbcTemplate).update(startsWith(RECONCILE_SQL),
+                eq(2L), eq(1L), eq(1L), eq(9L), eq(8L), eq(7L), eq(6L), eq(5L), eq(4L), eq(3L),
+                eq(POST_ID), eq(Date.valueOf(STAT_DATE)), eq(3L));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM feedback_daily_category_stats"),
+                eq(POST_ID), eq(Date.valueOf(STAT_DATE)));
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO feedback_daily_category_stats"), anyList());
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 새 피드백이 반영되어 version이 바뀌었으면 덮어쓰지 않고 다음 주기로 넘긴다")
+    void reconcile_skips_when_version_changed() {
+        stubRecompute();
+        when(jdbcTemplate.update(startsWith(RECONCILE_SQL), any(Object[].class))).thenReturn(0);
+
+        assertFalse(aggregator.reconcile(new DirtyDay(POST_ID, STAT_DATE, 3L)));
+
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM feedback_daily_category_stats"), any(Object[].class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private FeedbackSubmittedEvent event() {
+        return new FeedbackSubmittedEvent(POST_ID, STAT_DATE, true, 5, 4, 3, null, Set.of(BugType.UI_UX_ERROR),
+                5, 4, 3, 2);
+    }
+
+    private void stubRecompute() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*)"), ArgumentMatchers.<RowMapper<long[]>>any(),
+                any(Object[].class)))
+                .thenReturn(new long[]{2, 1, 1, 9, 8, 7, 6, 5, 4, 3});
+        when(jdbcTemplate.query(startsWith("SELECT 'SATISFACTION'"), ArgumentMatchers.<RowMapper<Object[]>>any(),
+                any(Object[].class)))
+                .thenReturn(List.<Object[]>of(new Object[]{POST_ID, Date.valueOf(STAT_DATE), "SATISFACTION", "5", 1L}));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.nexus;
+
+import com.example.nexus.app.post.domain.PostStatus;
+import com.example.nexus.app.post.repository.PostRepository;
+import com.example.nexus.app.post.service.search.InMemoryPostSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class InMemoryPostSearchEngineTest {
+
+    private InMemoryPostSearchEngine searchEngine;
+
+    @BeforeEach
+    void setUp() {
+        searchEngine = new InMemoryPostSearchEngine(mock(PostRepository.class));
+        // 1번은 제목에 두 검색어가 모두 있어 2번보다 관련도가 높다
+        searchEngine.index(1L, "모바일 게임 테스트", "퍼즐 게임", PostStatus.ACTIVE);
+        searchEngine.index(2L, "게임 베타 테스트", "모바일 게임 신작", PostStatus.ACTIVE);
+        searchEngine.index(3L, "임시 저장된 게임", "모바일 게임", PostStatus.DRAFT);
+        searchEngine.index(4L, "웹 서비스", "쇼핑몰", PostStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("관련도순 검색은 요청한 상태의 게시글만 반환한다")
+    void search_filters_status_inside_engine() {
+        assertEquals(List.of(1L, 2L), searchEngine.search("모바일 게임", PostStatus.ACTIVE, 10));
+        assertEquals(List.of(3L), searchEngine.search("모바일 게임", PostStatus.DRAFT, 10));
+    }
+
+    @Test
+    @DisplayName("관련도순 검색 결과는 maxHits개까지만 반환한다")
+    void search_caps_hits() {
+        assertEquals(List.of(1L), searchEngine.search("모바일 게임", PostStatus.ACTIVE, 1));
+    }
+
+    @Test
+    @DisplayName("상태가 바뀌어 다시 색인되면 이전 상태로는 검색되지 않는다")
+    void reindex_updates_status() {
+        searchEngine.index(3L, "임시 저장된 게임", "모바일 게임", PostStatus.ACTIVE);
+
+        assertEquals(List.of(), searchEngine.search("모바일 게임", PostStatus.DRAFT, 10));
+        assertEquals(3, searchEngine.search("모바일 게임", PostStatus.ACTIVE, 10).size());
+    }
+}
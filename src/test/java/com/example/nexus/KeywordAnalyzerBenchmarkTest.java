@@ -0,0 +1,145 @@
+package com.example.nexus;
+
+import com.example.nexus.app.datacenter.service.KeywordAnalyzer;
+import com.example.nexus.app.datacenter.service.KeywordTagProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KeywordAnalyzerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(KeywordAnalyzerBenchmarkTest.class);
+
+    // KeywordAnalyzer 기본 태그 사전과 같은 내용 (기준 구현용)
+    private static final Map<String, List<String>> KEYWORD_TAGS = Map.ofEntries(
+            Map.entry("속도", List.of("속도", "느린", "빠른", "로딩", "지연", "렉", "버벅")),
+            Map.entry("디자인", List.of("디자인", "예쁜", "이쁜", "깔끔", "UI", "ui", "레이아웃", "화면")),
+            Map.entry("버그", List.of("버그", "오류", "에러", "error", "bug", "문제", "이상", "안됨")),
+            Map.entry("기능", List.of("기능", "작동", "실행", "동작", "사용")),
+            Map.entry("편리", List.of("편리", "편한", "쉬운", "간편", "직관")),
+            Map.entry("불편", List.of("불편", "어려운", "복잡", "헷갈", "이해")),
+            Map.entry("성능", List.of("성능", "퍼포먼스", "최적화", "효율")),
+            Map.entry("UX", List.of("UX", "ux", "사용성", "경험", "흐름")),
+            Map.entry("텍스트", List.of("텍스트", "글자", "문구", "내용", "설명")),
+            Map.entry("색상", List.of("색상", "색깔", "컬러", "color")),
+            Map.entry("버튼", List.of("버튼", "button", "클릭")),
+            Map.entry("입력", List.of("입력", "input", "폼", "form")),
+            Map.entry("알림", List.of("알림", "notification", "푸시", "안내")),
+            Map.entry("로그인", List.of("로그인", "login", "인증", "로그아웃"))
+    );
+
+    private static final String[] WORDS = {
+            "앱이", "전반적으로", "좋았어요", "로딩이", "조금", "느린", "편이에요", "디자인이", "깔끔하고", "예쁜데",
+            "버그가", "가끔", "있어요", "Error", "화면", "전환이", "어려운", "부분이", "있습니다", "Button",
+            "클릭이", "안됨", "알림", "설정이", "복잡해요", "로그인", "과정이", "간편해서", "최고", "UX가",
+            "직관적이에요", "글자가", "작아요", "입력", "폼이", "불편", "해요", "성능", "최적화가", "필요해요",
+            "색상이", "예뻐요", "신속하게", "응답해요", "그리고", "다음에도", "쓰고", "싶어요", "UI", "오류"
+    };
+
+    @Test
+    @DisplayName("Aho–Corasick 태그 집계는 변경 전 태그·키워드별 contains 방식과 같아야 한다")
+    void matcher_matches_contains_scan() {
+        List<String> texts = generateTexts(new Random(42), 1_000);
+        KeywordAnalyzer analyzer = new KeywordAnalyzer(new KeywordTagProperties());
+
+        assertEquals(containsScan(texts), analyzer.extractKeywords(texts, KEYWORD_TAGS.size()));
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest
+    @ValueSource(ints = {100_000})
+    @DisplayName("Aho–Corasick 태그 집계와 contains 방식의 처리 시간을 비교한다")
+    void matcher_vs_contains_scan(int textCount) {
+        List<String> texts = generateTexts(new Random(42), textCount);
+        KeywordAnalyzer analyzer = new KeywordAnalyzer(new KeywordTagProperties());
+        assertEquals(containsScan(texts), analyzer.extractKeywords(texts, KEYWORD_TAGS.size()));
+
+        long scanStart = System.nanoTime();
+        containsScan(texts);
+        long scanNanos = System.nanoTime() - scanStart;
+
+        long matcherStart = System.nanoTime();
+        analyzer.extractKeywords(texts, KEYWORD_TAGS.size());
+        long matcherNanos = System.nanoTime() - matcherStart;
+
+        log.info("[keyword-analyzer] texts={}, contains={}ms, aho-corasick={}ms", textCount,
+                String.format("%.2f", scanNanos / 1e6), String.format("%.2f", matcherNanos / 1e6));
+    }
+
+    @Test
+    @DisplayName("이모지는 앞의 규칙이 우선하며, 일치하는 키워드가 없으면 기본 이모지를 쓴다")
+    void selectEmoji_follows_rule_order() {
+        KeywordAnalyzer analyzer = new KeywordAnalyzer(new KeywordTagProperties());
+
+        assertEquals("❤️", analyzer.selectEmoji("디자인이 예쁘고 빠른데 최고예요", true));
+        assertEquals("⚡", analyzer.selectEmoji("응답이 신속하고 디자인도 괜찮아요", true));
+        assertEquals("😊", analyzer.selectEmoji("무난했어요", true));
+        assertEquals("🐢", analyzer.selectEmoji("UI가 느린 편이에요", false));
+        assertEquals("💡", analyzer.selectEmoji("ui를 다듬어 주세요", false));
+    }
+
+    @Test
+    @DisplayName("설정한 태그 사전이 있으면 기본 사전 대신 사용한다")
+    void extractKeywords_uses_configured_tags() {
+        KeywordTagProperties.Tag tag = new KeywordTagProperties.Tag();
+        tag.setName("결제");
+        tag.setKeywords(List.of("결제", "payment"));
+        KeywordTagProperties properties = new KeywordTagProperties();
+        properties.setTags(List.of(tag));
+        KeywordAnalyzer analyzer = new KeywordAnalyzer(properties);
+
+        Map<String, Integer> keywords = analyzer.extractKeywords(
+                List.of("결제가 느려요", "PAYMENT 실패, 결제 오류", "속도가 느려요"), 10);
+
+        assertEquals(Map.of("결제", 2), keywords);
+    }
+
+    // KeywordAnalyzer.extractKeywords 의 기존 태그 × 텍스트 × 키워드 contains 방식 기준 구현
+    private Map<String, Integer> containsScan(List<String> texts) {
+        Map<String, Integer> tagFrequency = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : KEYWORD_TAGS.entrySet()) {
+            int count = 0;
+            for (String text : texts) {
+                if (text == null || text.trim().isEmpty()) {
+                    continue;
+                }
+                String lowerText = text.toLowerCase();
+                for (String keyword : entry.getValue()) {
+                    if (lowerText.contains(keyword.toLowerCase())) {
+                        count++;
+                        break;
+                    }
+                }
+            }
+            if (count > 0) {
+                tagFrequency.put(entry.getKey(), count);
+            }
+        }
+        return tagFrequency;
+    }
+
+    private List<String> generateTexts(Random random, int count) {
+        List<String> texts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = random.nextInt(20) + 5;
+            StringBuilder text = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            texts.add(text.toString());
+        }
+        return texts;
+    }
+}
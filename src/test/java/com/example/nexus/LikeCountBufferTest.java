@@ -0,0 +1,141 @@
+package com.example.nexus;
+
+import com.example.nexus.app.post.service.LikeCountBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LikeCountBufferTest {
+
+    private static final String DELTA_SQL = "UPDATE posts SET like_count = GREATEST";
+    private static final String RECOUNT_SQL = "UPDATE posts p SET p.like_count = (SELECT COUNT(*)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LikeCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new LikeCountBuffer(jdbcTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("게시글별 순증감분만 한 번의 UPDATE로 반영하고 버퍼를 비운다")
+    void flush_applies_net_delta_per_post() {
+        buffer.add(1L, 1);
+        buffer.add(1L, 1);
+        buffer.add(1L, -1);
+        buffer.add(2L, -1);
+        buffer.add(3L, 1);
+        buffer.add(3L, -1);
+
+        buffer.flush();
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).update(startsWith(DELTA_SQL), args.capture());
+        // WHEN id THEN delta 쌍, 그 다음 IN 목록 (순증감이 0인 게시글 3은 제외)
+        assertEquals(Map.of(1L, 1L, 2L, -1L), Map.of(args.getValue()[0], args.getValue()[1],
+                args.getValue()[2], args.getValue()[3]));
+        assertEquals(6, args.getValue().length);
+        assertEquals(0L, buffer.getPendingDelta(1L));
+        assertEquals(0L, buffer.getPendingPostCount());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감분은 그 사이 들어온 증감분과 합쳐 다음 주기에 다시 반영한다")
+    void flush_requeues_failed_chunk() {
+        when(jdbcTemplate.update(startsWith(DELTA_SQL), any(Object[].class)))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+        buffer.add(1L, 2);
+
+        buffer.flush();
+        assertEquals(2L, buffer.getPendingDelta(1L));
+
+        buffer.add(1L, 1);
+        buffer.flush();
+
+        verify(jdbcTemplate).update(startsWith(DELTA_SQL), eq(1L), eq(3L), eq(1L));
+        assertEquals(0L, buffer.getPendingDelta(1L));
+    }
+
+    @Test
+    @DisplayName("반영하는 동안 들어온 증감분은 유실되지 않고 다음 주기에 반영한다")
+    void flush_keeps_increments_arriving_during_update() {
+        when(jdbcTemplate.update(startsWith(DELTA_SQL), any(Object[].class))).thenAnswer(invocation -> {
+            buffer.add(1L, 1);
+            return 1;
+        });
+        buffer.add(1L, 1);
+
+        buffer.flush();
+        assertEquals(1L, buffer.getPendingDelta(1L));
+
+        buffer.flush();
+        verify(jdbcTemplate, times(2)).update(startsWith(DELTA_SQL), eq(1L), eq(1L), eq(1L));
+    }
+
+    @Test
+    @DisplayName("변경된 게시글은 증감분을 반영한 뒤 post_likes 개수로 다시 맞추고, 다음 주기에는 다시 계산하지 않는다")
+    void reconcileChanged_recounts_changed_posts_once() {
+        buffer.add(1L, 1);
+        buffer.add(2L, -1);
+
+        buffer.reconcileChanged();
+        buffer.reconcileChanged();
+
+        verify(jdbcTemplate).update(startsWith(DELTA_SQL), any(Object[].class));
+        verify(jdbcTemplate, times(1)).update(startsWith(RECOUNT_SQL), eq(1L), eq(2L));
+    }
+
+    @Test
+    @DisplayName("보정에 실패한 게시글은 다음 주기에 다시 계산한다")
+    void reconcileChanged_retries_failed_posts() {
+        buffer.add(1L, 1);
+        when(jdbcTemplate.update(startsWith(RECOUNT_SQL), any(Object[].class)))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+
+        buffer.reconcileChanged();
+        buffer.reconcileChanged();
+
+        verify(jdbcTemplate, times(2)).update(startsWith(RECOUNT_SQL), eq(1L));
+    }
+
+    @Test
+    @DisplayName("전체 보정은 게시글 ID 구간 단위로 끝까지 진행한다")
+    void reconcileAll_walks_id_ranges() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(0L), any())).thenReturn(1000L);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(1000L), any())).thenReturn(1500L);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(1500L), any())).thenReturn(null);
+
+        buffer.reconcileAll();
+
+        verify(jdbcTemplate).update(startsWith("UPDATE posts p LEFT JOIN"), eq(0L), eq(1000L), eq(0L), eq(1000L));
+        verify(jdbcTemplate).update(startsWith("UPDATE posts p LEFT JOIN"), eq(1000L), eq(1500L), eq(1000L), eq(1500L));
+        verify(jdbcTemplate, never()).update(startsWith(RECOUNT_SQL), any(Object[].class));
+    }
+}
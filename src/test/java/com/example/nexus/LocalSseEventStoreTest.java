@@ -0,0 +1,56 @@
+package com.example.nexus;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import com.example.nexus.app.message.service.sse.LocalSseEventStore;
+import com.example.nexus.app.message.service.sse.SseStoredEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalSseEventStoreTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int CAPACITY = 3;
+
+    private final LocalSseEventStore eventStore = new LocalSseEventStore(CAPACITY, 600_000L);
+
+    @Test
+    @DisplayName("마지막으로 받은 이벤트가 버퍼에 남아 있으면 그 이후 이벤트를 오래된 순으로 돌려준다")
+    void readAfter_returns_events_after_last_id() {
+        String first = eventStore.append(USER_ID, SseEventType.MESSAGE, Map.of());
+        String second = eventStore.append(USER_ID, SseEventType.READ_STATUS, Map.of());
+        String third = eventStore.append(USER_ID, SseEventType.ROOM_UPDATE, Map.of());
+
+        Optional<List<SseStoredEvent>> replay = eventStore.readAfter(USER_ID, first);
+
+        assertTrue(replay.isPresent());
+        assertEquals(List.of(second, third), replay.get().stream().map(SseStoredEvent::id).toList());
+        assertEquals(List.of(), eventStore.readAfter(USER_ID, third).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 이벤트가 버퍼에서 밀려났으면 빠진 이벤트가 있을 수 있으므로 재전송하지 않는다")
+    void readAfter_returns_empty_when_buffer_was_trimmed() {
+        String first = eventStore.append(USER_ID, SseEventType.MESSAGE, Map.of());
+        for (int i = 0; i < CAPACITY; i++) {
+            eventStore.append(USER_ID, SseEventType.MESSAGE, Map.of());
+        }
+
+        assertTrue(eventStore.readAfter(USER_ID, first).isEmpty());
+    }
+
+    @Test
+    @DisplayName("버퍼가 없거나 형식이 맞지 않는 이벤트 ID면 재전송하지 않는다")
+    void readAfter_returns_empty_for_unknown_buffer_or_id() {
+        assertTrue(eventStore.readAfter(USER_ID, "1").isEmpty());
+
+        eventStore.append(USER_ID, SseEventType.MESSAGE, Map.of());
+        assertTrue(eventStore.readAfter(USER_ID, "1700000000000-0").isEmpty());
+    }
+}
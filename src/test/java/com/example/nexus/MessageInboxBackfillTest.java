@@ -0,0 +1,63 @@
+package com.example.nexus;
+
+import com.example.nexus.app.global.migration.DataMigrationRunner;
+import com.example.nexus.app.message.service.MessageInboxBackfill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MessageInboxBackfillTest {
+
+    @Mock
+    private DataMigrationRunner dataMigrationRunner;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("백필은 한 번만 실행되는 마이그레이션으로 등록되고, 채팅방 ID 구간마다 참여자 쪽별 행을 넣는다")
+    void backfill_inserts_both_sides_per_room_range() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(0L), any())).thenReturn(1000L);
+
+        Long lastRoomId = runChunk(0L);
+
+        assertEquals(1000L, lastRoomId);
+        verify(jdbcTemplate).update(contains("SELECT mr.post_owner_id"), eq(0L), eq(1000L));
+        verify(jdbcTemplate).update(contains("SELECT mr.participant_id"), eq(0L), eq(1000L));
+    }
+
+    @Test
+    @DisplayName("남은 채팅방이 없으면 쓰기 없이 끝을 알린다")
+    void backfill_finishes_when_no_rooms_left() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(1000L), any())).thenReturn(null);
+
+        assertNull(runChunk(1000L));
+        verify(jdbcTemplate, never()).update(anyString(), anyLong(), anyLong());
+    }
+
+    private Long runChunk(long afterRoomId) {
+        new MessageInboxBackfill(dataMigrationRunner, jdbcTemplate).backfill();
+        ArgumentCaptor<DataMigrationRunner.Chunk> chunk = ArgumentCaptor.forClass(DataMigrationRunner.Chunk.class);
+        verify(dataMigrationRunner).run(eq("message-inbox-backfill"), chunk.capture());
+        return chunk.getValue().migrate(afterRoomId);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.nexus;
+
+import com.example.nexus.app.message.domain.MessageInbox;
+import com.example.nexus.app.message.repository.MessageInboxRepository;
+import com.example.nexus.app.message.service.MessageInboxService;
+import com.example.nexus.app.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MessageInboxServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private MessageInboxRepository messageInboxRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private MessageInboxService messageInboxService;
+
+    @BeforeEach
+    void setUp() {
+        messageInboxService = new MessageInboxService(messageInboxRepository, userRepository);
+        when(messageInboxRepository.findLatestByUserId(eq(USER_ID), any())).thenReturn(List.<MessageInbox>of());
+        when(messageInboxRepository.findLatestUnreadByUserId(eq(USER_ID), any())).thenReturn(List.<MessageInbox>of());
+    }
+
+    @Test
+    @DisplayName("커서 없는 채팅방 목록 조회는 기존 클라이언트를 위해 개수 제한 없이 전체를 읽는다")
+    void legacy_room_list_is_not_truncated() {
+        messageInboxService.findRooms(USER_ID, false);
+        messageInboxService.findRooms(USER_ID, true);
+
+        verify(messageInboxRepository).findLatestByUserId(USER_ID, Pageable.unpaged());
+        verify(messageInboxRepository).findLatestUnreadByUserId(USER_ID, Pageable.unpaged());
+    }
+
+    @Test
+    @DisplayName("커서 조회는 다음 페이지 여부를 알기 위해 요청 크기보다 하나 더 읽고, 크기는 100개로 제한한다")
+    void cursor_room_list_fetches_one_extra_row() {
+        messageInboxService.findRoomsByCursor(USER_ID, false, null, 20);
+        messageInboxService.findRoomsByCursor(USER_ID, true, null, 1000);
+
+        verify(messageInboxRepository).findLatestByUserId(USER_ID, PageRequest.of(0, 21));
+        verify(messageInboxRepository).findLatestUnreadByUserId(USER_ID, PageRequest.of(0, 101));
+    }
+}
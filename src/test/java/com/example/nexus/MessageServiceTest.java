@@ -0,0 +1,218 @@
+package com.example.nexus;
+
+import com.example.nexus.app.global.code.dto.CursorResponse;
+import com.example.nexus.app.global.code.status.ErrorStatus;
+import com.example.nexus.app.global.exception.GeneralException;
+import com.example.nexus.app.global.unread.UnreadCountService;
+import com.example.nexus.app.global.unread.UnreadCountType;
+import com.example.nexus.app.message.controller.dto.response.MessageResponse;
+import com.example.nexus.app.message.controller.dto.response.TodayMessageResponse;
+import com.example.nexus.app.message.domain.Message;
+import com.example.nexus.app.message.domain.MessageRoom;
+import com.example.nexus.app.message.repository.MessageRepository;
+import com.example.nexus.app.message.repository.MessageRoomRepository;
+import com.example.nexus.app.message.service.MessageInboxService;
+import com.example.nexus.app.message.service.MessageService;
+import com.example.nexus.app.message.service.SseEmitterService;
+import com.example.nexus.app.post.domain.Post;
+import com.example.nexus.app.user.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MessageServiceTest {
+
+    private static final Long ROOM_ID = 10L;
+    private static final Long OWNER_ID = 1L;
+    private static final Long PARTICIPANT_ID = 2L;
+
+    @InjectMocks
+    private MessageService messageService;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageRoomRepository messageRoomRepository;
+
+    @Mock
+    private SseEmitterService sseEmitterService;
+
+    @Mock
+    private UnreadCountService unreadCountService;
+
+    @Mock
+    private MessageInboxService messageInboxService;
+
+    private User owner;
+    private User participant;
+    private MessageRoom room;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        owner = user(OWNER_ID);
+        participant = user(PARTICIPANT_ID);
+        room = MessageRoom.create(mock(Post.class), owner, participant);
+        ReflectionTestUtils.setField(room, "id", ROOM_ID);
+        when(messageRoomRepository.findByIdAndUserId(eq(ROOM_ID), anyLong())).thenReturn(Optional.of(room));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("최신 메시지 조회 시 읽음 커서를 마지막 메시지로 옮기고, 받은 메시지는 모두 읽음으로 응답한다")
+    void latest_moves_cursor_and_derives_read_state() {
+        readCursors(3L, 5L);
+        room.updateLastMessage(7L, "7", null);
+        unreadCounts(4, 0);
+        when(messageRoomRepository.advanceOwnerReadCursor(ROOM_ID, 7L)).thenReturn(1);
+        when(messageRepository.findLatestByRoomId(eq(ROOM_ID), any()))
+                .thenReturn(List.of(message(7L, participant), message(6L, owner), message(4L, participant)));
+
+        CursorResponse<MessageResponse> response = messageService.findRoomMessagesByCursor(ROOM_ID, OWNER_ID, null, null, 20);
+
+        verify(messageRoomRepository).advanceOwnerReadCursor(ROOM_ID, 7L);
+        verify(messageInboxService).recordRead(ROOM_ID, OWNER_ID);
+        verify(unreadCountService).decrement(UnreadCountType.MESSAGE, OWNER_ID, 4);
+        assertEquals(List.of(true, false, true), readStates(response));
+    }
+
+    @Test
+    @DisplayName("커서가 이미 마지막 메시지면 쓰기와 읽음 이벤트 없이 커서로만 읽음 여부를 판단한다")
+    void latest_without_new_messages_does_not_write() {
+        readCursors(7L, 6L);
+        room.updateLastMessage(7L, "7", null);
+        when(messageRepository.findLatestByRoomId(eq(ROOM_ID), any()))
+                .thenReturn(List.of(message(7L, participant), message(6L, owner)));
+
+        CursorResponse<MessageResponse> response = messageService.findRoomMessagesByCursor(ROOM_ID, OWNER_ID, null, null, 20);
+
+        verify(messageRoomRepository, never()).advanceOwnerReadCursor(anyLong(), anyLong());
+        verify(unreadCountService, never()).decrement(any(), anyLong(), anyLong());
+        assertEquals(List.of(true, true), readStates(response));
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    @Test
+    @DisplayName("새 메시지 조회(after)는 이번에 내려준 메시지까지만 읽음 처리하고 남은 안 읽은 수만큼만 차감한다")
+    void after_marks_read_up_to_returned_messages() {
+        readCursors(3L, 0L);
+        room.updateLastMessage(9L, "9", null);
+        unreadCounts(5, 0);
+        when(messageRoomRepository.advanceOwnerReadCursor(ROOM_ID, 5L)).thenReturn(1);
+        when(messageRepository.countUnreadMessagesByRoom(ROOM_ID, OWNER_ID)).thenReturn(3L);
+        when(messageRepository.findByRoomIdAfterId(eq(ROOM_ID), eq(3L), any()))
+                .thenReturn(List.of(message(4L, participant), message(5L, participant), message(6L, participant)));
+
+        CursorResponse<MessageResponse> response = messageService.findRoomMessagesByCursor(ROOM_ID, OWNER_ID, null, 3L, 2);
+
+        verify(messageRoomRepository).advanceOwnerReadCursor(ROOM_ID, 5L);
+        verify(unreadCountService).decrement(UnreadCountType.MESSAGE, OWNER_ID, 2);
+        assertTrue(response.isHasNext());
+        assertEquals(List.of(true, true), readStates(response));
+    }
+
+    @Test
+    @DisplayName("과거 메시지 조회(before)는 읽음 커서를 옮기지 않는다")
+    void before_does_not_move_cursor() {
+        readCursors(3L, 0L);
+        room.updateLastMessage(9L, "9", null);
+        when(messageRepository.findByRoomIdBeforeId(eq(ROOM_ID), eq(5L), any()))
+                .thenReturn(List.of(message(4L, participant), message(3L, participant)));
+
+        CursorResponse<MessageResponse> response = messageService.findRoomMessagesByCursor(ROOM_ID, OWNER_ID, 5L, null, 20);
+
+        verify(messageRoomRepository, never()).advanceOwnerReadCursor(anyLong(), anyLong());
+        verify(unreadCountService, never()).decrement(any(), anyLong(), anyLong());
+        assertEquals(List.of(false, true), readStates(response));
+    }
+
+    @Test
+    @DisplayName("before와 after를 함께 보내면 조회하지 않고 거절한다")
+    void before_and_after_together_is_rejected() {
+        GeneralException exception = assertThrows(GeneralException.class,
+                () -> messageService.findRoomMessagesByCursor(ROOM_ID, OWNER_ID, 5L, 3L, 20));
+
+        assertEquals(ErrorStatus.BAD_REQUEST, exception.getCode());
+        verify(messageRoomRepository, never()).findByIdAndUserId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("내가 보낸 메시지는 상대방 커서 이하일 때만 읽음이다")
+    void sent_messages_follow_recipient_cursor() {
+        readCursors(0L, 5L);
+
+        assertTrue(room.isReadByRecipient(OWNER_ID, 5L));
+        assertFalse(room.isReadByRecipient(OWNER_ID, 6L));
+        assertFalse(room.isReadByRecipient(PARTICIPANT_ID, 1L));
+    }
+
+    @Test
+    @DisplayName("오늘 받은 메시지의 읽음 여부는 게시글 작성자의 읽음 커서로 판단한다")
+    void today_messages_follow_owner_cursor() {
+        readCursors(4L, 0L);
+        when(messageRepository.findTodayMessagesByPost(eq(100L), eq(OWNER_ID), any(), any()))
+                .thenReturn(List.of(message(5L, participant), message(4L, participant)));
+
+        List<TodayMessageResponse> messages = messageService.getTodayMessages(100L, OWNER_ID);
+
+        assertEquals(List.of(false, true), messages.stream().map(TodayMessageResponse::isRead).toList());
+    }
+
+    private void readCursors(long owner, long participant) {
+        ReflectionTestUtils.setField(room, "lastReadMessageIdOwner", owner);
+        ReflectionTestUtils.setField(room, "lastReadMessageIdParticipant", participant);
+    }
+
+    private void unreadCounts(int owner, int participant) {
+        ReflectionTestUtils.setField(room, "unreadCountOwner", owner);
+        ReflectionTestUtils.setField(room, "unreadCountParticipant", participant);
+    }
+
+    private List<Boolean> readStates(CursorResponse<MessageResponse> response) {
+        return response.getContent().stream().map(MessageResponse::isRead).toList();
+    }
+
+    private Message message(Long id, User sender) {
+        Message message = Message.createTextMessage(room, sender, "message " + id);
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+
+    private User user(Long id) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(id);
+        return user;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.nexus;
+
+import com.example.nexus.app.global.unread.UnreadCountService;
+import com.example.nexus.app.global.unread.UnreadCountType;
+import com.example.nexus.app.message.service.SseEmitterService;
+import com.example.nexus.notification.NotificationType;
+import com.example.nexus.notification.domain.event.NotificationRequestedEvent;
+import com.example.nexus.notification.dto.NotificationResponseDto;
+import com.example.nexus.notification.service.NotificationBatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationBatcherTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long APPLICANT_ID = 2L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SseEmitterService sseEmitterService;
+
+    @Mock
+    private UnreadCountService unreadCountService;
+
+    private NotificationBatcher notificationBatcher;
+
+    // 배치 INSERT로 저장된 (user_id, type, content, link)
+    private final List<List<Object>> insertedRows = new ArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        notificationBatcher = new NotificationBatcher(jdbcTemplate, sseEmitterService, unreadCountService,
+                new SimpleMeterRegistry());
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            KeyHolder keyHolder = invocation.getArgument(2);
+            for (int i = 0; i < setter.getBatchSize(); i++) {
+                List<Object> row = new ArrayList<>();
+                PreparedStatement ps = mock(PreparedStatement.class);
+                doAnswer(call -> row.add(call.getArgument(1))).when(ps).setLong(anyInt(), anyLong());
+                doAnswer(call -> row.add(call.getArgument(1))).when(ps).setString(anyInt(), any());
+                setter.setValues(ps, i);
+                insertedRows.add(row);
+                keyHolder.getKeyList().add(Map.of("GENERATED_KEY", nextId.getAndIncrement()));
+            }
+            return new int[setter.getBatchSize()];
+        });
+    }
+
+    @Test
+    @DisplayName("내용이 같아도 원본이 다른 알림은 합치지 않는다 (신청자별 알림, 링크 없는 알림)")
+    void different_sources_are_not_merged() {
+        request(OWNER_ID, NotificationType.NEW_PARTICIPANT, 10L, "새로운 참여 신청이 도착했습니다.", "7");
+        request(OWNER_ID, NotificationType.NEW_PARTICIPANT, 11L, "새로운 참여 신청이 도착했습니다.", "7");
+        request(APPLICANT_ID, NotificationType.REWARD_PAID, 20L, "리워드가 지급되었습니다. 확인해보세요.", null);
+        request(APPLICANT_ID, NotificationType.REWARD_PAID, 21L, "리워드가 지급되었습니다. 확인해보세요.", null);
+
+        notificationBatcher.flush();
+
+        assertEquals(4, insertedRows.size());
+        verify(sseEmitterService, times(2)).sendNotification(eq(OWNER_ID), any(NotificationResponseDto.class));
+        verify(sseEmitterService, times(2)).sendNotification(eq(APPLICANT_ID), any(NotificationResponseDto.class));
+        verify(unreadCountService).increment(UnreadCountType.NOTIFICATION, OWNER_ID, 2L);
+        verify(unreadCountService).increment(UnreadCountType.NOTIFICATION, APPLICANT_ID, 2L);
+    }
+
+    @Test
+    @DisplayName("같은 원본의 중복 요청은 하나로 합치고 나중 요청의 내용으로 저장한다")
+    void duplicate_requests_are_merged() {
+        LocalDateTime now = LocalDateTime.now();
+        notificationBatcher.handleNotificationRequested(new NotificationRequestedEvent(APPLICANT_ID,
+                NotificationType.PARTICIPATION_APPROVED, 10L, "이전 내용", "7", now.minusSeconds(1)));
+        notificationBatcher.handleNotificationRequested(new NotificationRequestedEvent(APPLICANT_ID,
+                NotificationType.PARTICIPATION_APPROVED, 10L, "나중 내용", "7", now));
+
+        notificationBatcher.flush();
+
+        assertEquals(List.of(List.of(APPLICANT_ID, "PARTICIPATION_APPROVED", "나중 내용", "7")), insertedRows);
+        ArgumentCaptor<NotificationResponseDto> sent = ArgumentCaptor.forClass(NotificationResponseDto.class);
+        verify(sseEmitterService).sendNotification(eq(APPLICANT_ID), sent.capture());
+        assertEquals(100L, sent.getValue().getId());
+        verify(unreadCountService).increment(UnreadCountType.NOTIFICATION, APPLICANT_ID, 1L);
+    }
+
+    @Test
+    @DisplayName("저장된 알림은 다음 flush에서 다시 저장하지 않는다")
+    void flush_drains_buffer() {
+        request(OWNER_ID, NotificationType.NEW_PARTICIPANT, 10L, "새로운 참여 신청이 도착했습니다.", "7");
+
+        notificationBatcher.flush();
+        notificationBatcher.flush();
+
+        assertEquals(1, insertedRows.size());
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 다음 flush에서 재시도하고, 세 번 실패하면 버린다")
+    void failed_insert_is_retried_then_dropped() {
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenThrow(new DataAccessResourceFailureException("db down"));
+        request(OWNER_ID, NotificationType.NEW_PARTICIPANT, 10L, "새로운 참여 신청이 도착했습니다.", "7");
+
+        for (int i = 0; i < 4; i++) {
+            notificationBatcher.flush();
+        }
+
+        verify(jdbcTemplate, times(3)).batchUpdate(any(PreparedStatementCreator.class),
+                any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        verify(sseEmitterService, never()).sendNotification(anyLong(), any());
+    }
+
+    private void request(Long userId, NotificationType type, Long sourceId, String content, String link) {
+        notificationBatcher.handleNotificationRequested(NotificationRequestedEvent.of(userId, type, sourceId, content, link));
+    }
+}
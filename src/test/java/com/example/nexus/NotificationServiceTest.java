@@ -1,10 +1,12 @@
 package com.example.nexus;
 
+import com.example.nexus.app.global.unread.UnreadCountService;
+import com.example.nexus.app.global.unread.UnreadCountType;
+import com.example.nexus.app.message.service.SseEmitterService;
 import com.example.nexus.app.user.domain.User;
 import com.example.nexus.app.user.repository.UserRepository;
 import com.example.nexus.notification.NotificationType;
 import com.example.nexus.notification.domain.Notification;
-import com.example.nexus.notification.repository.EmitterRepository;
 import com.example.nexus.notification.repository.NotificationRepository;
 import com.example.nexus.notification.service.NotificationService;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +16,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.quality.Strictness;
-import org.mockito.junit.jupiter.MockitoSettings;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
@@ -38,7 +38,10 @@ class NotificationServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private EmitterRepository emitterRepository;
+    private SseEmitterService sseEmitterService;
+
+    @Mock
+    private UnreadCountService unreadCountService;
 
     private User testUser;
     private final Long TEST_USER_ID = 1L;
@@ -70,73 +73,56 @@ class NotificationServiceTest {
 
 
     @Test
-    @DisplayName("SSE 구독 테스트: Emitter가 생성되고 저장되어야 한다")
+    @DisplayName("SSE 구독 테스트: 메시지 SSE와 같은 연결이 생성되어야 한다")
     void subscribe_success() {
         SseEmitter mockEmitter = mock(SseEmitter.class);
-        doReturn(mockEmitter).when(emitterRepository).save(eq(TEST_USER_ID), any(SseEmitter.class));
+        doReturn(mockEmitter).when(sseEmitterService).createEmitter(TEST_USER_ID, null);
 
-        SseEmitter resultEmitter = notificationService.subscribe(TEST_USER_ID);
+        SseEmitter resultEmitter = notificationService.subscribe(TEST_USER_ID, null);
 
         assertNotNull(resultEmitter);
-        verify(emitterRepository, times(1)).save(eq(TEST_USER_ID), any(SseEmitter.class));
+        verify(sseEmitterService, times(1)).createEmitter(TEST_USER_ID, null);
     }
 
     @Test
-    @MockitoSettings(strictness = Strictness.LENIENT)
-    @DisplayName("알림 생성 및 SSE 전송 테스트: DB 저장 후 SSE 푸시가 성공해야 한다")
-    void createNotification_success_and_send() {
-        mockFindUserById();
-
-        Notification savedNotification = mock(Notification.class);
-        when(savedNotification.getId()).thenReturn(TEST_NOTIFICATION_ID);
-        when(notificationRepository.save(any(Notification.class))).thenReturn(savedNotification);
+    @DisplayName("재연결 구독 테스트: Last-Event-ID가 그대로 전달되어야 한다")
+    void subscribe_with_last_event_id() {
+        notificationService.subscribe(TEST_USER_ID, "1700000000000-0");
 
-        SseEmitter mockEmitter = mock(SseEmitter.class);
-        doReturn(mockEmitter).when(emitterRepository).findById(TEST_USER_ID);
-
-        notificationService.createNotification(TEST_USER_ID, NotificationType.NEW_REVIEW, "새로운 리뷰 알림", "/post/1");
+        verify(sseEmitterService, times(1)).createEmitter(TEST_USER_ID, "1700000000000-0");
+    }
 
-        verify(notificationRepository, times(1)).save(any(Notification.class));
+    @Test
+    @DisplayName("읽음 처리 테스트: 안 읽은 알림이면 읽음으로 바꾸고 안 읽은 수를 1 줄여야 한다")
+    void markAsRead_decrements_unread_count() {
+        doReturn(Optional.of(testNotification)).when(notificationRepository).findById(TEST_NOTIFICATION_ID);
 
-        verify(emitterRepository, times(1)).findById(TEST_USER_ID);
+        notificationService.markAsRead(TEST_USER_ID, TEST_NOTIFICATION_ID);
 
-        try {
-            verify(mockEmitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
-        } catch (Exception e) {
-            fail("SSE send should not throw exception.");
-        }
+        verify(testNotification, times(1)).markAsRead();
+        verify(unreadCountService, times(1)).decrement(UnreadCountType.NOTIFICATION, TEST_USER_ID, 1);
     }
 
     @Test
-    @DisplayName("알림 생성 시 Emitter가 없으면 DB 저장만 되어야 한다")
-    void createNotification_no_emitter() {
-        mockFindUserById();
-        when(notificationRepository.save(any(Notification.class))).thenReturn(testNotification);
+    @DisplayName("읽음 처리 테스트: 이미 읽은 알림이면 안 읽은 수를 바꾸지 않아야 한다")
+    void markAsRead_already_read() {
+        when(testNotification.isRead()).thenReturn(true);
+        doReturn(Optional.of(testNotification)).when(notificationRepository).findById(TEST_NOTIFICATION_ID);
 
-        doReturn(null).when(emitterRepository).findById(TEST_USER_ID);
+        notificationService.markAsRead(TEST_USER_ID, TEST_NOTIFICATION_ID);
 
-        notificationService.createNotification(TEST_USER_ID, NotificationType.NEW_REVIEW, "댓글 알림", "/post/1");
-
-        verify(notificationRepository, times(1)).save(any(Notification.class));
+        verify(testNotification, never()).markAsRead();
+        verify(unreadCountService, never()).decrement(any(), anyLong(), anyLong());
     }
 
     @Test
-    @MockitoSettings(strictness = Strictness.LENIENT)
-    @DisplayName("SSE 전송 중 예외 발생 시 Emitter가 삭제되어야 한다")
-    void sendNotification_exception_should_delete_emitter() throws Exception {
-        SseEmitter mockEmitter = mock(SseEmitter.class);
-        doReturn(mockEmitter).when(emitterRepository).findById(TEST_USER_ID);
-
-        doThrow(new RuntimeException("Connection Broken")).when(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
-
+    @DisplayName("모두 읽음 테스트: 일괄 읽음 처리 후 안 읽은 수 캐시를 초기화해야 한다")
+    void markAllAsRead_resets_unread_count() {
         mockFindUserById();
 
-        Notification savedNotification = mock(Notification.class);
-        when(savedNotification.getId()).thenReturn(TEST_NOTIFICATION_ID);
-        when(notificationRepository.save(any(Notification.class))).thenReturn(savedNotification);
-
-        notificationService.createNotification(TEST_USER_ID, NotificationType.NEW_REVIEW, "댓글 알림", "/post/1");
+        notificationService.markAllAsRead(TEST_USER_ID);
 
-        verify(emitterRepository, times(1)).deleteById(TEST_USER_ID);
+        verify(notificationRepository, times(1)).markAllAsReadByUser(testUser);
+        verify(unreadCountService, times(1)).reset(UnreadCountType.NOTIFICATION, TEST_USER_ID);
     }
 }
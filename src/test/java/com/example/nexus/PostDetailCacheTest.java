@@ -0,0 +1,58 @@
+package com.example.nexus;
+
+import com.example.nexus.app.post.controller.dto.response.PostDetailResponse;
+import com.example.nexus.app.post.service.PostDetailCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class PostDetailCacheTest {
+
+    private static final Long POST_ID = 100L;
+
+    private final PostDetailCache cache = new PostDetailCache();
+
+    @Test
+    @DisplayName("한 번 읽은 본문은 무효화 전까지 다시 읽지 않는다")
+    void get_caches_until_invalidated() {
+        PostDetailResponse first = mock(PostDetailResponse.class);
+        PostDetailResponse second = mock(PostDetailResponse.class);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertSame(first, cache.get(POST_ID, () -> {
+            loads.incrementAndGet();
+            return first;
+        }));
+        assertSame(first, cache.get(POST_ID, () -> {
+            loads.incrementAndGet();
+            return second;
+        }));
+        assertEquals(1, loads.get());
+
+        cache.invalidate(POST_ID);
+
+        assertSame(second, cache.get(POST_ID, () -> second));
+        assertSame(second, cache.get(POST_ID, () -> first));
+    }
+
+    @Test
+    @DisplayName("읽는 도중 게시글이 변경되면 읽은 이전 본문은 캐시에 넣지 않는다")
+    void get_does_not_cache_detail_read_before_change() {
+        PostDetailResponse stale = mock(PostDetailResponse.class);
+        PostDetailResponse fresh = mock(PostDetailResponse.class);
+
+        PostDetailResponse returned = cache.get(POST_ID, () -> {
+            cache.invalidate(POST_ID);
+            return stale;
+        });
+
+        assertSame(stale, returned);
+        assertSame(fresh, cache.get(POST_ID, () -> fresh));
+        assertSame(fresh, cache.get(POST_ID, () -> stale));
+    }
+}
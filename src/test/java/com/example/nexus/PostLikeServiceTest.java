@@ -0,0 +1,112 @@
+package com.example.nexus;
+
+import com.example.nexus.app.global.code.status.ErrorStatus;
+import com.example.nexus.app.global.exception.GeneralException;
+import com.example.nexus.app.post.controller.dto.response.PostLikeToggleResponse;
+import com.example.nexus.app.post.repository.PostLikeRepository;
+import com.example.nexus.app.post.repository.PostRepository;
+import com.example.nexus.app.post.service.LikeCountBuffer;
+import com.example.nexus.app.post.service.PostLikeService;
+import com.example.nexus.app.post.service.PostUserStatusService;
+import com.example.nexus.app.post.service.ViewCountService;
+import com.example.nexus.app.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostLikeServiceTest {
+
+    private static final Long POST_ID = 100L;
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostUserStatusService postUserStatusService;
+
+    @Mock
+    private ViewCountService viewCountService;
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    private PostLikeService postLikeService;
+
+    @BeforeEach
+    void setUp() {
+        postLikeService = new PostLikeService(postLikeRepository, postRepository, userRepository,
+                postUserStatusService, viewCountService, likeCountBuffer);
+        when(postRepository.existsById(POST_ID)).thenReturn(true);
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+        when(postRepository.findLikeCountById(POST_ID)).thenReturn(Optional.of(5));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("없는 사용자의 좋아요는 삽입되지 않으므로 좋아요 상태로 응답하지 않고 USER_NOT_FOUND로 거절한다")
+    void like_rejects_missing_user() {
+        when(postLikeRepository.insertIgnore(2L, POST_ID)).thenReturn(0);
+
+        GeneralException exception = assertThrows(GeneralException.class, () -> postLikeService.like(POST_ID, 2L));
+
+        assertEquals(ErrorStatus.USER_NOT_FOUND, exception.getCode());
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 경우 상태와 개수는 그대로 두고 카운터도 바꾸지 않는다")
+    void like_is_idempotent_for_existing_like() {
+        when(postLikeRepository.insertIgnore(USER_ID, POST_ID)).thenReturn(0);
+
+        PostLikeToggleResponse response = postLikeService.like(POST_ID, USER_ID);
+
+        assertTrue(response.liked());
+        assertEquals(5L, response.likeCount());
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    @Test
+    @DisplayName("새 좋아요는 커밋된 뒤에만 카운터 버퍼에 반영한다")
+    void like_applies_delta_after_commit() {
+        when(postLikeRepository.insertIgnore(USER_ID, POST_ID)).thenReturn(1);
+
+        PostLikeToggleResponse response = postLikeService.like(POST_ID, USER_ID);
+
+        assertEquals(6L, response.likeCount());
+        verify(likeCountBuffer, never()).add(anyLong(), anyLong());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(likeCountBuffer).add(POST_ID, 1L);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.nexus;
+
+import com.example.nexus.app.global.code.status.ErrorStatus;
+import com.example.nexus.app.global.exception.GeneralException;
+import com.example.nexus.app.global.oauth.domain.CustomUserDetails;
+import com.example.nexus.app.global.s3.S3UploadService;
+import com.example.nexus.app.post.controller.dto.request.PostUpdateRequest;
+import com.example.nexus.app.post.domain.Post;
+import com.example.nexus.app.post.repository.PostRepository;
+import com.example.nexus.app.post.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostServiceTest {
+
+    private static final Long POST_ID = 100L;
+    private static final Long OWNER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+
+    @InjectMocks
+    private PostService postService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private S3UploadService s3UploadService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PostUpdateRequest request;
+
+    private Post post;
+    private MultipartFile thumbnail;
+
+    @BeforeEach
+    void setUp() {
+        post = mock(Post.class);
+        when(post.isOwner(OWNER_ID)).thenReturn(true);
+        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
+        when(postRepository.findByIdWithAllDetails(POST_ID)).thenReturn(Optional.of(post));
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(s3UploadService.uploadFiles(anyList())).thenReturn(List.of("https://cdn/thumbnail.png"));
+        thumbnail = new MockMultipartFile("thumbnail", "thumbnail.png", "image/png", new byte[]{1, 2, 3});
+    }
+
+    @Test
+    @DisplayName("작성자가 이미지와 함께 수정하면 업로드 후 트랜잭션 안에서 썸네일을 바꾼다")
+    void updatePost_uploads_then_updates() {
+        postService.updatePost(POST_ID, request, thumbnail, null, userDetails(OWNER_ID));
+
+        verify(s3UploadService).uploadFiles(List.of(thumbnail));
+        verify(post).updateThumbnailUrl("https://cdn/thumbnail.png");
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 S3에 업로드하지 않고 거절한다")
+    void updatePost_rejects_non_owner_before_upload() {
+        GeneralException exception = assertThrows(GeneralException.class,
+                () -> postService.updatePost(POST_ID, request, thumbnail, null, userDetails(OTHER_USER_ID)));
+
+        assertEquals(ErrorStatus.POST_ACCESS_DENIED, exception.getCode());
+        verify(s3UploadService, never()).uploadFiles(anyList());
+    }
+
+    @Test
+    @DisplayName("없는 게시글이면 S3에 업로드하지 않고 거절한다")
+    void updatePost_rejects_missing_post_before_upload() {
+        when(postRepository.findById(POST_ID)).thenReturn(Optional.empty());
+
+        GeneralException exception = assertThrows(GeneralException.class,
+                () -> postService.updatePost(POST_ID, request, thumbnail, null, userDetails(OWNER_ID)));
+
+        assertEquals(ErrorStatus.POST_NOT_FOUND, exception.getCode());
+        verify(s3UploadService, never()).uploadFiles(anyList());
+    }
+
+    @Test
+    @DisplayName("임시저장 글이 아니면 게시 요청을 S3 업로드 전에 거절한다")
+    void updateAndPublishDraft_rejects_non_draft_before_upload() {
+        when(post.isDraft()).thenReturn(false);
+
+        GeneralException exception = assertThrows(GeneralException.class,
+                () -> postService.updateAndPublishDraft(POST_ID, request, thumbnail, null, userDetails(OWNER_ID)));
+
+        assertEquals(ErrorStatus.POST_NOT_DRAFT, exception.getCode());
+        verify(s3UploadService, never()).uploadFiles(anyList());
+    }
+
+    private CustomUserDetails userDetails(Long userId) {
+        CustomUserDetails userDetails = mock(CustomUserDetails.class);
+        when(userDetails.getUserId()).thenReturn(userId);
+        return userDetails;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.nexus;
+
+import com.example.nexus.app.mypage.repository.RecentViewedPostRepository;
+import com.example.nexus.app.mypage.service.RecentViewRecorder;
+import com.example.nexus.app.mypage.service.RecentViewRecorder.RecentView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RecentViewRecorderTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String UPSERT_SQL = "INSERT INTO recent_viewed_post";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RecentViewedPostRepository recentViewedPostRepository;
+
+    private RecentViewRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new RecentViewRecorder(jdbcTemplate, recentViewedPostRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 주기 안의 중복 조회는 한 건으로 합쳐 반영하고 오래된 기록은 지우지 않는다")
+    void flush_merges_duplicate_views_without_trimming() {
+        recorder.record(USER_ID, 10L);
+        recorder.record(USER_ID, 10L);
+        recorder.record(USER_ID, 11L);
+        recorder.record(2L, 10L);
+        assertEquals(3, recorder.getPendingCount());
+
+        recorder.flush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(startsWith(UPSERT_SQL), captor.capture());
+        assertEquals(3, captor.getValue().size());
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("DELETE"), anyList());
+        assertEquals(0, recorder.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 기록은 다음 주기에 다시 반영한다")
+    void flush_restores_failed_records() {
+        when(jdbcTemplate.batchUpdate(startsWith(UPSERT_SQL), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(new int[]{1});
+        recorder.record(USER_ID, 10L);
+
+        recorder.flush();
+        assertEquals(1, recorder.getPendingCount());
+
+        recorder.flush();
+        assertEquals(0, recorder.getPendingCount());
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith(UPSERT_SQL), anyList());
+    }
+
+    @Test
+    @DisplayName("최근 본 목록은 DB의 최근 기록과 아직 반영되지 않은 조회를 합쳐 최신순으로 최대 20건만 보여준다")
+    void getRecentViews_merges_pending_views_and_caps() {
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (long postId = 1; postId <= RecentViewRecorder.MAX_RECENT_VIEWS; postId++) {
+            rows.add(new Object[]{postId, base.plusMinutes(postId)});
+        }
+        when(recentViewedPostRepository.findRecentViewsByUserId(USER_ID,
+                PageRequest.of(0, RecentViewRecorder.MAX_RECENT_VIEWS))).thenReturn(rows);
+        recorder.record(USER_ID, 100L);
+
+        List<RecentView> recentViews = recorder.getRecentViews(USER_ID);
+
+        assertEquals(RecentViewRecorder.MAX_RECENT_VIEWS, recentViews.size());
+        assertEquals(100L, recentViews.get(0).postId());
+        assertEquals(20L, recentViews.get(1).postId());
+        // 가장 오래된 조회(게시글 1)가 밀려남
+        assertEquals(2L, recentViews.get(recentViews.size() - 1).postId());
+
+        // 적재된 목록에는 이후 조회가 바로 반영된다
+        recorder.record(USER_ID, 5L);
+        assertEquals(5L, recorder.getRecentViews(USER_ID).get(0).postId());
+        verify(recentViewedPostRepository, times(1)).findRecentViewsByUserId(eq(USER_ID), eq(
+                PageRequest.of(0, RecentViewRecorder.MAX_RECENT_VIEWS)));
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.nexus;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import com.example.nexus.app.message.service.sse.RedisSseEventBus;
+import com.example.nexus.app.message.service.sse.SseRemoteEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 내장 Redis에 노드 두 개를 띄워 노드 간 전달 경로를 확인한다.
+ */
+class RedisSseEventBusTest {
+
+    private static final int PARTITIONS = 4;
+    private static final long HEARTBEAT_MILLIS = 20_000L;
+    // 캐시 만료로 통과하지 않도록 길게 두고, 무효화 메시지로만 비워지는지 확인
+    private static final long PRESENCE_CACHE_TTL_MILLIS = 60_000L;
+
+    private static RedisServer redisServer;
+    private static RedisClient redisClient;
+    private static StatefulRedisConnection<String, String> inspectConnection;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<RedisSseEventBus> buses = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        // 구독 수 확인용 (PUBSUB NUMSUB)
+        redisClient = RedisClient.create(RedisURI.create("localhost", port));
+        inspectConnection = redisClient.connect();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        inspectConnection.close();
+        redisClient.shutdown();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        stringRedisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @AfterEach
+    void destroyBuses() throws Exception {
+        for (RedisSseEventBus bus : buses) {
+            bus.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결된 사용자에게 발행한 이벤트는 그 노드에서 SseRemoteEvent로 전달된다")
+    void publish_delivers_to_remote_node() {
+        Node sender = node(1000);
+        Node receiver = node(1000);
+        receiver.bus.registerLocal(7L);
+        awaitSubscribed(7L);
+
+        sender.bus.publish(7L, SseEventType.MESSAGE, Map.of("content", "안녕"), "evt-1", "room:1");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> !receiver.received.isEmpty());
+        SseRemoteEvent event = receiver.received.get(0);
+        assertEquals(7L, event.userId());
+        assertEquals(SseEventType.MESSAGE, event.eventType());
+        assertEquals("안녕", event.data().get("content").asText());
+        assertEquals("evt-1", event.eventId());
+        assertEquals("room:1", event.coalesceKey());
+        assertEquals(1.0, receiver.meterRegistry.counter("sse.cluster.received").count());
+        // 발행 노드는 자기 메시지를 다시 전달하지 않음
+        assertTrue(sender.received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결이 없거나 발행 노드에만 연결이 있으면 발행하지 않는다")
+    void publish_skips_users_without_remote_connection() {
+        Node sender = node(1000);
+        sender.bus.registerLocal(8L);
+
+        sender.bus.publish(8L, SseEventType.MESSAGE, Map.of(), "evt-1", null);
+        sender.bus.publish(9L, SseEventType.MESSAGE, Map.of(), "evt-2", null);
+
+        assertEquals(0.0, sender.meterRegistry.counter("sse.cluster.published").count());
+    }
+
+    @Test
+    @DisplayName("새 연결이 등록되면 다른 노드가 캐시한 '연결 없음'이 비워져 캐시 만료 전에도 전달된다")
+    void register_invalidates_cached_absence_on_other_nodes() {
+        Node sender = node(1000);
+        Node receiver = node(1000);
+
+        sender.bus.publish(10L, SseEventType.MESSAGE, Map.of(), "evt-1", null);
+        assertEquals(0.0, sender.meterRegistry.counter("sse.cluster.published").count());
+
+        receiver.bus.registerLocal(10L);
+        awaitSubscribed(10L);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            sender.bus.publish(10L, SseEventType.MESSAGE, Map.of(), "evt-2", null);
+            assertTrue(!receiver.received.isEmpty());
+        });
+    }
+
+    @Test
+    @DisplayName("접속 정보는 하트비트 세 번 안에 만료되고, 마지막 연결이 끊기면 노드에서 빠진다")
+    void presence_expires_and_is_removed_on_unregister() {
+        Node node = node(1000);
+        node.bus.registerLocal(11L);
+
+        Long ttl = stringRedisTemplate.getExpire("sse:presence:11", TimeUnit.MILLISECONDS);
+        assertTrue(ttl != null && ttl > 0 && ttl <= HEARTBEAT_MILLIS * 3, "ttl=" + ttl);
+
+        node.bus.unregisterLocal(11L);
+        assertEquals(0L, stringRedisTemplate.opsForSet().size("sse:presence:11"));
+    }
+
+    @Test
+    @DisplayName("파티션 채널은 로컬 연결이 있을 때만 구독하고, 같은 파티션의 마지막 사용자가 끊기면 구독을 해제한다")
+    void partition_channel_follows_local_users() {
+        Node node = node(1000);
+        // 사용자 1과 5는 같은 파티션(1)
+        node.bus.registerLocal(1L);
+        node.bus.registerLocal(5L);
+        awaitSubscribed(1L);
+
+        node.bus.unregisterLocal(1L);
+        assertEquals(1L, subscribers(1L));
+
+        node.bus.unregisterLocal(5L);
+        await().atMost(Duration.ofSeconds(5)).until(() -> subscribers(5L) == 0L);
+        assertEquals(0L, subscribers(2L));
+    }
+
+    @Test
+    @DisplayName("수신 큐가 가득 차면 이벤트를 버리고 집계한다")
+    void inbound_overflow_drops_events() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Node sender = node(1000);
+        Node receiver = node(1, event -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        receiver.bus.registerLocal(12L);
+        awaitSubscribed(12L);
+
+        try {
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+                sender.bus.publish(12L, SseEventType.MESSAGE, Map.of(), "evt", null);
+                assertTrue(receiver.meterRegistry.counter("sse.cluster.dropped").count() > 0);
+            });
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private Node node(int inboundQueueCapacity) {
+        return node(inboundQueueCapacity, event -> {
+        });
+    }
+
+    private Node node(int inboundQueueCapacity, Consumer<SseRemoteEvent> onReceive) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        List<SseRemoteEvent> received = new CopyOnWriteArrayList<>();
+        ApplicationEventPublisher publisher = event -> {
+            if (event instanceof SseRemoteEvent remoteEvent) {
+                received.add(remoteEvent);
+                onReceive.accept(remoteEvent);
+            }
+        };
+        RedisSseEventBus bus = new RedisSseEventBus(connectionFactory, stringRedisTemplate, objectMapper, publisher,
+                meterRegistry, PARTITIONS, inboundQueueCapacity, HEARTBEAT_MILLIS, PRESENCE_CACHE_TTL_MILLIS);
+        buses.add(bus);
+        return new Node(bus, meterRegistry, received);
+    }
+
+    private void awaitSubscribed(Long userId) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> subscribers(userId) > 0);
+    }
+
+    // 사용자 파티션 채널의 구독 연결 수
+    private long subscribers(Long userId) {
+        String channel = "sse:events:" + Math.floorMod(userId, (long) PARTITIONS);
+        return inspectConnection.sync().pubsubNumsub(channel).getOrDefault(channel, 0L);
+    }
+
+    private record Node(RedisSseEventBus bus, SimpleMeterRegistry meterRegistry, List<SseRemoteEvent> received) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.nexus;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import com.example.nexus.app.message.service.sse.RedisSseEventStore;
+import com.example.nexus.app.message.service.sse.SseStoredEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 내장 Redis 스트림으로 Last-Event-ID 재전송 범위를 확인한다.
+ */
+class RedisSseEventStoreTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int CAPACITY = 3;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private RedisSseEventStore eventStore;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        eventStore = new RedisSseEventStore(stringRedisTemplate, new ObjectMapper(), CAPACITY, 600_000L);
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 이벤트 이후를 스트림 ID 그대로 오래된 순으로 돌려준다")
+    void readAfter_returns_events_after_last_id() {
+        List<String> ids = append(3);
+
+        Optional<List<SseStoredEvent>> replay = eventStore.readAfter(USER_ID, ids.get(0));
+
+        assertTrue(replay.isPresent());
+        assertEquals(ids.subList(1, 3), replay.get().stream().map(SseStoredEvent::id).toList());
+        SseStoredEvent event = replay.get().get(0);
+        assertEquals(SseEventType.MESSAGE, event.eventType());
+        assertEquals(1, ((JsonNode) event.data()).get("seq").asInt());
+        assertEquals(List.of(), eventStore.readAfter(USER_ID, ids.get(2)).orElseThrow());
+        assertTrue(stringRedisTemplate.getExpire("sse:stream:" + USER_ID) > 0);
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 이벤트가 스트림에서 잘려 나갔으면 재전송하지 않는다")
+    void readAfter_returns_empty_when_last_id_was_trimmed() {
+        List<String> ids = append(2);
+        stringRedisTemplate.opsForStream().delete("sse:stream:" + USER_ID, ids.get(0));
+
+        assertTrue(eventStore.readAfter(USER_ID, ids.get(0)).isEmpty());
+        assertTrue(eventStore.readAfter(USER_ID, "0-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("놓친 이벤트가 보관 개수를 넘으면 일부만 보내지 않고 재전송하지 않는다")
+    void readAfter_returns_empty_when_gap_exceeds_capacity() {
+        // MAXLEN ~ 은 근사 트리밍이라 작은 스트림은 잘리지 않으므로 읽는 쪽에서 개수로 판단해야 한다
+        List<String> ids = append(CAPACITY + 2);
+
+        assertTrue(eventStore.readAfter(USER_ID, ids.get(0)).isEmpty());
+        assertEquals(CAPACITY, eventStore.readAfter(USER_ID, ids.get(1)).orElseThrow().size());
+    }
+
+    @Test
+    @DisplayName("스트림이 없거나 형식이 맞지 않는 이벤트 ID면 재전송하지 않는다")
+    void readAfter_returns_empty_for_unknown_stream_or_id() {
+        assertTrue(eventStore.readAfter(USER_ID, "1700000000000-0").isEmpty());
+        assertTrue(eventStore.readAfter(USER_ID, "abc").isEmpty());
+    }
+
+    private List<String> append(int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(eventStore.append(USER_ID, SseEventType.MESSAGE, Map.of("seq", i)));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.nexus;
+
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.DataCenterResponse;
+import com.example.nexus.app.datacenter.controller.dto.response.datacenter.InsightsResponse;
+import com.example.nexus.app.datacenter.service.DataCenterService;
+import com.example.nexus.app.datacenter.service.FeedbackStatsAggregator;
+import com.example.nexus.app.datacenter.service.ReportPdfCache;
+import com.example.nexus.app.datacenter.service.ReportPdfRenderer;
+import com.example.nexus.app.datacenter.service.ReportService;
+import com.example.nexus.app.post.domain.Post;
+import com.example.nexus.app.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReportServiceTest {
+
+    private static final Long POST_ID = 100L;
+    private static final int DAYS = 7;
+
+    @Mock
+    private DataCenterService dataCenterService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private TemplateEngine templateEngine;
+
+    @Mock
+    private FeedbackStatsAggregator feedbackStatsAggregator;
+
+    @Mock
+    private ReportPdfRenderer reportPdfRenderer;
+
+    private ReportService reportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        reportService = new ReportService(dataCenterService, postRepository, templateEngine,
+                feedbackStatsAggregator, reportPdfRenderer, new ReportPdfCache(1024 * 1024));
+
+        Post post = mock(Post.class);
+        when(post.getId()).thenReturn(POST_ID);
+        when(post.getTitle()).thenReturn("테스트 프로젝트");
+        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
+
+        DataCenterResponse response = DataCenterResponse.builder()
+                .insights(InsightsResponse.builder().keywords(Map.of()).build())
+                .build();
+        when(dataCenterService.calculateDataCenterData(eq(POST_ID), any(), any())).thenReturn(response);
+        when(templateEngine.process(anyString(), any(IContext.class))).thenReturn("<html/>");
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(new byte[]{1, 2, 3});
+            return null;
+        }).when(reportPdfRenderer).render(anyString(), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("리포트는 일별 집계와 같은 달력 일 구간(오늘 포함 최근 N일)으로 계산한다")
+    void generatePdfReport_uses_calendar_day_window() throws Exception {
+        download();
+
+        LocalDate today = LocalDate.now();
+        verify(dataCenterService).calculateDataCenterData(POST_ID,
+                today.minusDays(DAYS - 1L).atStartOfDay(), today.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("리포트 데이터(JSON)도 PDF와 같은 달력 일 구간으로 계산한다")
+    void generateReportData_uses_same_window_as_pdf() throws Exception {
+        reportService.generateReportData(POST_ID, DAYS);
+        download();
+
+        LocalDate today = LocalDate.now();
+        verify(dataCenterService, times(2)).calculateDataCenterData(POST_ID,
+                today.minusDays(DAYS - 1L).atStartOfDay(), today.plusDays(1).atStartOfDay());
+        verify(dataCenterService, never()).getDataCenterData(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("통계 버전이 같으면 캐시된 PDF를 쓰고, 새 피드백으로 버전이 오르면 다시 만든다")
+    void generatePdfReport_regenerates_after_stats_version_bump() throws Exception {
+        when(feedbackStatsAggregator.statsVersion(POST_ID)).thenReturn(1L);
+        assertArrayEquals(new byte[]{1, 2, 3}, download());
+        assertArrayEquals(new byte[]{1, 2, 3}, download());
+        verify(reportPdfRenderer, times(1)).render(anyString(), any(OutputStream.class));
+
+        when(feedbackStatsAggregator.statsVersion(POST_ID)).thenReturn(2L);
+        download();
+        verify(reportPdfRenderer, times(2)).render(anyString(), any(OutputStream.class));
+        verify(dataCenterService, times(2)).calculateDataCenterData(eq(POST_ID), any(), any());
+    }
+
+    private byte[] download() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        reportService.generatePdfReport(POST_ID, DAYS).writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.nexus;
+
+import com.example.nexus.app.global.exception.GeneralException;
+import com.example.nexus.app.global.s3.S3UploadService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3UploadServiceTest {
+
+    private static final long PUT_LATENCY_MILLIS = 200;
+    private static final int FILE_COUNT = 10;
+
+    private InMemoryS3Client s3Client;
+    private SimpleMeterRegistry meterRegistry;
+    private S3UploadService s3UploadService;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client();
+        meterRegistry = new SimpleMeterRegistry();
+        s3UploadService = new S3UploadService(s3Client, meterRegistry);
+        ReflectionTestUtils.setField(s3UploadService, "bucketName", "test-bucket");
+    }
+
+    @Test
+    @DisplayName("여러 파일은 동시에 업로드되며 입력 순서대로 URL을 반환한다")
+    void uploads_files_concurrently_in_order() {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < FILE_COUNT; i++) {
+            files.add(new MockMultipartFile("images", "image" + i + ".png", "image/png", ("image" + i).getBytes()));
+        }
+
+        long start = System.nanoTime();
+        List<String> urls = s3UploadService.uploadFiles(files);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(FILE_COUNT, urls.size());
+        for (int i = 0; i < FILE_COUNT; i++) {
+            String key = urls.get(i).substring(urls.get(i).lastIndexOf('/') + 1);
+            assertEquals("image" + i, new String(s3Client.objects.get(key)));
+        }
+        // 순차 업로드라면 FILE_COUNT * PUT_LATENCY_MILLIS 이상 소요
+        assertTrue(elapsedMillis < PUT_LATENCY_MILLIS * FILE_COUNT / 2,
+                "동시 업로드 소요 시간이 너무 깁니다: " + elapsedMillis + "ms");
+        assertEquals(FILE_COUNT, meterRegistry.get("s3.upload").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("하나라도 업로드에 실패하면 이미 업로드된 파일을 삭제한다")
+    void deletes_uploaded_files_when_any_upload_fails() {
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("images", "ok1.png", "image/png", "ok1".getBytes()),
+                new MockMultipartFile("images", "fail.png", "image/png", "fail".getBytes()),
+                new MockMultipartFile("images", "ok2.png", "image/png", "ok2".getBytes())
+        );
+
+        assertThrows(GeneralException.class, () -> s3UploadService.uploadFiles(files));
+
+        assertTrue(s3Client.objects.isEmpty());
+        assertEquals(1, meterRegistry.get("s3.upload").tag("outcome", "failure").timer().count());
+    }
+
+    // putObject/deleteObject만 지원하는 로컬 S3 대체 구현 (요청마다 고정 지연)
+    private static class InMemoryS3Client implements S3Client {
+
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+            try {
+                Thread.sleep(PUT_LATENCY_MILLIS);
+                byte[] content = requestBody.contentStreamProvider().newStream().readAllBytes();
+                if ("fail".equals(new String(content))) {
+                    throw S3Exception.builder().message("upload failed").build();
+                }
+                objects.put(request.key(), content);
+                return PutObjectResponse.builder().build();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+            objects.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        }
+
+        @Override
+        public S3Utilities utilities() {
+            return S3Utilities.builder().region(Region.AP_NORTHEAST_2).build();
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.nexus;
+
+import com.example.nexus.app.category.domain.GenreCategory;
+import com.example.nexus.app.category.domain.MainCategory;
+import com.example.nexus.app.post.service.SimilarPostIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimilarPostIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarPostIndexBenchmarkTest.class);
+
+    private static final int LIMIT = 4;
+    private static final int QUERIES = 200;
+
+    private record SyntheticPost(Long id, Set<MainCategory> mainCategories,
+                                 Set<GenreCategory> genreCategories, boolean rewardProvided) {
+    }
+
+    @Test
+    @DisplayName("겹치는 카테고리 수 내림차순, 동점이면 최신 게시글 순이며 리워드 제공 여부가 다르거나 겹치지 않는 게시글은 제외한다")
+    void findSimilarPostIds_ranks_by_overlap() {
+        SimilarPostIndex index = new SimilarPostIndex(null);
+        index.put(1L, EnumSet.of(MainCategory.WEB, MainCategory.APP),
+                EnumSet.of(GenreCategory.LIFESTYLE, GenreCategory.EDUCATION), true);
+        index.put(2L, EnumSet.of(MainCategory.WEB), EnumSet.of(GenreCategory.LIFESTYLE, GenreCategory.EDUCATION), true);
+        index.put(3L, EnumSet.of(MainCategory.WEB, MainCategory.APP), EnumSet.of(GenreCategory.SOCIAL), true);
+        index.put(4L, EnumSet.of(MainCategory.GAME), EnumSet.of(GenreCategory.LIFESTYLE), true);
+        index.put(5L, EnumSet.of(MainCategory.WEB, MainCategory.APP), EnumSet.of(GenreCategory.LIFESTYLE), false);
+        index.put(6L, EnumSet.of(MainCategory.GAME), EnumSet.of(GenreCategory.SOCIAL), true);
+        index.put(7L, EnumSet.of(MainCategory.APP), EnumSet.of(GenreCategory.EDUCATION), true);
+
+        assertEquals(List.of(2L, 7L, 3L, 4L), index.findSimilarPostIds(1L, LIMIT));
+        assertEquals(List.of(2L, 7L), index.findSimilarPostIds(1L, 2));
+        assertEquals(List.of(), index.findSimilarPostIds(99L, LIMIT));
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000})
+    @DisplayName("역색인 결과는 전체 스캔과 같아야 하며 조회 시간을 비교한다")
+    void index_matches_full_scan(int postCount) {
+        Random random = new Random(42);
+        List<SyntheticPost> posts = new ArrayList<>(postCount);
+        for (long id = 1; id <= postCount; id++) {
+            posts.add(new SyntheticPost(id, randomSubset(random, MainCategory.class, 2),
+                    randomSubset(random, GenreCategory.class, 3), random.nextBoolean()));
+        }
+
+        SimilarPostIndex index = new SimilarPostIndex(null);
+        posts.forEach(post -> index.put(post.id(), post.mainCategories(), post.genreCategories(),
+                post.rewardProvided()));
+
+        List<Long> queryIds = random.longs(QUERIES, 1, postCount + 1).boxed().toList();
+
+        long scanStart = System.nanoTime();
+        List<List<Long>> scanResults = queryIds.stream().map(id -> fullScan(posts, id)).toList();
+        long scanNanos = System.nanoTime() - scanStart;
+
+        long indexStart = System.nanoTime();
+        List<List<Long>> indexResults = queryIds.stream().map(id -> index.findSimilarPostIds(id, LIMIT)).toList();
+        long indexNanos = System.nanoTime() - indexStart;
+
+        assertEquals(scanResults, indexResults);
+        log.info("[similar-posts] posts={}, queries={}, scan={}ms/op, index={}ms/op", postCount, QUERIES,
+                String.format("%.2f", scanNanos / 1e6 / QUERIES), String.format("%.2f", indexNanos / 1e6 / QUERIES));
+    }
+
+    // PostService.findSimilarPosts 의 기존 전체 스캔 방식에 순위(겹치는 카테고리 수)를 더한 기준 구현
+    private List<Long> fullScan(List<SyntheticPost> posts, Long postId) {
+        SyntheticPost base = posts.get((int) (postId - 1));
+        return posts.stream()
+                .filter(post -> !post.id().equals(postId))
+                .filter(post -> post.rewardProvided() == base.rewardProvided())
+                .filter(post -> overlap(base, post) > 0)
+                .sorted(Comparator.comparingInt((SyntheticPost post) -> overlap(base, post)).reversed()
+                        .thenComparing(SyntheticPost::id, Comparator.reverseOrder()))
+                .limit(LIMIT)
+                .map(SyntheticPost::id)
+                .toList();
+    }
+
+    private int overlap(SyntheticPost base, SyntheticPost post) {
+        int score = 0;
+        for (MainCategory category : post.mainCategories()) {
+            if (base.mainCategories().contains(category)) {
+                score++;
+            }
+        }
+        for (GenreCategory category : post.genreCategories()) {
+            if (base.genreCategories().contains(category)) {
+                score++;
+            }
+        }
+        return score;
+    }
+
+    private <E extends Enum<E>> Set<E> randomSubset(Random random, Class<E> type, int maxSize) {
+        E[] values = type.getEnumConstants();
+        Set<E> subset = EnumSet.noneOf(type);
+        int size = random.nextInt(maxSize) + 1;
+        for (int i = 0; i < size; i++) {
+            subset.add(values[random.nextInt(values.length)]);
+        }
+        return subset;
+    }
+}
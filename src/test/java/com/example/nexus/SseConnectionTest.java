@@ -0,0 +1,194 @@
+package com.example.nexus;
+
+import com.example.nexus.app.message.domain.SseEventType;
+import com.example.nexus.app.message.service.sse.SseConnection;
+import com.example.nexus.app.message.service.sse.SseDispatcher;
+import com.example.nexus.app.message.service.sse.SseStoredEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 연결별 전송 큐의 합치기, 느린 연결 종료, 전송 실패, 재연결 시 전송 순서를 확인한다.
+ */
+class SseConnectionTest {
+
+    private static final int QUEUE_CAPACITY = 3;
+    private static final Pattern EVENT_NAME = Pattern.compile("event:(\\w+)");
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseDispatcher dispatcher;
+    private RecordingEmitter emitter;
+    private AtomicInteger closeCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new SseDispatcher(meterRegistry, QUEUE_CAPACITY);
+        emitter = new RecordingEmitter();
+        closeCount = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 채팅방의 읽음 상태가 대기 중이면 이전 것을 버리고 최신 것만 뒤에 보낸다")
+    void read_status_is_coalesced_by_key() {
+        SseConnection connection = open();
+        connection.send(SseEventType.READ_STATUS, Map.of("lastReadMessageId", 1), "1", "read:room:1");
+        connection.send(SseEventType.MESSAGE, Map.of("content", "안녕"), "2", null);
+        connection.send(SseEventType.READ_STATUS, Map.of("lastReadMessageId", 2), "3", "read:room:1");
+
+        assertEquals(2, connection.queueDepth());
+        assertEquals(1.0, meterRegistry.counter("sse.outbound.coalesced").count());
+
+        connection.start(List.of(), false);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.sent.size() == 3);
+        assertEquals(List.of("CONNECT", "MESSAGE", "READ_STATUS"), emitter.names());
+        assertTrue(emitter.sent.get(2).contains("id:3"));
+    }
+
+    @Test
+    @DisplayName("전송 큐가 가득 차면 느린 연결로 보고 종료한다")
+    void full_queue_evicts_connection() {
+        SseConnection connection = open();
+        for (int i = 1; i <= QUEUE_CAPACITY; i++) {
+            connection.send(SseEventType.MESSAGE, Map.of(), String.valueOf(i), null);
+        }
+        assertEquals(QUEUE_CAPACITY, connection.queueDepth());
+
+        connection.send(SseEventType.MESSAGE, Map.of(), "4", null);
+
+        assertEquals(1.0, meterRegistry.counter("sse.outbound.evicted").count());
+        assertEquals(0, connection.queueDepth());
+        assertEquals(0L, dispatcher.getTotalQueueDepth());
+        assertTrue(emitter.completed.get());
+        assertEquals(1, closeCount.get());
+
+        // 종료된 연결에는 더 쌓지 않는다
+        connection.send(SseEventType.MESSAGE, Map.of(), "5", null);
+        assertEquals(0, connection.queueDepth());
+        assertEquals(1, closeCount.get());
+    }
+
+    @Test
+    @DisplayName("전송에 실패하면 연결을 종료하고 종료 콜백을 한 번만 호출한다")
+    void send_failure_closes_connection() {
+        emitter.failOn = "MESSAGE";
+        SseConnection connection = open();
+        connection.start(List.of(), false);
+
+        connection.send(SseEventType.MESSAGE, Map.of(), "1", null);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> closeCount.get() == 1);
+        assertTrue(emitter.completed.get());
+        connection.close();
+        assertEquals(1, closeCount.get());
+    }
+
+    @Test
+    @DisplayName("재연결하면 CONNECT, 놓친 이벤트, 등록 후 들어온 실시간 이벤트 순으로 보내고 겹치는 이벤트는 한 번만 보낸다")
+    void start_sends_connect_then_replay_then_live_without_duplicates() {
+        SseConnection connection = open();
+        // 재전송 조회 전에 등록되어 실시간으로도 받은 이벤트
+        connection.send(SseEventType.MESSAGE, Map.of(), "5", null);
+
+        connection.start(List.of(
+                new SseStoredEvent("4", SseEventType.MESSAGE, Map.of()),
+                new SseStoredEvent("5", SseEventType.MESSAGE, Map.of())), false);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.sent.size() == 3);
+        assertEquals(List.of("CONNECT", "MESSAGE", "MESSAGE"), emitter.names());
+        assertEquals(List.of("4", "5"), emitter.ids());
+    }
+
+    @Test
+    @DisplayName("재전송할 수 없으면 CONNECT 바로 뒤에 RESYNC를 보내고 실시간 이벤트를 이어서 보낸다")
+    void start_with_resync_sends_resync_before_live_events() {
+        SseConnection connection = open();
+        connection.send(SseEventType.ROOM_UPDATE, Map.of(), "9", null);
+
+        connection.start(List.of(), true);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.sent.size() == 3);
+        assertEquals(List.of("CONNECT", "RESYNC", "ROOM_UPDATE"), emitter.names());
+    }
+
+    @Test
+    @DisplayName("전송을 시작하기 전이나 대기 이벤트가 있으면 하트비트는 생략한다")
+    void heartbeat_is_dropped_before_start() {
+        SseConnection connection = open();
+
+        connection.sendHeartbeat();
+
+        assertEquals(0, connection.queueDepth());
+        assertEquals(1.0, meterRegistry.counter("sse.outbound.dropped").count());
+    }
+
+    private SseConnection open() {
+        return dispatcher.open(emitter, closeCount::incrementAndGet);
+    }
+
+    /**
+     * 보낸 이벤트를 SSE 텍스트로 기록하는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile String failOn;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            if (failOn != null && text.indexOf("event:" + failOn) >= 0) {
+                throw new IOException("broken pipe");
+            }
+            sent.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed.set(true);
+        }
+
+        private List<String> names() {
+            return extract(EVENT_NAME);
+        }
+
+        private List<String> ids() {
+            return extract(EVENT_ID);
+        }
+
+        private List<String> extract(Pattern pattern) {
+            return sent.stream()
+                    .map(pattern::matcher)
+                    .filter(Matcher::find)
+                    .map(matcher -> matcher.group(1))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.nexus;
+
+import com.example.nexus.app.global.unread.UnreadCountService;
+import com.example.nexus.app.global.unread.UnreadCountType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UnreadCountServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final List<String> KEYS = List.of("unread:message:1", "unread:writes:message:1");
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private UnreadCountService unreadCountService;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        unreadCountService = new UnreadCountService(stringRedisTemplate, new SimpleMeterRegistry(), 600_000L);
+    }
+
+    @Test
+    @DisplayName("캐시가 있으면 DB를 집계하지 않는다")
+    void get_returns_cached_value() {
+        when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList("7", null));
+        AtomicInteger loads = new AtomicInteger();
+
+        long count = unreadCountService.get(UnreadCountType.MESSAGE, USER_ID, () -> {
+            loads.incrementAndGet();
+            return 0L;
+        });
+
+        assertEquals(7L, count);
+        assertEquals(0, loads.get());
+        verify(stringRedisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(),
+                any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 집계 전에 읽은 변경 횟수와 함께 채워, 집계 중 증감이 있었으면 덮어쓰지 않게 한다")
+    void get_seeds_with_writes_seen_before_load() {
+        when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList(null, "3"));
+
+        long count = unreadCountService.get(UnreadCountType.MESSAGE, USER_ID, () -> 5L);
+
+        assertEquals(5L, count);
+        verify(stringRedisTemplate).execute(argThat(seedScript()), eq(KEYS), eq("5"), eq("3"), eq("600000"));
+    }
+
+    @Test
+    @DisplayName("변경 기록이 없으면 빈 값으로 비교해 채운다")
+    void get_seeds_with_empty_writes() {
+        when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList(null, null));
+
+        unreadCountService.get(UnreadCountType.MESSAGE, USER_ID, () -> 2L);
+
+        verify(stringRedisTemplate).execute(argThat(seedScript()), eq(KEYS), eq("2"), eq(""), eq("600000"));
+    }
+
+    @Test
+    @DisplayName("증감은 캐시 키와 변경 횟수 키를 함께 넘겨, 캐시가 없을 때는 변경 횟수만 올린다")
+    void increment_passes_writes_key() {
+        unreadCountService.increment(UnreadCountType.MESSAGE, USER_ID);
+
+        verify(stringRedisTemplate).execute(argThat(script -> script.getScriptAsString().contains("INCR', KEYS[2]")
+                && script.getScriptAsString().contains("INCRBY")), eq(KEYS), eq("1"), eq("600000"));
+    }
+
+    private static ArgumentMatcher<RedisScript<Long>> seedScript() {
+        return script -> script.getScriptAsString().contains("'NX'");
+    }
+}
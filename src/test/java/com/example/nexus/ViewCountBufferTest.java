@@ -0,0 +1,129 @@
+package com.example.nexus;
+
+import com.example.nexus.app.post.service.ViewCountBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ViewCountBufferTest {
+
+    private static final String UPDATE_SQL = "UPDATE posts SET view_count = view_count + CASE id";
+    // ViewCountBuffer.FLUSH_BATCH_SIZE
+    private static final int BATCH_SIZE = 500;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ViewCountBuffer(jdbcTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 묶음의 누적분만 버퍼로 되돌리고 성공한 묶음은 다시 반영하지 않는다")
+    void flush_requeues_only_failed_chunk() {
+        AtomicInteger calls = new AtomicInteger();
+        when(jdbcTemplate.update(startsWith(UPDATE_SQL), any(Object[].class))).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("db down");
+            }
+            return 1;
+        });
+        for (long postId = 1; postId <= BATCH_SIZE + 1; postId++) {
+            buffer.increment(postId);
+            buffer.increment(postId);
+        }
+
+        buffer.flush();
+
+        // 첫 묶음(500개 게시글)만 실패해 되돌아옴
+        assertEquals(BATCH_SIZE * 2L, buffer.getTotalPendingCount());
+
+        buffer.flush();
+
+        assertEquals(0L, buffer.getTotalPendingCount());
+        verify(jdbcTemplate, times(3)).update(startsWith(UPDATE_SQL), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("반영 중에 들어온 조회는 유실되지 않고 다음 주기에 반영된다")
+    void flush_keeps_increments_arriving_during_update() {
+        when(jdbcTemplate.update(startsWith(UPDATE_SQL), any(Object[].class))).thenAnswer(invocation -> {
+            buffer.increment(1L);
+            return 1;
+        });
+        buffer.increment(1L);
+        buffer.increment(1L);
+
+        buffer.flush();
+        verify(jdbcTemplate).update(startsWith(UPDATE_SQL), eq(1L), eq(2L), eq(1L));
+        assertEquals(1L, buffer.getPendingCount(1L));
+
+        buffer.flush();
+        verify(jdbcTemplate).update(startsWith(UPDATE_SQL), eq(1L), eq(1L), eq(1L));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 조회하는 동안 반복해서 반영해도 반영된 합과 남은 누적분의 합은 전체 조회 수와 같다")
+    void concurrent_increments_and_flushes_lose_nothing() throws Exception {
+        AtomicLong applied = new AtomicLong();
+        when(jdbcTemplate.update(startsWith(UPDATE_SQL), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] args = invocation.getArguments();
+            // 인자: sql, (id, delta) 쌍들, IN 목록
+            int pairs = (args.length - 1) / 3;
+            for (int i = 0; i < pairs; i++) {
+                applied.addAndGet((Long) args[2 + i * 2]);
+            }
+            return pairs;
+        });
+
+        int threads = 4;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    buffer.increment((long) (i % 10));
+                }
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) {
+            buffer.flush();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals((long) threads * viewsPerThread, applied.get() + buffer.getTotalPendingCount());
+        buffer.flush();
+        assertEquals((long) threads * viewsPerThread, applied.get());
+    }
+}